@@ -0,0 +1,49 @@
+package model;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Building and re-dealing boards of the shipped difficulties. */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BoardBenchmark {
+
+    @Param({ "EASY", "MEDIUM", "HARD" })
+    public Difficulty difficulty;
+
+    private SplittableRandom rng;
+    private Board board;
+
+    @Setup
+    public void setUp() {
+        rng = new SplittableRandom(42);
+        board = new Board(difficulty, rng);
+    }
+
+    @Benchmark
+    public Board construct() {
+        return new Board(difficulty, rng);
+    }
+
+    @Benchmark
+    public Board reset() {
+        board.resetBoard();
+        return board;
+    }
+}
@@ -0,0 +1,62 @@
+package model;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * What GameEngine.checkWinCondition and countRemainingMines ask after every move,
+ * plus the cost of the cell update that keeps those counters current.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CountersBenchmark {
+
+    @Param({ "16", "512" })
+    public int side;
+
+    private Board board;
+    private SplittableRandom rng;
+
+    @Setup
+    public void setUp() {
+        rng = new SplittableRandom(7);
+        board = ScaledBoardBenchmark.scaledBoard(side, rng);
+    }
+
+    @Benchmark
+    public boolean checkWinCondition() {
+        return board.allMinesResolved();
+    }
+
+    @Benchmark
+    public int countRemainingMines() {
+        return board.getRemainingMines();
+    }
+
+    // flips a random cell between hidden and flagged
+    @Benchmark
+    public int toggleFlag() {
+        int i = rng.nextInt(board.getCellCount());
+        CellState next = board.getState(i) == CellState.HIDDEN ? CellState.FLAGGED : CellState.HIDDEN;
+        if (board.getState(i) != CellState.REVEALED) {
+            board.setState(i, next);
+        }
+        return board.getRemainingMines();
+    }
+}
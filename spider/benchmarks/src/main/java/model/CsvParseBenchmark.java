@@ -0,0 +1,71 @@
+package model;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * CsvReader on a plain question row, on one full of quoted fields, and streaming
+ * through a 100k-row question dump held in memory (about 12 MB).
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CsvParseBenchmark {
+
+    public String plainLine = "What is 2+2?,Easy,3,4,5,6,4,";
+    public String quotedLine = "\"Which of these, if any, is \"\"prime\"\"?\",Hard,\"4, maybe\",9,\"7\",15,7,"
+            + "\"a long explanation, with commas, quotes \"\"like this\"\" and more text\"";
+
+    private byte[] dump;
+
+    @Setup
+    public void setUp() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] plain = (plainLine + "\n").getBytes(StandardCharsets.UTF_8);
+        byte[] quoted = (quotedLine + "\n").getBytes(StandardCharsets.UTF_8);
+        for (int k = 0; k < 100_000; k++) {
+            out.writeBytes(k % 2 == 0 ? plain : quoted);
+        }
+        dump = out.toByteArray();
+    }
+
+    @Benchmark
+    public List<String> plain() {
+        return CsvReader.parseLine(plainLine);
+    }
+
+    @Benchmark
+    public List<String> quoted() {
+        return CsvReader.parseLine(quotedLine);
+    }
+
+    /** Every field of every row visited as a view, nothing copied out. */
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public long streamDump() {
+        CsvReader csv = CsvReader.of(dump, dump.length);
+        long chars = 0;
+        while (csv.next()) {
+            for (int i = 0; i < csv.fieldCount(); i++) {
+                chars += csv.field(i).length();
+            }
+        }
+        return chars;
+    }
+}
@@ -0,0 +1,51 @@
+package model;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The reveal behind GameEngine.findZeroes: opening everything reachable from a
+ * corner of an empty board, the worst case for the fill.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FloodFillBenchmark {
+
+    @Param({ "16", "128", "512" })
+    public int side;
+
+    private Board board;
+
+    @Setup(Level.Trial)
+    public void createBoard() {
+        board = new Board(Difficulty.HARD, side, side, 0, 0, 0, 0, 0);
+    }
+
+    // closes every cell again so each call opens the whole board
+    @Setup(Level.Invocation)
+    public void closeBoard() {
+        board.resetBoard();
+        board.setState(0, 0, CellState.REVEALED);
+    }
+
+    @Benchmark
+    public int floodReveal() {
+        return board.floodReveal(0, 0);
+    }
+}
@@ -0,0 +1,58 @@
+package model;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** MatchQuestions.nextQuestion, which SysData hands to every match, on large question banks. */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class QuestionDrawBenchmark {
+
+    private static final QuestionDifficulty[] DIFFICULTIES = QuestionDifficulty.values();
+
+    @Param({ "100", "10000", "100000" })
+    public int bankSize;
+
+    private MatchQuestions draw;
+    private SplittableRandom rng;
+
+    @Setup
+    public void setUp() {
+        List<Question> questions = new ArrayList<>();
+        for (int k = 0; k < bankSize; k++) {
+            questions.add(new Question("B" + k, "Question " + k,
+                    List.of("a", "b", "c", "d"), k % 4, DIFFICULTIES[k % DIFFICULTIES.length]));
+        }
+        QuestionBank bank = new QuestionBank(1, questions);
+        draw = new MatchQuestions(() -> bank);
+        rng = new SplittableRandom(3);
+    }
+
+    // a match draws a handful of questions and then starts over
+    @Benchmark
+    public Question nextQuestion() {
+        Question q = draw.nextQuestion(rng).orElseThrow();
+        if (rng.nextInt(16) == 0) {
+            draw.reset();
+        }
+        return q;
+    }
+}
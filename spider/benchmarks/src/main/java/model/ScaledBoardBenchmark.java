@@ -0,0 +1,65 @@
+package model;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Square custom boards far beyond the shipped sizes, with HARD's mine density
+ * (44 / 256) and box counts scaled the same way.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ScaledBoardBenchmark {
+
+    @Param({ "32", "128", "512" })
+    public int side;
+
+    private SplittableRandom rng;
+    private Board board;
+
+    static Board scaledBoard(int side, SplittableRandom rng) {
+        Difficulty d = Difficulty.HARD;
+        int cells = side * side;
+        int area = d.getRows() * d.getCols();
+        return new Board(d, side, side,
+                d.getMines() * cells / area,
+                d.getSurpriseBoxes() * cells / area,
+                d.getQuestionBoxes() * cells / area,
+                d.getHeartBoxes() * cells / area,
+                d.getDiceBoxes() * cells / area,
+                rng);
+    }
+
+    @Setup
+    public void setUp() {
+        rng = new SplittableRandom(42);
+        board = scaledBoard(side, rng);
+    }
+
+    @Benchmark
+    public Board construct() {
+        return scaledBoard(side, rng);
+    }
+
+    @Benchmark
+    public Board reset() {
+        board.resetBoard();
+        return board;
+    }
+}
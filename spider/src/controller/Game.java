@@ -1,128 +1,102 @@
 package controller;
 
 import javax.swing.*;
-import javax.swing.border.LineBorder;
 
-import java.awt.*;
 import java.awt.event.ActionEvent;
 import java.awt.event.ActionListener;
 import java.awt.event.MouseEvent;
 import java.awt.event.MouseListener;
 import java.awt.event.WindowEvent;
 import java.awt.event.WindowListener;
-import java.util.Random;
-import java.sql.Date;
-import model.Board;
-import model.BoardFactory;
-import model.Cell;
-
+import engine.BoardSide;
+import engine.GameEngine;
+import engine.GameEventListener;
+import engine.MoveOutcome;
 import model.Difficulty;
-import model.EasyBoardFactory;
-import model.HardBoardFactory;
-import model.MediumBoardFactory;
+import model.MatchQuestions;
 import model.Player;
-import model.Question;
-import model.QuestionDifficulty;
+import model.RandomStreams;
 import model.Score;
-import model.SpecialBoxType;
+import view.BoardView;
 import view.GameObserver;
 import view.MineSweeper;
 import model.SysData;
 
-public class Game implements MouseListener, ActionListener, WindowListener {
+/*
+ * Connects the Swing frame to a GameEngine: mouse clicks and buttons become
+ * engine commands, the MineSweeper frame renders the engine's events and
+ * answers its decisions with dialogs.
+ */
+public class Game implements MouseListener, ActionListener, WindowListener, GameEventListener {
 
-	private boolean playing;
-	private BoardFactory boardFactory;
 	private GameObserver observer;
+	private final GameEngine engine;
 
-	private Board boardA;
-	private Board boardB;
-	private boolean flagMode = false;
 	private Player player1;
 	private Player player2;
-	private Player currentPlayer;
-	private boolean gameOver = false;
-	private boolean mineHintUsed = false;
-	private boolean openMineUsed = false;
-
-
-	private int sharedLives;
-	private int sharedScore;
 
 	private MineSweeper gui;
 
 	private Score score;
 	private SysData sysData;
+	private final MatchQuestions matchQuestions;
 
 	private Difficulty currentDifficulty;
-	private final Random rng = new Random();
+	// the session's streams: the first match plays on them, the n-th rematch on streams.split(n)
+	private final RandomStreams streams;
+	private int matchNumber;
 
-	public Game(Difficulty difficulty, String player1Name, String player2Name) {// Sets up a new game: loads scores and
+	public Game(Difficulty difficulty, String player1Name, String player2Name) {
+		this(difficulty, player1Name, player2Name, defaultStreams());
+	}
+
+	public Game(Difficulty difficulty, String player1Name, String player2Name, RandomStreams streams) {// Sets up a new game: loads scores and
 																				// questions, creates players and
 																				// boards, initializes the GUI and game
 																				// state.
+		this.streams = streams;
+
 		score = new Score();
 		score.populate();
 
 		this.currentDifficulty = difficulty;
-		this.sysData = new SysData();
-		this.sharedScore = 0;
-
-		this.playing = false;
-		this.boardFactory = switch (difficulty) {
-		case EASY -> new EasyBoardFactory();
-		case MEDIUM -> new MediumBoardFactory();
-		case HARD -> new HardBoardFactory();
-		};
+		this.sysData = SysData.getInstance();
+		this.matchQuestions = sysData.newMatchQuestions();
 
 		initializePlayers(player1Name, player2Name);
-		createBoards();
+
+		this.engine = new GameEngine(difficulty, streams, matchQuestions::nextQuestion, gui);
+		engine.addListener(gui);
+		engine.addListener(this);
 		updateMineCounters();
 
 		gui.initGame();
 		gui.setMines(currentDifficulty.getMines());
 		gui.setActiveBoard("A");
-		gui.initStatus(sharedLives);
-		gui.updateStatus(sharedScore, sharedLives);
+		gui.initStatus(engine.getSharedLives());
+		gui.updateStatus(engine.getSharedScore(), engine.getSharedLives());
 
 		gui.setVisible(true);
-		gui.setIcons();
 		gui.hideAll();
 
 	}
 
-	public void setObserver(GameObserver observer) {
-		this.observer = observer;
-	}
-
-	private int getActivationCost(Difficulty diff) {
-		return switch (diff) {
-		case EASY -> 5;
-		case MEDIUM -> 8;
-		case HARD -> 12;
-		};
-	}
-
-	private int getActivationCost() {
-		return getActivationCost(currentDifficulty);
-	}
-
-	// points used by surprise good/bad effect (±8 / ±12 / ±16)
-	private int getSurprisePoints(Difficulty diff) {
-		return switch (diff) {
-		case EASY -> 8;
-		case MEDIUM -> 12;
-		case HARD -> 16;
-		};
+	// Replays a game from the seed and rng in its history row when started with
+	// -Dspider.seed=<seed> [-Dspider.rng=<algorithm>]
+	private static RandomStreams defaultStreams() {
+		Long seed = Long.getLong("spider.seed");
+		if (seed == null) {
+			return RandomStreams.withRandomSeed();
+		}
+		return new RandomStreams(seed, System.getProperty("spider.rng", RandomStreams.DEFAULT_ALGORITHM));
 	}
 
-	private int getSurprisePoints() {
-		return getSurprisePoints(currentDifficulty);
+	public void setObserver(GameObserver observer) {
+		this.observer = observer;
 	}
 
 	private void initializePlayers(String name1, String name2) { // Ensures valid player names, creates the Player
-																	// objects, initializes shared lives/score, and
-																	// constructs the MineSweeper GUI.
+																	// objects and constructs the MineSweeper GUI.
 		if (name1 == null || name1.trim().isEmpty())
 			name1 = "Player A";
 		if (name2 == null || name2.trim().isEmpty())
@@ -130,105 +104,35 @@ public class Game implements MouseListener, ActionListener, WindowListener {
 
 		player1 = new Player(name1);
 		player2 = new Player(name2);
-		currentPlayer = player1;
-
-		sharedLives = currentDifficulty.getLives();
-		sharedScore = 0;
 
 		this.gui = new MineSweeper(this, currentDifficulty.getRows(), currentDifficulty.getCols(),
 				currentDifficulty.getMines(), player1.getName(), player2.getName());
 		this.setObserver(this.gui);
 
 		this.gui.setButtonListeners(this);
-		this.gui.initStatus(sharedLives);
+		this.gui.initStatus(currentDifficulty.getLives());
 		this.gui.setDifficulty(currentDifficulty);
 	}
 
-	public void createBoards() {
-		boardA = boardFactory.createBoard();
-		boardB = boardFactory.createBoard();
-		gui.setMines(currentDifficulty.getMines());
-	}
-
-	// Enables or disables flag mode
+	// Enables or disables flag mode; leaving it scores the flags on both boards
 	public void setFlagMode(boolean flagMode) {
-		boolean wasFlagMode = this.flagMode;
-		this.flagMode = flagMode;
-
-		// When leaving flag mode → evaluate all flags once
-		if (wasFlagMode && !flagMode) {
-			evaluateFlags(); // scores + borders
-			updateMineCounters(); // now remaining mines changes
-			checkGame(); // now we can also check win condition
-		}
+		engine.setFlagMode(flagMode);
 	}
 
 	public boolean isFlagMode() {
-		return flagMode;
-	}
-
-	// Handles placing/removing a flag on a given cell while in flag mode.
-	private void handleFlagClick(int x, int y, Board board, JButton button) {
-		Cell cell = board.getCells()[x][y];
-		String content = cell.getContent();
-		if (content == null)
-			content = "";
-
-		if ("F".equals(content)) {
-			cell.setContent("");
-			button.setText("");
-			button.setIcon(null);
-			button.setBorder(UIManager.getBorder("Button.border"));
-			gui.updateStatus(sharedScore, sharedLives);
-			return;
-		}
-
-		// If the cell is already revealed (number, M, USED, etc.) → do nothing
-		if (!content.equals("")) {
-			return;
-		}
-
-		// Place a NEW flag – but no hint if correct or not
-		cell.setContent("F");
-
-		button.setIcon(null);
-		button.setText("🚩");
-		button.setFont(new Font("Segoe UI Emoji", Font.PLAIN, 18));
-		button.setForeground(Color.RED);
-		button.setBorder(UIManager.getBorder("Button.border")); // neutral border
-
-		// no score change here!
-		gui.updateStatus(sharedScore, sharedLives);
+		return engine.isFlagMode();
 	}
 
 	public void newGame() {
-	    this.playing = false;
-	    gameOver = false;
+	    gui.setHintEnabled(true);
+	    gui.setOpenMineEnabled(true);
 
-	   
-	    mineHintUsed = false;
-	    if (gui != null) {
-	        gui.setHintEnabled(true);
-	    }
-
-	   
-	    openMineUsed = false;
-	    if (gui != null) {
-	        gui.setOpenMineEnabled(true);
-	    }
-
-	    if (sysData != null) {
-	        sysData.resetMatchUsage();
-	    }
+	    matchQuestions.reset();
 
 	    player1 = new Player(player1.getName());
 	    player2 = new Player(player2.getName());
-	    currentPlayer = player1;
-
-	    sharedLives = currentDifficulty.getLives();
-	    sharedScore = 0;
 
-	    createBoards();
+	    engine.newGame(streams.split(++matchNumber));
 	    updateMineCounters();
 
 	    gui.interruptTimer();
@@ -236,631 +140,98 @@ public class Game implements MouseListener, ActionListener, WindowListener {
 	    gui.initGame();
 	    gui.setMines(currentDifficulty.getMines());
 	    gui.setActiveBoard("A");
-	    gui.initStatus(sharedLives);
-	    gui.updateStatus(sharedScore, sharedLives);
+	    gui.initStatus(engine.getSharedLives());
+	    gui.updateStatus(engine.getSharedScore(), engine.getSharedLives());
 	}
 
 
-	void endGame() { // Marks the game as not playing, reveals all mines, and saves the score state.
-		playing = false;
+	void endGame() { // Reveals all mines and saves the score state.
 		showAll();
 		score.save();
 	}
 
 	public void useMineHint() { //this function hints to a hidden mine, it circles it with yellow  border for 5 seconds
-	    if (mineHintUsed) return;
-
-	    mineHintUsed = true;
-	    if (gui != null) gui.setHintEnabled(false);
+	    if (engine.isMineHintUsed()) return;
 
-	    String boardTag = gui.getActiveBoard();
-	    Board board = "A".equals(boardTag) ? boardA : boardB;
+	    MoveOutcome outcome = engine.useMineHint();
+	    gui.setHintEnabled(false);
 
-	    int[] pos = findHiddenMine(board);
-
-	    if (pos == null) {
+	    if (outcome == MoveOutcome.NO_HIDDEN_MINES) {
 	        JOptionPane.showMessageDialog(gui, "No hidden mines left to hint.", "Hint",
 	                JOptionPane.INFORMATION_MESSAGE);
-	        return;
 	    }
-
-	    int x = pos[0];
-	    int y = pos[1];
-
-	    
-	    gui.circleCell(boardTag, x, y);
-
-	   
-	    new javax.swing.Timer(120, e -> {
-	        JOptionPane.showMessageDialog(gui, "A mine has been highlighted on your board.", "Hint Used",
-	                JOptionPane.INFORMATION_MESSAGE);
-	        ((javax.swing.Timer) e.getSource()).stop();
-	    }).start();
 	}
 
-	private int[] findHiddenMine(Board board) { // the function finds a hidden mine
-
-		Cell[][] cells = board.getCells();
-
-		for (int x = 0; x < board.getCols(); x++) {
-			for (int y = 0; y < board.getRows(); y++) {
-
-				Cell cell = cells[x][y];
-				String content = cell.getContent();
-				if (content == null)
-					content = "";
-
-				// hidden mine = not revealed, not flagged
-				if (cell.getMine() && content.equals("")) {
-					return new int[] { x, y };
-				}
-			}
-		}
-		return null;
-	}
-
-	private void handleHeartBox(int x, int y, Board board, JButton button) { // the function handles the heart button logic
-		Cell cell = board.getCells()[x][y];
-		String content = cell.getContent();
-		if (content == null)
-			content = "";
-
-		// FIRST CLICK – reveal only, +1 point (like other specials)
-		if (content.equals("")) {
-			button.setBackground(new Color(255, 210, 220)); 
-			button.setIcon(null);
-			button.setText("♥");
-			button.setFont(new Font("Segoe UI", Font.BOLD, 18));
-			button.setForeground(new Color(180, 0, 60));
-
-			cell.setContent("♥");
-
-			sharedScore += 1;
-			gui.updateStatus(sharedScore, sharedLives);
-			return;
-		}
-
-		// Already used → nothing
-		if (content.equals("USED"))
-			return;
-
-		// SECOND CLICK – activation
-		if (content.equals("♥")) {
-			int choice = JOptionPane.showConfirmDialog(gui,
-					"Do you want to activate the heart?\n(Activation will cost " + getActivationCost() + " points.)",
-					"Activate Heart?", JOptionPane.YES_NO_OPTION);
-
-			if (choice != JOptionPane.YES_OPTION) {
-				return; // no changes if user says NO
-			}
-
-			int activationCost = getActivationCost();
-			sharedScore -= activationCost;
-
-			if (sharedLives < getMaxLives()) {
-				sharedLives += 1;
-				JOptionPane.showMessageDialog(gui, "❤️ Heart activated!\n+1 life.\nLives: " + sharedLives, "Heart Box",
-						JOptionPane.INFORMATION_MESSAGE);
-			} else {
-				sharedScore += 5; // compensate if already max
-				JOptionPane.showMessageDialog(gui,
-						"❤️ You already have max lives (" + getMaxLives() + ").\n+5 points instead!", "Heart Box",
-						JOptionPane.INFORMATION_MESSAGE);
-			}
-
-			clampLives();
-
-			button.setIcon(null);
-			button.setText("USED");
-			button.setFont(new Font("Serif", Font.BOLD, 12));
-			button.setForeground(Color.BLACK);
-			button.setBackground(new Color(167, 214, 167)); 
-
-			cell.setContent("USED");
-			cell.setSpecialBox(SpecialBoxType.NONE);
-
-			gui.updateStatus(sharedScore, sharedLives);
-
-			if (sharedLives <= 0) {
-				gameLost();
-			}
-		}
-	}
-
-	void convertRemainingLivesToPoints() { // Converts remaining lives into bonus points 
-		if (sharedLives <= 0) {
-			return;
-		}
-
-		int lifeValue = getActivationCost();
-		int bonus = sharedLives * lifeValue;
-
-		sharedScore += bonus;
-		sharedLives = 0;
-
-		if (gui != null) {
-			gui.updateStatus(sharedScore, sharedLives);
-		}
-	}
-
-	
-	public void gameLost() { // Handles a loss: converts lives to points, updates status, logs and shows dialog
-		if (gameOver)
-			return;
-		gameOver = true;
-		playing = false; 
-		if(gui!=null) {
-			gui.stopTimerUI(); 
-		}
-
-		new LoseGame(this).execute();
-	}
-
-	public void gameWon() { // Handles a win: converts lives to points, updates status, logs and shows dialog
-		if (gameOver)
-			return;
-		gameOver = true;
-		playing = false; 
-		if(gui!=null) {
-			gui.stopTimerUI(); 
-		}
-
-		new WinGame(this).execute();
-	}
-
-	// Checks win/lose conditions and calls gameWon/gameLost accordingly.
-	private void checkGame() {
-		if (!playing)
-			return; // if the game is no longer active, skip further win/lose checks
-					// This prevents multiple end-game dialogs from being shown
-		boolean aDone = checkWinCondition(boardA);
-		boolean bDone = checkWinCondition(boardB);
-
-		if (aDone || bDone || sharedLives <= 0) {
-			if (sharedLives > 0) {
-				gameWon();
-			} else {
-				gameLost();
-			}
-		}
-	}
-
-	// Returns true if all mines on a board are either flagged or revealed.
-	private boolean checkWinCondition(Board board) {
-		Cell[][] cells = board.getCells();
-
-		for (int x = 0; x < board.getCols(); x++) {
-			for (int y = 0; y < board.getRows(); y++) {
-				Cell cell = cells[x][y];
-				String content = cell.getContent();
-				boolean isMine = cell.getMine();
-
-				if (content == null) {
-					content = "";
-				}
-
-				if (isMine) {
-					if (!"F".equals(content) && !"M".equals(content)) {
-						return false;
-					}
-				}
-			}
-		}
+	public void openMineWithButton() { //the function reveals a random hidden mine
+	    if (engine.isOpenMineUsed()) return;
 
-		return true;
-	}
+	    MoveOutcome outcome = engine.openMine();
+	    gui.setOpenMineEnabled(false);
 
-	private void findZeroes(int x, int y, Board board, JButton[][] buttons) {
-		boolean[][] visited = new boolean[board.getCols()][board.getRows()];
-		findZeroes(x, y, board, buttons, visited);
+	    if (outcome == MoveOutcome.NO_HIDDEN_MINES) {
+	        JOptionPane.showMessageDialog(gui, "No hidden mines left to open.", "Open Mine",
+	                JOptionPane.INFORMATION_MESSAGE);
+	    }
 	}
-	
-	// Recursively reveals adjacent cells starting from an empty cell (0 mines),including numbers and special cells, while preventing infinite recursion.
-	private void findZeroes(int x, int y, Board board, JButton[][] buttons, boolean[][] visited) {
-		
-		if (visited[x][y])
-			return;
-		visited[x][y] = true;
-
-		Cell[][] cells = board.getCells();
-
-		for (int tempX = board.makeValidCoordinateX(x - 1); tempX <= board.makeValidCoordinateX(x + 1); tempX++) {
-
-			for (int tempY = board.makeValidCoordinateY(y - 1); tempY <= board.makeValidCoordinateY(y + 1); tempY++) {
-
-				if (tempX == x && tempY == y)
-					continue;
-
-				Cell cell = cells[tempX][tempY];
-				JButton btn = buttons[tempX][tempY];
-
-				String content = cell.getContent();
-				if (content == null)
-					content = "";
-
-				if (cell.getMine())
-					continue;
-
-				if (!content.equals("") && !content.equals("❓"))
-					continue;
-
-				SpecialBoxType special = cell.getSpecialBox();
-
-				if (special == SpecialBoxType.SURPRISE && content.equals("")) {
-					cell.setContent("🎁");
-					btn.setIcon(null);
-					btn.setText("🎁");
-					btn.setFont(new Font("Serif", Font.BOLD, 18));
-					btn.setForeground(new Color(30, 30, 30));
-					btn.setBackground(gui.S_HIGHLIGHT);
-					findZeroes(tempX, tempY, board, buttons, visited);
-					continue;
-				}
-
-				if (special == SpecialBoxType.QUESTION) {
-					if (!content.equals("❓")) {
-						cell.setContent("❓");
-						btn.setIcon(null);
-						btn.setText("❓");
-						btn.setFont(new Font("Serif", Font.BOLD, 18));
-						btn.setForeground(new Color(30, 30, 30));
-						btn.setBackground(gui.Q_HIGHLIGHT);
-					}
-
-					findZeroes(tempX, tempY, board, buttons, visited);
-					continue;
-				}
-				// Heart – reveal but allow activation later (like other specials)
-				if (special == SpecialBoxType.HEART && content.equals("")) {
-					cell.setContent("♥");
-					btn.setIcon(null);
-					btn.setText("♥");
-					btn.setFont(new Font("Segoe UI", Font.BOLD, 18));
-					btn.setForeground(new Color(180, 0, 60));
-					btn.setBackground(new Color(255, 210, 220));
-
-					findZeroes(tempX, tempY, board, buttons, visited);
-					continue;
-				}
-				//  Dice – reveal but allow activation later (like other specials)
-				if (special == SpecialBoxType.DICE && content.equals("")) {
-				    cell.setContent("🎲");
-				    btn.setIcon(null);
-				    btn.setText("🎲");
-				    btn.setFont(new Font("Segoe UI Emoji", Font.BOLD, 18));
-				    btn.setForeground(new Color(30, 30, 30));
-				    btn.setBackground(new Color(230, 230, 230));
-
-				    findZeroes(tempX, tempY, board, buttons, visited);
-				    continue;
-				}
-
-
-				int neighbours = cell.getSurroundingMines();
-				cell.setContent(Integer.toString(neighbours));
-				btn.setBackground(gui.CELL_REVEALED);
 
-				if (neighbours == 0) {
-					btn.setText("·");
-					btn.setForeground(new Color(160, 170, 200, 100));
-					btn.setFont(new Font("Arial", Font.BOLD, 24));
-
-					findZeroes(tempX, tempY, board, buttons, visited);
-				} else {
-					btn.setText(Integer.toString(neighbours));
-					gui.setTextColor(btn);
-				}
-			}
-		}
+	void convertRemainingLivesToPoints() { // Converts remaining lives into bonus points
+		engine.convertRemainingLivesToPoints();
 	}
 
 	// Reveals all cells on both boards using GUI helper methods.
 	private void showAll() {
-		gui.revealAllBoard(boardA, gui.getButtonsA());
-		gui.revealAllBoard(boardB, gui.getButtonsB());
+		gui.revealAllBoard(BoardSide.A);
+		gui.revealAllBoard(BoardSide.B);
 	}
 
-	private void switchTurn() { // Alternates current player and updates GUI to highlight the active board.
-		currentPlayer = (currentPlayer == player1) ? player2 : player1;
-		String newBoard = (currentPlayer == player1) ? "A" : "B";
-		gui.setActiveBoard(newBoard);
-		if (observer != null) {
-			observer.onStatusChanged(sharedScore, sharedLives);
-		}
+	private void updateMineCounters() { // Updates displayed mine counters for both boards.
+		gui.updateMinesLeft(engine.getRemainingMines(BoardSide.A), engine.getRemainingMines(BoardSide.B));
 	}
 
-	private void handleSurpriseBox(int x, int y, Board board, JButton button) { // Handles clicks on a surprise box and
-																				// applies random effect.
-		Cell cell = board.getCells()[x][y];
-		String content = cell.getContent();
-
-		// FIRST CLICK – reveal, +1 point (like empty)
-		if (content.equals("")) {
-			button.setBackground(gui.S_HIGHLIGHT);
-			button.setIcon(null);
-			button.setText("🎁");
-			button.setFont(new Font("Serif", Font.BOLD, 18));
-			button.setForeground(new Color(30, 30, 30));
-
-			cell.setContent("🎁");
-
-			sharedScore += 1;
-			if (observer != null) {
-				observer.onStatusChanged(sharedScore, sharedLives);
-			}
-			findZeroes(x, y, board, (board == boardA ? gui.getButtonsA() : gui.getButtonsB()));
-
-			return;
-		}
-
-		if (content.equals("USED")) {
-			return;
-		}
-
-		// SECOND CLICK – activation with cost and good/bad effect
-		if (content.equals("🎁")) {
-			int choice = JOptionPane
-					.showConfirmDialog(gui,
-							"Do you want to activate the surprise box?\n" + "(Activation will cost "
-									+ getActivationCost() + " points.)",
-							"Activate Surprise?", JOptionPane.YES_NO_OPTION);
-
-			if (choice != JOptionPane.YES_OPTION) {
-				return;
-			}
-
-			int activationCost = getActivationCost();
-			int surprisePts = getSurprisePoints();
-
-			boolean isBonus = rng.nextBoolean();
-
-			int deltaPts = -activationCost;
-			int deltaLives = 0;
-
-			if (isBonus) {
-				deltaPts += surprisePts; // +8 / +12 / +16
-				deltaLives = +1;
-				button.setBackground(new Color(167, 214, 167));
-			} else {
-				deltaPts -= surprisePts; // -8 / -12 / -16
-				deltaLives = -1;
-				button.setBackground(new Color(167, 214, 167));
-			}
-
-			sharedScore += deltaPts;
-			sharedLives += deltaLives;
-			clampLives();
-
-			button.setIcon(null);
-			button.setText("USED");
-			button.setFont(new Font("Serif", Font.BOLD, 12));
-			button.setForeground(Color.BLACK);
-
-			cell.setContent("USED");
-			cell.setSpecialBox(SpecialBoxType.NONE);
-
-			gui.updateStatus(sharedScore, sharedLives);
-
-			// MESSAGE – what happened
-			StringBuilder msg = new StringBuilder();
-			msg.append("Surprise box result:\n\n");
-			msg.append("Activation cost: -").append(activationCost).append(" pts\n");
-			int effectPts = deltaPts + activationCost;
-			msg.append("Surprise effect points: ").append(effectPts >= 0 ? "+" : "").append(effectPts).append(" pts");
-
-			if (deltaLives != 0) {
-				msg.append("\nLife change: ").append(deltaLives > 0 ? "+" : "").append(deltaLives).append(" ♥");
-			}
-
-			msg.append("\n\nTotal points change: ").append(deltaPts >= 0 ? "+" : "").append(deltaPts).append(" pts");
-
-			msg.append("\nTotal score: ").append(sharedScore).append("\nTotal lives: ").append(sharedLives);
-
-			JOptionPane.showMessageDialog(gui, msg.toString(), "Surprise Box", JOptionPane.INFORMATION_MESSAGE);
-
-			if (sharedLives <= 0) {
-				gameLost();
-			}
+	public void logQuit() {
+		if (gui != null) {
+			gui.interruptTimer();
 		}
-	}
-	private void handleDiceBox(int x, int y, Board board, JButton button) { // handles the logic behind the dice cell
-
-	    Cell cell = board.getCells()[x][y];
-	    String content = cell.getContent();
-	    if (content == null) content = "";
-
-	    // already used
-	    if ("USED".equals(content)) return;
 
-	    // 1st click: reveal the dice (same behavior as Q/S/Heart reveal)
-	    if (content.equals("")) {
-	        button.setIcon(null);
-	        button.setText("🎲");
-	        button.setFont(new Font("Segoe UI Emoji", Font.BOLD, 18));
-	        button.setForeground(new Color(30, 30, 30));
-	        button.setBackground(new Color(230, 230, 230));
-	        button.setBorder(new LineBorder(new Color(170, 170, 170), 2, true));
-
-	        cell.setContent("🎲");
+		int seconds = (gui != null) ? gui.getTimePassed() : 0;
 
-	        sharedScore += 1;
-	        gui.updateStatus(sharedScore, sharedLives);
-	        return;
-	    }
+		sysData.logGameResult(currentDifficulty, player1, getSharedScore(), player2, getSharedScore(), "QUIT", seconds,
+				getStreams());
 
-	    // 2nd click: open a custom popup from the VIEW 
-	    if (content.equals("🎲")) {
-
-	       
-	        // returns: 0=Heart, 1=Question, 2=Surprise, 3=Cancel, -1=closed
-	        int choice = gui.showDiceChoiceDialog();
-
-	        if (choice == -1 || choice == 3) return;
-
-	        if (choice == 0) {
-	            cell.setSpecialBox(SpecialBoxType.HEART);
-	            cell.setContent("♥");
-	            button.setText("♥");
-	            
-	            handleHeartBox(x, y, board, button);
-	            return;
-	        }
-
-	        if (choice == 1) {
-	            cell.setSpecialBox(SpecialBoxType.QUESTION);
-	            cell.setContent("❓");
-	            button.setText("❓");
-	            handleQuestionBox(x, y, board, button);
-	            return;
-	        }
-
-	        if (choice == 2) {
-	            cell.setSpecialBox(SpecialBoxType.SURPRISE);
-	            cell.setContent("🎁");
-	            button.setText("🎁");
-	            handleSurpriseBox(x, y, board, button);
-	        }
-	    }
+		score.save();
 	}
 
+	// ------------------ ENGINE EVENTS ------------------ //
 
-
-	private void handleQuestionBox(int x, int y, Board board, JButton button) { // Handles clicks on a question box and
-																				// applies question outcome.
-		Cell cell = board.getCells()[x][y];
-		String content = cell.getContent();
-
-		if (content.equals("")) {
-			// Reveal question
-			button.setBackground(gui.Q_HIGHLIGHT);
-			button.setIcon(null);
-			button.setText("❓");
-			button.setFont(new Font("Serif", Font.BOLD, 18));
-			button.setForeground(new Color(30, 30, 30));
-
-			cell.setContent("❓");
-
-			sharedScore += 1;
-			gui.updateStatus(sharedScore, sharedLives);
-
-			// expand empty neighbors like normal empty cell
-			findZeroes(x, y, board, (board == boardA ? gui.getButtonsA() : gui.getButtonsB()));
-
-			return;
-		}
-
-		if (content.equals("USED")) {
-			return;
-		}
-
-		// SECOND CLICK – answer question
-		if (content.equals("❓")) {
-			int choice = JOptionPane.showConfirmDialog(gui, "Do you want to answer the question now?\n"
-					+ "(Activation will cost " + getActivationCost() + " points.)", "Answer Question?",
-					JOptionPane.YES_NO_OPTION);
-
-			if (choice != JOptionPane.YES_OPTION) {
-				return;
-			}
-
-			var opt = sysData.nextQuestion();
-			if (opt.isEmpty()) {
-				gui.showNoMoreQuestionsDialog();
-				return;
-			}
-
-			Question q = opt.get();
-
-			Object answer = gui.askQuestion(q);
-
-			int selectedIndex = q.getOptions().indexOf(answer.toString());
-			boolean correct = (selectedIndex == q.getCorrectIndex());
-
-			if (correct) {
-				button.setBackground(new Color(167, 214, 167));
-				gui.showCorrectAnswerDialog();
-			} else {
-				button.setBackground(new Color(167, 214, 167));
-				gui.showWrongAnswerDialog();
-			}
-
-			button.setIcon(null);
-			button.setText("USED");
-			button.setFont(new Font("Serif", Font.BOLD, 12));
-			button.setForeground(Color.BLACK);
-
-			cell.setContent("USED");
-			cell.setSpecialBox(SpecialBoxType.NONE);
-
-			// Apply scoring & lives
-			applyQuestionOutcome(currentDifficulty, q.getDifficulty(), correct, board);
-		}
+	@Override
+	public void gameStarted() {
+		gui.startTimer();
 	}
 
-	private void handleMineClick(int x, int y, Board board, JButton button) { // Reduces a life, shows mine explosion,
-																				// updates status, and may end the game.
-
-		Cell cell = board.getCells()[x][y];
-
-		sharedLives -= 1;
-
-		button.setIcon(gui.getIconRedMine());
-		button.setBackground(new Color(183, 28, 28));
-		cell.setContent("M");
-
-		gui.showMineHitDialog();
-
-		gui.updateStatus(sharedScore, sharedLives);
-
-		if (sharedLives <= 0) {
-			gameLost();
-			return;
+	@Override
+	public void turnChanged(BoardSide active) {
+		if (observer != null) {
+			observer.onStatusChanged(engine.getSharedScore(), engine.getSharedLives());
 		}
-
-		switchTurn();
 	}
 
-	private int countRemainingMines(Board board) { // Counts unrevealed mines on a specific board
-		int count = 0;
-		Cell[][] cells = board.getCells();
-
-		for (int x = 0; x < board.getCols(); x++) {
-			for (int y = 0; y < board.getRows(); y++) {
-				Cell c = cells[x][y];
+	@Override
+	public void gameEnded(boolean won) { // Logs the result, converts lives to points and shows the end dialog
+		gui.stopTimerUI();
 
-				if (c.getMine() && !c.getContent().equals("M")) {
-					count++;
-				}
-			}
+		if (won) {
+			new WinGame(this).execute();
+		} else {
+			new LoseGame(this).execute();
 		}
-		return count;
-	}
-
-	private int getMaxLives() {
-		return 10;
-	}
-
-	private void updateMineCounters() { // Updates displayed mine counters for both boards.
-		int a = countRemainingMines(boardA);
-		int b = countRemainingMines(boardB);
-		gui.updateMinesLeft(a, b);
 	}
 
-	public void logQuit() {
-		if (gui != null) {
-			gui.interruptTimer();
-		}
-
-		int seconds = (gui != null) ? gui.getTimePassed() : 0;
-
-		sysData.logGameResult(currentDifficulty, player1, sharedScore, player2, sharedScore, "QUIT", seconds);
-
-		score.save();
-	}
+	// ------------------ SWING INPUT ------------------ //
 
 	@Override
 	public void windowClosing(WindowEvent e) {
 		logQuit();
+		sysData.shutdown();
 		System.exit(0);
 	}
 
@@ -870,7 +241,7 @@ public class Game implements MouseListener, ActionListener, WindowListener {
 		JMenuItem menuItem = (JMenuItem) e.getSource();
 
 		if (menuItem.getName().equals("New Game")) {
-			if (playing) {
+			if (engine.isPlaying()) {
 				Object[] options = { "Start new game", "Continue playing" };
 
 				int startNew = JOptionPane.showOptionDialog(null, "What would you like to do?", "New Game",
@@ -888,537 +259,17 @@ public class Game implements MouseListener, ActionListener, WindowListener {
 
 	}
 
-	private void evaluateFlags() { // Evaluates flags on both boards and updates score and status.
-		if (boardA != null && gui != null) {
-			evaluateFlagsOnBoard(boardA, gui.getButtonsA());
-		}
-		if (boardB != null && gui != null) {
-			evaluateFlagsOnBoard(boardB, gui.getButtonsB());
-		}
-
-		gui.updateStatus(sharedScore, sharedLives);
-	}
-
-	private void evaluateFlagsOnBoard(Board board, JButton[][] buttons) { // Evaluates all flags on a single board and
-																			// marks correct/incorrect flags.
-		Cell[][] cells = board.getCells();
-
-		for (int x = 0; x < board.getCols(); x++) {
-			for (int y = 0; y < board.getRows(); y++) {
-				Cell cell = cells[x][y];
-				JButton button = buttons[x][y];
-
-				// Only cells that are still flagged
-				if (!"F".equals(cell.getContent())) {
-					continue;
-				}
-
-				// Skip flags already evaluated (have LineBorder)
-				if (button.getBorder() instanceof LineBorder) {
-					continue;
-				}
-
-				if (cell.getMine()) {
-					// Correct flag on a mine (+1 and reveal)
-					sharedScore += 1;
-
-					cell.setContent("M");
-					button.setIcon(gui.getIconRedMine());
-					button.setText("");
-					button.setBackground(new Color(183, 28, 28));
-					button.setBorder(new LineBorder(Color.GREEN, 2, true));
-				} else {
-					// Wrong flag on non-mine (-3, red border)
-					sharedScore -= 3;
-					button.setBorder(new LineBorder(Color.RED, 2, true));
-				}
-			}
-		}
-	}
-
-	public void mouseClicked(MouseEvent e) { // Handles all mouse clicks on cells (flags, specials, mines, normal cells).
-
-	    if (!playing) {
-	        gui.startTimer();
-	        playing = true;
-	    }
-	    if (!playing) return;
-
-	    JButton button = (JButton) e.getSource();
-	    String boardTag = (String) button.getClientProperty("board");
-
-	    if (!boardTag.equals(gui.getActiveBoard()))
-	        return;
-
-	    Board board = boardTag.equals("A") ? boardA : boardB;
-	    JButton[][] buttons = boardTag.equals("A") ? gui.getButtonsA() : gui.getButtonsB();
-
-	    String[] parts = button.getName().split(":");
-	    if (parts.length < 2) return;
-
-	    String[] co = parts[1].split(",");
-	    int x = Integer.parseInt(co[0]);
-	    int y = Integer.parseInt(co[1]);
-
-	    Cell cell = board.getCells()[x][y];
-	    String content = cell.getContent();
-	    if (content == null) content = "";
-
-	    SpecialBoxType specialBox = cell.getSpecialBox();
-
-	    boolean isLeft = SwingUtilities.isLeftMouseButton(e);
-	    if (!isLeft) return;
-
-	    // -------- FLAG MODE --------
-	    if (flagMode) {
-	        handleFlagClick(x, y, board, button);
-	        return;
-	    }
-
-	    // ignore click on a flagged cell
-	    if (content.equals("F"))
-	        return;
-
-	    boolean isMine = cell.getMine();
-	    int neighbours = cell.getSurroundingMines();
-
-	    // If this is a mine that is already revealed ("M"), ignore click
-	    if (isMine && "M".equals(content)) {
-	        return;
-	    }
-
-	    // only clear icon if this is NOT an already-revealed mine
-	    if (!"M".equals(content)) {
-	        button.setIcon(null);
-	    }
-
-	    // if cell already has content – only allow clicking special boxes
-	    if (!content.equals("")) {
-	        boolean isClickableSpecial =
-	                (specialBox == SpecialBoxType.SURPRISE && content.equals("🎁")) ||
-	                (specialBox == SpecialBoxType.QUESTION && content.equals("❓")) ||
-	                (specialBox == SpecialBoxType.HEART   && content.equals("♥"))  ||
-	                (specialBox == SpecialBoxType.DICE    && content.equals("🎲"));  // ✅ NEW
-
-	        if (!isClickableSpecial)
-	            return;
-	    }
-
-	    // -------- SPECIAL BOXES / MINES / NORMAL CELLS --------
-	    if (specialBox == SpecialBoxType.SURPRISE) {
-
-	        String before = cell.getContent();
-	        handleSurpriseBox(x, y, board, button);
-	        String after = cell.getContent();
-
-	        if (before.equals("") || "USED".equals(after))
-	            switchTurn();
-
-	    } else if (specialBox == SpecialBoxType.QUESTION) {
-
-	        String before = cell.getContent();
-	        handleQuestionBox(x, y, board, button);
-	        String after = cell.getContent();
-
-	        if (before.equals("") || "USED".equals(after))
-	            switchTurn();
-
-	    } else if (specialBox == SpecialBoxType.HEART) {
-
-	        String before = cell.getContent();
-	        handleHeartBox(x, y, board, button);
-	        String after = cell.getContent();
-
-	        if (before.equals("") || "USED".equals(after))
-	            switchTurn();
-
-	    } else if (specialBox == SpecialBoxType.DICE) { 
-
-	        String before = cell.getContent();
-	        handleDiceBox(x, y, board, button);
-	        String after = cell.getContent();
-
-	      
-	        if (before.equals("") || "USED".equals(after))
-	            switchTurn();
-
-	    } else if (isMine) {
-
-	        handleMineClick(x, y, board, button);
-
-	    } else {
-	        // safe cell
-	        sharedScore += 1;
-	        gui.updateStatus(sharedScore, sharedLives);
-
-	        cell.setContent(Integer.toString(neighbours));
-	        button.setBackground(gui.CELL_REVEALED);
-
-	        if (neighbours == 0) {
-	            button.setText("·");
-	            button.setForeground(new Color(160, 170, 200, 100));
-	            button.setFont(new Font("Arial", Font.BOLD, 24));
-
-	            findZeroes(x, y, board, buttons);
-	        } else {
-	            button.setText(Integer.toString(neighbours));
-	            gui.setTextColor(button);
-	        }
-
-	        switchTurn();
-	    }
-
-	    updateMineCounters();
-	    checkGame();
-	}
-
-
-	// Applies question outcome (points, lives, reveals) based on difficulty and answer
-	
-	private void applyQuestionOutcome(Difficulty gameDiff, QuestionDifficulty qDiff, boolean correct, Board board) {
-
-		int activationCost = getActivationCost(gameDiff);
-
-		int deltaPts = -activationCost; // pay activation cost
-		int deltaLives = 0;
-		boolean revealMine = false;
-		boolean reveal3x3 = false;
-
-		boolean pickFirst = rng.nextBoolean(); // for OR cases in table
-
-// EASY game
-		if (gameDiff == Difficulty.EASY) {
-			switch (qDiff) {
-			case EASY -> {
-				if (correct) {
-					deltaPts += 3;
-					deltaLives += 1;
-				} else {
-					if (pickFirst)
-						deltaPts -= 3;
-				}
-			}
-			case MEDIUM -> {
-				if (correct) {
-					deltaPts += 6;
-					revealMine = true;
-				} else {
-					if (pickFirst)
-						deltaPts -= 6;
-				}
-			}
-			case HARD -> {
-				if (correct) {
-					deltaPts += 10;
-					reveal3x3 = true;
-				} else {
-					deltaPts -= 10;
-				}
-			}
-			case EXPERT -> {
-				if (correct) {
-					deltaPts += 15;
-					deltaLives += 2;
-				} else {
-					deltaPts -= 15;
-					deltaLives -= 1;
-				}
-			}
-			}
-		}
-
-// MEDIUM game
-		if (gameDiff == Difficulty.MEDIUM) {
-			switch (qDiff) {
-			case EASY -> {
-				if (correct) {
-					deltaPts += 8;
-					deltaLives += 1;
-				} else {
-					deltaPts -= 8;
-				}
-			}
-			case MEDIUM -> {
-				if (correct) {
-					deltaPts += 10;
-					deltaLives += 1;
-				} else {
-					if (pickFirst) {
-						deltaPts -= 10;
-						deltaLives -= 1;
-					}
-				}
-			}
-			case HARD -> {
-				if (correct) {
-					deltaPts += 15;
-					deltaLives += 1;
-				} else {
-					deltaPts -= 15;
-					deltaLives -= 1;
-				}
-			}
-			case EXPERT -> {
-				if (correct) {
-					deltaPts += 20;
-					deltaLives += 2;
-				} else {
-					deltaPts -= 20;
-					deltaLives -= (pickFirst ? 1 : 2);
-				}
-			}
-			}
-		}
-
-// HARD game
-		if (gameDiff == Difficulty.HARD) {
-			switch (qDiff) {
-			case EASY -> {
-				if (correct) {
-					deltaPts += 10;
-					deltaLives += 1;
-				} else {
-					deltaPts -= 10;
-					deltaLives -= 1;
-				}
-			}
-			case MEDIUM -> {
-				if (correct) {
-					deltaPts += 15;
-					deltaLives += (pickFirst ? 1 : 2);
-				} else {
-					deltaPts -= 15;
-					deltaLives -= (pickFirst ? 1 : 2);
-				}
-			}
-			case HARD -> {
-				if (correct) {
-					deltaPts += 20;
-					deltaLives += 2;
-				} else {
-					deltaPts -= 20;
-					deltaLives -= 2;
-				}
-			}
-			case EXPERT -> {
-				if (correct) {
-					deltaPts += 40;
-					deltaLives += 3;
-				} else {
-					deltaPts -= 40;
-					deltaLives -= 3;
-				}
-			}
-			}
-		}
-
-		sharedScore += deltaPts;
-		sharedLives += deltaLives;
-		clampLives();
-
-		if (revealMine) {
-			revealRandomMine(board);
-		}
-		if (reveal3x3) {
-			revealRandom3x3(board);
-		}
-
-		gui.updateStatus(sharedScore, sharedLives);
-
-		// Summary message for question result
-		StringBuilder msg = new StringBuilder();
-		msg.append("Question result (").append(gameDiff.name()).append(" game, ").append(qDiff.name())
-				.append(" question)\n\n");
-
-		msg.append(correct ? "✅ Correct answer!\n" : "❌ Wrong answer.\n");
-
-		msg.append("Activation cost: -").append(activationCost).append(" pts\n");
-
-		int effectPts = deltaPts + activationCost; // pure effect beyond activation cost
-		msg.append("Question effect points: ").append(effectPts >= 0 ? "+" : "").append(effectPts).append(" pts");
-
-		if (deltaLives != 0) {
-			msg.append("\nLife change: ").append(deltaLives > 0 ? "+" : "").append(deltaLives).append(" ♥");
-		}
-
-		if (revealMine) {
-			msg.append("\n\nA random mine on your board was revealed.");
-		}
-		if (reveal3x3) {
-			msg.append("\nA 3×3 area on your board was revealed.");
-		}
-
-		msg.append("\n\nTotal points change: ").append(deltaPts >= 0 ? "+" : "").append(deltaPts).append(" pts");
-
-		msg.append("\nTotal score: ").append(sharedScore).append("\nTotal lives: ").append(sharedLives);
-
-		JOptionPane.showMessageDialog(gui, msg.toString(), "Question Outcome", JOptionPane.INFORMATION_MESSAGE);
-
-		if (sharedLives <= 0) {
-			gameLost();
-		}
-	}
-
-	private void clampLives() { // Clamps lives between 0 and max and converts extra lives to points.
-		int max = getMaxLives();
-
-		if (sharedLives > max) {
-			int extraLives = sharedLives - max;
+	public void mouseClicked(MouseEvent e) { // Turns a left click on a cell into an engine move.
 
-			int activationCost = getActivationCost();
+	    BoardView board = (BoardView) e.getSource();
+	    if (!board.isEnabled() || !SwingUtilities.isLeftMouseButton(e)) return;
 
-			int bonusPoints = extraLives * activationCost;
-
-			sharedScore += bonusPoints;
-			sharedLives = max;
-
-		}
+	    int x = board.columnAt(e.getX());
+	    int y = board.rowAt(e.getY());
+	    if (x < 0 || y < 0) return;
 
-		if (sharedLives < 0) {
-			sharedLives = 0;
-		}
+	    engine.click(board.getSide(), x, y);
 	}
-	public void openMineWithButton() { //the function reveals a random hidden mine
-
-	    if (openMineUsed) return;   
-
-	    openMineUsed = true;
-	    if (gui != null) {
-	        gui.setOpenMineEnabled(false);
-	    }
-
-	    String boardTag = gui.getActiveBoard();
-	    Board board = boardTag.equals("A") ? boardA : boardB;
-
-	    int[] pos = findHiddenMine(board);
-	    if (pos == null) {
-	        JOptionPane.showMessageDialog(gui, "No hidden mines left to open.", "Open Mine",
-	                JOptionPane.INFORMATION_MESSAGE);
-	        return;
-	    }
-
-	    // reveal one hidden mine 
-	    revealRandomMine(board);
-
-	    updateMineCounters();
-	    checkGame();
-	}
-
-	
-
-
-	private void revealRandomMine(Board board) { // Reveals one hidden mine on the given board (first one found).
-		Cell[][] c = board.getCells();
-		JButton[][] btns = (board == boardA) ? gui.getButtonsA() : gui.getButtonsB();
-
-		for (int x = 0; x < board.getCols(); x++) {
-			for (int y = 0; y < board.getRows(); y++) {
-				if (c[x][y].getMine() && c[x][y].getContent().equals("")) {
-
-					c[x][y].setContent("M");
-					JButton btn = btns[x][y];
-					btn.setIcon(gui.getIconRedMine());
-					btn.setBackground(new Color(220, 53, 69));
-					return;
-				}
-			}
-		}
-	}
-
-	private void revealRandom3x3(Board board) {
-		int cols = board.getCols();
-		int rows = board.getRows();
-
-		JButton[][] btns = (board == boardA) ? gui.getButtonsA() : gui.getButtonsB();
-		Cell[][] cells = board.getCells();
-
-		int bestCenterX = -1;
-		int bestCenterY = -1;
-		int bestClosedCount = -1;
-
-		//  Try to find a 3x3 where ALL 9 cells are closed
-		for (int cx = 0; cx < cols; cx++) {
-			for (int cy = 0; cy < rows; cy++) {
-
-				int closedCount = 0;
-
-				for (int x = Math.max(0, cx - 1); x <= Math.min(cols - 1, cx + 1); x++) {
-					for (int y = Math.max(0, cy - 1); y <= Math.min(rows - 1, cy + 1); y++) {
-
-						String content = cells[x][y].getContent();
-						if (content == null)
-							content = "";
-
-						if (content.equals("")) {
-							closedCount++;
-						}
-					}
-				}
-
-				// if the 3x3 is fully closed (9 closed cells) -> pick it immediately
-				if (closedCount == 9) {
-					bestCenterX = cx;
-					bestCenterY = cy;
-					bestClosedCount = 9;
-					break;
-				}
-
-				// otherwise keep the best 3x3 (max closed cells)
-				if (closedCount > bestClosedCount) {
-					bestClosedCount = closedCount;
-					bestCenterX = cx;
-					bestCenterY = cy;
-				}
-			}
-
-			if (bestClosedCount == 9)
-				break;
-		}
-
-		// If bestClosedCount <= 0 => no closed cells in any 3x3, nothing to reveal
-		if (bestClosedCount <= 0)
-			return;
-
-		int centerX = bestCenterX;
-		int centerY = bestCenterY;
-
-		// Reveal as many as possible in that 3x3 (ONLY closed cells)
-		for (int x = Math.max(0, centerX - 1); x <= Math.min(cols - 1, centerX + 1); x++) {
-			for (int y = Math.max(0, centerY - 1); y <= Math.min(rows - 1, centerY + 1); y++) {
-
-				Cell cell = cells[x][y];
-				JButton btn = btns[x][y];
-
-				String content = cell.getContent();
-				if (content == null)
-					content = "";
-
-				// Only reveal cells that are still closed
-				if (!content.equals(""))
-					continue;
-
-				if (cell.getMine()) {
-					btn.setIcon(gui.getIconRedMine());
-					btn.setBackground(new Color(220, 53, 69));
-					cell.setContent("M");
-					continue;
-				}
-
-				int n = cell.getSurroundingMines();
-				cell.setContent(Integer.toString(n));
-
-				btn.setBackground(gui.CELL_REVEALED);
-				if (n == 0) {
-					btn.setText("·");
-				} else {
-					btn.setText(Integer.toString(n));
-					gui.setTextColor(btn);
-				}
-			}
-		}
-	}
-
-
 
 	@Override
 	public void mousePressed(MouseEvent e) {
@@ -1460,6 +311,10 @@ public class Game implements MouseListener, ActionListener, WindowListener {
 	public void windowDeactivated(WindowEvent e) {
 	}
 
+	public GameEngine getEngine() {
+		return engine;
+	}
+
 	public SysData getSysData() {
 		return sysData;
 	}
@@ -1472,6 +327,15 @@ public class Game implements MouseListener, ActionListener, WindowListener {
 		return currentDifficulty;
 	}
 
+	// of the current match, which is what its history row must replay
+	public long getSeed() {
+		return getStreams().getSeed();
+	}
+
+	public RandomStreams getStreams() {
+		return engine.getStreams();
+	}
+
 	public Player getPlayer1() {
 		return player1;
 	}
@@ -1481,7 +345,7 @@ public class Game implements MouseListener, ActionListener, WindowListener {
 	}
 
 	public int getSharedScore() {
-		return sharedScore;
+		return engine.getSharedScore();
 	}
 
 	public void goToMainMenu() {
@@ -1489,18 +353,17 @@ public class Game implements MouseListener, ActionListener, WindowListener {
 		gui.interruptTimer();
 
 		// Reset game state
-		gameOver = true;
+		engine.setGameOver(true);
 
 		// Switch back to main menu UI
 		gui.goToMainPage();
 	}
 
 	public boolean isGameOver() {
-		return gameOver;
+		return engine.isGameOver();
 	}
 
 	public void setGameOver(boolean gameOver) {
-		this.gameOver = gameOver;
+		engine.setGameOver(gameOver);
 	}
-
-}
\ No newline at end of file
+}
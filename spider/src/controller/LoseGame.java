@@ -29,7 +29,8 @@ public class LoseGame extends EndGameTemplate {
                 game.getPlayer2(),
                 game.getSharedScore(),
                 "LOST",
-                game.getGui().getTimePassed()
+                game.getGui().getTimePassed(),
+                game.getStreams()
         );
     }
 
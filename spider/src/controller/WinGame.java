@@ -27,7 +27,8 @@ public class WinGame extends EndGameTemplate {
                 game.getPlayer2(),
                 game.getSharedScore(),
                 "WIN",
-                game.getGui().getTimePassed()
+                game.getGui().getTimePassed(),
+                game.getStreams()
         );
     }
 
@@ -0,0 +1,19 @@
+package engine;
+
+/** The two boards of a match; player 1 plays board A, player 2 plays board B. */
+public enum BoardSide {
+    A, B;
+
+    public BoardSide other() {
+        return this == A ? B : A;
+    }
+
+    /** The tag the Swing view uses for this board ("A" or "B"). */
+    public String tag() {
+        return name();
+    }
+
+    public static BoardSide fromTag(String tag) {
+        return "B".equals(tag) ? B : A;
+    }
+}
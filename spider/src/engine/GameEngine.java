@@ -0,0 +1,875 @@
+package engine;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.random.RandomGenerator;
+
+import model.Board;
+import model.BoardFactory;
+import model.CellState;
+import model.Difficulty;
+import model.EasyBoardFactory;
+import model.HardBoardFactory;
+import model.MediumBoardFactory;
+import model.Question;
+import model.QuestionDifficulty;
+import model.RandomStreams;
+import model.SpecialBoxType;
+
+/**
+ * The rules of a two-player match without any Swing: the boards, shared score and
+ * lives, whose turn it is, special boxes and rewards. Moves come in as method calls,
+ * decisions are asked from a PlayerDecisions callback and everything that happens
+ * is reported to the registered GameEventListeners.
+ */
+public class GameEngine {
+
+    public static final int MAX_LIVES = 10;
+
+    private final Difficulty currentDifficulty;
+    private final GameRules rules;
+    private final BoardFactory boardFactory;
+    private RandomStreams streams; // the current match's
+    private RandomGenerator rng; // surprise, dice and question outcome rolls
+    private final QuestionSource questions;
+    private final PlayerDecisions decisions;
+    private final List<GameEventListener> listeners = new ArrayList<>();
+
+    private Board boardA;
+    private Board boardB;
+
+    // wrong flags that were already penalised when flag mode was left
+    private BitSet judgedFlagsA;
+    private BitSet judgedFlagsB;
+
+    // cells opened by the last 3x3 reward
+    private final int[] windowCells = new int[9];
+
+    private BoardSide activeSide;
+    private boolean playing;
+    private boolean gameOver;
+    private boolean flagMode = false;
+    private boolean mineHintUsed;
+    private boolean openMineUsed;
+
+    private int sharedLives;
+    private int sharedScore;
+
+    /** An engine without questions whose players decline every activation. */
+    public GameEngine(Difficulty difficulty, RandomStreams streams) {
+        this(difficulty, streams, QuestionSource.NONE, PlayerDecisions.DECLINE_ALL);
+    }
+
+    public GameEngine(Difficulty difficulty, RandomStreams streams, QuestionSource questions,
+                      PlayerDecisions decisions) {
+        this(GameRules.of(difficulty), boardFactoryFor(difficulty, streams), questions, decisions);
+    }
+
+    /** A match with its own scoring rules; boards and every random roll come from the factory's streams. */
+    public GameEngine(GameRules rules, BoardFactory boardFactory, QuestionSource questions,
+                      PlayerDecisions decisions) {
+        this.currentDifficulty = rules.difficulty();
+        this.rules = rules;
+        this.boardFactory = boardFactory;
+        this.questions = questions;
+        this.decisions = decisions;
+
+        newGame(boardFactory.getStreams());
+    }
+
+    private static BoardFactory boardFactoryFor(Difficulty difficulty, RandomStreams streams) {
+        return switch (difficulty) {
+            case EASY -> new EasyBoardFactory(streams);
+            case MEDIUM -> new MediumBoardFactory(streams);
+            case HARD -> new HardBoardFactory(streams);
+        };
+    }
+
+    public void addListener(GameEventListener listener) {
+        listeners.add(listener);
+    }
+
+    public void removeListener(GameEventListener listener) {
+        listeners.remove(listener);
+    }
+
+    private void fire(Consumer<GameEventListener> event) {
+        for (int k = 0; k < listeners.size(); k++) {
+            event.accept(listeners.get(k));
+        }
+    }
+
+    /**
+     * Fresh boards, full lives and no score; the next click starts the match.
+     * Boards and every roll of the match come from the given streams, so a match
+     * can be replayed from their seed alone.
+     */
+    public void newGame(RandomStreams streams) {
+        this.streams = streams;
+        this.rng = streams.effects();
+        playing = false;
+        gameOver = false;
+        mineHintUsed = false;
+        openMineUsed = false;
+
+        activeSide = BoardSide.A;
+        sharedLives = rules.lives();
+        sharedScore = 0;
+
+        boardA = boardFactory.createBoardA(streams);
+        boardB = boardFactory.createBoardB(streams);
+        judgedFlagsA = new BitSet(boardA.getCellCount());
+        judgedFlagsB = new BitSet(boardB.getCellCount());
+    }
+
+    // ------------------ RULE TABLES ------------------ //
+
+    // 5 / 8 / 12 points with the shipped rules
+    public int getActivationCost() {
+        return rules.activationCost();
+    }
+
+    // points used by surprise good/bad effect (±8 / ±12 / ±16 with the shipped rules)
+    public int getSurprisePoints() {
+        return rules.surprisePoints();
+    }
+
+    // ------------------ COMMANDS ------------------ //
+
+    /** A left click on cell (x, y) of the given board. Clicks on the waiting board are ignored. */
+    public MoveOutcome click(BoardSide side, int x, int y) {
+        if (gameOver) {
+            return MoveOutcome.IGNORED;
+        }
+        if (!playing) {
+            playing = true;
+            fire(GameEventListener::gameStarted);
+        }
+        if (side != activeSide) {
+            return MoveOutcome.IGNORED;
+        }
+
+        Board board = getBoard(side);
+        int i = board.index(x, y);
+        CellState state = board.getState(i);
+        SpecialBoxType specialBox = board.getSpecialBox(i);
+
+        if (flagMode) {
+            return handleFlagClick(side, board, i);
+        }
+
+        // ignore click on a flagged cell
+        if (state == CellState.FLAGGED) {
+            return MoveOutcome.IGNORED;
+        }
+
+        boolean isMine = board.isMine(i);
+
+        // a mine that is already revealed
+        if (isMine && state == CellState.REVEALED) {
+            return MoveOutcome.IGNORED;
+        }
+
+        // if cell is already open – only allow clicking revealed special boxes
+        if (state != CellState.HIDDEN) {
+            boolean isClickableSpecial = state == CellState.REVEALED && specialBox != SpecialBoxType.NONE;
+            if (!isClickableSpecial) {
+                return MoveOutcome.IGNORED;
+            }
+        }
+
+        MoveOutcome outcome;
+        if (specialBox != SpecialBoxType.NONE) {
+            outcome = switch (specialBox) {
+                case SURPRISE -> handleSurpriseBox(side, board, i);
+                case QUESTION -> handleQuestionBox(side, board, i);
+                case HEART -> handleHeartBox(side, board, i);
+                default -> handleDiceBox(side, board, i);
+            };
+
+            if (state == CellState.HIDDEN || board.getState(i) == CellState.USED) {
+                switchTurn();
+            }
+        } else if (isMine) {
+            outcome = handleMineClick(side, board, i);
+        } else {
+            // safe cell
+            sharedScore += 1;
+            fireStatus();
+
+            board.setState(i, CellState.REVEALED);
+            fire(l -> l.cellRevealed(side, i));
+
+            if (board.getSurroundingMines(i) == 0) {
+                findZeroes(board.xOf(i), board.yOf(i), board);
+            }
+
+            switchTurn();
+            outcome = MoveOutcome.CELL_REVEALED;
+        }
+
+        fireMinesLeft();
+        checkGame();
+        return outcome;
+    }
+
+    /** Leaving flag mode scores every new flag on both boards. */
+    public void setFlagMode(boolean flagMode) {
+        boolean wasFlagMode = this.flagMode;
+        this.flagMode = flagMode;
+
+        if (wasFlagMode && !flagMode) {
+            evaluateFlags();
+            fireMinesLeft();
+            checkGame();
+        }
+    }
+
+    /** Points out a random hidden mine on the active board; once per match. */
+    public MoveOutcome useMineHint() {
+        if (mineHintUsed) {
+            return MoveOutcome.IGNORED;
+        }
+        mineHintUsed = true;
+
+        BoardSide side = activeSide;
+        int i = getBoard(side).randomHiddenMine(rng);
+        if (i < 0) {
+            return MoveOutcome.NO_HIDDEN_MINES;
+        }
+
+        fire(l -> l.mineHinted(side, i));
+        return MoveOutcome.MINE_HINTED;
+    }
+
+    /** Reveals a random hidden mine on the active board; once per match. */
+    public MoveOutcome openMine() {
+        if (openMineUsed) {
+            return MoveOutcome.IGNORED;
+        }
+        openMineUsed = true;
+
+        Board board = getBoard(activeSide);
+        if (board.getHiddenMines() == 0) {
+            return MoveOutcome.NO_HIDDEN_MINES;
+        }
+
+        revealRandomMine(activeSide, board);
+
+        fireMinesLeft();
+        checkGame();
+        return MoveOutcome.MINE_OPENED;
+    }
+
+    /** Converts remaining lives into bonus points at the end of a match. */
+    public void convertRemainingLivesToPoints() {
+        if (sharedLives <= 0) {
+            return;
+        }
+
+        int bonus = sharedLives * getActivationCost();
+
+        sharedScore += bonus;
+        sharedLives = 0;
+
+        fireStatus();
+    }
+
+    // ------------------ MOVES ------------------ //
+
+    // Places or removes a flag while in flag mode
+    private MoveOutcome handleFlagClick(BoardSide side, Board board, int i) {
+        CellState state = board.getState(i);
+
+        if (state == CellState.FLAGGED) {
+            board.setState(i, CellState.HIDDEN);
+            judgedFlags(side).clear(i);
+            fire(l -> l.flagRemoved(side, i));
+            fireStatus();
+            return MoveOutcome.FLAG_CHANGED;
+        }
+
+        // already revealed (number, mine, used box, ...) → do nothing
+        if (state != CellState.HIDDEN) {
+            return MoveOutcome.IGNORED;
+        }
+
+        // place a new flag – no hint whether it is correct
+        board.setState(i, CellState.FLAGGED);
+        fire(l -> l.flagPlaced(side, i));
+        fireStatus();
+        return MoveOutcome.FLAG_CHANGED;
+    }
+
+    private void evaluateFlags() {
+        evaluateFlagsOnBoard(BoardSide.A, boardA);
+        evaluateFlagsOnBoard(BoardSide.B, boardB);
+
+        fireStatus();
+    }
+
+    // Correct flags score +1 and reveal the mine, wrong flags cost 3 points once
+    private void evaluateFlagsOnBoard(BoardSide side, Board board) {
+        BitSet judged = judgedFlags(side);
+
+        for (int i = 0; i < board.getCellCount(); i++) {
+            if (board.getState(i) != CellState.FLAGGED || judged.get(i)) {
+                continue;
+            }
+
+            int cell = i;
+            if (board.isMine(i)) {
+                sharedScore += 1;
+                board.setState(i, CellState.REVEALED);
+                fire(l -> l.flagJudged(side, cell, true));
+            } else {
+                sharedScore -= 3;
+                judged.set(i);
+                fire(l -> l.flagJudged(side, cell, false));
+            }
+        }
+    }
+
+    private MoveOutcome handleMineClick(BoardSide side, Board board, int i) {
+        sharedLives -= 1;
+
+        board.setState(i, CellState.REVEALED);
+        fire(l -> l.mineHit(side, i));
+        fireStatus();
+
+        if (sharedLives <= 0) {
+            gameLost();
+            return MoveOutcome.MINE_HIT;
+        }
+
+        switchTurn();
+        return MoveOutcome.MINE_HIT;
+    }
+
+    // First click reveals the box (+1 point), the second one activates it
+    private MoveOutcome revealBox(BoardSide side, Board board, int i, boolean expand) {
+        board.setState(i, CellState.REVEALED);
+        fire(l -> l.cellRevealed(side, i));
+
+        sharedScore += 1;
+        fireStatus();
+
+        if (expand) {
+            findZeroes(board.xOf(i), board.yOf(i), board);
+        }
+        return MoveOutcome.BOX_REVEALED;
+    }
+
+    private void useBox(BoardSide side, Board board, int i) {
+        board.setState(i, CellState.USED);
+        board.setSpecialBox(i, SpecialBoxType.NONE);
+        fire(l -> l.boxUsed(side, i));
+    }
+
+    private MoveOutcome handleHeartBox(BoardSide side, Board board, int i) {
+        CellState state = board.getState(i);
+
+        if (state == CellState.HIDDEN) {
+            return revealBox(side, board, i, false);
+        }
+        if (state != CellState.REVEALED) {
+            return MoveOutcome.IGNORED;
+        }
+
+        if (!decisions.confirmActivation(SpecialBoxType.HEART, getActivationCost())) {
+            return MoveOutcome.DECLINED;
+        }
+
+        sharedScore -= getActivationCost();
+
+        boolean lifeGained = sharedLives < rules.maxLives();
+        if (lifeGained) {
+            sharedLives += 1;
+        } else {
+            sharedScore += 5; // compensate if already max
+        }
+        int lives = sharedLives;
+        fire(l -> l.heartActivated(lifeGained, lives, rules.maxLives()));
+
+        clampLives();
+        useBox(side, board, i);
+        fireStatus();
+
+        if (sharedLives <= 0) {
+            gameLost();
+        }
+        return MoveOutcome.BOX_USED;
+    }
+
+    private MoveOutcome handleSurpriseBox(BoardSide side, Board board, int i) {
+        CellState state = board.getState(i);
+
+        if (state == CellState.HIDDEN) {
+            return revealBox(side, board, i, true);
+        }
+        if (state != CellState.REVEALED) {
+            return MoveOutcome.IGNORED;
+        }
+
+        int activationCost = getActivationCost();
+        if (!decisions.confirmActivation(SpecialBoxType.SURPRISE, activationCost)) {
+            return MoveOutcome.DECLINED;
+        }
+
+        int surprisePts = getSurprisePoints();
+        boolean isBonus = rng.nextBoolean();
+
+        int deltaPts = -activationCost;
+        int deltaLives;
+        if (isBonus) {
+            deltaPts += surprisePts; // +8 / +12 / +16
+            deltaLives = +1;
+        } else {
+            deltaPts -= surprisePts; // -8 / -12 / -16
+            deltaLives = -1;
+        }
+
+        sharedScore += deltaPts;
+        sharedLives += deltaLives;
+        clampLives();
+
+        useBox(side, board, i);
+        fireStatus();
+
+        SurpriseOutcome outcome = new SurpriseOutcome(isBonus, activationCost, deltaPts, deltaLives,
+                sharedScore, sharedLives);
+        fire(l -> l.surpriseActivated(outcome));
+
+        if (sharedLives <= 0) {
+            gameLost();
+        }
+        return MoveOutcome.BOX_USED;
+    }
+
+    private MoveOutcome handleDiceBox(BoardSide side, Board board, int i) {
+        CellState state = board.getState(i);
+
+        if (state == CellState.HIDDEN) {
+            return revealBox(side, board, i, false);
+        }
+        if (state != CellState.REVEALED) {
+            return MoveOutcome.IGNORED;
+        }
+
+        // the dice turns into a heart, question or surprise box and is handled as one
+        SpecialBoxType choice = decisions.chooseDiceBox();
+        if (choice != SpecialBoxType.HEART && choice != SpecialBoxType.QUESTION
+                && choice != SpecialBoxType.SURPRISE) {
+            return MoveOutcome.DECLINED;
+        }
+
+        board.setSpecialBox(i, choice);
+        fire(l -> l.diceTurned(side, i, choice));
+
+        return switch (choice) {
+            case HEART -> handleHeartBox(side, board, i);
+            case QUESTION -> handleQuestionBox(side, board, i);
+            default -> handleSurpriseBox(side, board, i);
+        };
+    }
+
+    private MoveOutcome handleQuestionBox(BoardSide side, Board board, int i) {
+        CellState state = board.getState(i);
+
+        if (state == CellState.HIDDEN) {
+            // expand empty neighbours like a normal empty cell
+            return revealBox(side, board, i, true);
+        }
+        if (state != CellState.REVEALED) {
+            return MoveOutcome.IGNORED;
+        }
+
+        if (!decisions.confirmActivation(SpecialBoxType.QUESTION, getActivationCost())) {
+            return MoveOutcome.DECLINED;
+        }
+
+        Optional<Question> opt = questions.nextQuestion(streams.questions());
+        if (opt.isEmpty()) {
+            fire(GameEventListener::noQuestionsLeft);
+            return MoveOutcome.NO_QUESTIONS;
+        }
+
+        Question q = opt.get();
+        boolean correct = decisions.answerQuestion(q) == q.getCorrectIndex();
+        fire(l -> l.questionAnswered(correct));
+
+        useBox(side, board, i);
+
+        applyQuestionOutcome(currentDifficulty, q.getDifficulty(), correct, side, board);
+        return MoveOutcome.BOX_USED;
+    }
+
+    // Applies question outcome (points, lives, reveals) based on difficulty and answer
+    private void applyQuestionOutcome(Difficulty gameDiff, QuestionDifficulty qDiff, boolean correct,
+                                      BoardSide side, Board board) {
+
+        int activationCost = getActivationCost();
+
+        int deltaPts = -activationCost; // pay activation cost
+        int deltaLives = 0;
+        boolean revealMine = false;
+        boolean reveal3x3 = false;
+
+        boolean pickFirst = rng.nextBoolean(); // for OR cases in table
+
+        // EASY game
+        if (gameDiff == Difficulty.EASY) {
+            switch (qDiff) {
+                case EASY -> {
+                    if (correct) {
+                        deltaPts += 3;
+                        deltaLives += 1;
+                    } else {
+                        if (pickFirst)
+                            deltaPts -= 3;
+                    }
+                }
+                case MEDIUM -> {
+                    if (correct) {
+                        deltaPts += 6;
+                        revealMine = true;
+                    } else {
+                        if (pickFirst)
+                            deltaPts -= 6;
+                    }
+                }
+                case HARD -> {
+                    if (correct) {
+                        deltaPts += 10;
+                        reveal3x3 = true;
+                    } else {
+                        deltaPts -= 10;
+                    }
+                }
+                case EXPERT -> {
+                    if (correct) {
+                        deltaPts += 15;
+                        deltaLives += 2;
+                    } else {
+                        deltaPts -= 15;
+                        deltaLives -= 1;
+                    }
+                }
+            }
+        }
+
+        // MEDIUM game
+        if (gameDiff == Difficulty.MEDIUM) {
+            switch (qDiff) {
+                case EASY -> {
+                    if (correct) {
+                        deltaPts += 8;
+                        deltaLives += 1;
+                    } else {
+                        deltaPts -= 8;
+                    }
+                }
+                case MEDIUM -> {
+                    if (correct) {
+                        deltaPts += 10;
+                        deltaLives += 1;
+                    } else {
+                        if (pickFirst) {
+                            deltaPts -= 10;
+                            deltaLives -= 1;
+                        }
+                    }
+                }
+                case HARD -> {
+                    if (correct) {
+                        deltaPts += 15;
+                        deltaLives += 1;
+                    } else {
+                        deltaPts -= 15;
+                        deltaLives -= 1;
+                    }
+                }
+                case EXPERT -> {
+                    if (correct) {
+                        deltaPts += 20;
+                        deltaLives += 2;
+                    } else {
+                        deltaPts -= 20;
+                        deltaLives -= (pickFirst ? 1 : 2);
+                    }
+                }
+            }
+        }
+
+        // HARD game
+        if (gameDiff == Difficulty.HARD) {
+            switch (qDiff) {
+                case EASY -> {
+                    if (correct) {
+                        deltaPts += 10;
+                        deltaLives += 1;
+                    } else {
+                        deltaPts -= 10;
+                        deltaLives -= 1;
+                    }
+                }
+                case MEDIUM -> {
+                    if (correct) {
+                        deltaPts += 15;
+                        deltaLives += (pickFirst ? 1 : 2);
+                    } else {
+                        deltaPts -= 15;
+                        deltaLives -= (pickFirst ? 1 : 2);
+                    }
+                }
+                case HARD -> {
+                    if (correct) {
+                        deltaPts += 20;
+                        deltaLives += 2;
+                    } else {
+                        deltaPts -= 20;
+                        deltaLives -= 2;
+                    }
+                }
+                case EXPERT -> {
+                    if (correct) {
+                        deltaPts += 40;
+                        deltaLives += 3;
+                    } else {
+                        deltaPts -= 40;
+                        deltaLives -= 3;
+                    }
+                }
+            }
+        }
+
+        sharedScore += deltaPts;
+        sharedLives += deltaLives;
+        clampLives();
+
+        if (revealMine) {
+            revealRandomMine(side, board);
+        }
+        if (reveal3x3) {
+            revealRandom3x3(side, board);
+        }
+
+        fireStatus();
+
+        QuestionOutcome outcome = new QuestionOutcome(gameDiff, qDiff, correct, activationCost, deltaPts,
+                deltaLives, revealMine, reveal3x3, sharedScore, sharedLives);
+        fire(l -> l.questionResolved(outcome));
+
+        if (sharedLives <= 0) {
+            gameLost();
+        }
+    }
+
+    // Opens the area around an empty cell or special box
+    private void findZeroes(int x, int y, Board board) {
+        int count = board.floodReveal(x, y);
+        if (count > 0) {
+            BoardSide side = sideOf(board);
+            int[] revealed = board.floodRevealedCells();
+            fire(l -> l.areaRevealed(side, revealed, count));
+        }
+    }
+
+    private void revealRandomMine(BoardSide side, Board board) {
+        int i = board.randomHiddenMine(rng);
+        if (i < 0) {
+            return;
+        }
+
+        board.setState(i, CellState.REVEALED);
+        fire(l -> l.mineExposed(side, i));
+    }
+
+    // Reveals the closed cells of a random 3x3 window with the most closed cells
+    private void revealRandom3x3(BoardSide side, Board board) {
+        int centre = board.closedWindows(3).randomBestCentre(rng);
+
+        // no closed cells in any 3x3, nothing to reveal
+        if (centre < 0) {
+            return;
+        }
+
+        int centerX = board.xOf(centre);
+        int centerY = board.yOf(centre);
+        int count = 0;
+
+        for (int x = Math.max(0, centerX - 1); x <= Math.min(board.getCols() - 1, centerX + 1); x++) {
+            for (int y = Math.max(0, centerY - 1); y <= Math.min(board.getRows() - 1, centerY + 1); y++) {
+                int i = board.index(x, y);
+
+                // only reveal cells that are still closed
+                if (board.getState(i) != CellState.HIDDEN) {
+                    continue;
+                }
+
+                board.setState(i, CellState.REVEALED);
+                windowCells[count++] = i;
+            }
+        }
+
+        int revealed = count;
+        fire(l -> l.windowRevealed(side, windowCells, revealed));
+    }
+
+    // ------------------ TURNS AND GAME END ------------------ //
+
+    private void switchTurn() {
+        activeSide = activeSide.other();
+        fire(l -> l.turnChanged(activeSide));
+        fireStatus();
+    }
+
+    // Checks win/lose conditions after a move
+    private void checkGame() {
+        if (!playing) {
+            return; // the match already ended
+        }
+
+        boolean aDone = checkWinCondition(boardA);
+        boolean bDone = checkWinCondition(boardB);
+
+        if (aDone || bDone || sharedLives <= 0) {
+            if (sharedLives > 0) {
+                gameWon();
+            } else {
+                gameLost();
+            }
+        }
+    }
+
+    // Returns true if all mines on a board are either flagged or revealed.
+    private boolean checkWinCondition(Board board) {
+        return board.allMinesResolved();
+    }
+
+    private int countRemainingMines(Board board) {
+        return board.getRemainingMines();
+    }
+
+    private void gameWon() {
+        endMatch(true);
+    }
+
+    private void gameLost() {
+        endMatch(false);
+    }
+
+    private void endMatch(boolean won) {
+        if (gameOver) {
+            return;
+        }
+        gameOver = true;
+        playing = false;
+
+        fire(l -> l.gameEnded(won));
+    }
+
+    // Clamps lives between 0 and max and converts extra lives to points.
+    private void clampLives() {
+        int max = rules.maxLives();
+
+        if (sharedLives > max) {
+            int extraLives = sharedLives - max;
+            sharedScore += extraLives * getActivationCost();
+            sharedLives = max;
+        }
+
+        if (sharedLives < 0) {
+            sharedLives = 0;
+        }
+    }
+
+    private void fireStatus() {
+        int score = sharedScore, lives = sharedLives;
+        fire(l -> l.statusChanged(score, lives));
+    }
+
+    private void fireMinesLeft() {
+        int a = countRemainingMines(boardA), b = countRemainingMines(boardB);
+        fire(l -> l.minesLeftChanged(a, b));
+    }
+
+    private BitSet judgedFlags(BoardSide side) {
+        return side == BoardSide.A ? judgedFlagsA : judgedFlagsB;
+    }
+
+    private BoardSide sideOf(Board board) {
+        return board == boardA ? BoardSide.A : BoardSide.B;
+    }
+
+    // ------------------ GETTERS ------------------ //
+
+    public Board getBoard(BoardSide side) {
+        return side == BoardSide.A ? boardA : boardB;
+    }
+
+    public Board getBoardA() {
+        return boardA;
+    }
+
+    public Board getBoardB() {
+        return boardB;
+    }
+
+    public BoardSide getActiveSide() {
+        return activeSide;
+    }
+
+    public int getRemainingMines(BoardSide side) {
+        return countRemainingMines(getBoard(side));
+    }
+
+    public int getSharedScore() {
+        return sharedScore;
+    }
+
+    public int getSharedLives() {
+        return sharedLives;
+    }
+
+    public Difficulty getDifficulty() {
+        return currentDifficulty;
+    }
+
+    public GameRules getRules() {
+        return rules;
+    }
+
+    /** The streams of the current match; their seed replays it. */
+    public RandomStreams getStreams() {
+        return streams;
+    }
+
+    public boolean isFlagMode() {
+        return flagMode;
+    }
+
+    public boolean isPlaying() {
+        return playing;
+    }
+
+    public boolean isGameOver() {
+        return gameOver;
+    }
+
+    /** Marks the match as finished (or not) without the end-of-game events, e.g. when leaving to the menu. */
+    public void setGameOver(boolean gameOver) {
+        this.gameOver = gameOver;
+    }
+
+    public boolean isMineHintUsed() {
+        return mineHintUsed;
+    }
+
+    public boolean isOpenMineUsed() {
+        return openMineUsed;
+    }
+}
@@ -0,0 +1,59 @@
+package engine;
+
+import model.SpecialBoxType;
+
+/**
+ * Everything a GameEngine reports while it runs. Cells are given as board
+ * indices (see Board.index); a renderer only overrides what it shows.
+ */
+public interface GameEventListener {
+
+    /** First move of the match. */
+    default void gameStarted() {}
+
+    /** A cell opened by a click: a safe cell or the first click on a special box. */
+    default void cellRevealed(BoardSide side, int index) {}
+
+    /** Cells opened around an empty cell or special box; only cells[0..count) are valid. */
+    default void areaRevealed(BoardSide side, int[] cells, int count) {}
+
+    /** Cells opened by a 3x3 question reward; only cells[0..count) are valid. */
+    default void windowRevealed(BoardSide side, int[] cells, int count) {}
+
+    default void mineHit(BoardSide side, int index) {}
+
+    /** A hidden mine uncovered by a reward or the open-mine button. */
+    default void mineExposed(BoardSide side, int index) {}
+
+    default void mineHinted(BoardSide side, int index) {}
+
+    default void flagPlaced(BoardSide side, int index) {}
+
+    default void flagRemoved(BoardSide side, int index) {}
+
+    /** A flag scored when flag mode was left; correct flags are revealed as mines. */
+    default void flagJudged(BoardSide side, int index, boolean correct) {}
+
+    default void diceTurned(BoardSide side, int index, SpecialBoxType box) {}
+
+    /** A special box was activated and can not be used again. */
+    default void boxUsed(BoardSide side, int index) {}
+
+    default void heartActivated(boolean lifeGained, int lives, int maxLives) {}
+
+    default void surpriseActivated(SurpriseOutcome outcome) {}
+
+    default void questionAnswered(boolean correct) {}
+
+    default void questionResolved(QuestionOutcome outcome) {}
+
+    default void noQuestionsLeft() {}
+
+    default void statusChanged(int score, int lives) {}
+
+    default void turnChanged(BoardSide active) {}
+
+    default void minesLeftChanged(int minesA, int minesB) {}
+
+    default void gameEnded(boolean won) {}
+}
@@ -0,0 +1,34 @@
+package engine;
+
+import model.Difficulty;
+
+/**
+ * The scoring side of a match: starting and maximum lives, what activating a
+ * box costs and what a surprise is worth. Question tables stay keyed by difficulty.
+ */
+public record GameRules(Difficulty difficulty, int lives, int maxLives, int activationCost, int surprisePoints) {
+
+    public GameRules {
+        if (lives <= 0 || maxLives < lives) {
+            throw new IllegalArgumentException("lives must be 1.." + maxLives + ", got " + lives);
+        }
+    }
+
+    /** The rules the game ships with for this difficulty. */
+    public static GameRules of(Difficulty difficulty) {
+        return new GameRules(difficulty, difficulty.getLives(), GameEngine.MAX_LIVES,
+                difficulty.getQuestionPoints(), difficulty.getSurprisePoints());
+    }
+
+    public GameRules withLives(int lives) {
+        return new GameRules(difficulty, lives, maxLives, activationCost, surprisePoints);
+    }
+
+    public GameRules withActivationCost(int activationCost) {
+        return new GameRules(difficulty, lives, maxLives, activationCost, surprisePoints);
+    }
+
+    public GameRules withSurprisePoints(int surprisePoints) {
+        return new GameRules(difficulty, lives, maxLives, activationCost, surprisePoints);
+    }
+}
@@ -0,0 +1,16 @@
+package engine;
+
+/** What a single command did, so callers without a listener can still follow the game. */
+public enum MoveOutcome {
+    IGNORED,          // not the active board, cell already open, game over, ...
+    FLAG_CHANGED,
+    CELL_REVEALED,
+    MINE_HIT,
+    BOX_REVEALED,     // first click on a special box
+    BOX_USED,         // special box activated
+    DECLINED,         // player said no to an activation (or cancelled the dice)
+    NO_QUESTIONS,
+    MINE_HINTED,
+    MINE_OPENED,
+    NO_HIDDEN_MINES
+}
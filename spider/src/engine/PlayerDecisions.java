@@ -0,0 +1,38 @@
+package engine;
+
+import model.Question;
+import model.SpecialBoxType;
+
+/**
+ * Questions the engine has to ask the players in the middle of a move.
+ * The Swing view answers them with dialogs; bots and tests answer directly.
+ */
+public interface PlayerDecisions {
+
+    /** Whether to pay the activation cost of a revealed heart, surprise or question box. */
+    boolean confirmActivation(SpecialBoxType box, int activationCost);
+
+    /** What a revealed dice turns into: HEART, QUESTION or SURPRISE, or NONE to cancel. */
+    SpecialBoxType chooseDiceBox();
+
+    /** Index of the option the player picked. */
+    int answerQuestion(Question question);
+
+    /** Declines every activation and cancels every dice. */
+    PlayerDecisions DECLINE_ALL = new PlayerDecisions() {
+        @Override
+        public boolean confirmActivation(SpecialBoxType box, int activationCost) {
+            return false;
+        }
+
+        @Override
+        public SpecialBoxType chooseDiceBox() {
+            return SpecialBoxType.NONE;
+        }
+
+        @Override
+        public int answerQuestion(Question question) {
+            return 0;
+        }
+    };
+}
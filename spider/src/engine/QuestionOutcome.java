@@ -0,0 +1,15 @@
+package engine;
+
+import model.Difficulty;
+import model.QuestionDifficulty;
+
+/** Result of answering a question box. pointsChange includes the activation cost. */
+public record QuestionOutcome(Difficulty gameDifficulty, QuestionDifficulty questionDifficulty, boolean correct,
+                              int activationCost, int pointsChange, int livesChange,
+                              boolean mineRevealed, boolean areaRevealed, int score, int lives) {
+
+    /** Points from the answer itself, without the activation cost. */
+    public int effectPoints() {
+        return pointsChange + activationCost;
+    }
+}
@@ -0,0 +1,15 @@
+package engine;
+
+import java.util.Optional;
+import java.util.random.RandomGenerator;
+
+import model.Question;
+
+/** Where question boxes get their questions from, e.g. {@code sysData::nextQuestion}. */
+@FunctionalInterface
+public interface QuestionSource {
+
+    Optional<Question> nextQuestion(RandomGenerator rng);
+
+    QuestionSource NONE = rng -> Optional.empty();
+}
@@ -0,0 +1,11 @@
+package engine;
+
+/** Result of activating a surprise box. pointsChange includes the activation cost. */
+public record SurpriseOutcome(boolean bonus, int activationCost, int pointsChange, int livesChange,
+                              int score, int lives) {
+
+    /** Points from the surprise itself, without the activation cost. */
+    public int effectPoints() {
+        return pointsChange + activationCost;
+    }
+}
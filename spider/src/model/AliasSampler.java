@@ -0,0 +1,104 @@
+package model;
+
+import java.util.List;
+import java.util.function.ToDoubleFunction;
+import java.util.random.RandomGenerator;
+
+/**
+ * Draws an index with probability proportional to its weight in O(1), using
+ * Vose's alias method. The table is built once and never changes afterwards, so
+ * one sampler can be shared by any number of threads; new weights mean a new sampler.
+ */
+public final class AliasSampler {
+
+    private final double[] prob; // chance of keeping column i rather than taking its alias
+    private final int[] alias;
+
+    private AliasSampler(double[] prob, int[] alias) {
+        this.prob = prob;
+        this.alias = alias;
+    }
+
+    /** A sampler over indices 0..weights.length-1; weights must be finite, non-negative, not all zero. */
+    public static AliasSampler of(double... weights) {
+        int n = weights.length;
+        if (n == 0) {
+            throw new IllegalArgumentException("at least one weight is required");
+        }
+
+        double total = 0;
+        for (double w : weights) {
+            if (!(w >= 0) || Double.isInfinite(w)) {
+                throw new IllegalArgumentException("weights must be finite and non-negative, got " + w);
+            }
+            total += w;
+        }
+        if (total <= 0) {
+            throw new IllegalArgumentException("at least one weight must be positive");
+        }
+
+        double[] prob = new double[n];
+        int[] alias = new int[n];
+        double[] scaled = new double[n];
+        int[] small = new int[n];
+        int[] large = new int[n];
+        int smallCount = 0, largeCount = 0;
+
+        for (int i = 0; i < n; i++) {
+            scaled[i] = weights[i] * n / total;
+            if (scaled[i] < 1.0) {
+                small[smallCount++] = i;
+            } else {
+                large[largeCount++] = i;
+            }
+        }
+
+        // each short column is topped up from a tall one
+        while (smallCount > 0 && largeCount > 0) {
+            int s = small[--smallCount];
+            int l = large[--largeCount];
+            prob[s] = scaled[s];
+            alias[s] = l;
+
+            scaled[l] = (scaled[l] + scaled[s]) - 1.0;
+            if (scaled[l] < 1.0) {
+                small[smallCount++] = l;
+            } else {
+                large[largeCount++] = l;
+            }
+        }
+        // whatever is left is full up to rounding
+        while (largeCount > 0) {
+            int l = large[--largeCount];
+            prob[l] = 1.0;
+            alias[l] = l;
+        }
+        while (smallCount > 0) {
+            int s = small[--smallCount];
+            prob[s] = 1.0;
+            alias[s] = s;
+        }
+
+        return new AliasSampler(prob, alias);
+    }
+
+    /** A sampler over the positions of items, e.g. questions weighted by how rarely they were asked. */
+    public static <T> AliasSampler of(List<T> items, ToDoubleFunction<? super T> weight) {
+        double[] weights = new double[items.size()];
+        for (int i = 0; i < weights.length; i++) {
+            weights[i] = weight.applyAsDouble(items.get(i));
+        }
+        return of(weights);
+    }
+
+    public int size() {
+        return prob.length;
+    }
+
+    /** A random index; one draw from the generator, no allocation. */
+    public int sample(RandomGenerator rng) {
+        double u = rng.nextDouble() * prob.length;
+        int column = (int) u;
+        return (u - column < prob[column]) ? column : alias[column];
+    }
+}
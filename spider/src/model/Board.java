@@ -1,142 +1,220 @@
 package model;
 
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Random;
+import java.util.Arrays;
+import java.util.random.RandomGenerator;
 
 public class Board {
 
+    /*
+     * Every square is packed into one short of the cells array, row-major
+     * (index = y * cols + x):
+     *
+     *  bit  0     mine
+     *  bits 1-3   special box (SpecialBoxType ordinal)
+     *  bits 4-7   number of surrounding mines (0..8)
+     *  bits 8-9   visible state (CellState ordinal)
+     *  bit  10    queued by the running flood fill, always clear outside it
+     */
+    private static final int MINE_BIT        = 1;
+    private static final int SPECIAL_SHIFT   = 1;
+    private static final int SPECIAL_MASK    = 0x7 << SPECIAL_SHIFT;
+    private static final int NEIGHBOURS_SHIFT = 4;
+    private static final int NEIGHBOURS_MASK = 0xF << NEIGHBOURS_SHIFT;
+    private static final int STATE_SHIFT     = 8;
+    private static final int STATE_MASK      = 0x3 << STATE_SHIFT;
+    private static final int FLOOD_MARK_BIT  = 1 << 10;
+
+    // How many special box layouts to try before giving up on fitting the mines
+    private static final int MAX_LAYOUT_ATTEMPTS = 64;
+
+    private static final String[] NUMBER_CONTENT = {"0", "1", "2", "3", "4", "5", "6", "7", "8"};
+
     private int numberOfMines;
-    private Cell[][] cells;
+    private final short[] cells;
     private int rows;
     private int cols;
 
     private int surpriseBoxes;
     private int questionBoxes;
-    private int heartBoxes;  
-    private int diceBoxes;   
+    private int heartBoxes;
+    private int diceBoxes;
 
     private Difficulty difficulty;
+    private final RandomGenerator rng;
 
-    public Board(Difficulty difficulty) {
-        this.difficulty = difficulty;
-        this.rows = difficulty.getRows();
-        this.cols = difficulty.getCols();
-        this.numberOfMines = difficulty.getMines();
+    // Legacy object view, only built when someone asks for getCells()
+    private Cell[][] cellView;
 
-        this.surpriseBoxes = difficulty.getSurpriseBoxes();
-        this.questionBoxes = difficulty.getQuestionBoxes();
-        this.heartBoxes = difficulty.getHeartBoxes();
-        this.diceBoxes  = difficulty.getDiceBoxes(); 
+    // Number of cells per (state, mine) pair, indexed by tallySlot(word); kept up to date
+    // by setState/setMine so the win check and mine counters never scan the board
+    private final int[] tally = new int[CellState.values().length * 2];
 
-        cells = new Cell[cols][rows];
+    // Indices of the mines that are neither flagged nor revealed, sized by mine count
+    private final HiddenMines hiddenMines;
 
-        createEmptyCells();
-        setSpecialBoxes();
-        setMines();
-        setSurroundingMinesNumber();
-    }
+    // Closed-cell window counts, indexed by window radius; created on first use
+    private ClosedWindowIndex[] windowIndexes = new ClosedWindowIndex[0];
 
-    private void createEmptyCells() {
-        for (int x = 0; x < cols; x++) {
-            for (int y = 0; y < rows; y++) {
-                cells[x][y] = new Cell();
-                cells[x][y].setContent("");
-            }
-        }
+    // Flood fill queue and result, grown to the largest area opened so far
+    private int[] floodQueue = new int[0];
+    private int[] floodRevealed = new int[0];
+
+    public Board(Difficulty difficulty) {
+        this(difficulty, RandomGenerator.getDefault());
     }
 
-    private void setSpecialBoxes() {
-        Random rand = new Random();
-        List<String> usedPositions = new ArrayList<>();
+    /** Board whose layout (and every later reset) is drawn from the given generator. */
+    public Board(Difficulty difficulty, RandomGenerator rng) {
+        this(difficulty,
+             difficulty.getRows(),
+             difficulty.getCols(),
+             difficulty.getMines(),
+             difficulty.getSurpriseBoxes(),
+             difficulty.getQuestionBoxes(),
+             difficulty.getHeartBoxes(),
+             difficulty.getDiceBoxes(),
+             rng);
+    }
 
-        // SURPRISE
-        int currentSurprise = 0;
-        while (currentSurprise < surpriseBoxes) {
-            int x = rand.nextInt(cols);
-            int y = rand.nextInt(rows);
-            String pos = x + "," + y;
+    public Board(Difficulty difficulty, int rows, int cols, int mines,
+                 int surpriseBoxes, int questionBoxes, int heartBoxes, int diceBoxes) {
+        this(difficulty, rows, cols, mines, surpriseBoxes, questionBoxes, heartBoxes, diceBoxes,
+             RandomGenerator.getDefault());
+    }
 
-            if (!usedPositions.contains(pos)
-                    && cells[x][y].getSpecialBox() == SpecialBoxType.NONE) {
+    /**
+     * Custom-sized board. The difficulty is still used for scoring rules,
+     * but size and box counts come from the arguments.
+     */
+    public Board(Difficulty difficulty, int rows, int cols, int mines,
+                 int surpriseBoxes, int questionBoxes, int heartBoxes, int diceBoxes,
+                 RandomGenerator rng) {
+        if (rows <= 0 || cols <= 0) {
+            throw new IllegalArgumentException("board must have at least one row and column");
+        }
+        if (mines < 0 || surpriseBoxes < 0 || questionBoxes < 0 || heartBoxes < 0 || diceBoxes < 0) {
+            throw new IllegalArgumentException("mine and box counts must not be negative");
+        }
 
-                cells[x][y].setSpecialBox(SpecialBoxType.SURPRISE);
-                usedPositions.add(pos);
-                currentSurprise++;
-            }
+        this.difficulty = difficulty;
+        this.rng = rng;
+        this.rows = rows;
+        this.cols = cols;
+        this.numberOfMines = mines;
+
+        this.surpriseBoxes = surpriseBoxes;
+        this.questionBoxes = questionBoxes;
+        this.heartBoxes = heartBoxes;
+        this.diceBoxes  = diceBoxes;
+
+        int cellCount = rows * cols;
+        if (mines + surpriseBoxes + questionBoxes + heartBoxes + diceBoxes > cellCount) {
+            throw new IllegalArgumentException("mines and special boxes do not fit on a "
+                    + cols + "x" + rows + " board");
         }
 
-        // QUESTION
-        int currentQuestion = 0;
-        while (currentQuestion < questionBoxes) {
-            int x = rand.nextInt(cols);
-            int y = rand.nextInt(rows);
-            String pos = x + "," + y;
+        cells = new short[cellCount];
+        hiddenMines = new HiddenMines(mines);
+
+        placeContent();
+    }
 
-            if (!usedPositions.contains(pos)
-                    && cells[x][y].getSpecialBox() == SpecialBoxType.NONE) {
+    // ------------------ PLACEMENT ------------------ //
 
-                cells[x][y].setSpecialBox(SpecialBoxType.QUESTION);
-                usedPositions.add(pos);
-                currentQuestion++;
-            }
-        }
+    private void placeContent() {
+        int cellCount = cells.length;
+        int specials = surpriseBoxes + questionBoxes + heartBoxes + diceBoxes;
+        int[] pool = new int[cellCount]; // only needed while placing, so not kept
 
-        // HEART 
-        int currentHeart = 0;
-        while (currentHeart < heartBoxes) {
-            int x = rand.nextInt(cols);
-            int y = rand.nextInt(rows);
-            String pos = x + "," + y;
+        for (int attempt = 1; ; attempt++) {
+            placeSpecialBoxes(pool, cellCount);
 
-            if (!usedPositions.contains(pos)
-                    && cells[x][y].getSpecialBox() == SpecialBoxType.NONE) {
+            int candidates = collectMineCandidates(pool);
+            if (candidates >= numberOfMines) {
+                placeMines(pool, candidates);
+                recountTally();
+                return;
+            }
 
-                cells[x][y].setSpecialBox(SpecialBoxType.HEART);
-                usedPositions.add(pos);
-                currentHeart++;
+            // This special box layout left too few free cells; draw a new one
+            if (attempt == MAX_LAYOUT_ATTEMPTS) {
+                throw new IllegalStateException("Could not place " + numberOfMines + " mines away from "
+                        + specials + " special boxes on a " + cols + "x" + rows + " board");
             }
+            Arrays.fill(cells, (short) 0);
+        }
+    }
+
+    private void placeSpecialBoxes(int[] pool, int cellCount) {
+        for (int i = 0; i < cellCount; i++) {
+            pool[i] = i;
         }
 
-        // DICE 
-        int currentDice = 0;
-        while (currentDice < diceBoxes) {
-            int x = rand.nextInt(cols);
-            int y = rand.nextInt(rows);
-            String pos = x + "," + y;
+        int specials = surpriseBoxes + questionBoxes + heartBoxes + diceBoxes;
+        partialShuffle(pool, cellCount, specials, rng);
 
-            if (!usedPositions.contains(pos)
-                    && cells[x][y].getSpecialBox() == SpecialBoxType.NONE) {
+        int k = 0;
+        k = assignSpecialBoxes(pool, k, surpriseBoxes, SpecialBoxType.SURPRISE);
+        k = assignSpecialBoxes(pool, k, questionBoxes, SpecialBoxType.QUESTION);
+        k = assignSpecialBoxes(pool, k, heartBoxes, SpecialBoxType.HEART);
+        assignSpecialBoxes(pool, k, diceBoxes, SpecialBoxType.DICE);
+    }
 
-                cells[x][y].setSpecialBox(SpecialBoxType.DICE);
-                usedPositions.add(pos);
-                currentDice++;
+    private int assignSpecialBoxes(int[] pool, int from, int count, SpecialBoxType type) {
+        for (int k = from; k < from + count; k++) {
+            setSpecialBox(pool[k], type);
+        }
+        return from + count;
+    }
+
+    // Collects every cell that may hold a mine (not a special box and not next to one)
+    private int collectMineCandidates(int[] pool) {
+        int count = 0;
+
+        for (int y = 0; y < rows; y++) {
+            for (int x = 0; x < cols; x++) {
+                if (!hasSpecialNeighbor(x, y)) {
+                    pool[count++] = index(x, y);
+                }
             }
         }
+        return count;
     }
 
-    private void setMines() {
-        Random rand = new Random();
-        int currentMines = 0;
-        List<String> usedPositions = new ArrayList<>();
+    private void placeMines(int[] pool, int candidates) {
+        partialShuffle(pool, candidates, numberOfMines, rng);
 
-        while (currentMines < numberOfMines) {
-            int x = rand.nextInt(cols);
-            int y = rand.nextInt(rows);
-            String pos = x + "," + y;
+        for (int k = 0; k < numberOfMines; k++) {
+            int i = pool[k];
+            cells[i] |= MINE_BIT;
+            addToNeighbourCounts(xOf(i), yOf(i));
+        }
+    }
 
-            boolean hasMine = cells[x][y].getMine();
-            boolean hasSpecial = cells[x][y].getSpecialBox() != SpecialBoxType.NONE;
-            boolean nearSpecial = hasSpecialNeighbor(x, y);
+    private void addToNeighbourCounts(int x, int y) {
+        int minX = Math.max(0, x - 1), maxX = Math.min(cols - 1, x + 1);
+        int minY = Math.max(0, y - 1), maxY = Math.min(rows - 1, y + 1);
 
-            if (!hasMine && !hasSpecial && !nearSpecial && !usedPositions.contains(pos)) {
-                cells[x][y].setMine(true);
-                usedPositions.add(pos);
-                currentMines++;
+        for (int ny = minY; ny <= maxY; ny++) {
+            for (int nx = minX; nx <= maxX; nx++) {
+                if (nx != x || ny != y) {
+                    cells[index(nx, ny)] += 1 << NEIGHBOURS_SHIFT;
+                }
             }
         }
     }
 
+    // Partial Fisher-Yates: moves a uniform random choice of count entries of pool[0..size) to the front
+    private static void partialShuffle(int[] pool, int size, int count, RandomGenerator rand) {
+        for (int k = 0; k < count; k++) {
+            int j = k + rand.nextInt(size - k);
+            int tmp = pool[k];
+            pool[k] = pool[j];
+            pool[j] = tmp;
+        }
+    }
+
+    // True if (x, y) is a special box or touches one (the cell itself included)
     private boolean hasSpecialNeighbor(int x, int y) {
         for (int dx = -1; dx <= 1; dx++) {
             for (int dy = -1; dy <= 1; dy++) {
@@ -147,11 +225,7 @@ public class Board {
                 if (nx < 0 || ny < 0 || nx >= cols || ny >= rows)
                     continue;
 
-                SpecialBoxType s = cells[nx][ny].getSpecialBox();
-                if (s == SpecialBoxType.QUESTION
-                        || s == SpecialBoxType.SURPRISE
-                        || s == SpecialBoxType.HEART
-                        || s == SpecialBoxType.DICE) { 
+                if ((cells[index(nx, ny)] & SPECIAL_MASK) != 0) {
                     return true;
                 }
             }
@@ -159,62 +233,355 @@ public class Board {
         return false;
     }
 
-    private void setSurroundingMinesNumber() {
-        for (int x = 0; x < cols; x++) {
-            for (int y = 0; y < rows; y++) {
-                cells[x][y].setSurroundingMines(calculateNeighbours(x, y));
+    public int makeValidCoordinateX(int i) {
+        if (i < 0) return 0;
+        if (i > cols - 1) return cols - 1;
+        return i;
+    }
+
+    public int makeValidCoordinateY(int i) {
+        if (i < 0) return 0;
+        if (i > rows - 1) return rows - 1;
+        return i;
+    }
+
+    public void resetBoard() {
+        Arrays.fill(cells, (short) 0);
+
+        placeContent();
+    }
+
+    // ------------------ COUNTERS ------------------ //
+
+    private static final int HIDDEN_MINE_SLOT = (CellState.HIDDEN.ordinal() << 1) | MINE_BIT;
+
+    private static int tallySlot(int word) {
+        return ((word & STATE_MASK) >>> (STATE_SHIFT - 1)) | (word & MINE_BIT);
+    }
+
+    private void recountTally() {
+        Arrays.fill(tally, 0);
+        hiddenMines.clear();
+        for (int i = 0; i < cells.length; i++) {
+            int slot = tallySlot(cells[i]);
+            if (slot == HIDDEN_MINE_SLOT) {
+                hiddenMines.add(i);
+            }
+            tally[slot]++;
+        }
+
+        for (ClosedWindowIndex windows : windowIndexes) {
+            if (windows != null) {
+                windows.rebuild();
             }
         }
     }
 
-    private int calculateNeighbours(int xCo, int yCo) {
-        int neighbours = 0;
+    // Called after every single-cell change of state or mine flag
+    private void retally(int index, int oldWord, int newWord) {
+        int from = tallySlot(oldWord), to = tallySlot(newWord);
+        if (from == to) {
+            return;
+        }
 
-        for (int x = makeValidCoordinateX(xCo - 1);
-             x <= makeValidCoordinateX(xCo + 1); x++) {
+        if (from == HIDDEN_MINE_SLOT) {
+            hiddenMines.remove(index);
+        } else if (to == HIDDEN_MINE_SLOT) {
+            hiddenMines.add(index);
+        }
 
-            for (int y = makeValidCoordinateY(yCo - 1);
-                 y <= makeValidCoordinateY(yCo + 1); y++) {
+        tally[from]--;
+        tally[to]++;
 
-                if (x != xCo || y != yCo) {
-                    if (cells[x][y].getMine()) {
-                        neighbours++;
-                    }
+        boolean wasClosed = (from >>> 1) == CellState.HIDDEN.ordinal();
+        boolean isClosed = (to >>> 1) == CellState.HIDDEN.ordinal();
+        if (wasClosed != isClosed) {
+            for (ClosedWindowIndex windows : windowIndexes) {
+                if (windows != null) {
+                    windows.cellChanged(index, isClosed ? 1 : -1);
                 }
             }
         }
-        return neighbours;
     }
 
-    public int makeValidCoordinateX(int i) {
-        if (i < 0) return 0;
-        if (i > cols - 1) return cols - 1;
-        return i;
+    /**
+     * Live closed-cell counts for every size x size window (size odd, e.g. 3, 5 or 7).
+     * Built on first request with one pass over the board, then kept up to date.
+     */
+    public ClosedWindowIndex closedWindows(int size) {
+        // checked before the cache lookup, which would map 2 to the 3x3 index
+        if (size <= 0 || size % 2 == 0) {
+            throw new IllegalArgumentException("window size must be odd and positive, got " + size);
+        }
+        int radius = size / 2;
+        if (radius >= windowIndexes.length) {
+            windowIndexes = Arrays.copyOf(windowIndexes, radius + 1);
+        }
+        if (windowIndexes[radius] == null) {
+            windowIndexes[radius] = new ClosedWindowIndex(this, size);
+        }
+        return windowIndexes[radius];
     }
 
-    public int makeValidCoordinateY(int i) {
-        if (i < 0) return 0;
-        if (i > rows - 1) return rows - 1;
-        return i;
+    /**
+     * A uniformly random mine that is neither flagged nor revealed, in constant time.
+     *
+     * @return its cell index, or -1 if every mine is already flagged or revealed
+     */
+    public int randomHiddenMine(RandomGenerator rand) {
+        int count = getHiddenMines();
+        return (count == 0) ? -1 : hiddenMines.get(rand.nextInt(count));
     }
 
-    public void resetBoard() {
-        for (int x = 0; x < cols; x++) {
-            for (int y = 0; y < rows; y++) {
-                cells[x][y].setContent("");
-                cells[x][y].setMine(false);
-                cells[x][y].setSpecialBox(SpecialBoxType.NONE);
-                cells[x][y].setSurroundingMines(0);
+    private int tallyOf(CellState state, boolean mine) {
+        return tally[(state.ordinal() << 1) | (mine ? 1 : 0)];
+    }
+
+    public int getHiddenMines() {
+        return tallyOf(CellState.HIDDEN, true);
+    }
+
+    public int getFlaggedMines() {
+        return tallyOf(CellState.FLAGGED, true);
+    }
+
+    public int getRevealedMines() {
+        return tallyOf(CellState.REVEALED, true);
+    }
+
+    /** Safe cells the players have not opened yet (hidden or wrongly flagged). */
+    public int getClosedSafeCells() {
+        return tallyOf(CellState.HIDDEN, false) + tallyOf(CellState.FLAGGED, false);
+    }
+
+    /** Mines that have not been revealed, flagged ones included (what the mines-left label shows). */
+    public int getRemainingMines() {
+        return getHiddenMines() + getFlaggedMines() + tallyOf(CellState.USED, true);
+    }
+
+    /** True once every mine is either flagged or revealed. */
+    public boolean allMinesResolved() {
+        return getHiddenMines() + tallyOf(CellState.USED, true) == 0;
+    }
+
+    // ------------------ FLOOD FILL ------------------ //
+
+    /**
+     * Opens the area around (x, y) after an empty cell or a special box was revealed.
+     * Every hidden, non-mine neighbour is revealed; empty cells and special boxes keep
+     * spreading, numbered cells stop it, and question boxes that are already revealed
+     * are passed through again. The caller normally has revealed the start cell already.
+     *
+     * @return how many cells were revealed; their indices are in
+     *         {@link #floodRevealedCells()}[0..count) until the next call
+     */
+    public int floodReveal(int x, int y) {
+        int head = 0, tail = 0, revealed = 0;
+
+        int start = index(x, y);
+        cells[start] |= FLOOD_MARK_BIT;
+        tail = enqueue(tail, start);
+
+        while (head < tail) {
+            int centre = floodQueue[head++];
+            int cx = xOf(centre), cy = yOf(centre);
+            int minX = Math.max(0, cx - 1), maxX = Math.min(cols - 1, cx + 1);
+            int minY = Math.max(0, cy - 1), maxY = Math.min(rows - 1, cy + 1);
+
+            for (int nx = minX; nx <= maxX; nx++) {
+                for (int ny = minY; ny <= maxY; ny++) {
+                    int i = index(nx, ny);
+                    if (i == centre || (cells[i] & MINE_BIT) != 0) {
+                        continue;
+                    }
+
+                    int word = cells[i];
+                    int state = (word & STATE_MASK) >>> STATE_SHIFT;
+                    boolean special = (word & SPECIAL_MASK) != 0;
+
+                    boolean spreads;
+                    if (state == CellState.HIDDEN.ordinal()) {
+                        setState(i, CellState.REVEALED);
+                        if (revealed == floodRevealed.length) {
+                            floodRevealed = Arrays.copyOf(floodRevealed, grownFloodLength(revealed));
+                        }
+                        floodRevealed[revealed++] = i;
+                        spreads = special || (word & NEIGHBOURS_MASK) == 0;
+                    } else {
+                        spreads = state == CellState.REVEALED.ordinal()
+                                && getSpecialBox(i) == SpecialBoxType.QUESTION;
+                    }
+
+                    if (spreads && (cells[i] & FLOOD_MARK_BIT) == 0) {
+                        cells[i] |= FLOOD_MARK_BIT;
+                        tail = enqueue(tail, i);
+                    }
+                }
             }
         }
 
-        setSpecialBoxes();
-        setMines();
-        setSurroundingMinesNumber();
+        // every marked cell went through the queue
+        for (int k = 0; k < tail; k++) {
+            cells[floodQueue[k]] &= ~FLOOD_MARK_BIT;
+        }
+        return revealed;
+    }
+
+    private int enqueue(int tail, int index) {
+        if (tail == floodQueue.length) {
+            floodQueue = Arrays.copyOf(floodQueue, grownFloodLength(tail));
+        }
+        floodQueue[tail] = index;
+        return tail + 1;
+    }
+
+    private int grownFloodLength(int length) {
+        return (int) Math.min(cells.length, Math.max(64, 2L * length));
+    }
+
+    /** Indices revealed by the last {@link #floodReveal} call (only the first count entries are valid). */
+    public int[] floodRevealedCells() {
+        return floodRevealed;
+    }
+
+    // ------------------ PACKED CELL ACCESS ------------------ //
+
+    public int index(int x, int y) {
+        return y * cols + x;
+    }
+
+    public int xOf(int index) {
+        return index % cols;
+    }
+
+    public int yOf(int index) {
+        return index / cols;
+    }
+
+    public int getCellCount() {
+        return cells.length;
+    }
+
+    public boolean isMine(int index) {
+        return (cells[index] & MINE_BIT) != 0;
+    }
+
+    public boolean isMine(int x, int y) {
+        return isMine(index(x, y));
+    }
+
+    public void setMine(int index, boolean mine) {
+        int word = cells[index];
+        int updated = mine ? word | MINE_BIT : word & ~MINE_BIT;
+        cells[index] = (short) updated;
+        retally(index, word, updated);
+    }
+
+    public void setMine(int x, int y, boolean mine) {
+        setMine(index(x, y), mine);
+    }
+
+    public SpecialBoxType getSpecialBox(int index) {
+        return SpecialBoxType.fromOrdinal((cells[index] & SPECIAL_MASK) >>> SPECIAL_SHIFT);
+    }
+
+    public SpecialBoxType getSpecialBox(int x, int y) {
+        return getSpecialBox(index(x, y));
+    }
+
+    public void setSpecialBox(int index, SpecialBoxType specialBox) {
+        int ordinal = (specialBox == null) ? 0 : specialBox.ordinal();
+        cells[index] = (short) ((cells[index] & ~SPECIAL_MASK) | (ordinal << SPECIAL_SHIFT));
+    }
+
+    public void setSpecialBox(int x, int y, SpecialBoxType specialBox) {
+        setSpecialBox(index(x, y), specialBox);
+    }
+
+    public int getSurroundingMines(int index) {
+        return (cells[index] & NEIGHBOURS_MASK) >>> NEIGHBOURS_SHIFT;
+    }
+
+    public int getSurroundingMines(int x, int y) {
+        return getSurroundingMines(index(x, y));
+    }
+
+    public void setSurroundingMines(int index, int surroundingMines) {
+        if (surroundingMines < 0 || surroundingMines > 8) {
+            throw new IllegalArgumentException("surrounding mines must be 0..8, got " + surroundingMines);
+        }
+        cells[index] = (short) ((cells[index] & ~NEIGHBOURS_MASK) | (surroundingMines << NEIGHBOURS_SHIFT));
+    }
+
+    public void setSurroundingMines(int x, int y, int surroundingMines) {
+        setSurroundingMines(index(x, y), surroundingMines);
+    }
+
+    public CellState getState(int index) {
+        return CellState.fromOrdinal((cells[index] & STATE_MASK) >>> STATE_SHIFT);
+    }
+
+    public CellState getState(int x, int y) {
+        return getState(index(x, y));
+    }
+
+    public void setState(int index, CellState state) {
+        int word = cells[index];
+        int updated = (word & ~STATE_MASK) | (state.ordinal() << STATE_SHIFT);
+        cells[index] = (short) updated;
+        retally(index, word, updated);
     }
 
+    public void setState(int x, int y, CellState state) {
+        setState(index(x, y), state);
+    }
+
+    /** The old string form of the visible state ("", "F", "M", "USED", glyphs or a number). */
+    public String getContent(int index) {
+        switch (getState(index)) {
+            case FLAGGED:
+                return "F";
+            case USED:
+                return "USED";
+            case REVEALED:
+                if (isMine(index)) return "M";
+                SpecialBoxType special = getSpecialBox(index);
+                if (special != SpecialBoxType.NONE) return special.getGlyph();
+                return NUMBER_CONTENT[getSurroundingMines(index)];
+            default:
+                return "";
+        }
+    }
+
+    public String getContent(int x, int y) {
+        return getContent(index(x, y));
+    }
+
+    public void setContent(int index, String content) {
+        setState(index, CellState.fromContent(content));
+    }
+
+    public void setContent(int x, int y, String content) {
+        setContent(index(x, y), content);
+    }
+
+    // ------------------ GETTERS ------------------ //
+
+    /**
+     * Object view over the packed cells, kept for callers that still work
+     * with Cell[x][y]. Every Cell reads and writes straight through to this board.
+     */
     public Cell[][] getCells() {
-        return cells;
+        if (cellView == null) {
+            Cell[][] view = new Cell[cols][rows];
+            for (int x = 0; x < cols; x++) {
+                for (int y = 0; y < rows; y++) {
+                    view[x][y] = new Cell(this, index(x, y));
+                }
+            }
+            cellView = view;
+        }
+        return cellView;
     }
 
     public int getRows() {
@@ -232,4 +599,108 @@ public class Board {
     public Difficulty getDifficulty() {
         return difficulty;
     }
+
+    // ------------------ HIDDEN MINE SET ------------------ //
+
+    /*
+     * Dense array of cell indices for uniform picks, plus an open-addressed map
+     * from cell index to its position in that array for constant-time removal.
+     * Both are sized by the number of mines, not cells, and grow if a board ends
+     * up with more hidden mines than it was built with.
+     */
+    private static final class HiddenMines {
+        private static final int EMPTY = -1;
+
+        int[] members;
+        int size;
+        int[] keys;      // cell index, or EMPTY
+        int[] positions; // where keys[k] sits in members
+
+        HiddenMines(int expected) {
+            allocate(Math.max(expected, 4));
+        }
+
+        private void allocate(int capacity) {
+            members = new int[capacity];
+            keys = new int[Integer.highestOneBit(capacity * 2 - 1) << 1];
+            positions = new int[keys.length];
+            Arrays.fill(keys, EMPTY);
+        }
+
+        int get(int k) {
+            return members[k];
+        }
+
+        void clear() {
+            size = 0;
+            Arrays.fill(keys, EMPTY);
+        }
+
+        void add(int cell) {
+            if (size == members.length) {
+                int[] old = Arrays.copyOf(members, size);
+                allocate(size * 2);
+                for (int k = 0; k < old.length; k++) {
+                    members[k] = old[k];
+                    put(old[k], k);
+                }
+            }
+            members[size] = cell;
+            put(cell, size++);
+        }
+
+        // Swaps the last member into the freed position
+        void remove(int cell) {
+            int pos = positions[slotOf(cell)];
+            delete(cell);
+            int last = members[--size];
+            if (last != cell) {
+                members[pos] = last;
+                positions[slotOf(last)] = pos;
+            }
+        }
+
+        private void put(int cell, int pos) {
+            int slot = slotOf(cell);
+            keys[slot] = cell;
+            positions[slot] = pos;
+        }
+
+        // The slot holding cell, or the empty slot where it would go (linear probing)
+        private int slotOf(int cell) {
+            int mask = keys.length - 1;
+            int slot = hash(cell) & mask;
+            while (keys[slot] != EMPTY && keys[slot] != cell) {
+                slot = (slot + 1) & mask;
+            }
+            return slot;
+        }
+
+        // Backward-shift deletion, so lookups never need tombstones
+        private void delete(int cell) {
+            int mask = keys.length - 1;
+            int hole = slotOf(cell);
+            int slot = hole;
+            while (true) {
+                slot = (slot + 1) & mask;
+                int key = keys[slot];
+                if (key == EMPTY) {
+                    break;
+                }
+                int home = hash(key) & mask;
+                // move key into the hole unless its home lies cyclically in (hole, slot]
+                if (((slot - home) & mask) >= ((slot - hole) & mask)) {
+                    keys[hole] = key;
+                    positions[hole] = positions[slot];
+                    hole = slot;
+                }
+            }
+            keys[hole] = EMPTY;
+        }
+
+        private static int hash(int cell) {
+            int h = cell * 0x9E3779B9;
+            return h ^ (h >>> 16);
+        }
+    }
 }
@@ -1,5 +1,43 @@
 package model;
 
+import java.util.random.RandomGenerator;
+
 public abstract class BoardFactory {
-    public abstract Board createBoard();
+
+    private final RandomStreams streams;
+
+    protected BoardFactory() {
+        this(RandomStreams.withRandomSeed());
+    }
+
+    protected BoardFactory(long seed, String algorithm) {
+        this(new RandomStreams(seed, algorithm));
+    }
+
+    protected BoardFactory(RandomStreams streams) {
+        this.streams = streams;
+    }
+
+    public RandomStreams getStreams() {
+        return streams;
+    }
+
+    public Board createBoardA() {
+        return createBoardA(streams);
+    }
+
+    public Board createBoardB() {
+        return createBoardB(streams);
+    }
+
+    /** Board A of the match that the given streams belong to. */
+    public Board createBoardA(RandomStreams match) {
+        return createBoard(match.boardA());
+    }
+
+    public Board createBoardB(RandomStreams match) {
+        return createBoard(match.boardB());
+    }
+
+    public abstract Board createBoard(RandomGenerator rng);
 }
@@ -1,82 +1,86 @@
 package model;
 
-public class Cell 
+/*
+ * A view of one square of a Board. The state itself lives in the board's
+ * packed cells array; this class only forwards to it.
+ */
+public class Cell
 {
-    private boolean mine;
-    private SpecialBoxType specialBox;
-    
+    private final Board board;
+    private final int index;
+
     /*
      * The content of a field can be a...
      *  "" - indicating an unknown field
      *  "F" - a flagged field
      *  "M" - a mine
-     *  "S" - surprise box
-     *  "Q" - question box
+     *  "USED" - an activated special box
+     *  the special box glyph once a special box is revealed
      *  a number ranging from 0 to 8 - indicating the number of surrounding mines
      */
 
-    //Only the content of the Cell is visible to the player.
-    private String content;
-
-    //Number of adjacent surrounding mines
-    private int surroundingMines;
-
-    
-  
-
-    public Cell()
+    Cell(Board board, int index)
     {
-        mine = false;
-       
-        specialBox = SpecialBoxType.NONE;
-        content = "";
-        surroundingMines = 0;
+        this.board = board;
+        this.index = index;
     }
 
 
-    
+
     //GETTERS AND SETTERS
     public boolean getMine()
     {
-        return mine;
+        return board.isMine(index);
     }
 
     public void setMine(boolean mine)
     {
-        this.mine = mine;
+        board.setMine(index, mine);
     }
-    
- 
-    
+
+
+
     public SpecialBoxType getSpecialBox()
     {
-        return specialBox;
+        return board.getSpecialBox(index);
     }
-    
+
     public void setSpecialBox(SpecialBoxType specialBox)
     {
-        this.specialBox = specialBox;
+        board.setSpecialBox(index, specialBox);
     }
 
+    //Only the content of the Cell is visible to the player.
     public String getContent()
     {
-        return content;
+        return board.getContent(index);
     }
 
     public void setContent(String content)
     {
-        this.content = content;
+        board.setContent(index, content);
+    }
+
+    public CellState getState()
+    {
+        return board.getState(index);
     }
 
+    public void setState(CellState state)
+    {
+        board.setState(index, state);
+    }
+
+    //Number of adjacent surrounding mines
     public int getSurroundingMines()
     {
-        return surroundingMines;
+        return board.getSurroundingMines(index);
     }
 
     public void setSurroundingMines(int surroundingMines)
     {
-        this.surroundingMines = surroundingMines;
+        board.setSurroundingMines(index, surroundingMines);
     }
 
-    
-}
\ No newline at end of file
+
+}
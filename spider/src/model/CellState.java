@@ -0,0 +1,33 @@
+package model;
+
+/*
+ * What the player currently sees on a cell.
+ *
+ * Mapping to the old Cell content strings:
+ *  HIDDEN   - ""
+ *  FLAGGED  - "F"
+ *  REVEALED - "M" on a mine, the special box glyph on a special cell,
+ *             otherwise the number of surrounding mines ("0".."8")
+ *  USED     - "USED" (an activated special box)
+ */
+public enum CellState {
+    HIDDEN,
+    FLAGGED,
+    REVEALED,
+    USED;
+
+    private static final CellState[] VALUES = values();
+
+    static CellState fromOrdinal(int ordinal) {
+        return VALUES[ordinal];
+    }
+
+    static CellState fromContent(String content) {
+        if (content == null || content.isEmpty()) return HIDDEN;
+        switch (content) {
+            case "F":    return FLAGGED;
+            case "USED": return USED;
+            default:     return REVEALED;
+        }
+    }
+}
@@ -0,0 +1,181 @@
+package model;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * For every possible centre of a size x size window on a board, how many cells of
+ * that window (clipped at the edges) are still closed. The board keeps it up to
+ * date as cells open and close, so reveal rewards can ask for the best window
+ * without scanning the board.
+ *
+ * Centres are kept grouped by count in one array (counting sort order), so all
+ * centres with at least N closed cells form a contiguous range and a random one
+ * can be picked in constant time.
+ */
+public final class ClosedWindowIndex {
+
+    private final Board board;
+    private final int size;
+    private final int radius;
+
+    private final int[] closed;      // closed[centre] = closed cells around that centre
+    private final int[] order;       // centres sorted by closed count, ascending
+    private final int[] position;    // position[centre] = where that centre sits in order
+    private final int[] bucketStart; // order[bucketStart[v] .. bucketStart[v + 1]) have count v
+
+    ClosedWindowIndex(Board board, int size) {
+        if (size <= 0 || size % 2 == 0) {
+            throw new IllegalArgumentException("window size must be odd and positive, got " + size);
+        }
+        this.board = board;
+        this.size = size;
+        this.radius = size / 2;
+
+        int cellCount = board.getCellCount();
+        closed = new int[cellCount];
+        order = new int[cellCount];
+        position = new int[cellCount];
+        bucketStart = new int[size * size + 2];
+
+        rebuild();
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    /** Closed cells in the window around the given centre. */
+    public int closedAround(int centre) {
+        return closed[centre];
+    }
+
+    /** Highest closed count of any window (0 if the board has no closed cells). */
+    public int bestCount() {
+        int n = order.length;
+        for (int v = size * size; v > 0; v--) {
+            if (bucketStart[v] < n) {
+                return v;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * A random centre among the windows with the most closed cells.
+     *
+     * @return the centre's cell index, or -1 if no window has a closed cell
+     */
+    public int randomBestCentre(RandomGenerator rand) {
+        int best = bestCount();
+        if (best == 0) {
+            return -1;
+        }
+        int from = bucketStart[best], to = bucketStart[best + 1];
+        return order[from + rand.nextInt(to - from)];
+    }
+
+    /**
+     * A random centre among the windows with at least minClosed closed cells.
+     *
+     * @return the centre's cell index, or -1 if there is none
+     */
+    public int randomCentreWithAtLeast(int minClosed, RandomGenerator rand) {
+        if (minClosed > size * size) {
+            return -1;
+        }
+        int from = bucketStart[Math.max(minClosed, 0)];
+        return (from == order.length) ? -1 : order[from + rand.nextInt(order.length - from)];
+    }
+
+    // ------------------ UPDATES FROM THE BOARD ------------------ //
+
+    /** A cell opened (delta -1) or closed again (delta +1); every window containing it moves one bucket. */
+    void cellChanged(int index, int delta) {
+        int cols = board.getCols(), rows = board.getRows();
+        int x = board.xOf(index), y = board.yOf(index);
+        int minX = Math.max(0, x - radius), maxX = Math.min(cols - 1, x + radius);
+        int minY = Math.max(0, y - radius), maxY = Math.min(rows - 1, y + radius);
+
+        for (int cy = minY; cy <= maxY; cy++) {
+            for (int cx = minX; cx <= maxX; cx++) {
+                int centre = board.index(cx, cy);
+                if (delta > 0) {
+                    moveUp(centre);
+                } else {
+                    moveDown(centre);
+                }
+            }
+        }
+    }
+
+    // Swap the centre to the top of its bucket, then shrink the bucket by one from above
+    private void moveUp(int centre) {
+        int v = closed[centre];
+        int last = bucketStart[v + 1] - 1;
+        swap(position[centre], last);
+        bucketStart[v + 1]--;
+        closed[centre] = v + 1;
+    }
+
+    // Swap the centre to the bottom of its bucket, then shrink the bucket by one from below
+    private void moveDown(int centre) {
+        int v = closed[centre];
+        int first = bucketStart[v];
+        swap(position[centre], first);
+        bucketStart[v]++;
+        closed[centre] = v - 1;
+    }
+
+    private void swap(int a, int b) {
+        int ca = order[a], cb = order[b];
+        order[a] = cb;
+        position[cb] = a;
+        order[b] = ca;
+        position[ca] = b;
+    }
+
+    /** Recomputes every window from a summed-area table of closed cells, O(board area). */
+    void rebuild() {
+        int cols = board.getCols(), rows = board.getRows();
+
+        // sat[(y + 1) * (cols + 1) + (x + 1)] = closed cells in [0..x] x [0..y]
+        int w = cols + 1;
+        int[] sat = new int[w * (rows + 1)];
+        for (int y = 0; y < rows; y++) {
+            int rowSum = 0;
+            for (int x = 0; x < cols; x++) {
+                if (board.getState(board.index(x, y)) == CellState.HIDDEN) {
+                    rowSum++;
+                }
+                sat[(y + 1) * w + (x + 1)] = sat[y * w + (x + 1)] + rowSum;
+            }
+        }
+
+        int buckets = size * size + 1;
+        int[] counts = new int[buckets];
+        for (int y = 0; y < rows; y++) {
+            int y0 = Math.max(0, y - radius), y1 = Math.min(rows - 1, y + radius) + 1;
+            for (int x = 0; x < cols; x++) {
+                int x0 = Math.max(0, x - radius), x1 = Math.min(cols - 1, x + radius) + 1;
+                int v = sat[y1 * w + x1] - sat[y0 * w + x1] - sat[y1 * w + x0] + sat[y0 * w + x0];
+                closed[board.index(x, y)] = v;
+                counts[v]++;
+            }
+        }
+
+        int start = 0;
+        for (int v = 0; v < buckets; v++) {
+            bucketStart[v] = start;
+            start += counts[v];
+        }
+        bucketStart[buckets] = start;
+
+        int[] next = counts;
+        System.arraycopy(bucketStart, 0, next, 0, buckets);
+        for (int centre = 0; centre < closed.length; centre++) {
+            int p = next[closed[centre]]++;
+            order[p] = centre;
+            position[centre] = p;
+        }
+    }
+}
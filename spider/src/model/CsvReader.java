@@ -0,0 +1,357 @@
+package model;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Streaming RFC 4180 reader for the questions and history CSV files. Bytes are
+ * read through one large buffer and each record is decoded from UTF-8 into a
+ * reused char array, so quoted fields may span lines and reading a record
+ * allocates nothing: fields are views that stay valid until the next call to
+ * next().
+ *
+ * Malformed records (a stray quote, text after a closing quote, a quote left
+ * open at the end of the file) are still returned, read leniently, with
+ * problem() saying what was wrong; callers report them with lineNumber().
+ */
+final class CsvReader implements Closeable {
+
+    static final int BUFFER_SIZE = 1 << 20;
+
+    private final ReadableByteChannel channel; // null when reading from an array
+    private final ByteBuffer buffer;
+    private final byte[] bytes;
+    private int pos;
+    private int limit;
+    private long bufferOffset; // file offset of bytes[0]
+    private boolean eof;
+
+    // current record
+    private char[] chars = new char[256];
+    private int charCount;
+    private int[] fieldEnds = new int[16]; // field k is chars[fieldEnds[k - 1] .. fieldEnds[k])
+    private int fieldCount;
+    private Field[] views = new Field[0];
+    private long recordOffset;
+    private long recordLine;
+    private boolean terminated;
+    private String problem;
+
+    private long line = 1; // line of the next byte
+
+    private CsvReader(ReadableByteChannel channel, byte[] bytes, int length, long startOffset) {
+        this.channel = channel;
+        this.bytes = bytes;
+        this.buffer = ByteBuffer.wrap(bytes);
+        this.limit = length;
+        this.bufferOffset = startOffset;
+        this.eof = channel == null;
+    }
+
+    /** Reads the whole file. */
+    static CsvReader open(Path file) throws IOException {
+        return open(file, 0);
+    }
+
+    /** Reads the file from the given byte offset, e.g. the first row not indexed yet. */
+    static CsvReader open(Path file, long offset) throws IOException {
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+        channel.position(offset);
+        return new CsvReader(channel, new byte[BUFFER_SIZE], 0, offset);
+    }
+
+    /** Reads records already in memory. */
+    static CsvReader of(byte[] bytes, int length) {
+        return new CsvReader(null, bytes, length, 0);
+    }
+
+    /** The fields of a single record, as Strings. */
+    static List<String> parseLine(String line) {
+        List<String> out = new ArrayList<>();
+        if (line == null || line.isEmpty()) {
+            return out;
+        }
+        byte[] utf8 = line.getBytes(StandardCharsets.UTF_8);
+        CsvReader csv = of(utf8, utf8.length);
+        if (csv.next()) {
+            for (int i = 0; i < csv.fieldCount(); i++) {
+                out.add(csv.field(i).toString());
+            }
+        }
+        return out;
+    }
+
+    // ------------------ CURRENT RECORD ------------------ //
+
+    int fieldCount() {
+        return fieldCount;
+    }
+
+    /** Field i of the current record; the view changes when next() is called. Missing fields are empty. */
+    CharSequence field(int i) {
+        if (i >= fieldCount) {
+            return "";
+        }
+        return views[i];
+    }
+
+    /** Field i as a String (empty if missing). */
+    String string(int i) {
+        return field(i).toString();
+    }
+
+    /** A record that is one empty line. */
+    boolean isBlank() {
+        return fieldCount == 1 && fieldEnds[0] == 0;
+    }
+
+    /** Line number (1-based) the current record starts on. */
+    long lineNumber() {
+        return recordLine;
+    }
+
+    /** Byte offset of the current record. */
+    long recordOffset() {
+        return recordOffset;
+    }
+
+    /** Byte offset just past the current record and its line break. */
+    long endOffset() {
+        return bufferOffset + pos;
+    }
+
+    /** False if the file ended before the record's line break, e.g. while it is still being written. */
+    boolean isTerminated() {
+        return terminated;
+    }
+
+    /** What was wrong with the current record, or null if it is well formed. */
+    String problem() {
+        return problem;
+    }
+
+    // ------------------ PARSING ------------------ //
+
+    /**
+     * Moves to the next record.
+     *
+     * @return false at the end of the input
+     */
+    boolean next() {
+        if (!ensure(1)) {
+            return false;
+        }
+
+        recordOffset = bufferOffset + pos;
+        recordLine = line;
+        charCount = 0;
+        fieldCount = 0;
+        problem = null;
+        terminated = false;
+
+        boolean quoted = false;     // inside a quoted field
+        boolean afterQuote = false; // a quoted field was closed
+        boolean fieldStart = true;
+
+        while (ensure(1)) {
+            byte b = bytes[pos];
+
+            if (quoted) {
+                pos++;
+                if (b == '"') {
+                    if (ensure(1) && bytes[pos] == '"') {
+                        pos++;
+                        append('"');
+                    } else {
+                        quoted = false;
+                        afterQuote = true;
+                    }
+                } else {
+                    if (b == '\n') line++;
+                    appendByte(b);
+                }
+                continue;
+            }
+
+            if (b == ',') {
+                pos++;
+                endField();
+                fieldStart = true;
+                afterQuote = false;
+                continue;
+            }
+            if (b == '\n' || b == '\r') {
+                pos++;
+                if (b == '\r' && ensure(1) && bytes[pos] == '\n') {
+                    pos++;
+                }
+                line++;
+                terminated = true;
+                break;
+            }
+
+            pos++;
+            if (b == '"' && fieldStart) {
+                quoted = true;
+            } else {
+                if (afterQuote) {
+                    problem("text after a closing quote");
+                } else if (b == '"') {
+                    problem("quote inside an unquoted field");
+                }
+                appendByte(b);
+            }
+            fieldStart = false;
+        }
+
+        if (quoted) {
+            problem("quoted field not closed before the end of the file");
+        }
+        endField();
+        return true;
+    }
+
+    private void problem(String message) {
+        if (problem == null) {
+            problem = message;
+        }
+    }
+
+    private void endField() {
+        if (fieldCount == fieldEnds.length) {
+            fieldEnds = Arrays.copyOf(fieldEnds, fieldCount * 2);
+        }
+        fieldEnds[fieldCount] = charCount;
+        if (fieldCount == views.length) {
+            views = Arrays.copyOf(views, Math.max(16, fieldCount * 2));
+        }
+        if (views[fieldCount] == null) {
+            views[fieldCount] = new Field(fieldCount);
+        }
+        fieldCount++;
+    }
+
+    private void append(char c) {
+        if (charCount == chars.length) {
+            chars = Arrays.copyOf(chars, charCount * 2);
+        }
+        chars[charCount++] = c;
+    }
+
+    // Decodes the UTF-8 sequence starting with b (already consumed); bad sequences become U+FFFD
+    private void appendByte(byte b) {
+        if (b >= 0) {
+            append((char) b);
+            return;
+        }
+
+        int lead = b & 0xFF;
+        int extra = (lead >= 0xF0) ? 3 : (lead >= 0xE0) ? 2 : (lead >= 0xC0) ? 1 : -1;
+        if (extra < 0 || !ensure(extra)) {
+            append('\uFFFD');
+            return;
+        }
+
+        int cp = lead & (0x3F >> extra);
+        for (int k = 0; k < extra; k++) {
+            int next = bytes[pos] & 0xFF;
+            if ((next & 0xC0) != 0x80) {
+                append('\uFFFD');
+                return; // leave the byte for the next character
+            }
+            cp = (cp << 6) | (next & 0x3F);
+            pos++;
+        }
+
+        if (Character.isBmpCodePoint(cp)) {
+            append((char) cp);
+        } else if (Character.isValidCodePoint(cp)) {
+            append(Character.highSurrogate(cp));
+            append(Character.lowSurrogate(cp));
+        } else {
+            append('\uFFFD');
+        }
+    }
+
+    // At least n unread bytes, refilling from the channel if needed; false if the input ends first
+    private boolean ensure(int n) {
+        if (limit - pos >= n) {
+            return true;
+        }
+        if (eof) {
+            return false;
+        }
+
+        try {
+            // bytes before pos are already decoded into chars, so they can be dropped
+            int kept = limit - pos;
+            System.arraycopy(bytes, pos, bytes, 0, kept);
+            bufferOffset += pos;
+            pos = 0;
+            limit = kept;
+
+            while (limit < n && !eof) {
+                buffer.clear().position(limit);
+                int read = channel.read(buffer);
+                if (read < 0) {
+                    eof = true;
+                } else {
+                    limit += read;
+                }
+            }
+        } catch (IOException e) {
+            System.err.println("Error reading CSV: " + e.getMessage());
+            eof = true;
+        }
+        return limit - pos >= n;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (channel != null) {
+            channel.close();
+        }
+    }
+
+    // A field of the current record, read straight out of the record's chars
+    private final class Field implements CharSequence {
+        private final int index;
+
+        Field(int index) {
+            this.index = index;
+        }
+
+        private int start() {
+            return (index == 0) ? 0 : fieldEnds[index - 1];
+        }
+
+        @Override
+        public int length() {
+            return fieldEnds[index] - start();
+        }
+
+        @Override
+        public char charAt(int i) {
+            return chars[start() + i];
+        }
+
+        @Override
+        public CharSequence subSequence(int from, int to) {
+            return toString().substring(from, to);
+        }
+
+        @Override
+        public String toString() {
+            return new String(chars, start(), length());
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package model;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Boards with their own size, mine and box counts; the difficulty only decides
+ * the scoring rules. Used for large custom boards and balance simulations.
+ */
+public class CustomBoardFactory extends BoardFactory {
+
+    private final Difficulty difficulty;
+    private final int rows;
+    private final int cols;
+    private final int mines;
+    private final int surpriseBoxes;
+    private final int questionBoxes;
+    private final int heartBoxes;
+    private final int diceBoxes;
+
+    public CustomBoardFactory(RandomStreams streams, Difficulty difficulty, int rows, int cols, int mines,
+                              int surpriseBoxes, int questionBoxes, int heartBoxes, int diceBoxes) {
+        super(streams);
+        this.difficulty = difficulty;
+        this.rows = rows;
+        this.cols = cols;
+        this.mines = mines;
+        this.surpriseBoxes = surpriseBoxes;
+        this.questionBoxes = questionBoxes;
+        this.heartBoxes = heartBoxes;
+        this.diceBoxes = diceBoxes;
+    }
+
+    @Override
+    public Board createBoard(RandomGenerator rng) {
+        return new Board(difficulty, rows, cols, mines, surpriseBoxes, questionBoxes, heartBoxes, diceBoxes, rng);
+    }
+}
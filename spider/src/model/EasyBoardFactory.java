@@ -1,8 +1,22 @@
 package model;
 
+import java.util.random.RandomGenerator;
+
 public class EasyBoardFactory extends BoardFactory {
+
+    public EasyBoardFactory() {
+    }
+
+    public EasyBoardFactory(long seed, String algorithm) {
+        super(seed, algorithm);
+    }
+
+    public EasyBoardFactory(RandomStreams streams) {
+        super(streams);
+    }
+
     @Override
-    public Board createBoard() {
-        return new Board(Difficulty.EASY);
+    public Board createBoard(RandomGenerator rng) {
+        return new Board(Difficulty.EASY, rng);
     }
 }
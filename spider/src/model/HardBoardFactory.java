@@ -1,8 +1,22 @@
 package model;
 
+import java.util.random.RandomGenerator;
+
 public class HardBoardFactory extends BoardFactory {
+
+    public HardBoardFactory() {
+    }
+
+    public HardBoardFactory(long seed, String algorithm) {
+        super(seed, algorithm);
+    }
+
+    public HardBoardFactory(RandomStreams streams) {
+        super(streams);
+    }
+
     @Override
-    public Board createBoard() {
-        return new Board(Difficulty.HARD);
+    public Board createBoard(RandomGenerator rng) {
+        return new Board(Difficulty.HARD, rng);
     }
 }
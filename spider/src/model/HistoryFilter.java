@@ -0,0 +1,32 @@
+package model;
+
+/** Which history rows to show; a null field matches everything. */
+public record HistoryFilter(Difficulty difficulty, HistoryFilter.Result result, String player) {
+
+    public static final HistoryFilter ALL = new HistoryFilter(null, null, null);
+
+    /** How a game ended, read the way the history view always has ("win", "lost"/"defeat", "quit"). */
+    public enum Result {
+        WIN, LOST, QUIT, OTHER;
+
+        public static Result of(String raw) {
+            String r = (raw == null) ? "" : raw.toLowerCase();
+            if (r.contains("win")) return WIN;
+            if (r.contains("lost") || r.contains("defeat")) return LOST;
+            if (r.contains("quit")) return QUIT;
+            return OTHER;
+        }
+    }
+
+    public HistoryFilter withResult(Result result) {
+        return new HistoryFilter(difficulty, result, player);
+    }
+
+    public HistoryFilter withDifficulty(Difficulty difficulty) {
+        return new HistoryFilter(difficulty, result, player);
+    }
+
+    public HistoryFilter withPlayer(String player) {
+        return new HistoryFilter(difficulty, result, player);
+    }
+}
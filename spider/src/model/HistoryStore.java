@@ -0,0 +1,483 @@
+package model;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+/**
+ * Read side of history.csv. Keeps the byte offset of every row plus per-row
+ * difficulty, result and player ids, and row lists per difficulty, result and
+ * player, so filtered pages are read straight from the file without parsing the
+ * rest of it. The index is saved next to the CSV ("history.csv.idx") and
+ * refresh() only parses the bytes appended since the last call.
+ *
+ * The index also keeps a CRC of the first and last few KiB of the bytes it
+ * covers. If the CSV no longer matches it (a backup restored over it, or rows
+ * edited by hand) the index is rebuilt rather than trusted.
+ */
+public final class HistoryStore {
+
+    // history.csv columns, see SysData.HISTORY_HEADER
+    private static final int COL_DIFFICULTY = 1;
+    private static final int COL_PLAYER1 = 2;
+    private static final int COL_PLAYER2 = 4;
+    private static final int COL_RESULT = 6;
+
+    private static final int INDEX_MAGIC = 0x53504849; // "SPHI"
+    private static final int INDEX_VERSION = 2;
+    private static final int INDEX_HEADER_BYTES = 4 + 4 + 8 + 8 + 4;
+    private static final int FINGERPRINT_WINDOW = 4096;
+
+    private static final Difficulty[] DIFFICULTIES = Difficulty.values();
+    private static final HistoryFilter.Result[] RESULTS = HistoryFilter.Result.values();
+
+    private final Path csv;
+    private final Path indexFile;
+
+    private long indexedLength; // end of the last complete record that is indexed
+    private int generation; // bumped by clear(), so selections made before a rebuild know they are stale
+    private long fingerprint; // of the first indexedLength bytes, see fingerprint()
+    private int rows;
+    private long[] offsets = new long[1024];
+    private byte[] difficulty = new byte[1024]; // Difficulty ordinal, -1 if unknown
+    private byte[] result = new byte[1024];
+    private int[] player1 = new int[1024];
+    private int[] player2 = new int[1024];
+
+    private final IntList[] byDifficulty = newLists(DIFFICULTIES.length);
+    private final IntList[] byResult = newLists(RESULTS.length);
+    private final Map<String, Integer> playerIds = new HashMap<>();
+    private final List<String> playerNames = new ArrayList<>();
+    private final List<IntList> byPlayer = new ArrayList<>();
+
+    // index entries not written to the sidecar yet start at this row
+    private int savedRows;
+    private long savedEntriesEnd = INDEX_HEADER_BYTES;
+
+    private HistoryStore(Path csv) {
+        this.csv = csv;
+        this.indexFile = csv.resolveSibling(csv.getFileName() + ".idx");
+    }
+
+    /** Loads the saved index (or rebuilds it) and indexes whatever was appended since. */
+    public static HistoryStore open(Path csv) {
+        HistoryStore store = new HistoryStore(csv);
+        if (!store.loadIndex()) {
+            store.clear();
+        }
+        store.refresh();
+        return store;
+    }
+
+    // ------------------ QUERIES ------------------ //
+
+    public synchronized int size() {
+        return rows;
+    }
+
+    /** Rows matching the filter. */
+    public int count(HistoryFilter filter) {
+        return select(filter).size();
+    }
+
+    /**
+     * Up to limit matching rows, newest first, skipping the first start matches.
+     * Only those rows are read from the file.
+     */
+    public List<String[]> page(HistoryFilter filter, int start, int limit) {
+        return select(filter).read(start, limit);
+    }
+
+    /**
+     * The rows matching the filter as they are now, in newest-first positions. A
+     * single criterion shares the store's row list; combined criteria are
+     * intersected once here so any position can be read without rescanning.
+     * Once the index is rebuilt the selection is stale and reads nothing.
+     */
+    public synchronized Selection select(HistoryFilter filter) {
+        if (isAll(filter)) {
+            return new Selection(null, rows);
+        }
+        IntList source = candidates(filter);
+        if (source == null) {
+            return new Selection(new int[0], 0); // unknown player
+        }
+
+        int set = (filter.difficulty() != null ? 1 : 0) + (filter.result() != null ? 1 : 0)
+                + (filter.player() != null ? 1 : 0);
+        if (set == 1) {
+            return new Selection(source.values, source.size);
+        }
+
+        int player = resolvePlayer(filter);
+        int[] matching = new int[source.size];
+        int n = 0;
+        for (int k = 0; k < source.size; k++) {
+            int row = source.values[k];
+            if (matches(row, filter, player)) matching[n++] = row;
+        }
+        return new Selection(matching, n);
+    }
+
+    /** A fixed list of matching rows; position 0 is the newest game. */
+    public final class Selection {
+        private final int[] ascending; // row numbers, oldest first; null means every row
+        private final int size;
+        private final int generation;
+
+        private Selection(int[] ascending, int size) {
+            this.ascending = ascending;
+            this.size = size;
+            this.generation = HistoryStore.this.generation;
+        }
+
+        public int size() {
+            return size;
+        }
+
+        /** Up to limit rows from position start on, read from the file. */
+        public List<String[]> read(int start, int limit) {
+            int end = (int) Math.min((long) Math.max(start, 0) + Math.max(limit, 0), size);
+            List<String[]> out = new ArrayList<>(Math.max(0, end - start));
+            if (start < 0 || start >= end) {
+                return out;
+            }
+
+            synchronized (HistoryStore.this) {
+                if (generation != HistoryStore.this.generation) {
+                    return out; // the row numbers belong to an index that was rebuilt
+                }
+                try (FileChannel channel = FileChannel.open(csv, StandardOpenOption.READ)) {
+                    for (int k = start; k < end; k++) {
+                        int row = (ascending == null) ? size - 1 - k : ascending[size - 1 - k];
+                        out.add(readRow(channel, row));
+                    }
+                } catch (IOException e) {
+                    System.err.println("Error reading game history: " + e.getMessage());
+                }
+            }
+            return out;
+        }
+    }
+
+    private static boolean isAll(HistoryFilter f) {
+        return f.difficulty() == null && f.result() == null && f.player() == null;
+    }
+
+    private int resolvePlayer(HistoryFilter f) {
+        if (f.player() == null) return -1;
+        Integer id = playerIds.get(playerKey(f.player()));
+        return (id == null) ? -1 : id;
+    }
+
+    // The shortest row list of the filter's criteria; null for ALL or an unknown player
+    private IntList candidates(HistoryFilter f) {
+        IntList best = null;
+        if (f.player() != null) {
+            Integer id = playerIds.get(playerKey(f.player()));
+            if (id == null) return null;
+            best = byPlayer.get(id);
+        }
+        if (f.difficulty() != null) {
+            best = shorter(best, byDifficulty[f.difficulty().ordinal()]);
+        }
+        if (f.result() != null) {
+            best = shorter(best, byResult[f.result().ordinal()]);
+        }
+        return best;
+    }
+
+    private static IntList shorter(IntList a, IntList b) {
+        return (a == null || b.size < a.size) ? b : a;
+    }
+
+    private boolean matches(int row, HistoryFilter f, int player) {
+        if (f.difficulty() != null && difficulty[row] != f.difficulty().ordinal()) return false;
+        if (f.result() != null && result[row] != f.result().ordinal()) return false;
+        return f.player() == null || player1[row] == player || player2[row] == player;
+    }
+
+    private String[] readRow(FileChannel channel, int row) throws IOException {
+        long from = offsets[row];
+        long to = (row + 1 < rows) ? offsets[row + 1] : indexedLength;
+        ByteBuffer buffer = read(channel, from, (int) (to - from));
+        CsvReader record = CsvReader.of(buffer.array(), buffer.limit());
+        if (!record.next()) {
+            return new String[0];
+        }
+        String[] fields = new String[record.fieldCount()];
+        for (int i = 0; i < fields.length; i++) {
+            fields[i] = record.string(i);
+        }
+        return fields;
+    }
+
+    // ------------------ INCREMENTAL INDEXING ------------------ //
+
+    /** Indexes the records appended to the CSV since the last call and saves the index. */
+    public synchronized void refresh() {
+        if (Files.notExists(csv)) {
+            return;
+        }
+
+        try {
+            if (Files.size(csv) < indexedLength || fingerprint(indexedLength) != fingerprint) {
+                // the file was replaced, edited or cut short: start over
+                clear();
+                Files.deleteIfExists(indexFile);
+            }
+        } catch (IOException e) {
+            System.err.println("Error indexing game history: " + e.getMessage());
+            return;
+        }
+
+        try (CsvReader records = CsvReader.open(csv, indexedLength)) {
+            // a trailing record without its line break is picked up next time
+            while (records.next() && records.isTerminated()) {
+                addRecord(records);
+                indexedLength = records.endOffset();
+            }
+            fingerprint = fingerprint(indexedLength);
+        } catch (IOException e) {
+            System.err.println("Error indexing game history: " + e.getMessage());
+            return;
+        }
+
+        saveIndex();
+    }
+
+    // CRC32 of the first and last FINGERPRINT_WINDOW bytes of csv's first length bytes
+    private long fingerprint(long length) throws IOException {
+        if (length == 0) {
+            return 0;
+        }
+        CRC32 crc = new CRC32();
+        try (FileChannel channel = FileChannel.open(csv, StandardOpenOption.READ)) {
+            int head = (int) Math.min(length, FINGERPRINT_WINDOW);
+            crc.update(read(channel, 0, head));
+            long tailFrom = Math.max(head, length - FINGERPRINT_WINDOW);
+            crc.update(read(channel, tailFrom, (int) (length - tailFrom)));
+        }
+        return crc.getValue();
+    }
+
+    private static ByteBuffer read(FileChannel channel, long from, int length) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(length);
+        while (buffer.hasRemaining() && channel.read(buffer, from + buffer.position()) > 0) {
+            // keep reading
+        }
+        return buffer.flip();
+    }
+
+    private void addRecord(CsvReader row) {
+        if (row.recordOffset() == 0) {
+            return; // header line
+        }
+        if (row.isBlank()) {
+            return; // blank line: its bytes stay part of the previous row
+        }
+        if (row.problem() != null) {
+            System.err.println("Malformed history row at byte " + row.recordOffset() + ": " + row.problem());
+        }
+
+        addRow(row.recordOffset(),
+                (byte) difficultyCode(row.field(COL_DIFFICULTY)),
+                (byte) HistoryFilter.Result.of(row.string(COL_RESULT)).ordinal(),
+                row.string(COL_PLAYER1),
+                row.string(COL_PLAYER2));
+    }
+
+    private void addRow(long offset, byte diff, byte res, String p1, String p2) {
+        if (rows == offsets.length) {
+            int n = rows * 2;
+            offsets = Arrays.copyOf(offsets, n);
+            difficulty = Arrays.copyOf(difficulty, n);
+            result = Arrays.copyOf(result, n);
+            player1 = Arrays.copyOf(player1, n);
+            player2 = Arrays.copyOf(player2, n);
+        }
+
+        int row = rows++;
+        offsets[row] = offset;
+        difficulty[row] = diff;
+        result[row] = res;
+        player1[row] = playerId(p1);
+        player2[row] = playerId(p2);
+
+        if (diff >= 0) byDifficulty[diff].add(row);
+        byResult[res].add(row);
+        byPlayer.get(player1[row]).add(row);
+        if (player2[row] != player1[row]) byPlayer.get(player2[row]).add(row);
+    }
+
+    private int playerId(String name) {
+        return playerIds.computeIfAbsent(playerKey(name), k -> {
+            playerNames.add(k);
+            byPlayer.add(new IntList());
+            return byPlayer.size() - 1;
+        });
+    }
+
+    private static String playerKey(String name) {
+        return name.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static int difficultyCode(CharSequence raw) {
+        for (Difficulty d : DIFFICULTIES) {
+            if (equalsIgnoreCase(d.name(), raw)) return d.ordinal();
+        }
+        return -1;
+    }
+
+    // Without copying the field; surrounding spaces are ignored
+    private static boolean equalsIgnoreCase(String name, CharSequence raw) {
+        int from = 0, to = raw.length();
+        while (from < to && raw.charAt(from) == ' ') from++;
+        while (to > from && raw.charAt(to - 1) == ' ') to--;
+        if (to - from != name.length()) return false;
+        for (int i = 0; i < name.length(); i++) {
+            if (Character.toUpperCase(raw.charAt(from + i)) != name.charAt(i)) return false;
+        }
+        return true;
+    }
+
+    private void clear() {
+        generation++;
+        indexedLength = 0;
+        fingerprint = 0;
+        rows = 0;
+        for (IntList l : byDifficulty) l.size = 0;
+        for (IntList l : byResult) l.size = 0;
+        playerIds.clear();
+        playerNames.clear();
+        byPlayer.clear();
+        savedRows = 0;
+        savedEntriesEnd = INDEX_HEADER_BYTES;
+    }
+
+    // ------------------ SIDECAR INDEX ------------------ //
+
+    // header (magic, version, indexed CSV bytes, their fingerprint, row count), then one entry per row
+    private boolean loadIndex() {
+        if (Files.notExists(indexFile)) {
+            return false;
+        }
+
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(indexFile)))) {
+            if (in.readInt() != INDEX_MAGIC || in.readInt() != INDEX_VERSION) {
+                return false;
+            }
+            long length = in.readLong();
+            long print = in.readLong();
+            int count = in.readInt();
+
+            long entriesEnd = INDEX_HEADER_BYTES;
+            for (int k = 0; k < count; k++) {
+                long offset = in.readLong();
+                byte diff = in.readByte();
+                byte res = in.readByte();
+                String p1 = in.readUTF();
+                String p2 = in.readUTF();
+                addRow(offset, diff, res, p1, p2);
+                entriesEnd += 8 + 1 + 1 + utfLength(p1) + utfLength(p2);
+            }
+
+            indexedLength = length;
+            fingerprint = print;
+            savedRows = rows;
+            savedEntriesEnd = entriesEnd;
+            return true;
+        } catch (EOFException e) {
+            clear();
+            return false;
+        } catch (IOException e) {
+            System.err.println("Rebuilding history index: " + e.getMessage());
+            clear();
+            return false;
+        }
+    }
+
+    // Appends the new entries, then rewrites the header to cover them
+    private void saveIndex() {
+        if (savedRows == rows && Files.exists(indexFile)) {
+            return;
+        }
+
+        try (RandomAccessFile raf = new RandomAccessFile(indexFile.toFile(), "rw")) {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            DataOutputStream out = new DataOutputStream(bytes);
+            for (int row = savedRows; row < rows; row++) {
+                out.writeLong(offsets[row]);
+                out.writeByte(difficulty[row]);
+                out.writeByte(result[row]);
+                out.writeUTF(playerNames.get(player1[row]));
+                out.writeUTF(playerNames.get(player2[row]));
+            }
+            out.flush();
+
+            raf.setLength(savedEntriesEnd); // drops entries a crash left without a header
+            raf.seek(savedEntriesEnd);
+            raf.write(bytes.toByteArray());
+
+            raf.seek(0);
+            raf.writeInt(INDEX_MAGIC);
+            raf.writeInt(INDEX_VERSION);
+            raf.writeLong(indexedLength);
+            raf.writeLong(fingerprint);
+            raf.writeInt(rows);
+
+            savedRows = rows;
+            savedEntriesEnd += bytes.size();
+        } catch (IOException e) {
+            System.err.println("Error saving history index: " + e.getMessage());
+        }
+    }
+
+    private static int utfLength(String s) {
+        int n = 2;
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            n += (c >= 0x0001 && c <= 0x007F) ? 1 : (c <= 0x07FF) ? 2 : 3;
+        }
+        return n;
+    }
+
+    // ------------------ ROW LISTS ------------------ //
+
+    // Ascending row numbers
+    private static final class IntList {
+        int[] values = new int[16];
+        int size;
+
+        void add(int v) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = v;
+        }
+    }
+
+    private static IntList[] newLists(int n) {
+        IntList[] lists = new IntList[n];
+        for (int i = 0; i < n; i++) {
+            lists[i] = new IntList();
+        }
+        return lists;
+    }
+}
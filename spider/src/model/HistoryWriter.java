@@ -0,0 +1,217 @@
+package model;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Appends history rows from a dedicated thread. Callers only enqueue; the writer
+ * takes whatever has piled up and writes it with one FileChannel call (a group
+ * commit), forcing it to disk as the FsyncPolicy says. The file stays open for
+ * the writer's lifetime.
+ *
+ * Checking for close and enqueueing happen under one lock, so once close() has
+ * queued its stop request no row can land behind it.
+ */
+public final class HistoryWriter implements Closeable {
+
+    /** When written rows are forced to the storage device. */
+    public enum FsyncPolicy {
+        /** After every group commit: nothing acknowledged by flush() is lost on power failure. */
+        EVERY_BATCH,
+        /** At most once per second, and on flush and close. */
+        PERIODIC,
+        /** Only on flush and close; the OS decides otherwise. */
+        ON_FLUSH
+    }
+
+    private static final long PERIODIC_FSYNC_NANOS = 1_000_000_000L;
+    private static final int MAX_BATCH = 1024;
+
+    // a queued line, or a flush/close request when row is null
+    private record Entry(String row, CountDownLatch done, boolean stop) {
+    }
+
+    private final FileChannel channel;
+    private final FsyncPolicy fsync;
+    private final BlockingQueue<Entry> queue;
+    private final Thread thread;
+    private final Object lock = new Object();
+    private final CountDownLatch stopped = new CountDownLatch(1);
+    private boolean closed; // guarded by lock
+
+    private long lastForce = System.nanoTime();
+    private boolean unforced;
+
+    public HistoryWriter(Path file, int capacity, FsyncPolicy fsync) throws IOException {
+        this.channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND);
+        this.fsync = fsync;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+
+        this.thread = new Thread(this::run, "history-writer");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Queues one CSV line (without line break). Returns at once unless the queue is
+     * full, i.e. the disk is already thousands of rows behind.
+     */
+    public void append(String row) {
+        try {
+            synchronized (lock) {
+                if (closed) {
+                    throw new IllegalStateException("history writer is closed");
+                }
+                queue.put(new Entry(row, null, false));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /** Waits until every row queued before this call is written and forced to disk. */
+    public void flush() {
+        Entry request = new Entry(null, new CountDownLatch(1), false);
+        try {
+            synchronized (lock) {
+                if (closed) {
+                    return;
+                }
+                queue.put(request);
+            }
+            request.done().await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Writes what is queued, forces it to disk and stops the writer thread. Every
+     * caller, not just the first, returns once the thread has stopped.
+     */
+    @Override
+    public void close() {
+        try {
+            synchronized (lock) {
+                if (!closed) {
+                    queue.put(new Entry(null, null, true));
+                    closed = true;
+                }
+            }
+            stopped.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // ------------------ WRITER THREAD ------------------ //
+
+    private void run() {
+        try {
+            writeUntilStopped();
+        } finally {
+            closeChannel();
+            stopped.countDown();
+        }
+    }
+
+    private void writeUntilStopped() {
+        List<Entry> batch = new ArrayList<>(MAX_BATCH);
+        StringBuilder sb = new StringBuilder();
+
+        while (true) {
+            Entry first;
+            try {
+                first = nextEntry();
+            } catch (InterruptedException e) {
+                return;
+            }
+            if (first == null) {
+                // idle past the PERIODIC deadline: force what the last batch left behind
+                write(sb.delete(0, sb.length()), true);
+                continue;
+            }
+            batch.add(first);
+            queue.drainTo(batch, MAX_BATCH - 1);
+
+            sb.setLength(0);
+            boolean forceNow = false, stop = false;
+            for (Entry e : batch) {
+                if (e.row() != null) {
+                    sb.append(e.row()).append(System.lineSeparator());
+                } else {
+                    forceNow = true;
+                    stop |= e.stop();
+                }
+            }
+
+            write(sb, forceNow);
+            for (Entry e : batch) {
+                if (e.done() != null) {
+                    e.done().countDown();
+                }
+            }
+            batch.clear();
+
+            if (stop) {
+                return;
+            }
+        }
+    }
+
+    // blocks for the next entry, or returns null once unforced rows are due for a PERIODIC force
+    private Entry nextEntry() throws InterruptedException {
+        if (fsync != FsyncPolicy.PERIODIC || !unforced) {
+            return queue.take();
+        }
+        long remaining = PERIODIC_FSYNC_NANOS - (System.nanoTime() - lastForce);
+        return (remaining <= 0) ? queue.poll() : queue.poll(remaining, TimeUnit.NANOSECONDS);
+    }
+
+    private void write(StringBuilder rows, boolean forceNow) {
+        try {
+            if (rows.length() > 0) {
+                ByteBuffer buffer = StandardCharsets.UTF_8.encode(rows.toString());
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+                unforced = true;
+            }
+
+            long now = System.nanoTime();
+            boolean due = switch (fsync) {
+                case EVERY_BATCH -> true;
+                case PERIODIC -> now - lastForce >= PERIODIC_FSYNC_NANOS;
+                case ON_FLUSH -> false;
+            };
+            if (unforced && (forceNow || due)) {
+                channel.force(false);
+                lastForce = now;
+                unforced = false;
+            }
+        } catch (IOException e) {
+            System.err.println("Error writing game history: " + e.getMessage());
+            e.printStackTrace();
+        }
+    }
+
+    private void closeChannel() {
+        try {
+            channel.close();
+        } catch (IOException e) {
+            System.err.println("Error closing game history: " + e.getMessage());
+        }
+    }
+}
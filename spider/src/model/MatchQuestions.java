@@ -0,0 +1,146 @@
+package model;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.random.RandomGenerator;
+
+/**
+ * The question draw of one match: difficulty weights and the questions already
+ * asked. Every draw reads the latest bank, so edits made in the question manager
+ * reach a running match. Belongs to a single match and is not thread-safe.
+ *
+ * Each difficulty has a pool whose first remaining[d] entries are still unused.
+ * A draw swaps a random unused entry to the end of that range and shrinks it, so
+ * drawing is O(1) without allocation and a reset only moves the cursors back.
+ */
+public final class MatchQuestions {
+
+    private static final QuestionDifficulty[] DIFFICULTIES = QuestionDifficulty.values();
+
+    // 50 / 35 / 12 / 3, shared by every match that keeps the default weights
+    private static final AliasSampler DEFAULT_WEIGHTS = AliasSampler.of(50, 35, 12, 3);
+
+    private final Supplier<QuestionBank> bank;
+
+    // replaced whole by setWeights, so a draw never sees a half-built table
+    private volatile AliasSampler weights = DEFAULT_WEIGHTS;
+
+    private QuestionBank pooled; // the bank the pools were built from
+    private final Question[][] pools = new Question[DIFFICULTIES.length][];
+    private final int[] remaining = new int[DIFFICULTIES.length];
+
+    MatchQuestions(Supplier<QuestionBank> bank) {
+        this.bank = bank;
+    }
+
+    /** Forgets which questions were asked, for a new match. */
+    public void reset() {
+        for (int d = 0; d < DIFFICULTIES.length; d++) {
+            remaining[d] = (pools[d] == null) ? 0 : pools[d].length;
+        }
+    }
+
+    /** Relative chance of each difficulty; missing ones never come up, all zero means EASY only. */
+    public void setWeights(Map<QuestionDifficulty, Integer> newWeights) {
+        double[] w = new double[DIFFICULTIES.length];
+        double total = 0;
+        for (QuestionDifficulty d : DIFFICULTIES) {
+            int value = newWeights.getOrDefault(d, 0);
+            if (value < 0) {
+                throw new IllegalArgumentException("weight of " + d + " must not be negative, got " + value);
+            }
+            w[d.ordinal()] = value;
+            total += value;
+        }
+        if (total <= 0) {
+            w[QuestionDifficulty.EASY.ordinal()] = 1;
+        }
+        weights = AliasSampler.of(w);
+    }
+
+    private QuestionDifficulty pickDifficultyWeighted(RandomGenerator rng) {
+        return DIFFICULTIES[weights.sample(rng)];
+    }
+
+    /**
+     * Draws the next question of the match using the given generator,
+     * so a seeded game draws the same questions on replay.
+     */
+    public Optional<Question> nextQuestion(RandomGenerator rng) {
+        QuestionBank questions = bank.get();
+
+        // If there are NO questions at all → really no questions
+        if (questions.isEmpty()) {
+            return Optional.empty();
+        }
+        if (questions != pooled) {
+            repool(questions);
+        }
+
+        // the requested tier first, then any unused question, then start over
+        int tier = pickDifficultyWeighted(rng).ordinal();
+        if (remaining[tier] > 0) {
+            return Optional.of(take(tier, rng.nextInt(remaining[tier])));
+        }
+
+        int unused = 0;
+        for (int r : remaining) {
+            unused += r;
+        }
+        if (unused == 0) {
+            reset();
+            unused = questions.size();
+        }
+
+        // uniform over every unused question: find the tier holding the k-th one
+        int k = rng.nextInt(unused);
+        int d = 0;
+        while (k >= remaining[d]) {
+            k -= remaining[d];
+            d++;
+        }
+        return Optional.of(take(d, k));
+    }
+
+    // Moves pool[d][k] past the cursor and returns it
+    private Question take(int d, int k) {
+        Question[] pool = pools[d];
+        int last = --remaining[d];
+        Question q = pool[k];
+        pool[k] = pool[last];
+        pool[last] = q;
+        return q;
+    }
+
+    // A new bank was published: rebuild the pools, keeping what this match already asked
+    private void repool(QuestionBank questions) {
+        Set<String> asked = new HashSet<>();
+        for (int d = 0; d < DIFFICULTIES.length; d++) {
+            Question[] pool = pools[d];
+            for (int k = remaining[d]; pool != null && k < pool.length; k++) {
+                asked.add(pool[k].getId());
+            }
+        }
+
+        for (QuestionDifficulty difficulty : DIFFICULTIES) {
+            int d = difficulty.ordinal();
+            Question[] pool = questions.byDifficulty(difficulty).toArray(new Question[0]);
+
+            // unused questions in front, asked ones behind the cursor
+            int unused = 0;
+            for (int k = 0; k < pool.length; k++) {
+                if (!asked.contains(pool[k].getId())) {
+                    Question q = pool[k];
+                    pool[k] = pool[unused];
+                    pool[unused++] = q;
+                }
+            }
+            pools[d] = pool;
+            remaining[d] = unused;
+        }
+        pooled = questions;
+    }
+}
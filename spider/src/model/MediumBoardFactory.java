@@ -1,8 +1,22 @@
 package model;
 
+import java.util.random.RandomGenerator;
+
 public class MediumBoardFactory extends BoardFactory {
+
+    public MediumBoardFactory() {
+    }
+
+    public MediumBoardFactory(long seed, String algorithm) {
+        super(seed, algorithm);
+    }
+
+    public MediumBoardFactory(RandomStreams streams) {
+        super(streams);
+    }
+
     @Override
-    public Board createBoard() {
-        return new Board(Difficulty.MEDIUM);
+    public Board createBoard(RandomGenerator rng) {
+        return new Board(Difficulty.MEDIUM, rng);
     }
 }
@@ -0,0 +1,99 @@
+package model;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * An immutable snapshot of all questions, in file order and grouped by difficulty.
+ * SysData publishes a new snapshot on every edit, so a reader can hold on to one
+ * without locking and without seeing half-applied changes.
+ */
+public final class QuestionBank {
+
+    static final QuestionBank EMPTY = new QuestionBank(0, List.of());
+
+    private final long version;
+    private final Map<String, Question> byId;
+    private final List<Question> all;
+    private final EnumMap<QuestionDifficulty, List<Question>> byDifficulty = new EnumMap<>(QuestionDifficulty.class);
+
+    QuestionBank(long version, Collection<Question> questions) {
+        this.version = version;
+
+        Map<String, Question> ids = new LinkedHashMap<>();
+        for (Question q : questions) {
+            ids.put(q.getId(), q);
+        }
+        this.byId = Collections.unmodifiableMap(ids);
+        this.all = List.copyOf(ids.values());
+
+        for (QuestionDifficulty d : QuestionDifficulty.values()) {
+            byDifficulty.put(d, new ArrayList<>());
+        }
+        for (Question q : all) {
+            byDifficulty.get(q.getDifficulty()).add(q);
+        }
+        byDifficulty.replaceAll((d, list) -> List.copyOf(list));
+    }
+
+    /** A copy with the question added, or replacing the one with the same id. */
+    QuestionBank with(Question q) {
+        Map<String, Question> ids = new LinkedHashMap<>(byId);
+        ids.put(q.getId(), q);
+        return new QuestionBank(version + 1, ids.values());
+    }
+
+    /** A copy without the question with this id (this bank if there is none). */
+    QuestionBank without(String id) {
+        if (!byId.containsKey(id)) {
+            return this;
+        }
+        Map<String, Question> ids = new LinkedHashMap<>(byId);
+        ids.remove(id);
+        return new QuestionBank(version + 1, ids.values());
+    }
+
+    /** Grows by one with every published change. */
+    public long getVersion() {
+        return version;
+    }
+
+    public int size() {
+        return all.size();
+    }
+
+    public boolean isEmpty() {
+        return all.isEmpty();
+    }
+
+    public List<Question> all() {
+        return all;
+    }
+
+    public List<Question> byDifficulty(QuestionDifficulty difficulty) {
+        return byDifficulty.get(difficulty);
+    }
+
+    public Optional<Question> find(String id) {
+        return Optional.ofNullable(byId.get(id));
+    }
+
+    public boolean contains(String id) {
+        return byId.containsKey(id);
+    }
+
+    /**
+     * A sampler over positions in {@link #all()} with the given weight per question,
+     * e.g. favouring rarely asked ones. Built in O(n); each draw is O(1).
+     */
+    public AliasSampler weightedBy(ToDoubleFunction<Question> weight) {
+        return AliasSampler.of(all, weight);
+    }
+}
@@ -0,0 +1,11 @@
+package model;
+
+/**
+ * Told about every new question bank SysData publishes. Called on the thread that
+ * made the change, so Swing listeners hand the update over to the EDT themselves.
+ */
+@FunctionalInterface
+public interface QuestionBankListener {
+
+    void questionsChanged(QuestionBank bank);
+}
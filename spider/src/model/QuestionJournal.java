@@ -0,0 +1,221 @@
+package model;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.zip.CRC32;
+
+/**
+ * Write-ahead log of question edits next to the questions CSV. Every upsert or
+ * delete is appended as one line and forced to disk before the call returns; the
+ * CSV itself is only rewritten by compaction.
+ *
+ * Each line starts with a CRC32 of the rest, so a record torn by a crash is
+ * recognised and skipped; the torn tail is cut off when the journal is next
+ * opened for appending. Compaction first moves the live journal aside to
+ * "*.compacting" and keeps appending to a fresh one; the moved file is deleted
+ * once the new CSV is in place. Records are keyed by question id, so replaying a
+ * journal that is already part of the CSV changes nothing.
+ */
+final class QuestionJournal implements Closeable {
+
+    private static final String UPSERT = "U";
+    private static final String DELETE = "D";
+
+    private final Path live;
+    private final Path compacting;
+    private final long compactThreshold;
+
+    private FileChannel channel; // opened on the first append
+
+    QuestionJournal(Path live, long compactThreshold) {
+        this.live = live;
+        this.compacting = live.resolveSibling(live.getFileName() + ".compacting");
+        this.compactThreshold = compactThreshold;
+    }
+
+    // ------------------ REPLAY ------------------ //
+
+    /** Feeds every intact record to the callbacks: an interrupted compaction's first, then the live journal. */
+    void replay(Consumer<Question> upsert, Consumer<String> delete) {
+        replayFile(compacting, upsert, delete);
+        replayFile(live, upsert, delete);
+    }
+
+    private static void replayFile(Path file, Consumer<Question> upsert, Consumer<String> delete) {
+        if (Files.notExists(file)) {
+            return;
+        }
+
+        try (BufferedReader r = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String line;
+            int lineNumber = 0;
+            while ((line = r.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) continue;
+
+                int comma = line.indexOf(',');
+                String body = (comma < 0) ? "" : line.substring(comma + 1);
+                if (comma < 0 || !line.substring(0, comma).equals(crc(body))) {
+                    System.err.println("Skipping damaged journal record " + file.getFileName() + ":" + lineNumber);
+                    continue;
+                }
+
+                try {
+                    apply(CsvReader.parseLine(body), upsert, delete);
+                } catch (RuntimeException e) {
+                    System.err.println("Skipping invalid journal record " + file.getFileName() + ":" + lineNumber
+                            + " (" + e.getMessage() + ")");
+                }
+            }
+        } catch (IOException e) {
+            System.err.println("Error reading question journal: " + e.getMessage());
+            e.printStackTrace();
+        }
+    }
+
+    private static void apply(List<String> f, Consumer<Question> upsert, Consumer<String> delete) {
+        String id = decode(f.get(1));
+        switch (f.get(0)) {
+            case UPSERT -> upsert.accept(new Question(id, decode(f.get(2)),
+                    List.of(decode(f.get(4)), decode(f.get(5)), decode(f.get(6)), decode(f.get(7))),
+                    Integer.parseInt(f.get(8)), QuestionDifficulty.valueOf(f.get(3))));
+            case DELETE -> delete.accept(id);
+            default -> throw new IllegalArgumentException("unknown record type " + f.get(0));
+        }
+    }
+
+    // ------------------ APPEND ------------------ //
+
+    void appendUpsert(Question q) throws IOException {
+        List<String> a = q.getAnswers();
+        append(String.join(",", UPSERT, field(q.getId()), field(q.getText()), q.getDifficulty().name(),
+                field(a.get(0)), field(a.get(1)), field(a.get(2)), field(a.get(3)),
+                Integer.toString(q.getCorrectIndex())));
+    }
+
+    void appendDelete(String id) throws IOException {
+        append(String.join(",", DELETE, field(id)));
+    }
+
+    private void append(String body) throws IOException {
+        if (channel == null) {
+            if (live.getParent() != null) {
+                Files.createDirectories(live.getParent());
+            }
+            channel = FileChannel.open(live, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                    StandardOpenOption.WRITE);
+            channel.truncate(endOfLastRecord(channel));
+            channel.position(channel.size());
+        }
+
+        byte[] bytes = (crc(body) + "," + body + "\n").getBytes(StandardCharsets.UTF_8);
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        channel.force(false);
+    }
+
+    /**
+     * Length of the file up to and including its last line break. Anything after
+     * it is a record torn by a crash; it is cut off before appending so the next
+     * record starts on a line of its own instead of being glued onto it.
+     */
+    private static long endOfLastRecord(FileChannel ch) throws IOException {
+        ByteBuffer block = ByteBuffer.allocate(4096);
+        long end = ch.size();
+        while (end > 0) {
+            long start = Math.max(0, end - block.capacity());
+            block.clear().limit((int) (end - start));
+            while (block.hasRemaining()) {
+                if (ch.read(block, start + block.position()) < 0) {
+                    throw new IOException("journal shrank while being opened");
+                }
+            }
+            for (int i = block.limit() - 1; i >= 0; i--) {
+                if (block.get(i) == '\n') {
+                    return start + i + 1;
+                }
+            }
+            end = start;
+        }
+        return 0;
+    }
+
+    // ------------------ COMPACTION ------------------ //
+
+    /** Whether the live journal has grown past the compaction threshold. */
+    boolean needsCompaction() throws IOException {
+        return Files.exists(live) && Files.size(live) >= compactThreshold;
+    }
+
+    /** Whether a compaction was interrupted before its journal could be dropped. */
+    boolean hasInterruptedCompaction() {
+        return Files.exists(compacting);
+    }
+
+    /**
+     * Moves the live journal aside; later appends start a fresh file. The caller
+     * must hold the lock that orders edits, so the snapshot it compacts matches.
+     */
+    void rotate() throws IOException {
+        if (Files.exists(compacting)) {
+            throw new IllegalStateException("a compaction is already in progress");
+        }
+        close();
+        if (Files.exists(live)) {
+            Files.move(live, compacting, StandardCopyOption.ATOMIC_MOVE);
+        }
+    }
+
+    /** The compacted CSV is on disk, so the moved-aside records are no longer needed. */
+    void finishCompaction() throws IOException {
+        Files.deleteIfExists(compacting);
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (channel != null) {
+            channel.close();
+            channel = null;
+        }
+    }
+
+    // ------------------ ENCODING ------------------ //
+
+    // CSV-escaped, with line breaks and backslashes spelled out so a record stays on one line
+    private static String field(String s) {
+        String oneLine = s.replace("\\", "\\\\").replace("\n", "\\n").replace("\r", "\\r");
+        return SysData.escapeCsvField(oneLine);
+    }
+
+    private static String decode(String s) {
+        StringBuilder sb = new StringBuilder(s.length());
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (c == '\\' && i + 1 < s.length()) {
+                char next = s.charAt(++i);
+                sb.append(next == 'n' ? '\n' : next == 'r' ? '\r' : next);
+            } else {
+                sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+
+    private static String crc(String body) {
+        CRC32 crc = new CRC32();
+        crc.update(body.getBytes(StandardCharsets.UTF_8));
+        return Long.toHexString(crc.getValue());
+    }
+}
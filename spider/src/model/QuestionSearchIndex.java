@@ -0,0 +1,222 @@
+package model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Inverted index over question text and answers. Words are lower-cased runs of
+ * letters and digits; every query word matches as a prefix, and all query words
+ * must match. SysData keeps it in step with the bank one question at a time, so
+ * an edit only touches the words of that question.
+ */
+public final class QuestionSearchIndex {
+
+    private static final QuestionDifficulty[] DIFFICULTIES = QuestionDifficulty.values();
+
+    // word -> slots of the questions containing it, sorted so prefix ranges are one subMap
+    private final TreeMap<String, Postings> words = new TreeMap<>();
+
+    private final Map<String, Integer> slotById = new HashMap<>();
+    private Question[] questions = new Question[256];
+    private String[][] questionWords = new String[256][];
+    private int slotCount;
+    private int[] freeSlots = new int[16];
+    private int freeCount;
+
+    private final BitSet live = new BitSet();
+    private final EnumMap<QuestionDifficulty, BitSet> byDifficulty = new EnumMap<>(QuestionDifficulty.class);
+
+    public QuestionSearchIndex() {
+        for (QuestionDifficulty d : DIFFICULTIES) {
+            byDifficulty.put(d, new BitSet());
+        }
+    }
+
+    /** Matches for one query: the first questions found, how many there are, and counts per difficulty. */
+    public record Result(List<Question> questions, int total, Map<QuestionDifficulty, Integer> facets) {
+    }
+
+    // ------------------ UPDATES ------------------ //
+
+    /** Indexes the question, replacing the one with the same id. */
+    public synchronized void upsert(Question q) {
+        remove(q.getId());
+
+        int slot;
+        if (freeCount > 0) {
+            slot = freeSlots[--freeCount];
+        } else {
+            slot = slotCount++;
+            if (slot == questions.length) {
+                questions = Arrays.copyOf(questions, slot * 2);
+                questionWords = Arrays.copyOf(questionWords, slot * 2);
+            }
+        }
+
+        String[] ws = wordsOf(q);
+        questions[slot] = q;
+        questionWords[slot] = ws;
+        slotById.put(q.getId(), slot);
+        live.set(slot);
+        byDifficulty.get(q.getDifficulty()).set(slot);
+
+        for (String w : ws) {
+            words.computeIfAbsent(w, k -> new Postings()).add(slot);
+        }
+    }
+
+    /** Drops the question with this id; no-op if it is not indexed. */
+    public synchronized void remove(String id) {
+        Integer boxed = slotById.remove(id);
+        if (boxed == null) {
+            return;
+        }
+        int slot = boxed;
+
+        for (String w : questionWords[slot]) {
+            Postings p = words.get(w);
+            p.remove(slot);
+            if (p.size == 0) {
+                words.remove(w);
+            }
+        }
+        byDifficulty.get(questions[slot].getDifficulty()).clear(slot);
+        live.clear(slot);
+        questions[slot] = null;
+        questionWords[slot] = null;
+
+        if (freeCount == freeSlots.length) {
+            freeSlots = Arrays.copyOf(freeSlots, freeCount * 2);
+        }
+        freeSlots[freeCount++] = slot;
+    }
+
+    /** Indexes all of them, e.g. after loading the bank. */
+    public synchronized void upsertAll(Collection<Question> all) {
+        for (Question q : all) {
+            upsert(q);
+        }
+    }
+
+    public synchronized int size() {
+        return slotById.size();
+    }
+
+    // ------------------ QUERIES ------------------ //
+
+    /**
+     * Questions whose words start with every word of the query (all questions for a
+     * blank query), optionally only of one difficulty. Facets count every
+     * difficulty before that filter, so the other choices can show their numbers.
+     *
+     * @param difficulty null for any difficulty
+     * @param limit at most this many questions are returned; total counts them all
+     */
+    public synchronized Result search(String query, QuestionDifficulty difficulty, int limit) {
+        BitSet hits = (BitSet) live.clone();
+        for (String prefix : tokenize(query)) {
+            hits.and(withPrefix(prefix));
+            if (hits.isEmpty()) break;
+        }
+
+        Map<QuestionDifficulty, Integer> facets = new EnumMap<>(QuestionDifficulty.class);
+        for (QuestionDifficulty d : DIFFICULTIES) {
+            BitSet inDifficulty = (BitSet) byDifficulty.get(d).clone();
+            inDifficulty.and(hits);
+            facets.put(d, inDifficulty.cardinality());
+        }
+
+        if (difficulty != null) {
+            hits.and(byDifficulty.get(difficulty));
+        }
+
+        List<Question> found = new ArrayList<>(Math.min(Math.max(limit, 0), 1024));
+        for (int slot = hits.nextSetBit(0); slot >= 0 && found.size() < limit; slot = hits.nextSetBit(slot + 1)) {
+            found.add(questions[slot]);
+        }
+        return new Result(found, hits.cardinality(), facets);
+    }
+
+    // Slots of every question with a word starting with prefix
+    private BitSet withPrefix(String prefix) {
+        BitSet slots = new BitSet(slotCount);
+        NavigableMap<String, Postings> range = words.subMap(prefix, true, prefix + Character.MAX_VALUE, true);
+        for (Postings p : range.values()) {
+            for (int k = 0; k < p.size; k++) {
+                slots.set(p.slots[k]);
+            }
+        }
+        return slots;
+    }
+
+    // ------------------ WORDS ------------------ //
+
+    private static String[] wordsOf(Question q) {
+        Set<String> ws = new LinkedHashSet<>(tokenize(q.getText()));
+        for (String answer : q.getAnswers()) {
+            ws.addAll(tokenize(answer));
+        }
+        return ws.toArray(new String[0]);
+    }
+
+    /** Lower-cased runs of letters and digits, in order, without repeats. */
+    static List<String> tokenize(String text) {
+        Set<String> out = new LinkedHashSet<>();
+        if (text == null) {
+            return new ArrayList<>(out);
+        }
+
+        String lower = text.toLowerCase(Locale.ROOT);
+        int start = -1;
+        for (int i = 0; i <= lower.length(); i++) {
+            boolean inWord = i < lower.length() && Character.isLetterOrDigit(lower.charAt(i));
+            if (inWord && start < 0) {
+                start = i;
+            } else if (!inWord && start >= 0) {
+                out.add(lower.substring(start, i));
+                start = -1;
+            }
+        }
+        return new ArrayList<>(out);
+    }
+
+    // Ascending slots; questions are mostly added at the end, so inserts are usually appends
+    private static final class Postings {
+        int[] slots = new int[4];
+        int size;
+
+        void add(int slot) {
+            int at = Arrays.binarySearch(slots, 0, size, slot);
+            if (at >= 0) {
+                return;
+            }
+            at = -at - 1;
+            if (size == slots.length) {
+                slots = Arrays.copyOf(slots, size * 2);
+            }
+            System.arraycopy(slots, at, slots, at + 1, size - at);
+            slots[at] = slot;
+            size++;
+        }
+
+        void remove(int slot) {
+            int at = Arrays.binarySearch(slots, 0, size, slot);
+            if (at < 0) {
+                return;
+            }
+            System.arraycopy(slots, at + 1, slots, at, size - at - 1);
+            size--;
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package model;
+
+import java.util.random.RandomGenerator;
+import java.util.random.RandomGeneratorFactory;
+
+/**
+ * The random number streams of one match, all derived from a single 64-bit seed.
+ * Board A, board B, surprise/dice outcomes and question draws each get their own
+ * generator, so replaying a seed gives the same boards no matter how many
+ * questions or surprises were drawn in between.
+ */
+public final class RandomStreams {
+
+    public static final String DEFAULT_ALGORITHM = "L64X128MixRandom";
+
+    private static final int STREAM_BOARD_A   = 1;
+    private static final int STREAM_BOARD_B   = 2;
+    private static final int STREAM_EFFECTS   = 3;
+    private static final int STREAM_QUESTIONS = 4;
+
+    private final long seed;
+    private final String algorithm;
+
+    private final RandomGenerator boardA;
+    private final RandomGenerator boardB;
+    private final RandomGenerator effects;
+    private final RandomGenerator questions;
+
+    public RandomStreams(long seed) {
+        this(seed, DEFAULT_ALGORITHM);
+    }
+
+    /**
+     * @param algorithm any name accepted by {@link RandomGeneratorFactory#of(String)},
+     *                  e.g. "L64X128MixRandom", "Xoshiro256PlusPlus" or "SplittableRandom"
+     */
+    public RandomStreams(long seed, String algorithm) {
+        RandomGeneratorFactory<RandomGenerator> factory = RandomGeneratorFactory.of(algorithm);
+
+        this.seed = seed;
+        this.algorithm = algorithm;
+
+        this.boardA    = factory.create(streamSeed(seed, STREAM_BOARD_A));
+        this.boardB    = factory.create(streamSeed(seed, STREAM_BOARD_B));
+        this.effects   = factory.create(streamSeed(seed, STREAM_EFFECTS));
+        this.questions = factory.create(streamSeed(seed, STREAM_QUESTIONS));
+    }
+
+    /** Streams for a fresh, unpredictable seed (use {@link #getSeed()} to replay it later). */
+    public static RandomStreams withRandomSeed() {
+        return new RandomStreams(RandomGenerator.getDefault().nextLong());
+    }
+
+    /**
+     * Independent streams for the n-th child of this seed, e.g. one per
+     * simulation worker or per game in a batch. Children never share state
+     * with this instance, so workers do not contend on a common generator.
+     */
+    public RandomStreams split(long n) {
+        return new RandomStreams(mix64(seed ^ mix64(n + 0x632BE59BD9B4E019L)), algorithm);
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public String getAlgorithm() {
+        return algorithm;
+    }
+
+    public RandomGenerator boardA() {
+        return boardA;
+    }
+
+    public RandomGenerator boardB() {
+        return boardB;
+    }
+
+    /** Surprise box, dice and question outcome rolls. */
+    public RandomGenerator effects() {
+        return effects;
+    }
+
+    public RandomGenerator questions() {
+        return questions;
+    }
+
+    private static long streamSeed(long seed, int stream) {
+        return mix64(seed + stream * 0x9E3779B97F4A7C15L);
+    }
+
+    // SplitMix64 finaliser
+    private static long mix64(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -7,6 +7,23 @@ public enum SpecialBoxType {
     HEART,
     DICE;
 
+    private static final SpecialBoxType[] VALUES = values();
+
+    static SpecialBoxType fromOrdinal(int ordinal) {
+        return VALUES[ordinal];
+    }
+
+    /** The glyph shown on the board once the box has been revealed. */
+    public String getGlyph() {
+        return switch (this) {
+            case SURPRISE -> "🎁";
+            case QUESTION -> "❓";
+            case HEART    -> "♥";
+            case DICE     -> "🎲";
+            default       -> "";
+        };
+    }
+
     @Override
     public String toString() {
         return switch (this) {
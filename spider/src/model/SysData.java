@@ -1,22 +1,35 @@
 package model;
 
 import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.*;
 import java.time.LocalDateTime;
 import java.util.*;
-import java.util.concurrent.ThreadLocalRandom;
-import java.util.stream.Collectors;
-
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.UnaryOperator;
+
+/**
+ * The process-wide question repository and game history. The questions CSV is read
+ * once; readers get immutable QuestionBank snapshots and registered listeners hear
+ * about every edit. Saved edits go to a QuestionJournal and are folded into the CSV
+ * in the background. Per-match draw state lives in MatchQuestions.
+ */
 public class SysData {
 
-    private static SysData instance;
+    private static final class Holder {
+        static final SysData INSTANCE = new SysData();
+    }
 
-    public static synchronized SysData getInstance() {
-        if (instance == null) {
-            instance = new SysData();
-        }
-        return instance;
+    /** The shared instance; the first call loads the questions CSV. */
+    public static SysData getInstance() {
+        return Holder.INSTANCE;
     }
 
 
@@ -76,27 +89,64 @@ public class SysData {
             "player1", "player1Score",
             "player2", "player2Score",
             "result",
-            "seconds"
+            "seconds",
+            "seed", "rng" // replay with -Dspider.seed=<seed> -Dspider.rng=<rng>
     );
 
     // ------------------ QUESTIONS & WEIGHTS ------------------ //
 
-    private final Map<String, Question> questions = new LinkedHashMap<>();
-    private final Set<String> usedThisMatch = new HashSet<>();
+    // replaced as a whole on every change, never modified in place
+    private volatile QuestionBank questions = QuestionBank.EMPTY;
 
-    private final EnumMap<QuestionDifficulty, Integer> weights =
-            new EnumMap<>(QuestionDifficulty.class);
+    // kept in step with questions under the same lock, one question per edit
+    private final QuestionSearchIndex searchIndex = new QuestionSearchIndex();
+    private final List<QuestionBankListener> questionListeners = new CopyOnWriteArrayList<>();
 
-    // ------------------ CONSTRUCTOR ------------------ //
+    // ------------------ QUESTION JOURNAL ------------------ //
+
+    // the journal is folded into the CSV once it is this large
+    private static final long JOURNAL_COMPACT_BYTES = 256 * 1024;
+
+    private final QuestionJournal journal = new QuestionJournal(
+            QUESTIONS_CSV_PATH.resolveSibling(QUESTIONS_CSV_FILE_NAME + ".journal"), JOURNAL_COMPACT_BYTES);
+
+    // rewrites the CSV off the caller's thread, one compaction at a time
+    private final ExecutorService compactor = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "question-csv-compactor");
+        t.setDaemon(true);
+        return t;
+    });
+    private final AtomicBoolean compactionQueued = new AtomicBoolean();
+
+    // ------------------ HISTORY WRITER ------------------ //
+
+    // rows waiting for the writer thread before logGameResult has to wait
+    private static final int HISTORY_QUEUE_CAPACITY = 4096;
+
+    // -Dspider.history.fsync=EVERY_BATCH|PERIODIC|ON_FLUSH
+    private static final HistoryWriter.FsyncPolicy HISTORY_FSYNC = HistoryWriter.FsyncPolicy.valueOf(
+            System.getProperty("spider.history.fsync", HistoryWriter.FsyncPolicy.PERIODIC.name()));
 
-    public SysData() {
-        weights.put(QuestionDifficulty.EASY,   50);
-        weights.put(QuestionDifficulty.MEDIUM, 35);
-        weights.put(QuestionDifficulty.HARD,   12);
-        weights.put(QuestionDifficulty.EXPERT, 3);
+    private HistoryWriter history; // null if the file could not be opened
 
-        loadQuestionsFromCsv();
+    private final Object historyStoreLock = new Object();
+    private HistoryStore historyStore; // opened on first use
+
+    // ------------------ CONSTRUCTOR ------------------ //
+
+    private SysData() {
+        loadQuestions();
         initHistoryCsv();
+
+        // every System.exit path still gets the queued rows onto disk
+        Runtime.getRuntime().addShutdownHook(new Thread(this::shutdown, "sysdata-shutdown"));
+    }
+
+    /** Writes out queued history rows and stops the writer; called when the application exits. */
+    public void shutdown() {
+        if (history != null) {
+            history.close();
+        }
     }
 
     // ------------------ HISTORY INIT / APPEND ------------------ //
@@ -117,8 +167,11 @@ public class SysData {
                     w.write(String.join(",", HISTORY_HEADER));
                     w.newLine();
                 }
+            } else {
+                upgradeHistoryHeader(HISTORY_CSV_PATH, String.join(",", HISTORY_HEADER));
             }
 
+            history = new HistoryWriter(HISTORY_CSV_PATH, HISTORY_QUEUE_CAPACITY, HISTORY_FSYNC);
             System.out.println("History CSV ready at: " + HISTORY_CSV_PATH.toAbsolutePath());
         } catch (IOException e) {
             System.err.println("Error initializing history CSV: " + e.getMessage());
@@ -126,29 +179,75 @@ public class SysData {
         }
     }
 
-    private void appendHistoryRow(Object... values) throws IOException {
-        try (BufferedWriter w = Files.newBufferedWriter(
-                HISTORY_CSV_PATH,
-                StandardCharsets.UTF_8,
-                StandardOpenOption.CREATE,
-                StandardOpenOption.APPEND
-        )) {
-            StringBuilder sb = new StringBuilder();
-            for (int i = 0; i < values.length; i++) {
-                if (i > 0) sb.append(',');
-                String s = (values[i] == null) ? "" : values[i].toString();
-                sb.append(escapeCsvField(s));
+    /**
+     * Replaces a header written by an older version (fewer columns) with the current
+     * one, through a temporary file like writeQuestionsCsv. The rows are copied as
+     * they are; old rows simply lack the newer columns. A first line that is not a
+     * header at all is left alone.
+     */
+    static void upgradeHistoryHeader(Path csv, String header) throws IOException {
+        byte[] firstLine;
+        long rowsStart;
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(csv))) {
+            ByteArrayOutputStream line = new ByteArrayOutputStream();
+            int b;
+            while ((b = in.read()) >= 0 && b != '\n') {
+                line.write(b);
             }
-            w.write(sb.toString());
-            w.newLine();
+            rowsStart = line.size() + (b >= 0 ? 1 : 0);
+            firstLine = line.toByteArray();
+        }
+
+        String current = new String(firstLine, StandardCharsets.UTF_8).strip();
+        if (current.equals(header) || !current.startsWith(HISTORY_HEADER.get(0) + ",")) {
+            return;
+        }
+
+        Path tmp = csv.resolveSibling(csv.getFileName() + ".tmp");
+        try (FileChannel out = FileChannel.open(tmp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+             FileChannel in = FileChannel.open(csv, StandardOpenOption.READ)) {
+            ByteBuffer head = StandardCharsets.UTF_8.encode(header + System.lineSeparator());
+            while (head.hasRemaining()) {
+                out.write(head);
+            }
+            long size = in.size();
+            for (long pos = rowsStart; pos < size; ) {
+                pos += in.transferTo(pos, size - pos, out);
+            }
+            out.force(true);
         }
+
+        try {
+            Files.move(tmp, csv, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(tmp, csv, StandardCopyOption.REPLACE_EXISTING);
+        }
+        System.out.println("Updated history CSV header to: " + header);
+    }
+
+    // Hands the row to the writer thread; never touches the disk itself
+    private void appendHistoryRow(Object... values) {
+        if (history == null) {
+            System.err.println("Game history is not available, result not saved.");
+            return;
+        }
+
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) sb.append(',');
+            String s = (values[i] == null) ? "" : values[i].toString();
+            sb.append(escapeCsvField(s));
+        }
+        history.append(sb.toString());
     }
 
     public void logGameResult(Difficulty difficulty,
                               Player player1, int player1Score,
                               Player player2, int player2Score,
                               String result,
-                              int seconds) {
+                              int seconds,
+                              RandomStreams streams) {
         try {
             appendHistoryRow(
                     LocalDateTime.now(),
@@ -158,94 +257,143 @@ public class SysData {
                     player2 != null ? player2.getName() : "",
                     player2Score,
                     result,
-                    seconds
+                    seconds,
+                    streams != null ? streams.getSeed() : "",
+                    streams != null ? streams.getAlgorithm() : ""
             );
-        } catch (IOException e) {
+        } catch (IllegalStateException e) {
             System.err.println("Error writing game history: " + e.getMessage());
-            e.printStackTrace();
         }
     }
 
-    public List<String[]> getGameHistory() {
-        if (Files.notExists(HISTORY_CSV_PATH)) {
-            return List.of();
+    /**
+     * The indexed history, caught up with every game logged so far. Only the rows
+     * appended since the last call are parsed.
+     */
+    public HistoryStore getHistoryStore() {
+        if (history != null) {
+            history.flush(); // include the games that are still queued
         }
-
-        List<String[]> rows = new ArrayList<>();
-        try (BufferedReader r = Files.newBufferedReader(HISTORY_CSV_PATH, StandardCharsets.UTF_8)) {
-            String line;
-            boolean first = true;
-            while ((line = r.readLine()) != null) {
-                // skip header
-                if (first) {
-                    first = false;
-                    continue;
-                }
-                if (line.isBlank()) continue;
-
-                List<String> cols = parseCsvLine(line);
-                rows.add(cols.toArray(new String[0]));
+        synchronized (historyStoreLock) {
+            if (historyStore == null) {
+                historyStore = HistoryStore.open(HISTORY_CSV_PATH);
+            } else {
+                historyStore.refresh();
             }
-        } catch (IOException e) {
-            System.err.println("Error reading game history: " + e.getMessage());
-            e.printStackTrace();
+            return historyStore;
         }
-        return rows;
     }
 
-    // ------------------ MATCH QUESTIONS STATE ------------------ //
+    // ------------------ QUESTION SNAPSHOTS ------------------ //
+
+    /** The current questions; the snapshot never changes after it is returned. */
+    public QuestionBank getQuestionBank() {
+        return questions;
+    }
+
+    /** A fresh question draw for one match, always reading the latest bank. */
+    public MatchQuestions newMatchQuestions() {
+        return new MatchQuestions(this::getQuestionBank);
+    }
+
+    public void addQuestionBankListener(QuestionBankListener listener) {
+        questionListeners.add(listener);
+    }
 
-    public void resetMatchUsage() {
-        usedThisMatch.clear();
+    public void removeQuestionBankListener(QuestionBankListener listener) {
+        questionListeners.remove(listener);
     }
 
-    public void setWeights(Map<QuestionDifficulty, Integer> newWeights) {
-        weights.clear();
-        weights.putAll(newWeights);
+    // Swaps in a new bank and updates the search index under the lock, then tells the listeners outside it
+    private void publish(UnaryOperator<QuestionBank> change, Runnable indexChange) {
+        QuestionBank published;
+        synchronized (this) {
+            QuestionBank before = questions;
+            published = change.apply(before);
+            if (published == before) {
+                return;
+            }
+            questions = published;
+            indexChange.run();
+        }
+        notifyQuestionListeners(published);
+    }
+
+    private void notifyQuestionListeners(QuestionBank published) {
+        for (QuestionBankListener l : questionListeners) {
+            l.questionsChanged(published);
+        }
     }
 
     // ------------------ LOAD / PARSE QUESTIONS CSV ------------------ //
 
-    private void loadQuestionsFromCsv() {
-        if (Files.notExists(QUESTIONS_CSV_PATH)) {
-            System.err.println("Could not find questions CSV at: " + QUESTIONS_CSV_PATH.toAbsolutePath());
-            return;
+    // The CSV, then every edit journaled since it was written
+    private void loadQuestions() {
+        Map<String, Question> loaded = new LinkedHashMap<>();
+        for (Question q : readQuestionsCsv(QUESTIONS_CSV_PATH)) {
+            loaded.put(q.getId(), q);
         }
+        journal.replay(q -> loaded.put(q.getId(), q), loaded::remove);
+
+        questions = new QuestionBank(1, loaded.values());
+        searchIndex.upsertAll(questions.all());
+        System.out.println("Successfully loaded " + questions.size() + " questions.");
+
+        // a crash interrupted the last compaction: finish it before anything else is journaled
+        if (journal.hasInterruptedCompaction()) {
+            try {
+                writeQuestionsCsv(QUESTIONS_CSV_PATH, questions);
+                journal.finishCompaction();
+            } catch (IOException e) {
+                System.err.println("Error finishing question CSV compaction: " + e.getMessage());
+            }
+        }
+    }
 
-        questions.clear();
+    static List<Question> readQuestionsCsv(Path path) {
+        if (Files.notExists(path)) {
+            System.err.println("Could not find questions CSV at: " + path.toAbsolutePath());
+            return List.of();
+        }
 
-        try (BufferedReader br = Files.newBufferedReader(QUESTIONS_CSV_PATH, StandardCharsets.UTF_8)) {
+        List<Question> loaded = new ArrayList<>();
+        Set<String> ids = new HashSet<>();
+
+        try (CsvReader csv = CsvReader.open(path)) {
 
-            String line;
             boolean first = true;
 
-            while ((line = br.readLine()) != null) {
+            while (csv.next()) {
                 if (first) {
                     first = false;   // skip header
                     continue;
                 }
 
-                if (line.isBlank())
+                if (csv.isBlank())
                     continue;
 
-                List<String> fields = parseCsvLine(line);
+                if (csv.problem() != null) {
+                    // read leniently, as hand-edited banks always were
+                    System.err.println("Malformed questions CSV line " + csv.lineNumber() + ": " + csv.problem());
+                }
 
-                if (fields.size() < 8) {
-                    System.err.println("Invalid line (expected >= 8 columns): " + line);
+                if (csv.fieldCount() < 8) {
+                    System.err.println("Invalid questions CSV line " + csv.lineNumber()
+                            + " (expected >= 8 columns, got " + csv.fieldCount() + ")");
                     continue;
                 }
 
-                String questionText = fields.get(0).trim();
-                String difficultyRaw = fields.get(1).trim();
+                String questionText = csv.string(0).trim();
+                String difficultyRaw = csv.string(1).trim();
 
                 List<String> answers = List.of(
-                        fields.get(2).trim(),
-                        fields.get(3).trim(),
-                        fields.get(4).trim(),
-                        fields.get(5).trim()
+                        csv.string(2).trim(),
+                        csv.string(3).trim(),
+                        csv.string(4).trim(),
+                        csv.string(5).trim()
                 );
 
-                String correctAnswerText = fields.get(6).trim();
+                String correctAnswerText = csv.string(6).trim();
 
                 int correctIndex = -1;
                 for (int i = 0; i < answers.size(); i++) {
@@ -256,13 +404,18 @@ public class SysData {
                 }
 
                 if (correctIndex == -1) {
-                    System.err.println("Could not match correct answer for line: " + line);
+                    System.err.println("Could not match correct answer on questions CSV line " + csv.lineNumber());
                     continue;
                 }
 
                 QuestionDifficulty difficulty = parseDifficulty(difficultyRaw);
 
-                String id = "Q" + String.format("%03d", questions.size() + 1);
+                // files written before the id column get ids by position
+                String id = csv.string(8).trim();
+                for (int n = loaded.size() + 1; id.isEmpty() || ids.contains(id); n++) {
+                    id = "Q" + String.format("%03d", n);
+                }
+                ids.add(id);
 
                 Question q = new Question(
                         id,
@@ -272,48 +425,17 @@ public class SysData {
                         difficulty
                 );
 
-                upsertQuestion(q);
+                loaded.add(q);
             }
 
-            System.out.println("Successfully loaded " + questions.size() + " questions from CSV.");
-
         } catch (IOException e) {
             System.err.println("Error reading questions CSV: " + e.getMessage());
             e.printStackTrace();
         }
+        return loaded;
     }
 
-    private List<String> parseCsvLine(String line) {
-        List<String> result = new ArrayList<>();
-        if (line == null || line.isEmpty()) return result;
-
-        StringBuilder sb = new StringBuilder();
-        boolean inQuotes = false;
-
-        for (int i = 0; i < line.length(); i++) {
-            char c = line.charAt(i);
-
-            if (c == '"') {
-                // escaped quote ("")
-                if (inQuotes && i + 1 < line.length() && line.charAt(i + 1) == '"') {
-                    sb.append('"');
-                    i++;
-                } else {
-                    inQuotes = !inQuotes;
-                }
-            } else if (c == ',' && !inQuotes) {
-                result.add(sb.toString());
-                sb.setLength(0);
-            } else {
-                sb.append(c);
-            }
-        }
-
-        result.add(sb.toString());
-        return result;
-    }
-
-    private QuestionDifficulty parseDifficulty(String raw) {
+    private static QuestionDifficulty parseDifficulty(String raw) {
         if (raw == null) return QuestionDifficulty.EASY;
         String v = raw.trim().toLowerCase(Locale.ROOT);
 
@@ -331,18 +453,77 @@ public class SysData {
 
     // ------------------ SAVE QUESTIONS TO CSV ------------------ //
 
+    /**
+     * Folds the journal into the CSV now and waits for it. Edits are already
+     * durable once saveQuestion or deleteQuestion returns, so this is only needed
+     * to get a self-contained CSV, e.g. before copying the file elsewhere.
+     */
     public void saveQuestionsToCsv() {
-        try (BufferedWriter w = Files.newBufferedWriter(
-                QUESTIONS_CSV_PATH,
-                StandardCharsets.UTF_8,
-                StandardOpenOption.CREATE,
-                StandardOpenOption.TRUNCATE_EXISTING)) {
+        try {
+            compactor.submit(this::compact).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            System.err.println("Error writing questions CSV: " + e.getCause().getMessage());
+        }
+    }
+
+    // Starts a background compaction once the journal is past its threshold
+    private void compactIfNeeded() {
+        try {
+            if (journal.needsCompaction() && compactionQueued.compareAndSet(false, true)) {
+                compactor.execute(() -> {
+                    compactionQueued.set(false);
+                    compact();
+                });
+            }
+        } catch (IOException e) {
+            System.err.println("Error checking question journal: " + e.getMessage());
+        }
+    }
+
+    // Runs on the compactor thread only
+    private void compact() {
+        QuestionBank snapshot;
+        synchronized (this) {
+            try {
+                // after a failed write the old records are still aside; the snapshot covers them too
+                if (!journal.hasInterruptedCompaction()) {
+                    journal.rotate();
+                }
+            } catch (IOException e) {
+                System.err.println("Error rotating question journal: " + e.getMessage());
+                return;
+            }
+            snapshot = questions;
+        }
+
+        try {
+            writeQuestionsCsv(QUESTIONS_CSV_PATH, snapshot);
+            journal.finishCompaction();
+            System.out.println("Saved " + snapshot.size() + " questions to CSV at "
+                    + QUESTIONS_CSV_PATH.toAbsolutePath());
+        } catch (IOException e) {
+            // the moved-aside journal is still replayed on the next start
+            System.err.println("Error writing questions CSV: " + e.getMessage());
+            e.printStackTrace();
+        }
+    }
+
+    /** Writes the bank to a temporary file and moves it over the CSV, so the CSV is never half-written. */
+    static void writeQuestionsCsv(Path csv, QuestionBank bank) throws IOException {
+        Path tmp = csv.resolveSibling(csv.getFileName() + ".tmp");
+
+        try (FileChannel channel = FileChannel.open(tmp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+             BufferedWriter w = new BufferedWriter(new OutputStreamWriter(
+                     Channels.newOutputStream(channel), StandardCharsets.UTF_8))) {
 
             // Header
-            w.write("question,difficulty,answer1,answer2,answer3,answer4,correct_answer,author");
+            w.write("question,difficulty,answer1,answer2,answer3,answer4,correct_answer,author,id");
             w.newLine();
 
-            for (Question q : questions.values()) {
+            for (Question q : bank.all()) {
                 List<String> a = q.getAnswers();
                 String answer1 = a.get(0);
                 String answer2 = a.get(1);
@@ -360,22 +541,25 @@ public class SysData {
                         escapeCsvField(answer3),
                         escapeCsvField(answer4),
                         escapeCsvField(correct),
-                        escapeCsvField(author)
+                        escapeCsvField(author),
+                        escapeCsvField(q.getId())
                 );
                 w.write(line);
                 w.newLine();
             }
 
-            System.out.println("Saved " + questions.size() + " questions to CSV at "
-                    + QUESTIONS_CSV_PATH.toAbsolutePath());
+            w.flush();
+            channel.force(true);
+        }
 
-        } catch (IOException e) {
-            System.err.println("Error writing questions CSV: " + e.getMessage());
-            e.printStackTrace();
+        try {
+            Files.move(tmp, csv, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(tmp, csv, StandardCopyOption.REPLACE_EXISTING);
         }
     }
 
-    private String escapeCsvField(String s) {
+    static String escapeCsvField(String s) {
         if (s == null) return "";
         boolean needQuotes = s.contains(",") || s.contains("\"") || s.contains("\n") || s.contains("\r");
         String escaped = s.replace("\"", "\"\"");
@@ -385,106 +569,102 @@ public class SysData {
     // ------------------ QUESTION CRUD ------------------ //
 
     public void upsertQuestion(Question q) {
-        questions.put(q.getId(), q);
+        publish(bank -> bank.with(q), () -> searchIndex.upsert(q));
     }
 
     public boolean deleteQuestionById(String id) {
-        return questions.remove(id) != null;
+        boolean[] removed = new boolean[1];
+        publish(bank -> {
+            QuestionBank next = bank.without(id);
+            removed[0] = next != bank;
+            return next;
+        }, () -> searchIndex.remove(id));
+        return removed[0];
     }
 
     public Optional<Question> findQuestionById(String id) {
-        return Optional.ofNullable(questions.get(id));
+        return questions.find(id);
     }
 
     public List<Question> findAllQuestions() {
-        return List.copyOf(questions.values());
+        return questions.all();
     }
 
     public List<Question> findQuestionsByDifficulty(QuestionDifficulty d) {
-        return questions.values().stream()
-                .filter(q -> q.getDifficulty() == d)
-                .collect(Collectors.toList());
+        return questions.byDifficulty(d);
     }
 
-    public boolean questionIdExists(String id) {
-        return questions.containsKey(id);
-    }
-
-    // ------------------ QUESTION SELECTION ------------------ //
-
-    private QuestionDifficulty pickDifficultyWeighted() {
-        int total = weights.values().stream().mapToInt(Integer::intValue).sum();
-        if (total <= 0) return QuestionDifficulty.EASY;
-
-        int r = ThreadLocalRandom.current().nextInt(total);
-        int acc = 0;
-
-        for (var e : weights.entrySet()) {
-            acc += e.getValue();
-            if (r < acc) return e.getKey();
-        }
-        return QuestionDifficulty.EASY;
+    /**
+     * Questions with words starting with every word of the query, see
+     * {@link QuestionSearchIndex#search}. Never rebuilds the index.
+     */
+    public QuestionSearchIndex.Result searchQuestions(String query, QuestionDifficulty difficulty, int limit) {
+        return searchIndex.search(query, difficulty, limit);
     }
 
-    public Optional<Question> nextQuestion() {
-
-        // If there are NO questions at all → really no questions
-        if (questions.isEmpty()) {
-            return Optional.empty();
-        }
-
-        QuestionDifficulty target = pickDifficultyWeighted();
-
-        List<Question> candidates = findQuestionsByDifficulty(target).stream()
-                .filter(q -> !usedThisMatch.contains(q.getId()))
-                .collect(Collectors.toList());
-
-        if (candidates.isEmpty()) {
-            candidates = findAllQuestions().stream()
-                    .filter(q -> !usedThisMatch.contains(q.getId()))
-                    .collect(Collectors.toList());
-        }
-
-        // ⭐ NEW: if all questions were used → reset and reuse
-        if (candidates.isEmpty()) {
-            usedThisMatch.clear();
-            candidates = findAllQuestions();
-        }
-
-        Question q = candidates.get(
-                ThreadLocalRandom.current().nextInt(candidates.size())
-        );
-
-        usedThisMatch.add(q.getId());
-        return Optional.of(q);
+    public boolean questionIdExists(String id) {
+        return questions.contains(id);
     }
 
-
     public String generateNewQuestionId() {
-        int i = questions.size() + 1;
+        QuestionBank bank = questions;
+        int i = bank.size() + 1;
         String id;
         do {
             id = "Q" + String.format("%03d", i++);
-        } while (questionIdExists(id));
+        } while (bank.contains(id));
         return id;
     }
 
     /**
-     * Save or update a question in memory and persist all questions to CSV.
+     * Save or update a question in memory and append it to the journal.
+     * The edit is on disk when this returns; the CSV catches up in the background.
      */
     public void saveQuestion(Question q) {
-        upsertQuestion(q);
-        saveQuestionsToCsv();
+        QuestionBank published;
+        synchronized (this) {
+            published = questions.with(q);
+            if (!appendToJournal(() -> journal.appendUpsert(q))) {
+                return;
+            }
+            questions = published;
+            searchIndex.upsert(q);
+        }
+        notifyQuestionListeners(published);
+        compactIfNeeded();
     }
 
     /**
-     * Delete a question by ID and persist changes to CSV.
+     * Delete a question by ID and append the delete to the journal.
      */
     public boolean deleteQuestion(Question q) {
-        boolean removed = deleteQuestionById(q.getId());
-        if (removed) {
-            saveQuestionsToCsv();
+        QuestionBank published;
+        synchronized (this) {
+            published = questions.without(q.getId());
+            if (published == questions || !appendToJournal(() -> journal.appendDelete(q.getId()))) {
+                return false;
+            }
+            questions = published;
+            searchIndex.remove(q.getId());
+        }
+        notifyQuestionListeners(published);
+        compactIfNeeded();
+        return true;
+    }
+
+    private interface JournalWrite {
+        void run() throws IOException;
+    }
+
+    // An edit that could not be journaled is not applied either
+    private boolean appendToJournal(JournalWrite write) {
+        try {
+            write.run();
+            return true;
+        } catch (IOException e) {
+            System.err.println("Error writing question journal: " + e.getMessage());
+            e.printStackTrace();
+            return false;
         }
-        return removed;
     }
 }
\ No newline at end of file
@@ -0,0 +1,36 @@
+package simulation;
+
+import java.util.random.RandomGenerator;
+
+import model.QuestionDifficulty;
+
+/** Chance that a simulated player answers a question of each difficulty correctly. */
+public record Accuracy(double easy, double medium, double hard, double expert) {
+
+    /** A guess at an average player; re-fit it from the game history when there is enough. */
+    public static final Accuracy TYPICAL = new Accuracy(0.85, 0.65, 0.45, 0.25);
+
+    /** Picking one of the four answers blindly. */
+    public static final Accuracy GUESSING = new Accuracy(0.25, 0.25, 0.25, 0.25);
+
+    public Accuracy {
+        for (double p : new double[] { easy, medium, hard, expert }) {
+            if (p < 0 || p > 1) {
+                throw new IllegalArgumentException("accuracy must be in [0, 1], got " + p);
+            }
+        }
+    }
+
+    public double of(QuestionDifficulty difficulty) {
+        return switch (difficulty) {
+            case EASY -> easy;
+            case MEDIUM -> medium;
+            case HARD -> hard;
+            case EXPERT -> expert;
+        };
+    }
+
+    boolean answers(QuestionDifficulty difficulty, RandomGenerator rng) {
+        return rng.nextDouble() < of(difficulty);
+    }
+}
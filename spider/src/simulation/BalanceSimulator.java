@@ -0,0 +1,70 @@
+package simulation;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+
+import model.Difficulty;
+import model.QuestionDifficulty;
+import model.RandomStreams;
+
+/**
+ * Command line entry for balance runs:
+ * {@code java simulation.BalanceSimulator [games] [seed] [threads] [sweep]}.
+ * Without "sweep" every difficulty is played with the shipped settings by both
+ * bots; with it, lives and activation cost are varied around those settings.
+ */
+public final class BalanceSimulator {
+
+    private BalanceSimulator() {
+    }
+
+    public static void main(String[] args) {
+        int games = args.length > 0 ? Integer.parseInt(args[0]) : 10_000;
+        long seed = args.length > 1 ? Long.parseLong(args[1]) : 1L;
+        int threads = args.length > 2 ? Integer.parseInt(args[2]) : Runtime.getRuntime().availableProcessors();
+        boolean sweep = args.length > 3 && args[3].equals("sweep");
+
+        List<Scenario> scenarios = new ArrayList<>();
+        for (Difficulty d : Difficulty.values()) {
+            scenarios.add(Scenario.of(d, new RandomBot()));
+            scenarios.add(Scenario.of(d, new CautiousBot()));
+        }
+        if (sweep) {
+            scenarios = Scenario.grid(scenarios, Scenario.Parameter.LIVES, 4, 6, 8, 10);
+            scenarios = Scenario.grid(scenarios, Scenario.Parameter.ACTIVATION_COST, 3, 5, 8, 12);
+        }
+
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        try {
+            SimulationRunner runner = new SimulationRunner(pool, SimulationRunner.DEFAULT_CHUNK);
+            RandomStreams root = new RandomStreams(seed);
+
+            long start = System.nanoTime();
+            Map<Scenario, SimulationStats> results = runner.sweep(scenarios, root, games);
+            double seconds = (System.nanoTime() - start) / 1e9;
+
+            for (Map.Entry<Scenario, SimulationStats> e : results.entrySet()) {
+                print(e.getKey(), e.getValue());
+            }
+
+            long total = (long) games * scenarios.size();
+            System.out.printf("%d games in %.1f s on %d threads (%.0f games/hour)%n",
+                    total, seconds, threads, total / seconds * 3600);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private static void print(Scenario scenario, SimulationStats stats) {
+        System.out.println(scenario.name() + ": " + stats);
+        for (QuestionDifficulty q : QuestionDifficulty.values()) {
+            if (stats.getQuestions(q) > 0) {
+                System.out.printf("    %-6s questions n=%d correct=%.2f EV=%.2f points %.2f lives%n", q,
+                        stats.getQuestions(q), stats.questionAccuracy(q), stats.questionEv(q),
+                        stats.questionLivesEv(q));
+            }
+        }
+    }
+}
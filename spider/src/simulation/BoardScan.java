@@ -0,0 +1,52 @@
+package simulation;
+
+import java.util.random.RandomGenerator;
+
+import model.Board;
+import model.CellState;
+import model.SpecialBoxType;
+
+/** What a player can see on a board, read without knowing where the hidden mines are. */
+final class BoardScan {
+
+    private BoardScan() {
+    }
+
+    static boolean isOpenBox(Board board, int i) {
+        return board.getState(i) == CellState.REVEALED && !board.isMine(i)
+                && board.getSpecialBox(i) != SpecialBoxType.NONE;
+    }
+
+    /** A random revealed box that can still be activated, or -1. */
+    static int randomOpenBox(Board board, RandomGenerator rng) {
+        int found = 0, pick = -1;
+        for (int i = 0; i < board.getCellCount(); i++) {
+            // reservoir sampling keeps this to one pass
+            if (isOpenBox(board, i) && rng.nextInt(++found) == 0) {
+                pick = i;
+            }
+        }
+        return pick;
+    }
+
+    /** A random hidden cell, or -1. */
+    static int randomHidden(Board board, RandomGenerator rng) {
+        int hidden = 0;
+        for (int i = 0; i < board.getCellCount(); i++) {
+            if (board.getState(i) == CellState.HIDDEN) {
+                hidden++;
+            }
+        }
+        if (hidden == 0) {
+            return -1;
+        }
+
+        int k = rng.nextInt(hidden);
+        for (int i = 0; i < board.getCellCount(); i++) {
+            if (board.getState(i) == CellState.HIDDEN && k-- == 0) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
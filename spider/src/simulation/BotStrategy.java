@@ -0,0 +1,30 @@
+package simulation;
+
+import java.util.random.RandomGenerator;
+
+import engine.GameEngine;
+import model.QuestionDifficulty;
+import model.SpecialBoxType;
+
+/**
+ * How a simulated player plays. One instance is shared by every game and every
+ * worker thread, so implementations keep no state of their own and take all
+ * randomness from the generator they are given.
+ */
+public interface BotStrategy {
+
+    /**
+     * The next move on the active board. Clicking a revealed special box activates it;
+     * the bot has already decided to pay for it when it returns that cell.
+     * The engine is only read, never driven, by the strategy.
+     */
+    Move nextMove(GameEngine game, RandomGenerator rng);
+
+    /** What a dice the bot activated turns into: HEART, QUESTION or SURPRISE. */
+    SpecialBoxType chooseDiceBox(GameEngine game, RandomGenerator rng);
+
+    /** Whether the bot gets a question of this difficulty right. */
+    boolean answersCorrectly(QuestionDifficulty difficulty, RandomGenerator rng);
+
+    String name();
+}
@@ -0,0 +1,161 @@
+package simulation;
+
+import java.util.random.RandomGenerator;
+
+import engine.GameEngine;
+import model.Board;
+import model.CellState;
+import model.QuestionDifficulty;
+import model.SpecialBoxType;
+
+/**
+ * Plays from the numbers it can see: flags cells that must be mines, opens the
+ * hidden cell least likely to be one, and only pays for a box it can afford.
+ * Hearts are taken when a life is missing; questions and surprises once the
+ * score covers two activations.
+ */
+public final class CautiousBot implements BotStrategy {
+
+    private final Accuracy accuracy;
+
+    public CautiousBot(Accuracy accuracy) {
+        this.accuracy = accuracy;
+    }
+
+    public CautiousBot() {
+        this(Accuracy.TYPICAL);
+    }
+
+    @Override
+    public Move nextMove(GameEngine game, RandomGenerator rng) {
+        Board board = game.getBoard(game.getActiveSide());
+
+        int box = affordableBox(game, board);
+        if (box >= 0) {
+            return Move.click(box);
+        }
+
+        int n = board.getCellCount();
+        double[] risk = new double[n];   // highest mine chance any visible number gives the cell
+        boolean[] safe = new boolean[n]; // some number around it is already satisfied
+        boolean[] constrained = new boolean[n];
+        int[] neighbours = new int[8];
+
+        for (int i = 0; i < n; i++) {
+            if (!showsNumber(board, i)) {
+                continue;
+            }
+            int count = neighbours(board, i, neighbours);
+            int hidden = 0, knownMines = 0;
+            for (int k = 0; k < count; k++) {
+                int j = neighbours[k];
+                if (board.getState(j) == CellState.HIDDEN) {
+                    hidden++;
+                } else if (board.isMine(j) && board.getState(j) == CellState.REVEALED) {
+                    knownMines++;
+                }
+            }
+            if (hidden == 0) {
+                continue;
+            }
+
+            double p = (double) (board.getSurroundingMines(i) - knownMines) / hidden;
+            for (int k = 0; k < count; k++) {
+                int j = neighbours[k];
+                if (board.getState(j) != CellState.HIDDEN) {
+                    continue;
+                }
+                if (p >= 1.0) {
+                    return Move.flag(j);
+                }
+                constrained[j] = true;
+                safe[j] |= p <= 0.0;
+                risk[j] = Math.max(risk[j], p);
+            }
+        }
+
+        int hiddenCells = 0;
+        for (int i = 0; i < n; i++) {
+            if (board.getState(i) == CellState.HIDDEN) {
+                hiddenCells++;
+            }
+        }
+        if (hiddenCells == 0) {
+            return Move.NONE;
+        }
+        // the mines-left counter is on screen, so the bot may use it
+        double density = (double) board.getRemainingMines() / hiddenCells;
+
+        // lowest risk wins, ties broken uniformly
+        double bestRisk = Double.MAX_VALUE;
+        int best = -1, ties = 0;
+        for (int i = 0; i < n; i++) {
+            if (board.getState(i) != CellState.HIDDEN) {
+                continue;
+            }
+            double r = safe[i] ? 0.0 : constrained[i] ? risk[i] : density;
+            if (r < bestRisk) {
+                bestRisk = r;
+                best = i;
+                ties = 1;
+            } else if (r == bestRisk && rng.nextInt(++ties) == 0) {
+                best = i;
+            }
+        }
+        return Move.click(best);
+    }
+
+    // A revealed box worth paying for right now, or -1
+    private static int affordableBox(GameEngine game, Board board) {
+        int cost = game.getActivationCost();
+        int score = game.getSharedScore();
+        boolean missingLife = game.getSharedLives() < game.getRules().maxLives();
+
+        for (int i = 0; i < board.getCellCount(); i++) {
+            if (!BoardScan.isOpenBox(board, i)) {
+                continue;
+            }
+            boolean wanted = switch (board.getSpecialBox(i)) {
+                case HEART -> missingLife && score >= cost;
+                case QUESTION, SURPRISE, DICE -> score >= 2 * cost;
+                default -> false;
+            };
+            if (wanted) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static boolean showsNumber(Board board, int i) {
+        return board.getState(i) == CellState.REVEALED && !board.isMine(i)
+                && board.getSpecialBox(i) == SpecialBoxType.NONE;
+    }
+
+    private static int neighbours(Board board, int i, int[] out) {
+        int x = board.xOf(i), y = board.yOf(i), count = 0;
+        for (int ny = Math.max(0, y - 1); ny <= Math.min(board.getRows() - 1, y + 1); ny++) {
+            for (int nx = Math.max(0, x - 1); nx <= Math.min(board.getCols() - 1, x + 1); nx++) {
+                if (nx != x || ny != y) {
+                    out[count++] = board.index(nx, ny);
+                }
+            }
+        }
+        return count;
+    }
+
+    @Override
+    public SpecialBoxType chooseDiceBox(GameEngine game, RandomGenerator rng) {
+        return game.getSharedLives() < game.getRules().maxLives() ? SpecialBoxType.HEART : SpecialBoxType.QUESTION;
+    }
+
+    @Override
+    public boolean answersCorrectly(QuestionDifficulty difficulty, RandomGenerator rng) {
+        return accuracy.answers(difficulty, rng);
+    }
+
+    @Override
+    public String name() {
+        return "cautious";
+    }
+}
@@ -0,0 +1,109 @@
+package simulation;
+
+import java.util.random.RandomGenerator;
+
+import engine.BoardSide;
+import engine.GameEngine;
+import engine.GameEventListener;
+import engine.PlayerDecisions;
+import engine.QuestionOutcome;
+import engine.SurpriseOutcome;
+import model.Question;
+import model.RandomStreams;
+import model.SpecialBoxType;
+
+/**
+ * Plays whole matches of one scenario on the calling thread, feeding the bots'
+ * moves to a GameEngine and recording what happened. One per worker.
+ */
+final class MatchPlayer implements PlayerDecisions, GameEventListener {
+
+    private final Scenario scenario;
+    private final int maxMoves;
+    private final SimulationStats stats;
+
+    private GameEngine game;
+    private RandomGenerator botRng;
+    private boolean won;
+
+    MatchPlayer(Scenario scenario, int maxMoves, SimulationStats stats) {
+        this.scenario = scenario;
+        this.maxMoves = maxMoves;
+        this.stats = stats;
+    }
+
+    /** Plays one match with boards and rolls from the given streams. */
+    void play(RandomStreams streams) {
+        // the bots draw from their own split so a strategy change leaves boards and rolls alone
+        botRng = streams.split(1).effects();
+        won = false;
+        game = new GameEngine(scenario.rules(), scenario.boardFactory(streams), scenario.questions(), this);
+        game.addListener(this);
+
+        int moves = 0;
+        while (!game.isGameOver() && moves < maxMoves) {
+            BoardSide side = game.getActiveSide();
+            Move move = bot(side).nextMove(game, botRng);
+            if (move.isNone()) {
+                break;
+            }
+
+            int x = game.getBoard(side).xOf(move.index());
+            int y = game.getBoard(side).yOf(move.index());
+            if (move.flag()) {
+                game.setFlagMode(true);
+                game.click(side, x, y);
+                game.setFlagMode(false);
+            } else {
+                game.click(side, x, y);
+            }
+            moves++;
+        }
+
+        boolean stalemate = !game.isGameOver();
+        if (won) {
+            game.convertRemainingLivesToPoints();
+        }
+        stats.recordGame(won, stalemate, game.getSharedScore(), moves);
+    }
+
+    private BotStrategy bot(BoardSide side) {
+        return side == BoardSide.A ? scenario.playerA() : scenario.playerB();
+    }
+
+    // ------------------ PLAYER DECISIONS ------------------ //
+
+    @Override
+    public boolean confirmActivation(SpecialBoxType box, int activationCost) {
+        return true; // the bot chose to pay when it clicked the box
+    }
+
+    @Override
+    public SpecialBoxType chooseDiceBox() {
+        return bot(game.getActiveSide()).chooseDiceBox(game, botRng);
+    }
+
+    @Override
+    public int answerQuestion(Question question) {
+        int correct = question.getCorrectIndex();
+        boolean right = bot(game.getActiveSide()).answersCorrectly(question.getDifficulty(), botRng);
+        return right ? correct : (correct + 1) % question.getAnswers().size();
+    }
+
+    // ------------------ ENGINE EVENTS ------------------ //
+
+    @Override
+    public void surpriseActivated(SurpriseOutcome outcome) {
+        stats.recordSurprise(outcome);
+    }
+
+    @Override
+    public void questionResolved(QuestionOutcome outcome) {
+        stats.recordQuestion(outcome);
+    }
+
+    @Override
+    public void gameEnded(boolean won) {
+        this.won = won;
+    }
+}
@@ -0,0 +1,20 @@
+package simulation;
+
+/** One action of a bot: open (or activate) a cell, or flag it. */
+public record Move(int index, boolean flag) {
+
+    /** The bot has nothing left to do; the match is counted as a stalemate. */
+    public static final Move NONE = new Move(-1, false);
+
+    public static Move click(int index) {
+        return new Move(index, false);
+    }
+
+    public static Move flag(int index) {
+        return new Move(index, true);
+    }
+
+    public boolean isNone() {
+        return index < 0;
+    }
+}
@@ -0,0 +1,62 @@
+package simulation;
+
+import java.util.random.RandomGenerator;
+
+import engine.GameEngine;
+import model.QuestionDifficulty;
+import model.SpecialBoxType;
+
+/**
+ * Opens random hidden cells and activates a revealed box with a fixed probability.
+ * Never flags, so it mostly measures how forgiving the lives and point tables are.
+ */
+public final class RandomBot implements BotStrategy {
+
+    private static final SpecialBoxType[] DICE = {
+            SpecialBoxType.HEART, SpecialBoxType.QUESTION, SpecialBoxType.SURPRISE };
+
+    private final double activateChance;
+    private final Accuracy accuracy;
+
+    public RandomBot(double activateChance, Accuracy accuracy) {
+        if (activateChance < 0 || activateChance > 1) {
+            throw new IllegalArgumentException("activate chance must be in [0, 1], got " + activateChance);
+        }
+        this.activateChance = activateChance;
+        this.accuracy = accuracy;
+    }
+
+    public RandomBot() {
+        this(0.5, Accuracy.TYPICAL);
+    }
+
+    @Override
+    public Move nextMove(GameEngine game, RandomGenerator rng) {
+        var board = game.getBoard(game.getActiveSide());
+
+        if (rng.nextDouble() < activateChance) {
+            int box = BoardScan.randomOpenBox(board, rng);
+            if (box >= 0) {
+                return Move.click(box);
+            }
+        }
+
+        int cell = BoardScan.randomHidden(board, rng);
+        return cell < 0 ? Move.NONE : Move.click(cell);
+    }
+
+    @Override
+    public SpecialBoxType chooseDiceBox(GameEngine game, RandomGenerator rng) {
+        return DICE[rng.nextInt(DICE.length)];
+    }
+
+    @Override
+    public boolean answersCorrectly(QuestionDifficulty difficulty, RandomGenerator rng) {
+        return accuracy.answers(difficulty, rng);
+    }
+
+    @Override
+    public String name() {
+        return "random";
+    }
+}
@@ -0,0 +1,100 @@
+package simulation;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import engine.GameRules;
+import engine.QuestionSource;
+import model.BoardFactory;
+import model.CustomBoardFactory;
+import model.Difficulty;
+import model.RandomStreams;
+
+/**
+ * One configuration to simulate: scoring rules, board layout, the two bots and
+ * where questions come from. The with* methods and {@link #grid} build the
+ * parameter sweeps.
+ */
+public record Scenario(String name, GameRules rules, int rows, int cols, int mines,
+                       int surpriseBoxes, int questionBoxes, int heartBoxes, int diceBoxes,
+                       BotStrategy playerA, BotStrategy playerB, QuestionSource questions) {
+
+    /** A value a sweep can vary. */
+    public enum Parameter {
+        MINES, LIVES, ACTIVATION_COST, SURPRISE_POINTS, SURPRISE_BOXES, QUESTION_BOXES, HEART_BOXES, DICE_BOXES;
+
+        String label() {
+            return name().toLowerCase().replace('_', '-');
+        }
+    }
+
+    public Scenario {
+        if (mines + surpriseBoxes + questionBoxes + heartBoxes + diceBoxes > rows * cols) {
+            throw new IllegalArgumentException("more mines and boxes than cells in " + name);
+        }
+    }
+
+    /** The shipped settings of a difficulty, played by the same bot on both boards. */
+    public static Scenario of(Difficulty d, BotStrategy bot) {
+        return new Scenario(d + "/" + bot.name(), GameRules.of(d), d.getRows(), d.getCols(), d.getMines(),
+                d.getSurpriseBoxes(), d.getQuestionBoxes(), d.getHeartBoxes(), d.getDiceBoxes(),
+                bot, bot, SyntheticQuestions.DEFAULT);
+    }
+
+    public BoardFactory boardFactory(RandomStreams streams) {
+        return new CustomBoardFactory(streams, rules.difficulty(), rows, cols, mines,
+                surpriseBoxes, questionBoxes, heartBoxes, diceBoxes);
+    }
+
+    public int get(Parameter parameter) {
+        return switch (parameter) {
+            case MINES -> mines;
+            case LIVES -> rules.lives();
+            case ACTIVATION_COST -> rules.activationCost();
+            case SURPRISE_POINTS -> rules.surprisePoints();
+            case SURPRISE_BOXES -> surpriseBoxes;
+            case QUESTION_BOXES -> questionBoxes;
+            case HEART_BOXES -> heartBoxes;
+            case DICE_BOXES -> diceBoxes;
+        };
+    }
+
+    /** A copy with one parameter changed; the name records the change. */
+    public Scenario with(Parameter parameter, int value) {
+        GameRules r = rules;
+        int m = mines, s = surpriseBoxes, q = questionBoxes, h = heartBoxes, dice = diceBoxes;
+        switch (parameter) {
+            case MINES -> m = value;
+            case LIVES -> r = r.withLives(value);
+            case ACTIVATION_COST -> r = r.withActivationCost(value);
+            case SURPRISE_POINTS -> r = r.withSurprisePoints(value);
+            case SURPRISE_BOXES -> s = value;
+            case QUESTION_BOXES -> q = value;
+            case HEART_BOXES -> h = value;
+            case DICE_BOXES -> dice = value;
+        }
+        return new Scenario(name + " " + parameter.label() + "=" + value, r, rows, cols, m, s, q, h, dice,
+                playerA, playerB, questions);
+    }
+
+    public Scenario withBots(BotStrategy a, BotStrategy b) {
+        return new Scenario(name, rules, rows, cols, mines, surpriseBoxes, questionBoxes, heartBoxes, diceBoxes,
+                a, b, questions);
+    }
+
+    public Scenario withQuestions(QuestionSource source) {
+        return new Scenario(name, rules, rows, cols, mines, surpriseBoxes, questionBoxes, heartBoxes, diceBoxes,
+                playerA, playerB, source);
+    }
+
+    /** Every scenario crossed with every value of the parameter. */
+    public static List<Scenario> grid(List<Scenario> scenarios, Parameter parameter, int... values) {
+        List<Scenario> out = new ArrayList<>(scenarios.size() * values.length);
+        for (Scenario s : scenarios) {
+            for (int v : values) {
+                out.add(s.with(parameter, v));
+            }
+        }
+        return out;
+    }
+}
@@ -0,0 +1,90 @@
+package simulation;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+import model.RandomStreams;
+
+/**
+ * Plays many matches of a scenario on a fork-join pool. Game g always uses
+ * {@code root.split(g)}, so the totals depend only on the seed and the number of
+ * games, never on how the work was split between threads.
+ */
+public final class SimulationRunner {
+
+    /** Games one leaf task plays before the work is not split any further. */
+    public static final int DEFAULT_CHUNK = 256;
+
+    private final ForkJoinPool pool;
+    private final int chunk;
+
+    public SimulationRunner(ForkJoinPool pool, int chunk) {
+        if (chunk <= 0) {
+            throw new IllegalArgumentException("chunk must be positive, got " + chunk);
+        }
+        this.pool = pool;
+        this.chunk = chunk;
+    }
+
+    public SimulationRunner() {
+        this(ForkJoinPool.commonPool(), DEFAULT_CHUNK);
+    }
+
+    /** Matches that run longer than this many moves count as stalemates. */
+    static int moveLimit(Scenario scenario) {
+        return 4 * scenario.rows() * scenario.cols();
+    }
+
+    public SimulationStats run(Scenario scenario, RandomStreams root, int games) {
+        if (games < 0) {
+            throw new IllegalArgumentException("games must not be negative, got " + games);
+        }
+        return pool.invoke(new Batch(scenario, root, 0, games));
+    }
+
+    /** Runs every scenario with the same seed, so they are compared on the same boards where layouts match. */
+    public Map<Scenario, SimulationStats> sweep(List<Scenario> scenarios, RandomStreams root, int games) {
+        Map<Scenario, SimulationStats> results = new LinkedHashMap<>();
+        for (Scenario s : scenarios) {
+            results.put(s, run(s, root, games));
+        }
+        return results;
+    }
+
+    private final class Batch extends RecursiveTask<SimulationStats> {
+        private static final long serialVersionUID = 1L;
+
+        private final Scenario scenario;
+        private final RandomStreams root;
+        private final int from;
+        private final int to;
+
+        Batch(Scenario scenario, RandomStreams root, int from, int to) {
+            this.scenario = scenario;
+            this.root = root;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected SimulationStats compute() {
+            if (to - from <= chunk) {
+                SimulationStats stats = new SimulationStats();
+                MatchPlayer player = new MatchPlayer(scenario, moveLimit(scenario), stats);
+                for (int g = from; g < to; g++) {
+                    player.play(root.split(g));
+                }
+                return stats;
+            }
+
+            int mid = (from + to) >>> 1;
+            Batch right = new Batch(scenario, root, mid, to);
+            right.fork();
+            SimulationStats left = new Batch(scenario, root, from, mid).compute();
+            return left.merge(right.join());
+        }
+    }
+}
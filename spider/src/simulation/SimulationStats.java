@@ -0,0 +1,234 @@
+package simulation;
+
+import engine.QuestionOutcome;
+import engine.SurpriseOutcome;
+import model.QuestionDifficulty;
+
+/**
+ * Totals over many simulated matches. Each worker fills its own instance and
+ * the results are merged, so nothing here is synchronised.
+ */
+public final class SimulationStats {
+
+    // final scores are bucketed by SCORE_BUCKET points, clipped to [MIN_SCORE, MAX_SCORE)
+    static final int SCORE_BUCKET = 5;
+    static final int MIN_SCORE = -500;
+    static final int MAX_SCORE = 1000;
+
+    private long games;
+    private long wins;
+    private long livesExhausted;
+    private long stalemates;
+
+    private long moves;
+    private long scoreSum;
+    private double scoreSquares;
+    private int minScore = Integer.MAX_VALUE;
+    private int maxScore = Integer.MIN_VALUE;
+    private final long[] scoreHistogram = new long[(MAX_SCORE - MIN_SCORE) / SCORE_BUCKET];
+
+    private final int difficulties = QuestionDifficulty.values().length;
+    private final long[] questions = new long[difficulties];
+    private final long[] questionsCorrect = new long[difficulties];
+    private final long[] questionPoints = new long[difficulties];
+    private final long[] questionLives = new long[difficulties];
+
+    private long surprises;
+    private long surprisePoints;
+    private long surpriseLives;
+
+    // ------------------ RECORDING ------------------ //
+
+    void recordQuestion(QuestionOutcome outcome) {
+        int d = outcome.questionDifficulty().ordinal();
+        questions[d]++;
+        if (outcome.correct()) {
+            questionsCorrect[d]++;
+        }
+        questionPoints[d] += outcome.pointsChange();
+        questionLives[d] += outcome.livesChange();
+    }
+
+    void recordSurprise(SurpriseOutcome outcome) {
+        surprises++;
+        surprisePoints += outcome.pointsChange();
+        surpriseLives += outcome.livesChange();
+    }
+
+    /** One finished match: won, lost on lives, or cut off by the move limit. */
+    void recordGame(boolean won, boolean stalemate, int score, int moveCount) {
+        games++;
+        if (won) {
+            wins++;
+        } else if (stalemate) {
+            stalemates++;
+        } else {
+            livesExhausted++;
+        }
+
+        moves += moveCount;
+        scoreSum += score;
+        scoreSquares += (double) score * score;
+        minScore = Math.min(minScore, score);
+        maxScore = Math.max(maxScore, score);
+
+        int clipped = Math.max(MIN_SCORE, Math.min(MAX_SCORE - 1, score));
+        scoreHistogram[Math.floorDiv(clipped - MIN_SCORE, SCORE_BUCKET)]++;
+    }
+
+    /** Adds another worker's totals to this one. */
+    public SimulationStats merge(SimulationStats other) {
+        games += other.games;
+        wins += other.wins;
+        livesExhausted += other.livesExhausted;
+        stalemates += other.stalemates;
+
+        moves += other.moves;
+        scoreSum += other.scoreSum;
+        scoreSquares += other.scoreSquares;
+        minScore = Math.min(minScore, other.minScore);
+        maxScore = Math.max(maxScore, other.maxScore);
+        for (int b = 0; b < scoreHistogram.length; b++) {
+            scoreHistogram[b] += other.scoreHistogram[b];
+        }
+
+        for (int d = 0; d < difficulties; d++) {
+            questions[d] += other.questions[d];
+            questionsCorrect[d] += other.questionsCorrect[d];
+            questionPoints[d] += other.questionPoints[d];
+            questionLives[d] += other.questionLives[d];
+        }
+
+        surprises += other.surprises;
+        surprisePoints += other.surprisePoints;
+        surpriseLives += other.surpriseLives;
+        return this;
+    }
+
+    // ------------------ RESULTS ------------------ //
+
+    public long getGames() {
+        return games;
+    }
+
+    public long getWins() {
+        return wins;
+    }
+
+    public long getLivesExhausted() {
+        return livesExhausted;
+    }
+
+    public long getStalemates() {
+        return stalemates;
+    }
+
+    public double winRate() {
+        return ratio(wins, games);
+    }
+
+    public double livesExhaustedRate() {
+        return ratio(livesExhausted, games);
+    }
+
+    public double meanMoves() {
+        return ratio(moves, games);
+    }
+
+    public double meanScore() {
+        return ratio(scoreSum, games);
+    }
+
+    public double scoreStdDev() {
+        if (games < 2) {
+            return 0;
+        }
+        double mean = meanScore();
+        return Math.sqrt(Math.max(0, (scoreSquares - games * mean * mean) / (games - 1)));
+    }
+
+    public int getMinScore() {
+        return games == 0 ? 0 : minScore;
+    }
+
+    public int getMaxScore() {
+        return games == 0 ? 0 : maxScore;
+    }
+
+    /** Approximate score percentile (0..100) from the histogram, to the nearest bucket. */
+    public int scorePercentile(double percentile) {
+        if (games == 0) {
+            return 0;
+        }
+        long rank = (long) Math.ceil(percentile / 100.0 * games);
+        long seen = 0;
+        for (int b = 0; b < scoreHistogram.length; b++) {
+            seen += scoreHistogram[b];
+            if (seen >= Math.max(rank, 1)) {
+                return MIN_SCORE + b * SCORE_BUCKET;
+            }
+        }
+        return MAX_SCORE;
+    }
+
+    public long getQuestions() {
+        long total = 0;
+        for (long q : questions) {
+            total += q;
+        }
+        return total;
+    }
+
+    public long getQuestions(QuestionDifficulty difficulty) {
+        return questions[difficulty.ordinal()];
+    }
+
+    /** Average points a question box is worth once opened, activation cost included. */
+    public double questionEv() {
+        long points = 0;
+        for (long p : questionPoints) {
+            points += p;
+        }
+        return ratio(points, getQuestions());
+    }
+
+    public double questionEv(QuestionDifficulty difficulty) {
+        int d = difficulty.ordinal();
+        return ratio(questionPoints[d], questions[d]);
+    }
+
+    public double questionLivesEv(QuestionDifficulty difficulty) {
+        int d = difficulty.ordinal();
+        return ratio(questionLives[d], questions[d]);
+    }
+
+    public double questionAccuracy(QuestionDifficulty difficulty) {
+        int d = difficulty.ordinal();
+        return ratio(questionsCorrect[d], questions[d]);
+    }
+
+    public long getSurprises() {
+        return surprises;
+    }
+
+    public double surpriseEv() {
+        return ratio(surprisePoints, surprises);
+    }
+
+    public double surpriseLivesEv() {
+        return ratio(surpriseLives, surprises);
+    }
+
+    private static double ratio(double a, long b) {
+        return b == 0 ? 0 : a / b;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("games=%d win=%.3f livesOut=%.3f stalemate=%d moves=%.1f "
+                        + "score=%.1f (sd %.1f) [p10=%d p50=%d p90=%d] questionEV=%.2f (n=%d) surpriseEV=%.2f (n=%d)",
+                games, winRate(), livesExhaustedRate(), stalemates, meanMoves(),
+                meanScore(), scoreStdDev(), scorePercentile(10), scorePercentile(50), scorePercentile(90),
+                questionEv(), getQuestions(), surpriseEv(), surprises);
+    }
+}
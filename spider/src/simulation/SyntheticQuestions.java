@@ -0,0 +1,35 @@
+package simulation;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.random.RandomGenerator;
+
+import engine.QuestionSource;
+import model.AliasSampler;
+import model.Question;
+import model.QuestionDifficulty;
+
+/**
+ * Questions for simulated matches: only the difficulty matters to the engine, so one
+ * placeholder question per difficulty is drawn with the same weights as SysData.
+ */
+public final class SyntheticQuestions implements QuestionSource {
+
+    /** The weights SysData starts with (50 / 35 / 12 / 3). */
+    public static final SyntheticQuestions DEFAULT = new SyntheticQuestions(50, 35, 12, 3);
+
+    private final Question[] questions = new Question[QuestionDifficulty.values().length];
+    private final AliasSampler difficulties;
+
+    public SyntheticQuestions(int easy, int medium, int hard, int expert) {
+        difficulties = AliasSampler.of(easy, medium, hard, expert);
+        for (QuestionDifficulty d : QuestionDifficulty.values()) {
+            questions[d.ordinal()] = new Question("sim-" + d, d + " question", List.of("a", "b", "c", "d"), 0, d);
+        }
+    }
+
+    @Override
+    public Optional<Question> nextQuestion(RandomGenerator rng) {
+        return Optional.of(questions[difficulties.sample(rng)]);
+    }
+}
@@ -0,0 +1,147 @@
+package view;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import javax.swing.JComponent;
+import javax.swing.SwingUtilities;
+
+/**
+ * The static part of a window's look - its background picture or gradient
+ * and the translucent glass panels laid over it - rendered once into an
+ * opaque image the size of the owner and then copied on every paint. Hovering
+ * a button or scrolling a list repaints from that copy instead of rescaling
+ * the picture and blending the glass again.
+ *
+ * The image is rebuilt when the owner changes size, the screen scale changes
+ * or a glass panel moves, is resized, shown or hidden. Glass panels are drawn
+ * here, so they must not paint their decoration themselves. Call from the
+ * event dispatch thread.
+ */
+final class Backdrop {
+
+    /** Draws into a width x height area starting at (0, 0). */
+    @FunctionalInterface
+    interface Painter {
+        void paint(Graphics2D g, int width, int height);
+    }
+
+    private final JComponent owner;
+    private final Painter base;
+    private final List<JComponent> panes = new ArrayList<>();
+    private final List<Painter> glass = new ArrayList<>();
+
+    private BufferedImage image;
+    private int width;
+    private int height;
+    private double scale;
+    private Rectangle[] placed = new Rectangle[0]; // where each glass panel was drawn, null if hidden
+
+    /** The base must cover the whole area. Makes the owner opaque, since the backdrop fills it. */
+    Backdrop(JComponent owner, Painter base) {
+        this.owner = owner;
+        this.base = base;
+        owner.setOpaque(true);
+    }
+
+    /** A picture stretched over the area, or the fallback when it is null. */
+    static Painter picture(Image picture, Painter fallback) {
+        return (g, w, h) -> {
+            if (picture == null) {
+                fallback.paint(g, w, h);
+                return;
+            }
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            g.drawImage(picture, 0, 0, w, h, null);
+        };
+    }
+
+    /** Adds a panel inside the owner whose glass decoration the backdrop draws; the panel is made transparent. */
+    void addGlass(JComponent pane, Painter decoration) {
+        pane.setOpaque(false);
+        panes.add(pane);
+        glass.add(decoration);
+    }
+
+    /** Copies the backdrop into g, rendering it first if it is missing or out of date. Call from paintComponent. */
+    void paint(Graphics g) {
+        int w = owner.getWidth(), h = owner.getHeight();
+        if (w <= 0 || h <= 0) {
+            return;
+        }
+
+        double s = ImageCache.scaleOf((Graphics2D) g);
+        Rectangle[] places = places();
+        boolean resized = image == null || w != width || h != height || s != scale;
+        if (resized || !Arrays.equals(places, placed)) {
+            render(w, h, s, places);
+            if (!resized) {
+                // only the clip is painted now; the rest of the owner still shows the panels where they were
+                owner.repaint();
+            }
+        }
+
+        g.drawImage(image, 0, 0, w, h, null);
+    }
+
+    private void render(int w, int h, double s, Rectangle[] places) {
+        width = w;
+        height = h;
+        scale = s;
+        placed = places;
+
+        int pw = Math.max(1, (int) Math.ceil(w * s)), ph = Math.max(1, (int) Math.ceil(h * s));
+        if (image == null || image.getWidth() != pw || image.getHeight() != ph) {
+            image = compatible(pw, ph);
+        }
+
+        Graphics2D g = image.createGraphics();
+        g.scale(s, s);
+        Graphics2D b = (Graphics2D) g.create();
+        base.paint(b, w, h);
+        b.dispose();
+
+        for (int i = 0; i < places.length; i++) {
+            Rectangle r = places[i];
+            if (r != null) {
+                Graphics2D p = (Graphics2D) g.create(r.x, r.y, r.width, r.height);
+                glass.get(i).paint(p, r.width, r.height);
+                p.dispose();
+            }
+        }
+        g.dispose();
+    }
+
+    // Bounds of each glass panel in the owner's coordinates, null for one that is not shown
+    private Rectangle[] places() {
+        Rectangle[] places = new Rectangle[panes.size()];
+        for (int i = 0; i < places.length; i++) {
+            JComponent pane = panes.get(i);
+            if (shown(pane)) {
+                places[i] = SwingUtilities.convertRectangle(pane.getParent(), pane.getBounds(), owner);
+            }
+        }
+        return places;
+    }
+
+    private boolean shown(Component c) {
+        for (; c != owner; c = c.getParent()) {
+            if (c == null || !c.isVisible()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static BufferedImage compatible(int width, int height) {
+        if (GraphicsEnvironment.isHeadless()) {
+            return new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        }
+        return GraphicsEnvironment.getLocalGraphicsEnvironment().getDefaultScreenDevice()
+                .getDefaultConfiguration().createCompatibleImage(width, height, Transparency.OPAQUE);
+    }
+}
@@ -0,0 +1,94 @@
+package view;
+
+import java.awt.*;
+import java.awt.event.MouseAdapter;
+import java.awt.event.MouseEvent;
+import java.awt.geom.Rectangle2D;
+
+import javax.swing.JComponent;
+import javax.swing.JViewport;
+
+/**
+ * Small picture of a whole board, drawn from the BoardView's overview image,
+ * with the part the viewport shows outlined. Shown only while the board is
+ * zoomed in; clicking or dragging on it scrolls the board there.
+ */
+final class BoardMinimap extends JComponent {
+    private static final long serialVersionUID = 1L;
+
+    private static final int MAX_SIDE = 140;
+    private static final int INSET = 4;
+    private static final Color FRAME_BG = new Color(8, 22, 30, 200);
+    private static final Color FRAME_BORDER = new Color(255, 255, 255, 90);
+    private static final Color VISIBLE_BORDER = new Color(255, 230, 120);
+
+    private final BoardView board;
+
+    BoardMinimap(BoardView board, JViewport viewport) {
+        this.board = board;
+        board.setMinimap(this);
+        setVisible(false);
+
+        viewport.addChangeListener(e -> {
+            setVisible(!board.isFitting());
+            repaint();
+        });
+
+        MouseAdapter scroll = new MouseAdapter() {
+            @Override
+            public void mousePressed(MouseEvent e) {
+                centerOn(e.getPoint());
+            }
+
+            @Override
+            public void mouseDragged(MouseEvent e) {
+                centerOn(e.getPoint());
+            }
+        };
+        addMouseListener(scroll);
+        addMouseMotionListener(scroll);
+    }
+
+    @Override
+    public Dimension getPreferredSize() {
+        int cols = board.getCols(), rows = board.getRows();
+        double s = (double) MAX_SIDE / Math.max(cols, rows);
+        return new Dimension((int) Math.round(cols * s) + 2 * INSET, (int) Math.round(rows * s) + 2 * INSET);
+    }
+
+    // The board's area inside the frame, in pixels
+    private Rectangle mapBounds() {
+        return new Rectangle(INSET, INSET, getWidth() - 2 * INSET, getHeight() - 2 * INSET);
+    }
+
+    private void centerOn(Point p) {
+        Rectangle map = mapBounds();
+        board.centerOn((p.x - map.x) * (double) board.getCols() / map.width,
+                (p.y - map.y) * (double) board.getRows() / map.height);
+    }
+
+    @Override
+    protected void paintComponent(Graphics g) {
+        Graphics2D g2 = (Graphics2D) g.create();
+        g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        g2.setColor(FRAME_BG);
+        g2.fillRoundRect(0, 0, getWidth(), getHeight(), 8, 8);
+        g2.setColor(FRAME_BORDER);
+        g2.drawRoundRect(0, 0, getWidth() - 1, getHeight() - 1, 8, 8);
+
+        Rectangle map = mapBounds();
+        g2.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+        g2.drawImage(board.getOverview(), map.x, map.y, map.width, map.height, null);
+
+        Rectangle2D visible = board.visibleCells();
+        double sx = (double) map.width / board.getCols(), sy = (double) map.height / board.getRows();
+        int x0 = Math.max(map.x, map.x + (int) Math.floor(visible.getX() * sx));
+        int y0 = Math.max(map.y, map.y + (int) Math.floor(visible.getY() * sy));
+        int x1 = Math.min(map.x + map.width, map.x + (int) Math.ceil(visible.getMaxX() * sx));
+        int y1 = Math.min(map.y + map.height, map.y + (int) Math.ceil(visible.getMaxY() * sy));
+        g2.setColor(VISIBLE_BORDER);
+        g2.setStroke(new BasicStroke(1.5f));
+        g2.drawRect(x0, y0, Math.max(2, x1 - x0 - 1), Math.max(2, y1 - y0 - 1));
+        g2.dispose();
+    }
+}
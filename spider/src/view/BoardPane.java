@@ -0,0 +1,79 @@
+package view;
+
+import java.awt.Dimension;
+import java.awt.Rectangle;
+import java.awt.event.ComponentAdapter;
+import java.awt.event.ComponentEvent;
+
+import javax.swing.BorderFactory;
+import javax.swing.JComponent;
+import javax.swing.JPanel;
+import javax.swing.JScrollPane;
+
+/**
+ * Stacks one board's layers: the scrollable BoardView at the bottom, its
+ * minimap in the lower right corner of the viewport, and the "waiting"
+ * overlay on top while it is the other player's turn.
+ */
+final class BoardPane extends JPanel {
+    private static final long serialVersionUID = 1L;
+
+    private static final int MINIMAP_MARGIN = 8;
+
+    private final JScrollPane scroll;
+    private final BoardMinimap minimap;
+    private final JComponent overlay;
+
+    BoardPane(BoardView board, JComponent overlay) {
+        super(null);
+        setOpaque(false);
+        this.overlay = overlay;
+
+        scroll = new JScrollPane(board);
+        scroll.setBorder(BorderFactory.createEmptyBorder());
+        scroll.getViewport().setBackground(board.getBackground());
+        scroll.getVerticalScrollBar().setUnitIncrement(16);
+        scroll.getHorizontalScrollBar().setUnitIncrement(16);
+
+        minimap = new BoardMinimap(board, scroll.getViewport());
+
+        // the first child is painted last, i.e. on top
+        add(overlay);
+        add(minimap);
+        add(scroll);
+
+        // scroll bars coming and going move the viewport's corner
+        scroll.getViewport().addComponentListener(new ComponentAdapter() {
+            @Override
+            public void componentResized(ComponentEvent e) {
+                placeMinimap();
+            }
+        });
+    }
+
+    // Children overlap, so Swing has to paint them back to front
+    @Override
+    public boolean isOptimizedDrawingEnabled() {
+        return false;
+    }
+
+    @Override
+    public void doLayout() {
+        overlay.setBounds(0, 0, getWidth(), getHeight());
+        scroll.setBounds(0, 0, getWidth(), getHeight());
+        scroll.validate();
+        placeMinimap();
+    }
+
+    private void placeMinimap() {
+        Rectangle viewport = scroll.getViewport().getBounds();
+        Dimension size = minimap.getPreferredSize();
+        minimap.setBounds(viewport.x + viewport.width - size.width - MINIMAP_MARGIN,
+                viewport.y + viewport.height - size.height - MINIMAP_MARGIN, size.width, size.height);
+    }
+
+    @Override
+    public Dimension getPreferredSize() {
+        return scroll.getPreferredSize();
+    }
+}
@@ -0,0 +1,744 @@
+package view;
+
+import java.awt.*;
+import java.awt.event.InputEvent;
+import java.awt.event.MouseAdapter;
+import java.awt.event.MouseEvent;
+import java.awt.event.MouseWheelEvent;
+import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import javax.swing.JComponent;
+import javax.swing.JScrollPane;
+import javax.swing.JViewport;
+import javax.swing.Scrollable;
+import javax.swing.SwingConstants;
+import javax.swing.SwingUtilities;
+
+import engine.BoardSide;
+import model.SpecialBoxType;
+
+/**
+ * One player's board as a single component. Each cell's look is packed into an
+ * int (what it shows, a number or dice face, and its border), cells are drawn
+ * from sprites cached per look and cell size (glyph pictures come from the
+ * ImageCache atlas, at the screen's scale factor), and changing cells repaints
+ * only the rectangle around them, once per batch of ViewUpdates. Clicks are
+ * mapped to cells by arithmetic on the grid geometry, so a 100 x 100 board
+ * costs one component instead of 10,000 buttons.
+ *
+ * The view sits in a scroll pane. It starts fitted to the viewport; Ctrl+wheel
+ * zooms around the mouse and dragging with the right or middle button pans.
+ * Painting only touches the cells inside the clip, and small cells drop detail:
+ * below DETAIL_PITCH pixels they are flat colours (numbers become shades of
+ * grey by mine density), and below FLAT_PITCH the board is drawn by scaling an
+ * overview image with one pixel per cell, which the minimap also shows. Either
+ * way the cost follows the viewport, not the board, so 1000 x 1000 boards stay
+ * playable.
+ */
+public final class BoardView extends JComponent implements Scrollable {
+    private static final long serialVersionUID = 1L;
+
+    /** What a cell shows. */
+    enum Look {
+        HIDDEN, NUMBER, SURPRISE, QUESTION, HEART, DICE, FLAG, MINE, MINE_EXPOSED, USED;
+
+        private static final Look[] VALUES = values();
+    }
+
+    /** The cell's border: thin, the look's own strong colour, or a judged flag. */
+    enum Accent {
+        NONE, STRONG, CORRECT, WRONG;
+
+        private static final Accent[] VALUES = values();
+    }
+
+    // cell palette, shared with the legend
+    static final Color REVEALED_BG = new Color(238, 246, 248);
+    static final Color REVEALED_BORDER = new Color(210, 220, 230);
+    static final Color QUESTION_BG = new Color(255, 236, 179);
+    static final Color QUESTION_BORDER = new Color(255, 193, 7); // amber
+    static final Color SURPRISE_BG = new Color(187, 222, 251); // pastel blue
+    static final Color SURPRISE_BORDER = new Color(66, 165, 245);
+    static final Color MINE_BG = new Color(183, 28, 28); // soft deep red
+    static final Color MINE_BORDER = new Color(120, 20, 30);
+    private static final Color MINE_EXPOSED_BG = new Color(220, 53, 69);
+    private static final Color HEART_BG = new Color(255, 210, 220);
+    private static final Color HEART_FG = new Color(180, 0, 60);
+    private static final Color DICE_BG = new Color(230, 230, 230);
+    private static final Color DICE_BORDER = new Color(170, 170, 170);
+    private static final Color USED_BG = new Color(167, 214, 167);
+    private static final Color BOX_FG = new Color(30, 30, 30);
+    private static final Color ZERO_FG = new Color(160, 170, 200, 110);
+    private static final Color FLAG_FG = new Color(229, 57, 53);
+    private static final Color DENSE_BG = new Color(96, 112, 128); // a revealed 8 when zoomed out
+    private static final Color HINT_BORDER = Color.YELLOW;
+
+    private static final Color[] NUMBER_FG = {
+            null,
+            new Color(79, 195, 247),  // blue
+            new Color(102, 187, 106), // green
+            new Color(239, 83, 80),   // red
+            new Color(171, 71, 188),  // purple
+            new Color(255, 202, 40),
+            new Color(38, 198, 218),
+            new Color(144, 164, 174),
+            new Color(176, 190, 197)
+    };
+
+    private static final int PREFERRED_CELL = 46;
+    private static final int MAX_PREFERRED_SIDE = 560; // big boards start with smaller cells
+    private static final int PAD = 8;
+    private static final int GAP = 3;
+    private static final int DETAIL_PITCH = 12; // smaller cells are flat colours
+    private static final int FLAT_PITCH = 4;    // smaller cells come from the scaled overview
+    private static final double MIN_SCALE = 0.05;
+    private static final double MAX_ZOOM = 64;
+    private static final double ZOOM_STEP = 1.25;
+    private static final int HINT_MILLIS = 5000;
+
+    private final BoardSide side;
+    private final int cols;
+    private final int rows;
+    private final Color hiddenBg;
+    private final Color hiddenBorder;
+    private final Dimension fitPreferred;
+
+    // cells[y * cols + x] = look | value << 8 | accent << 16, the same index the model's Board uses
+    private final int[] cells;
+
+    // one pixel per cell in the cell's overview colour, written straight into the raster
+    private final BufferedImage overview;
+    private final int[] overviewPixels;
+
+    // zoom: fitted to the viewport, or a fixed number of pixels per cell
+    private boolean fitting = true;
+    private double zoom;
+
+    // geometry, recomputed when the size or zoom changes
+    private int layoutWidth = -1, layoutHeight = -1;
+    private double layoutZoom = -1;
+    private double scale;    // pixels per cell, gap included
+    private int pitch, cell; // whole pixels when scale >= FLAT_PITCH, otherwise 0
+    private int originX, originY;
+
+    private final Map<Integer, BufferedImage> sprites = new HashMap<>();
+    private int spriteSize = -1;
+    private double spriteScale = -1;
+
+    private int hinted = -1;
+    private javax.swing.Timer hintTimer;
+
+    private JComponent minimap;
+
+    // cells changed since the last repaint, as a range of columns and rows; dirtyMaxCol < 0 when there are none
+    private ViewUpdates updates;
+    private int dirtyMinCol, dirtyMinRow, dirtyMaxCol = -1, dirtyMaxRow;
+
+    BoardView(BoardSide side, int cols, int rows, Color boardBg, Color hiddenBg, Color hiddenBorder) {
+        this.side = side;
+        this.cols = cols;
+        this.rows = rows;
+        this.hiddenBg = hiddenBg;
+        this.hiddenBorder = hiddenBorder;
+        this.cells = new int[cols * rows];
+
+        overview = new BufferedImage(cols, rows, BufferedImage.TYPE_INT_RGB);
+        overviewPixels = ((DataBufferInt) overview.getRaster().getDataBuffer()).getData();
+        Arrays.fill(overviewPixels, hiddenBg.getRGB());
+
+        setBackground(boardBg);
+        setOpaque(true);
+
+        int preferredCell = Math.max(4, Math.min(PREFERRED_CELL,
+                MAX_PREFERRED_SIDE / Math.max(cols, rows) - GAP));
+        fitPreferred = new Dimension(cols * (preferredCell + GAP) - GAP + 2 * PAD,
+                rows * (preferredCell + GAP) - GAP + 2 * PAD);
+
+        MouseAdapter navigation = new Navigation();
+        addMouseListener(navigation);
+        addMouseMotionListener(navigation);
+        addMouseWheelListener(navigation);
+    }
+
+    public BoardSide getSide() {
+        return side;
+    }
+
+    int getCols() {
+        return cols;
+    }
+
+    int getRows() {
+        return rows;
+    }
+
+    /** The board with one pixel per cell, for the minimap. */
+    Image getOverview() {
+        return overview;
+    }
+
+    void setMinimap(JComponent minimap) {
+        this.minimap = minimap;
+    }
+
+    /** Batches cell repaints through the given updates; without them each change repaints at once. */
+    void setUpdates(ViewUpdates updates) {
+        this.updates = updates;
+    }
+
+    // ------------------ HIT TESTING ------------------ //
+
+    /** The column under the given x, or -1 if it falls on the padding or a gap. */
+    public int columnAt(int px) {
+        updateGeometry();
+        return cellAt(px - originX, cols);
+    }
+
+    /** The row under the given y, or -1 if it falls on the padding or a gap. */
+    public int rowAt(int py) {
+        updateGeometry();
+        return cellAt(py - originY, rows);
+    }
+
+    private int cellAt(int offset, int count) {
+        if (offset < 0) {
+            return -1;
+        }
+        if (pitch == 0) {
+            int k = (int) (offset / scale);
+            return (k < count) ? k : -1;
+        }
+        int k = offset / pitch;
+        return (k < count && offset - k * pitch < cell) ? k : -1;
+    }
+
+    // ------------------ CELL STATE ------------------ //
+
+    /** Shows a cell with the given look, value (a number, or a dice face's box ordinal) and border. */
+    void show(int index, Look look, int value, Accent accent) {
+        int packed = look.ordinal() | (value << 8) | (accent.ordinal() << 16);
+        if (cells[index] != packed) {
+            cells[index] = packed;
+            overviewPixels[index] = overviewColor(look, value);
+            changed(index);
+        }
+    }
+
+    void show(int index, Look look) {
+        show(index, look, 0, Accent.NONE);
+    }
+
+    /** Keeps the cell's look but changes its border. */
+    void accent(int index, Accent accent) {
+        int packed = cells[index];
+        show(index, Look.VALUES[packed & 0xFF], (packed >>> 8) & 0xFF, accent);
+    }
+
+    /** A dice cell now shows the face of the box it turned into. */
+    void showDiceFace(int index, SpecialBoxType box) {
+        show(index, Look.DICE, box.ordinal(), Accent.STRONG);
+    }
+
+    /** Every cell hidden again, hint cleared. */
+    void reset() {
+        Arrays.fill(cells, 0);
+        Arrays.fill(overviewPixels, hiddenBg.getRGB());
+        stopHint();
+        dirtyMaxCol = -1;
+        repaint();
+        if (minimap != null) {
+            minimap.repaint();
+        }
+    }
+
+    /** Circles a cell in yellow for a few seconds. */
+    void hint(int index) {
+        stopHint();
+        hinted = index;
+        repaintHint();
+
+        hintTimer = new javax.swing.Timer(HINT_MILLIS, e -> stopHint());
+        hintTimer.setRepeats(false);
+        hintTimer.start();
+    }
+
+    private void stopHint() {
+        if (hintTimer != null) {
+            hintTimer.stop();
+            hintTimer = null;
+        }
+        if (hinted >= 0) {
+            repaintHint();
+            hinted = -1;
+        }
+    }
+
+    private void changed(int index) {
+        int x = index % cols, y = index / cols;
+        if (updates == null) {
+            repaint(cellBounds(x, y));
+            repaintMinimap();
+            return;
+        }
+
+        if (dirtyMaxCol < 0) {
+            dirtyMinCol = dirtyMaxCol = x;
+            dirtyMinRow = dirtyMaxRow = y;
+            updates.cellsChanged(this);
+        } else {
+            dirtyMinCol = Math.min(dirtyMinCol, x);
+            dirtyMaxCol = Math.max(dirtyMaxCol, x);
+            dirtyMinRow = Math.min(dirtyMinRow, y);
+            dirtyMaxRow = Math.max(dirtyMaxRow, y);
+        }
+    }
+
+    /** Repaints one rectangle around every cell changed since the last call, and the minimap. */
+    void repaintChanged() {
+        if (dirtyMaxCol < 0) {
+            return;
+        }
+        Rectangle r = cellBounds(dirtyMinCol, dirtyMinRow);
+        r.add(cellBounds(dirtyMaxCol, dirtyMaxRow));
+        dirtyMaxCol = -1;
+        repaint(r);
+        repaintMinimap();
+    }
+
+    private void repaintMinimap() {
+        if (minimap != null && minimap.isVisible()) {
+            minimap.repaint();
+        }
+    }
+
+    private Rectangle cellBounds(int x, int y) {
+        updateGeometry();
+        if (pitch > 0) {
+            return new Rectangle(originX + x * pitch, originY + y * pitch, cell, cell);
+        }
+        int x0 = originX + (int) (x * scale), y0 = originY + (int) (y * scale);
+        return new Rectangle(x0, y0, (int) Math.ceil(scale) + 1, (int) Math.ceil(scale) + 1);
+    }
+
+    private void repaintHint() {
+        repaint(hintBounds());
+    }
+
+    // The hint ring, never smaller than a few pixels so it shows when zoomed out
+    private Rectangle hintBounds() {
+        updateGeometry();
+        int x = hinted % cols, y = hinted / cols;
+        int size = Math.max(12, (pitch > 0) ? cell : (int) Math.ceil(scale));
+        int cx = originX + (int) ((x + 0.5) * scale), cy = originY + (int) ((y + 0.5) * scale);
+        return new Rectangle(cx - size / 2 - 1, cy - size / 2 - 1, size + 2, size + 2);
+    }
+
+    // Colour of a cell in the overview and when it is too small for glyphs
+    private int overviewColor(Look look, int value) {
+        return switch (look) {
+            case HIDDEN -> hiddenBg.getRGB();
+            case FLAG -> FLAG_FG.getRGB();
+            case NUMBER -> blend(REVEALED_BG, DENSE_BG, value / 8f);
+            default -> background(look).getRGB();
+        };
+    }
+
+    private static int blend(Color from, Color to, float t) {
+        int r = Math.round(from.getRed() + (to.getRed() - from.getRed()) * t);
+        int g = Math.round(from.getGreen() + (to.getGreen() - from.getGreen()) * t);
+        int b = Math.round(from.getBlue() + (to.getBlue() - from.getBlue()) * t);
+        return 0xFF000000 | (r << 16) | (g << 8) | b;
+    }
+
+    // ------------------ ZOOM AND PAN ------------------ //
+
+    boolean isFitting() {
+        return fitting;
+    }
+
+    /**
+     * Zooms in (steps > 0) or out, keeping the board point under p where it is
+     * on screen. Zooming out as far as the viewport returns to fitting it.
+     */
+    void zoom(int steps, Point p) {
+        JViewport viewport = viewport();
+        if (viewport == null) {
+            return;
+        }
+        updateGeometry();
+        double bx = (p.x - originX) / scale, by = (p.y - originY) / scale;
+        Point view = viewport.getViewPosition();
+        int sx = p.x - view.x, sy = p.y - view.y;
+
+        double target = Math.min(MAX_ZOOM, scale * Math.pow(ZOOM_STEP, steps));
+        double fit = fitScale(viewport.getWidth(), viewport.getHeight());
+        if (target <= fit * 1.01) {
+            fitting = true;
+        } else {
+            fitting = false;
+            zoom = target;
+        }
+
+        // size the view now, as the viewport's layout will, so the anchor can be kept
+        Dimension size = getPreferredSize();
+        setSize(getScrollableTracksViewportWidth() ? viewport.getWidth() : size.width,
+                getScrollableTracksViewportHeight() ? viewport.getHeight() : size.height);
+        revalidate();
+        updateGeometry();
+        scrollTo(originX + bx * scale - sx, originY + by * scale - sy);
+    }
+
+    /** Scrolls so the given board point (in cells) is in the middle of the viewport. */
+    void centerOn(double bx, double by) {
+        JViewport viewport = viewport();
+        if (viewport == null) {
+            return;
+        }
+        updateGeometry();
+        scrollTo(originX + bx * scale - viewport.getWidth() / 2.0, originY + by * scale - viewport.getHeight() / 2.0);
+    }
+
+    /** The part of the board the viewport shows, in cells. */
+    Rectangle2D visibleCells() {
+        updateGeometry();
+        Rectangle r = getVisibleRect();
+        return new Rectangle2D.Double((r.x - originX) / scale, (r.y - originY) / scale,
+                r.width / scale, r.height / scale);
+    }
+
+    private void scrollTo(double x, double y) {
+        JViewport viewport = viewport();
+        int maxX = Math.max(0, getWidth() - viewport.getWidth());
+        int maxY = Math.max(0, getHeight() - viewport.getHeight());
+        viewport.setViewPosition(new Point(
+                (int) Math.max(0, Math.min(maxX, Math.round(x))),
+                (int) Math.max(0, Math.min(maxY, Math.round(y)))));
+    }
+
+    private JViewport viewport() {
+        return (getParent() instanceof JViewport viewport) ? viewport : null;
+    }
+
+    // Pixels per cell (gap included) that fit the board into w x h
+    private double fitScale(int w, int h) {
+        double fit = Math.min((double) (w - 2 * PAD + GAP) / cols, (double) (h - 2 * PAD + GAP) / rows);
+        return Math.max(MIN_SCALE, fit);
+    }
+
+    // Whole pixels once cells are big enough to be drawn one by one
+    private static double snap(double s) {
+        return (s >= FLAT_PITCH) ? Math.floor(s) : s;
+    }
+
+    private static int gapFor(double s) {
+        return (s >= DETAIL_PITCH) ? GAP : (s >= FLAT_PITCH) ? 1 : 0;
+    }
+
+    @Override
+    public Dimension getPreferredSize() {
+        if (isPreferredSizeSet()) {
+            return super.getPreferredSize();
+        }
+        if (fitting) {
+            return new Dimension(fitPreferred);
+        }
+        double s = snap(zoom);
+        int gap = gapFor(s);
+        return new Dimension((int) Math.ceil(cols * s) - gap + 2 * PAD, (int) Math.ceil(rows * s) - gap + 2 * PAD);
+    }
+
+    @Override
+    public Dimension getPreferredScrollableViewportSize() {
+        return new Dimension(fitPreferred);
+    }
+
+    @Override
+    public int getScrollableUnitIncrement(Rectangle visible, int orientation, int direction) {
+        updateGeometry();
+        return Math.max(8, (int) Math.round(scale));
+    }
+
+    @Override
+    public int getScrollableBlockIncrement(Rectangle visible, int orientation, int direction) {
+        int extent = (orientation == SwingConstants.HORIZONTAL) ? visible.width : visible.height;
+        return Math.max(1, extent * 9 / 10);
+    }
+
+    // Fitted, or smaller than the viewport along that axis: stretch and centre the board
+    @Override
+    public boolean getScrollableTracksViewportWidth() {
+        JViewport viewport = viewport();
+        return fitting || (viewport != null && viewport.getWidth() > getPreferredSize().width);
+    }
+
+    @Override
+    public boolean getScrollableTracksViewportHeight() {
+        JViewport viewport = viewport();
+        return fitting || (viewport != null && viewport.getHeight() > getPreferredSize().height);
+    }
+
+    // Ctrl+wheel zooms, a plain wheel scrolls, right or middle drag pans
+    private final class Navigation extends MouseAdapter {
+        private Point panStart;
+        private Point viewStart;
+
+        @Override
+        public void mouseWheelMoved(MouseWheelEvent e) {
+            if ((e.getModifiersEx() & (InputEvent.CTRL_DOWN_MASK | InputEvent.META_DOWN_MASK)) != 0) {
+                zoom(-(int) Math.signum(e.getPreciseWheelRotation()), e.getPoint());
+                return;
+            }
+            // a wheel listener here would otherwise swallow scrolling
+            JScrollPane scroll = (JScrollPane) SwingUtilities.getAncestorOfClass(JScrollPane.class, BoardView.this);
+            if (scroll != null) {
+                scroll.dispatchEvent(SwingUtilities.convertMouseEvent(BoardView.this, e, scroll));
+            }
+        }
+
+        @Override
+        public void mousePressed(MouseEvent e) {
+            JViewport viewport = viewport();
+            if (viewport != null && !SwingUtilities.isLeftMouseButton(e)) {
+                panStart = e.getLocationOnScreen();
+                viewStart = viewport.getViewPosition();
+            }
+        }
+
+        @Override
+        public void mouseDragged(MouseEvent e) {
+            if (panStart == null) {
+                return;
+            }
+            Point now = e.getLocationOnScreen();
+            scrollTo(viewStart.x - (now.x - panStart.x), viewStart.y - (now.y - panStart.y));
+        }
+
+        @Override
+        public void mouseReleased(MouseEvent e) {
+            panStart = null;
+        }
+    }
+
+    // ------------------ PAINTING ------------------ //
+
+    private void updateGeometry() {
+        int w = getWidth(), h = getHeight();
+        double z = fitting ? -1 : zoom;
+        if (w == layoutWidth && h == layoutHeight && z == layoutZoom) {
+            return;
+        }
+        layoutWidth = w;
+        layoutHeight = h;
+        layoutZoom = z;
+
+        scale = snap(fitting ? fitScale(w, h) : zoom);
+        int gap = gapFor(scale);
+        pitch = (scale >= FLAT_PITCH) ? (int) scale : 0;
+        cell = (pitch > 0) ? pitch - gap : 0;
+        originX = (int) ((w - (cols * scale - gap)) / 2);
+        originY = (int) ((h - (rows * scale - gap)) / 2);
+    }
+
+    @Override
+    protected void paintComponent(Graphics g) {
+        updateGeometry();
+        Rectangle clip = g.getClipBounds();
+        if (clip == null) {
+            clip = new Rectangle(0, 0, getWidth(), getHeight());
+        }
+
+        g.setColor(getBackground());
+        g.fillRect(clip.x, clip.y, clip.width, clip.height);
+
+        if (pitch >= DETAIL_PITCH) {
+            paintCells(g, clip);
+        } else {
+            paintOverview(g, clip);
+        }
+
+        if (hinted >= 0) {
+            Rectangle ring = hintBounds();
+            Graphics2D g2 = (Graphics2D) g.create();
+            g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+            g2.setColor(HINT_BORDER);
+            g2.setStroke(new BasicStroke(3));
+            g2.drawRoundRect(ring.x + 2, ring.y + 2, ring.width - 5, ring.height - 5, 8, 8);
+            g2.dispose();
+        }
+    }
+
+    // Full detail: one cached sprite per cell the clip touches
+    private void paintCells(Graphics g, Rectangle clip) {
+        double deviceScale = ImageCache.scaleOf((Graphics2D) g);
+        if (cell != spriteSize || deviceScale != spriteScale) {
+            sprites.clear();
+            spriteSize = cell;
+            spriteScale = deviceScale;
+        }
+
+        int x0 = Math.max(0, (clip.x - originX) / pitch);
+        int y0 = Math.max(0, (clip.y - originY) / pitch);
+        int x1 = Math.min(cols - 1, (clip.x + clip.width - originX) / pitch);
+        int y1 = Math.min(rows - 1, (clip.y + clip.height - originY) / pitch);
+
+        for (int y = y0; y <= y1; y++) {
+            int py = originY + y * pitch;
+            for (int x = x0; x <= x1; x++) {
+                g.drawImage(sprite(cells[y * cols + x]), originX + x * pitch, py, cell, cell, null);
+            }
+        }
+    }
+
+    // Zoomed out: the overview image scaled up (flat cells, then the gaps drawn over) or down
+    private void paintOverview(Graphics g, Rectangle clip) {
+        Graphics2D g2 = (Graphics2D) g.create();
+        g2.setRenderingHint(RenderingHints.KEY_INTERPOLATION, (pitch > 0)
+                ? RenderingHints.VALUE_INTERPOLATION_NEAREST_NEIGHBOR
+                : RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+        int w = (int) Math.round(cols * scale), h = (int) Math.round(rows * scale);
+        g2.drawImage(overview, originX, originY, w, h, null);
+        g2.dispose();
+
+        if (pitch == 0) {
+            return;
+        }
+        int gap = pitch - cell;
+        g.setColor(getBackground());
+        int x0 = Math.max(0, (clip.x - originX) / pitch);
+        int x1 = Math.min(cols - 1, (clip.x + clip.width - originX) / pitch);
+        for (int x = x0; x <= x1; x++) {
+            g.fillRect(originX + x * pitch + cell, clip.y, gap, clip.height);
+        }
+        int y0 = Math.max(0, (clip.y - originY) / pitch);
+        int y1 = Math.min(rows - 1, (clip.y + clip.height - originY) / pitch);
+        for (int y = y0; y <= y1; y++) {
+            g.fillRect(clip.x, originY + y * pitch + cell, clip.width, gap);
+        }
+    }
+
+    private BufferedImage sprite(int packed) {
+        BufferedImage image = sprites.get(packed);
+        if (image == null) {
+            image = renderSprite(packed);
+            sprites.put(packed, image);
+        }
+        return image;
+    }
+
+    private BufferedImage renderSprite(int packed) {
+        Look look = Look.VALUES[packed & 0xFF];
+        int value = (packed >>> 8) & 0xFF;
+        Accent accent = Accent.VALUES[(packed >>> 16) & 0xFF];
+
+        // drawn at the screen's pixel size, in logical coordinates
+        int size = Math.max(1, cell);
+        int pixels = Math.max(1, (int) Math.round(size * spriteScale));
+        BufferedImage image = new BufferedImage(pixels, pixels, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = image.createGraphics();
+        g.scale(spriteScale, spriteScale);
+        g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        g.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+        g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+
+        g.setColor(background(look));
+        g.fillRoundRect(0, 0, size, size, 6, 6);
+
+        switch (look) {
+            case HIDDEN -> { }
+            case NUMBER -> {
+                if (value == 0) {
+                    drawGlyph(g, "·", ZERO_FG, "Arial", 0.52f, size);
+                } else {
+                    drawGlyph(g, Integer.toString(value), NUMBER_FG[Math.min(value, 8)], "Segoe UI", 0.52f, size);
+                }
+            }
+            case SURPRISE, QUESTION, HEART, DICE -> {
+                SpecialBoxType box = (look == Look.DICE)
+                        ? (value == 0 ? SpecialBoxType.DICE : SpecialBoxType.values()[value])
+                        : SpecialBoxType.valueOf(look.name());
+                drawBox(g, box, size);
+            }
+            case FLAG -> drawPicture(g, ImageCache.Glyph.FLAG, size, 0.6f, "🚩", Color.RED, "Segoe UI Emoji");
+            case USED -> drawGlyph(g, "USED", Color.BLACK, "Serif", 0.26f, size);
+            case MINE, MINE_EXPOSED -> drawPicture(g, ImageCache.Glyph.RED_MINE, size, 0.9f, "", null, null);
+        }
+
+        Color border = border(look, accent);
+        int thickness = (accent == Accent.NONE || size < 12) ? 1 : 2;
+        g.setColor(border);
+        g.setStroke(new BasicStroke(thickness));
+        float half = thickness / 2f;
+        g.draw(new java.awt.geom.RoundRectangle2D.Float(half, half, size - thickness, size - thickness, 6, 6));
+
+        g.dispose();
+        return image;
+    }
+
+    private Color background(Look look) {
+        return switch (look) {
+            case HIDDEN, FLAG -> hiddenBg;
+            case NUMBER -> REVEALED_BG;
+            case SURPRISE -> SURPRISE_BG;
+            case QUESTION -> QUESTION_BG;
+            case HEART -> HEART_BG;
+            case DICE -> DICE_BG;
+            case MINE -> MINE_BG;
+            case MINE_EXPOSED -> MINE_EXPOSED_BG;
+            case USED -> USED_BG;
+        };
+    }
+
+    private Color border(Look look, Accent accent) {
+        return switch (accent) {
+            case CORRECT -> Color.GREEN;
+            case WRONG -> Color.RED;
+            case STRONG -> switch (look) {
+                case SURPRISE -> SURPRISE_BORDER;
+                case QUESTION -> QUESTION_BORDER;
+                case DICE -> DICE_BORDER;
+                case MINE, MINE_EXPOSED -> MINE_BORDER;
+                case HIDDEN, FLAG -> hiddenBorder;
+                default -> REVEALED_BORDER;
+            };
+            case NONE -> (look == Look.HIDDEN || look == Look.FLAG) ? hiddenBorder : REVEALED_BORDER;
+        };
+    }
+
+    private void drawBox(Graphics2D g, SpecialBoxType box, int size) {
+        switch (box) {
+            case SURPRISE -> drawPicture(g, ImageCache.Glyph.BOX, size, 0.6f, box.getGlyph(), BOX_FG, "Segoe UI Emoji");
+            case QUESTION -> drawPicture(g, ImageCache.Glyph.QUESTION, size, 0.6f, box.getGlyph(), BOX_FG, "Segoe UI Emoji");
+            case HEART -> drawPicture(g, ImageCache.Glyph.HEART, size, 0.6f, box.getGlyph(), HEART_FG, "Segoe UI");
+            case DICE -> drawPicture(g, ImageCache.Glyph.DICE, size, 0.6f, box.getGlyph(), BOX_FG, "Segoe UI Emoji");
+            default -> { }
+        }
+    }
+
+    // The glyph's picture centred at fraction of the cell, or the text if its file is missing
+    private void drawPicture(Graphics2D g, ImageCache.Glyph glyph, int size, float fraction,
+            String text, Color color, String family) {
+        int side = Math.max(1, Math.round(size * fraction));
+        ImageCache.Atlas atlas = ImageCache.atlas(side, spriteScale);
+        if (atlas.has(glyph)) {
+            int at = (size - side) / 2;
+            atlas.draw(g, glyph, at, at, side);
+        } else if (!text.isEmpty()) {
+            drawGlyph(g, text, color, family, 0.4f, size);
+        }
+    }
+
+    private void drawGlyph(Graphics2D g, String text, Color color, String family, float scale, int size) {
+        Font font = new Font(family, Font.BOLD, Math.max(6, Math.round(size * scale)));
+        g.setFont(font);
+        g.setColor(color);
+        FontMetrics fm = g.getFontMetrics();
+        int x = (size - fm.stringWidth(text)) / 2;
+        int y = (size - fm.getHeight()) / 2 + fm.getAscent();
+        g.drawString(text, x, y);
+    }
+}
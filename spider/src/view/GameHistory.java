@@ -1,14 +1,15 @@
 package view;
 
+import model.Difficulty;
+import model.HistoryFilter;
+import model.HistoryStore;
+import model.RandomStreams;
 import model.SysData;
 
 import javax.swing.*;
 import javax.swing.border.EmptyBorder;
 import javax.swing.border.LineBorder;
 import java.awt.*;
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.List;
 
 public class GameHistory extends JDialog {
 
@@ -27,46 +28,49 @@ public class GameHistory extends JDialog {
     private static final Color ACCENT_QUIT = new Color(255, 202, 40);
     private static final Color ACCENT_NEUTRAL = new Color(180, 190, 210);
 
+    // one card plus the gap below it; fixed so the list never measures rows it does not show
+    private static final int CARD_HEIGHT = 72;
+    private static final int CARD_GAP = 10;
+
     // ---------- Data ----------
     private final SysData sysData;
-    private final List<String[]> allRows;
-    private List<String[]> filteredRows;
+    private final HistoryStore store;
 
     // ---------- UI ----------
     private JComboBox<String> resultFilterBox;
     private JComboBox<String> difficultyFilterBox;
+    private JTextField playerFilterField;
 
-    private JPanel cardsContainer;
+    private JList<String[]> cardsList;
+    private JPanel cardsContainer; // the list, or "No games found"
+    private JLabel countLabel;
+    private Backdrop backdrop; // the picture and the stat cards' glass
 
     public GameHistory(JFrame owner, SysData sysData) {
         super(owner, "Game History", true);
         this.sysData = sysData;
 
-        allRows = new ArrayList<>(sysData.getGameHistory());
-        Collections.reverse(allRows); // newest first
-        filteredRows = new ArrayList<>(allRows);
-
-        Image bgImage = null;
-        try {
-            bgImage = new ImageIcon(
-                    getClass().getResource("/resources/historyBackGround.png")
-            ).getImage();
-        } catch (Exception ignored) {}
+        store = sysData.getHistoryStore();
 
-        Image finalBg = bgImage;
+        Image finalBg = ImageCache.image("/resources/historyBackGround.png");
 
         JPanel root = new JPanel(new BorderLayout()) {
             @Override
             protected void paintComponent(Graphics g) {
-                super.paintComponent(g);
-                if (finalBg != null) {
-                    g.drawImage(finalBg, 0, 0, getWidth(), getHeight(), null);
-                    g.setColor(new Color(0, 0, 0, 150)); // dark overlay
-                    g.fillRect(0, 0, getWidth(), getHeight());
-                }
+                backdrop.paint(g);
             }
         };
-        root.setOpaque(false);
+        Backdrop.Painter picture = Backdrop.picture(finalBg, (g, w, h) -> {
+            g.setColor(root.getBackground());
+            g.fillRect(0, 0, w, h);
+        });
+        backdrop = new Backdrop(root, (g, w, h) -> {
+            picture.paint(g, w, h);
+            if (finalBg != null) {
+                g.setColor(new Color(0, 0, 0, 150)); // dark overlay
+                g.fillRect(0, 0, w, h);
+            }
+        });
         setContentPane(root);
 
         root.add(buildTopPanel(), BorderLayout.NORTH);
@@ -100,7 +104,7 @@ public class GameHistory extends JDialog {
         panel.add(subtitle);
         panel.add(Box.createVerticalStrut(14));
 
-        Stats s = computeStats(allRows);
+        Stats s = computeStats();
 
         JPanel statsPanel = new JPanel(new GridLayout(1, 3, 12, 0));
         statsPanel.setOpaque(false);
@@ -150,12 +154,24 @@ public class GameHistory extends JDialog {
         gc.gridx = 3;
         controls.add(difficultyFilterBox, gc);
 
+        // Player filter (exact name, any case, either seat)
+        JLabel playerLbl = new JLabel("Player:");
+        styleLabel(playerLbl);
+
+        playerFilterField = new JTextField(12);
+        playerFilterField.addActionListener(e -> applyFilter());
+
+        gc.gridx = 4;
+        controls.add(playerLbl, gc);
+        gc.gridx = 5;
+        controls.add(playerFilterField, gc);
+
         // Reset button
         JButton reset = new JButton("Reset");
         styleButton(reset);
         reset.addActionListener(e -> resetFilters());
 
-        gc.gridx = 4;
+        gc.gridx = 6;
         gc.insets = new Insets(0, 10, 0, 0);
         controls.add(reset, gc);
 
@@ -166,29 +182,47 @@ public class GameHistory extends JDialog {
 
     // ================= CENTER =================
 
-    private JScrollPane buildCenter() {
-        cardsContainer = new JPanel();
-        cardsContainer.setOpaque(false);
-        cardsContainer.setLayout(new BoxLayout(cardsContainer, BoxLayout.Y_AXIS));
-        cardsContainer.setBorder(new EmptyBorder(10, 24, 10, 24));
-
-        rebuildCards();
-
-        JScrollPane sp = new JScrollPane(cardsContainer);
+    private JPanel buildCenter() {
+        // only the visible rows are painted, all through one recycled card
+        cardsList = new JList<>();
+        cardsList.setOpaque(false);
+        cardsList.setBackground(new Color(0, 0, 0, 0));
+        cardsList.setFixedCellHeight(CARD_HEIGHT + CARD_GAP);
+        cardsList.setFixedCellWidth(400); // the list still stretches to the viewport
+        cardsList.setCellRenderer(new CardRenderer());
+        cardsList.setBorder(new EmptyBorder(10, 24, 10, 24));
+
+        JScrollPane sp = new JScrollPane(cardsList);
         sp.setOpaque(false);
         sp.getViewport().setOpaque(false);
         sp.setBorder(null);
-        sp.getVerticalScrollBar().setUnitIncrement(16);
-        return sp;
+
+        JLabel empty = new JLabel("No games found", SwingConstants.CENTER);
+        empty.setForeground(TEXT_MUTED);
+        empty.setFont(new Font("Segoe UI", Font.BOLD, 18));
+        empty.setVerticalAlignment(SwingConstants.TOP);
+        empty.setBorder(new EmptyBorder(80, 0, 0, 0));
+
+        cardsContainer = new JPanel(new CardLayout());
+        cardsContainer.setOpaque(false);
+        cardsContainer.add(sp, "list");
+        cardsContainer.add(empty, "empty");
+        return cardsContainer;
     }
 
     // ================= BOTTOM =================
 
     private JPanel buildBottomBar() {
-        JPanel bottom = new JPanel(new FlowLayout(FlowLayout.RIGHT, 12, 12));
+        JPanel bottom = new JPanel(new BorderLayout());
         bottom.setOpaque(false);
         bottom.setBorder(new EmptyBorder(0, 24, 12, 24));
 
+        countLabel = new JLabel();
+        styleLabel(countLabel);
+
+        JPanel actions = new JPanel(new FlowLayout(FlowLayout.RIGHT, 12, 12));
+        actions.setOpaque(false);
+
         JButton mainPage = new JButton("Main Page");
         styleButton(mainPage);
         mainPage.addActionListener(e -> {
@@ -200,75 +234,91 @@ public class GameHistory extends JDialog {
         styleButton(close);
         close.addActionListener(e -> dispose());
 
-        bottom.add(mainPage);
-        bottom.add(close);
+        actions.add(mainPage);
+        actions.add(close);
+
+        bottom.add(countLabel, BorderLayout.WEST);
+        bottom.add(actions, BorderLayout.EAST);
+
+        showRows(HistoryFilter.ALL);
         return bottom;
     }
 
     // ================= CARDS =================
 
-    private void rebuildCards() {
-        cardsContainer.removeAll();
-
-        if (filteredRows.isEmpty()) {
-            JLabel empty = new JLabel("No games found");
-            empty.setForeground(TEXT_MUTED);
-            empty.setFont(new Font("Segoe UI", Font.BOLD, 18));
-            empty.setAlignmentX(Component.CENTER_ALIGNMENT);
-            cardsContainer.add(Box.createVerticalStrut(80));
-            cardsContainer.add(empty);
-        } else {
-            for (String[] r : filteredRows) {
-                cardsContainer.add(createGameCard(r));
-                cardsContainer.add(Box.createVerticalStrut(10));
-            }
-        }
+    private void showRows(HistoryFilter filter) {
+        HistoryListModel model = new HistoryListModel(store.select(filter));
+        cardsList.setModel(model);
+        cardsList.ensureIndexIsVisible(0);
 
-        cardsContainer.revalidate();
-        cardsContainer.repaint();
+        int n = model.getSize();
+        countLabel.setText(n == 1 ? "1 game" : n + " games");
+        ((CardLayout) cardsContainer.getLayout()).show(cardsContainer, n == 0 ? "empty" : "list");
     }
 
-    private JPanel createGameCard(String[] r) {
-        String date = formatDate(safeGet(r, 0));
-        String difficulty = safeGet(r, 1);
-        String p1 = safeGet(r, 2);
-        String p1Score = safeGet(r, 3);
-        String p2 = safeGet(r, 4);
-        String result = safeGet(r, 6);
-        String seconds = safeGet(r, 7);
+    /** One card reused for every row the list paints. */
+    private class CardRenderer extends JPanel implements ListCellRenderer<String[]> {
+        private static final long serialVersionUID = 1L;
 
-        JPanel card = new GlassPanel(22);
-        card.setLayout(new BorderLayout(16, 0));
-        card.setBorder(new EmptyBorder(12, 16, 12, 16));
+        private final JLabel dateLbl = new JLabel();
+        private final JLabel together = new JLabel();
+        private final JLabel scoreChip = new JLabel();
+        private final JLabel difficultyChip = new JLabel();
+        private final JLabel timeChip = new JLabel();
+        private final JLabel resultChip = new JLabel();
+        private final JPanel resultChipPanel;
 
-        JPanel left = new JPanel();
-        left.setOpaque(false);
-        left.setLayout(new BoxLayout(left, BoxLayout.Y_AXIS));
+        CardRenderer() {
+            super(new BorderLayout());
+            setOpaque(false);
+            setBorder(new EmptyBorder(0, 0, CARD_GAP, 0));
 
-        JLabel dateLbl = new JLabel(date);
-        dateLbl.setForeground(TEXT_MUTED);
-        dateLbl.setFont(new Font("Segoe UI", Font.PLAIN, 12));
+            JPanel card = new GlassPanel(22);
+            card.setLayout(new BorderLayout(16, 0));
+            card.setBorder(new EmptyBorder(12, 16, 12, 16));
 
-        JLabel together = new JLabel(p1 + "  &  " + p2);
-        together.setForeground(TEXT_PRIMARY);
-        together.setFont(new Font("Segoe UI", Font.BOLD, 15));
+            JPanel left = new JPanel();
+            left.setOpaque(false);
+            left.setLayout(new BoxLayout(left, BoxLayout.Y_AXIS));
 
-        left.add(dateLbl);
-        left.add(Box.createVerticalStrut(6));
-        left.add(together);
+            dateLbl.setForeground(TEXT_MUTED);
+            dateLbl.setFont(new Font("Segoe UI", Font.PLAIN, 12));
 
-        JPanel right = new JPanel(new FlowLayout(FlowLayout.RIGHT, 8, 0));
-        right.setOpaque(false);
+            together.setForeground(TEXT_PRIMARY);
+            together.setFont(new Font("Segoe UI", Font.BOLD, 15));
 
-        right.add(makeChip("Score: " + p1Score));
-        right.add(makeChip("Difficulty: " + difficulty));
-        right.add(makeChip("Time: " + seconds + "s"));
-        right.add(makeResultChip(result));
+            left.add(dateLbl);
+            left.add(Box.createVerticalStrut(6));
+            left.add(together);
 
-        card.add(left, BorderLayout.WEST);
-        card.add(right, BorderLayout.EAST);
+            JPanel right = new JPanel(new FlowLayout(FlowLayout.RIGHT, 8, 0));
+            right.setOpaque(false);
 
-        return card;
+            right.add(makeChip(scoreChip));
+            right.add(makeChip(difficultyChip));
+            right.add(makeChip(timeChip));
+            resultChipPanel = makeChip(resultChip);
+            right.add(resultChipPanel);
+
+            card.add(left, BorderLayout.WEST);
+            card.add(right, BorderLayout.EAST);
+            add(card, BorderLayout.CENTER);
+        }
+
+        @Override
+        public Component getListCellRendererComponent(JList<? extends String[]> list, String[] r,
+                                                      int index, boolean isSelected, boolean cellHasFocus) {
+            String result = safeGet(r, 6);
+
+            dateLbl.setText(formatDate(safeGet(r, 0)) + formatSeed(safeGet(r, 8), safeGet(r, 9)));
+            together.setText(safeGet(r, 2) + "  &  " + safeGet(r, 4));
+            scoreChip.setText("Score: " + safeGet(r, 3));
+            difficultyChip.setText("Difficulty: " + safeGet(r, 1));
+            timeChip.setText("Time: " + safeGet(r, 7) + "s");
+            resultChip.setText("Result: " + result);
+            resultChipPanel.setBorder(new LineBorder(resultColor(result), 2, true));
+            return this;
+        }
     }
 
     // ================= FILTER LOGIC =================
@@ -276,41 +326,28 @@ public class GameHistory extends JDialog {
     private void applyFilter() {
         String resultF = (String) resultFilterBox.getSelectedItem();
         String diffF   = (String) difficultyFilterBox.getSelectedItem();
+        String playerF = playerFilterField.getText().trim();
 
-        filteredRows = new ArrayList<>();
-        for (String[] r : allRows) {
-
-            // Result filter
-            String res = safeGet(r, 6).toLowerCase();
-            if (!"All".equals(resultF)) {
-                if ("WIN".equals(resultF) && !res.contains("win")) continue;
-                if ("LOST".equals(resultF) && !(res.contains("lost") || res.contains("defeat"))) continue;
-                if ("QUIT".equals(resultF) && !res.contains("quit")) continue;
-            }
-
-            // Difficulty filter
-            if (!"All".equals(diffF)) {
-                String d = safeGet(r, 1);
-                if (!d.equalsIgnoreCase(diffF)) continue;
-            }
-
-            filteredRows.add(r);
-        }
+        HistoryFilter filter = new HistoryFilter(
+                "All".equals(diffF) ? null : Difficulty.valueOf(diffF),
+                "All".equals(resultF) ? null : HistoryFilter.Result.valueOf(resultF),
+                playerF.isEmpty() ? null : playerF);
 
-        rebuildCards();
+        showRows(filter);
     }
 
     private void resetFilters() {
         resultFilterBox.setSelectedItem("All");
         difficultyFilterBox.setSelectedItem("All");
-        filteredRows = new ArrayList<>(allRows);
-        rebuildCards();
+        playerFilterField.setText("");
+        applyFilter();
     }
 
     // ================= SMALL UI =================
 
     private JPanel createStatCard(String label, String value) {
-        JPanel card = new GlassPanel(22);
+        JPanel card = new JPanel();
+        backdrop.addGlass(card, (g, w, h) -> paintGlass(g, w, h, 22));
         card.setLayout(new BoxLayout(card, BoxLayout.Y_AXIS));
         card.setBorder(new EmptyBorder(10, 14, 10, 14));
 
@@ -328,13 +365,12 @@ public class GameHistory extends JDialog {
         return card;
     }
 
-    private JPanel makeChip(String text) {
+    private JPanel makeChip(JLabel lbl) {
         JPanel p = new JPanel();
         p.setOpaque(true);
         p.setBackground(new Color(10, 10, 15, 140));
         p.setBorder(new LineBorder(BORDER_SOFT, 1, true));
 
-        JLabel lbl = new JLabel(text);
         lbl.setForeground(TEXT_PRIMARY);
         lbl.setFont(new Font("Segoe UI", Font.BOLD, 12));
         p.add(lbl);
@@ -342,17 +378,13 @@ public class GameHistory extends JDialog {
         return p;
     }
 
-    private JPanel makeResultChip(String result) {
-        Color c = ACCENT_NEUTRAL;
-        String rr = (result == null ? "" : result).toLowerCase();
-
-        if (rr.contains("win")) c = ACCENT_WIN;
-        else if (rr.contains("lost") || rr.contains("defeat")) c = ACCENT_LOST;
-        else if (rr.contains("quit")) c = ACCENT_QUIT;
-
-        JPanel p = makeChip("Result: " + result);
-        p.setBorder(new LineBorder(c, 2, true));
-        return p;
+    private Color resultColor(String result) {
+        switch (HistoryFilter.Result.of(result)) {
+            case WIN:  return ACCENT_WIN;
+            case LOST: return ACCENT_LOST;
+            case QUIT: return ACCENT_QUIT;
+            default:   return ACCENT_NEUTRAL;
+        }
     }
 
     private void styleLabel(JLabel l) {
@@ -381,19 +413,23 @@ public class GameHistory extends JDialog {
         return raw;
     }
 
+    // rows logged before seeds were recorded have none
+    private String formatSeed(String seed, String rng) {
+        if (seed.isEmpty()) return "";
+        if (rng.isEmpty() || rng.equals(RandomStreams.DEFAULT_ALGORITHM)) return "   ·   Seed " + seed;
+        return "   ·   Seed " + seed + " (" + rng + ")";
+    }
+
     private String safeGet(String[] arr, int idx) {
         if (arr == null || idx < 0 || idx >= arr.length) return "";
         return arr[idx] == null ? "" : arr[idx];
     }
 
-    private Stats computeStats(List<String[]> rows) {
+    private Stats computeStats() {
         Stats s = new Stats();
-        s.total = rows.size();
-        for (String[] r : rows) {
-            String res = safeGet(r, 6).toLowerCase();
-            if (res.contains("win")) s.wins++;
-            else if (res.contains("lost") || res.contains("defeat")) s.losses++;
-        }
+        s.total = store.size();
+        s.wins = store.count(HistoryFilter.ALL.withResult(HistoryFilter.Result.WIN));
+        s.losses = store.count(HistoryFilter.ALL.withResult(HistoryFilter.Result.LOST));
         return s;
     }
 
@@ -412,11 +448,14 @@ public class GameHistory extends JDialog {
 
         @Override
         protected void paintComponent(Graphics g) {
-            Graphics2D g2 = (Graphics2D) g;
-            g2.setColor(GLASS_BG);
-            g2.fillRoundRect(0, 0, getWidth(), getHeight(), arc, arc);
-            g2.setColor(BORDER_SOFT);
-            g2.drawRoundRect(0, 0, getWidth() - 1, getHeight() - 1, arc, arc);
+            paintGlass((Graphics2D) g, getWidth(), getHeight(), arc);
         }
     }
+
+    private static void paintGlass(Graphics2D g2, int w, int h, int arc) {
+        g2.setColor(GLASS_BG);
+        g2.fillRoundRect(0, 0, w, h, arc, arc);
+        g2.setColor(BORDER_SOFT);
+        g2.drawRoundRect(0, 0, w - 1, h - 1, arc, arc);
+    }
 }
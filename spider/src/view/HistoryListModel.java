@@ -0,0 +1,51 @@
+package view;
+
+import model.HistoryStore;
+
+import javax.swing.AbstractListModel;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * List model over a history selection. Rows are read from the store in blocks
+ * when the list first paints them, and only the most recently used blocks are
+ * kept, so a million-row history costs no more memory than one screenful.
+ */
+final class HistoryListModel extends AbstractListModel<String[]> {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final int BLOCK_SIZE = 64;
+    private static final int CACHED_BLOCKS = 16;
+    private static final String[] MISSING_ROW = new String[0];
+
+    private final transient HistoryStore.Selection rows;
+
+    private final transient Map<Integer, List<String[]>> blocks =
+            new LinkedHashMap<>(CACHED_BLOCKS * 2, 0.75f, true) {
+                private static final long serialVersionUID = 1L;
+
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Integer, List<String[]>> eldest) {
+                    return size() > CACHED_BLOCKS;
+                }
+            };
+
+    HistoryListModel(HistoryStore.Selection rows) {
+        this.rows = rows;
+    }
+
+    @Override
+    public int getSize() {
+        return rows.size();
+    }
+
+    @Override
+    public String[] getElementAt(int index) {
+        List<String[]> block = blocks.computeIfAbsent(index / BLOCK_SIZE,
+                b -> rows.read(b * BLOCK_SIZE, BLOCK_SIZE));
+        int k = index % BLOCK_SIZE;
+        return (k < block.size()) ? block.get(k) : MISSING_ROW;
+    }
+}
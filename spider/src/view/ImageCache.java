@@ -0,0 +1,297 @@
+package view;
+
+import java.awt.*;
+import java.awt.image.AbstractMultiResolutionImage;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import javax.swing.ImageIcon;
+
+/**
+ * Process-wide cache of the images under /resources. Each file is decoded
+ * once; scaled copies are made once per size and screen scale factor, with
+ * progressive bilinear steps rather than getScaledInstance, into images
+ * compatible with the screen. Several icons ship as multi-megapixel PNGs, so
+ * scaled copies start from a master of at most MASTER_SIDE pixels, decoded
+ * with subsampling; only image(resource) keeps a file at full size.
+ *
+ * Icons are multi-resolution, so on a HiDPI screen Swing asks for (and gets)
+ * a variant drawn at the real pixel size.
+ *
+ * The board's cell glyphs are packed per cell size into an Atlas, one strip
+ * with a square slot per Glyph, so a board sprite is drawn from a single image.
+ *
+ * A missing resource is reported once on System.err and comes back as null.
+ * Call from the event dispatch thread.
+ */
+final class ImageCache {
+
+    /** The pictures a board cell can show. */
+    enum Glyph {
+        MINE("/resources/mine.png"),
+        RED_MINE("/resources/redmine.png"),
+        TILE("/resources/tile.png"),
+        FLAG("/resources/flag.png"),
+        QUESTION("/resources/questionMark.png"),
+        BOX("/resources/BOX.png"),
+        HEART("/resources/heart.png"),
+        DICE("/resources/dice.png");
+
+        private static final Glyph[] VALUES = values();
+
+        private final String resource;
+
+        Glyph(String resource) {
+            this.resource = resource;
+        }
+    }
+
+    private static final int MASTER_SIDE = 512;
+    private static final int MAX_SCALED = 256;
+    private static final int MAX_ATLASES = 8;
+
+    // decoded files, full size and capped masters; a missing file maps to null so it is only looked for once
+    private static final Map<String, BufferedImage> sources = new HashMap<>();
+    private static final Map<String, BufferedImage> masters = new HashMap<>();
+
+    private static final Map<ScaledKey, BufferedImage> scaled = lruMap(MAX_SCALED);
+    private static final Map<ScaledKey, Atlas> atlases = lruMap(MAX_ATLASES);
+
+    private record ScaledKey(String resource, int width, int height, double scale) {
+    }
+
+    private ImageCache() {
+    }
+
+    private static <K, V> Map<K, V> lruMap(int capacity) {
+        return new LinkedHashMap<>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    /** The decoded resource at its own size, or null if it is missing. */
+    static synchronized BufferedImage image(String resource) {
+        if (!sources.containsKey(resource)) {
+            sources.put(resource, decode(resource, 0));
+        }
+        return sources.get(resource);
+    }
+
+    // The file at most MASTER_SIDE pixels on its longer side, the starting point for scaled copies
+    private static BufferedImage master(String resource) {
+        if (!masters.containsKey(resource)) {
+            BufferedImage image = sources.containsKey(resource) ? sources.get(resource) : decode(resource, MASTER_SIDE);
+            if (image != null && Math.max(image.getWidth(), image.getHeight()) > MASTER_SIDE) {
+                double f = (double) MASTER_SIDE / Math.max(image.getWidth(), image.getHeight());
+                image = scale(image, pixels(image.getWidth(), f), pixels(image.getHeight(), f));
+            }
+            masters.put(resource, image);
+        }
+        return masters.get(resource);
+    }
+
+    // Reads the file, skipping pixels while it stays at least twice maxSide (0 = full size); null if missing
+    private static BufferedImage decode(String resource, int maxSide) {
+        URL url = ImageCache.class.getResource(resource);
+        if (url == null) {
+            System.err.println("Warning: Could not load " + resource);
+            return null;
+        }
+
+        try (InputStream in = url.openStream(); ImageInputStream stream = ImageIO.createImageInputStream(in)) {
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(stream);
+            if (!readers.hasNext()) {
+                System.err.println("Warning: Could not load " + resource + ": unknown image format");
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(stream, true, true);
+                ImageReadParam param = reader.getDefaultReadParam();
+                if (maxSide > 0) {
+                    int step = Math.max(reader.getWidth(0), reader.getHeight(0)) / (2 * maxSide);
+                    if (step > 1) {
+                        param.setSourceSubsampling(step, step, 0, 0);
+                    }
+                }
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        } catch (IOException e) {
+            System.err.println("Warning: Could not load " + resource + ": " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * The resource scaled to width x height logical pixels on a screen with the
+     * given scale factor, i.e. round(width * scale) x round(height * scale) pixels.
+     */
+    static synchronized BufferedImage image(String resource, int width, int height, double scale) {
+        ScaledKey key = new ScaledKey(resource, width, height, scale);
+        BufferedImage image = scaled.get(key);
+        if (image == null) {
+            BufferedImage source = master(resource);
+            if (source == null) {
+                return null;
+            }
+            image = scale(source, pixels(width, scale), pixels(height, scale));
+            scaled.put(key, image);
+        }
+        return image;
+    }
+
+    /** An icon of width x height that stays sharp on HiDPI screens, or null if the resource is missing. */
+    static synchronized ImageIcon icon(String resource, int width, int height) {
+        if (master(resource) == null) {
+            return null;
+        }
+        return new ImageIcon(new Variants(resource, width, height));
+    }
+
+    /** The cell glyphs at size x size logical pixels for the given screen scale factor. */
+    static synchronized Atlas atlas(int size, double scale) {
+        ScaledKey key = new ScaledKey("atlas", size, size, scale);
+        Atlas atlas = atlases.get(key);
+        if (atlas == null) {
+            atlas = new Atlas(pixels(size, scale));
+            atlases.put(key, atlas);
+        }
+        return atlas;
+    }
+
+    /** Scale factor of the screen the graphics draws to (1 on ordinary screens and off screen). */
+    static double scaleOf(Graphics2D g) {
+        return Math.max(1, g.getTransform().getScaleX());
+    }
+
+    private static int pixels(int logical, double scale) {
+        return Math.max(1, (int) Math.round(logical * scale));
+    }
+
+    // Halves with bilinear filtering while the image is over twice the target, then one last step
+    private static BufferedImage scale(BufferedImage source, int width, int height) {
+        BufferedImage current = source;
+        int w = source.getWidth(), h = source.getHeight();
+
+        do {
+            w = (w / 2 >= width) ? w / 2 : width;
+            h = (h / 2 >= height) ? h / 2 : height;
+
+            BufferedImage next = compatible(w, h);
+            Graphics2D g = next.createGraphics();
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            g.setComposite(AlphaComposite.Src);
+            g.drawImage(current, 0, 0, w, h, null);
+            g.dispose();
+            current = next;
+        } while (w != width || h != height);
+
+        return current;
+    }
+
+    private static BufferedImage compatible(int width, int height) {
+        if (GraphicsEnvironment.isHeadless()) {
+            return new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        }
+        return GraphicsEnvironment.getLocalGraphicsEnvironment().getDefaultScreenDevice()
+                .getDefaultConfiguration().createCompatibleImage(width, height, Transparency.TRANSLUCENT);
+    }
+
+    /**
+     * The cell glyphs side by side, each in a square slot of the atlas's pixel
+     * size. Glyphs whose file is missing have no slot and are drawn as text by
+     * the caller.
+     */
+    static final class Atlas {
+        private final BufferedImage strip;
+        private final int slot;
+        private final boolean[] present = new boolean[Glyph.VALUES.length];
+
+        private Atlas(int slot) {
+            this.slot = slot;
+            this.strip = compatible(slot * Glyph.VALUES.length, slot);
+
+            Graphics2D g = strip.createGraphics();
+            for (Glyph glyph : Glyph.VALUES) {
+                BufferedImage source = master(glyph.resource);
+                if (source != null) {
+                    g.drawImage(scale(source, slot, slot), glyph.ordinal() * slot, 0, null);
+                    present[glyph.ordinal()] = true;
+                }
+            }
+            g.dispose();
+        }
+
+        boolean has(Glyph glyph) {
+            return present[glyph.ordinal()];
+        }
+
+        /** Draws the glyph into the size x size square at (x, y). */
+        void draw(Graphics g, Glyph glyph, int x, int y, int size) {
+            int sx = glyph.ordinal() * slot;
+            g.drawImage(strip, x, y, x + size, y + size, sx, 0, sx + slot, slot, null);
+        }
+    }
+
+    // The resource at one logical size; variants for other screen scales are made on request
+    private static final class Variants extends AbstractMultiResolutionImage {
+        private final String resource;
+        private final int width;
+        private final int height;
+
+        Variants(String resource, int width, int height) {
+            this.resource = resource;
+            this.width = width;
+            this.height = height;
+        }
+
+        @Override
+        public int getWidth(java.awt.image.ImageObserver observer) {
+            return width;
+        }
+
+        @Override
+        public int getHeight(java.awt.image.ImageObserver observer) {
+            return height;
+        }
+
+        @Override
+        protected Image getBaseImage() {
+            return image(resource, width, height, 1);
+        }
+
+        // snapped to quarter steps so a window moving between screens reuses variants
+        @Override
+        public Image getResolutionVariant(double destWidth, double destHeight) {
+            double scale = Math.max(1, Math.ceil(Math.max(destWidth / width, destHeight / height) * 4) / 4);
+            return image(resource, width, height, scale);
+        }
+
+        @Override
+        public List<Image> getResolutionVariants() {
+            List<Image> variants = new ArrayList<>();
+            variants.add(getBaseImage());
+            return variants;
+        }
+    }
+}
@@ -10,6 +10,7 @@ public class MainPage extends JFrame {
     private static final long serialVersionUID = 1L;
 
     private Image backgroundImage;
+    private Backdrop backdrop; // the background and the glass panel
 
     public MainPage() {
         setTitle("Minesweeper");
@@ -18,42 +19,30 @@ public class MainPage extends JFrame {
         setLocationRelativeTo(null);
 
   
-        try {
-            backgroundImage = new ImageIcon(
-                    getClass().getResource("/resources/animated-bg.gif")
-            ).getImage();
-        } catch (Exception e) {
-            backgroundImage = null;
-        }
+        // the first frame only: the backdrop is rendered once per window size
+        backgroundImage = ImageCache.image("/resources/animated-bg.gif");
 
         JPanel backgroundPanel = new JPanel() {
             @Override
             protected void paintComponent(Graphics g) {
-                super.paintComponent(g);
-                if (backgroundImage != null) {
-                    g.drawImage(backgroundImage, 0, 0, getWidth(), getHeight(), this);
-                }
+                backdrop.paint(g);
             }
         };
+        backdrop = new Backdrop(backgroundPanel, Backdrop.picture(backgroundImage, (g, w, h) -> {
+            g.setColor(backgroundPanel.getBackground());
+            g.fillRect(0, 0, w, h);
+        }));
         backgroundPanel.setLayout(new GridBagLayout());
 
         // ☑ Frosted Glass Panel
-        JPanel glassPanel = new JPanel() {
-            @Override
-            protected void paintComponent(Graphics g) {
-                super.paintComponent(g);
-                Graphics2D g2 = (Graphics2D) g.create();
-
-                // Darker glass
-                g2.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, 0.55f));
-                g2.setColor(new Color(0, 0, 0));  // black tint
-                g2.fillRoundRect(0, 0, getWidth(), getHeight(), 30, 30);
-
-                g2.dispose();
-            }
-        };
+        JPanel glassPanel = new JPanel();
+        backdrop.addGlass(glassPanel, (g2, w, h) -> {
+            // Darker glass
+            g2.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, 0.55f));
+            g2.setColor(new Color(0, 0, 0));  // black tint
+            g2.fillRoundRect(0, 0, w, h, 30, 30);
+        });
 
-        glassPanel.setOpaque(false);
         glassPanel.setPreferredSize(new Dimension(380, 350));
         glassPanel.setLayout(new GridBagLayout());
 
@@ -88,8 +77,7 @@ public class MainPage extends JFrame {
                 historyIcon,
                 () -> {
                     SwingUtilities.invokeLater(() -> {
-                        SysData sysData = new SysData();
-                        GameHistory historyDialog = new GameHistory(MainPage.this, sysData);
+                        GameHistory historyDialog = new GameHistory(MainPage.this, SysData.getInstance());
                         historyDialog.setVisible(true);
                     });
                 }
@@ -101,8 +89,7 @@ public class MainPage extends JFrame {
                 manageIcon,
                 () -> {
                     SwingUtilities.invokeLater(() -> {
-                        SysData sysData = new SysData();
-                        QuestionManagerFrame qm = new QuestionManagerFrame(sysData);
+                        QuestionManagerFrame qm = new QuestionManagerFrame(SysData.getInstance());
                         qm.setVisible(true);
                     });
                 }
@@ -139,12 +126,7 @@ public class MainPage extends JFrame {
 
 
     private ImageIcon loadIcon(String path) {
-        try {
-            ImageIcon i = new ImageIcon(getClass().getResource(path));
-            return new ImageIcon(i.getImage().getScaledInstance(32, 32, Image.SCALE_SMOOTH));
-        } catch (Exception e) {
-            return null;
-        }
+        return ImageCache.icon(path, 32, 32);
     }
 
     private JPanel createStyledButton(String text, Color bgColor, ImageIcon icon, Runnable onClick) {
@@ -202,6 +184,7 @@ public class MainPage extends JFrame {
 
 
     public static void main(String[] args) {
+        SysData.getInstance(); // load the questions before the first match
         SwingUtilities.invokeLater(() -> new MainPage().setVisible(true));
     }
 }
\ No newline at end of file
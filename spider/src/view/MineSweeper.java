@@ -3,20 +3,27 @@ package view;
 import javax.swing.*;
 import java.awt.*;
 
-import javax.swing.border.Border;
 import javax.swing.border.EmptyBorder;
 import javax.swing.border.LineBorder;
 import controller.Game;
+import engine.BoardSide;
+import engine.GameEventListener;
+import engine.PlayerDecisions;
+import engine.QuestionOutcome;
+import engine.SurpriseOutcome;
 import model.Board;
-import model.Cell;
+import model.CellState;
 import model.Difficulty;
+import model.Question;
 import model.SpecialBoxType;
 
-public class MineSweeper extends JFrame implements GameObserver {
+public class MineSweeper extends JFrame implements GameObserver, GameEventListener, PlayerDecisions {
     private static final long serialVersionUID = 1L;
 
-    private JPanel boardPanelA, boardPanelB;
-    private JButton[][] buttonsA, buttonsB;
+    private BoardView boardViewA, boardViewB;
+
+    // status, counters and cell repaints from one event, applied together
+    private final ViewUpdates updates = new ViewUpdates(this::applyStatus, this::applyMinesLeft);
 
     private JLabel minesLeftALabel;
     private JLabel minesLeftBLabel;
@@ -73,35 +80,25 @@ public class MineSweeper extends JFrame implements GameObserver {
     public final Color CELL_HIDDEN_B = PlayerSetupView.getPlayer2BoardColorChoice().darker();
 
     // revealed normal cell background
-    public final Color CELL_REVEALED = new Color(238, 246, 248);
+    public final Color CELL_REVEALED = BoardView.REVEALED_BG;
 
     public final Color CELL_HOVER = new Color(19, 104, 126);
 
     // Softer pastel highlights
-    public final Color Q_HIGHLIGHT = new Color(255, 236, 179);
-    public final Color S_HIGHLIGHT = new Color(187, 222, 251); // pastel blue
+    public final Color Q_HIGHLIGHT = BoardView.QUESTION_BG;
+    public final Color S_HIGHLIGHT = BoardView.SURPRISE_BG; // pastel blue
 
     public final Color SUCCESS_COLOR = new Color(0, 191, 165);
     public final Color TEXT_WHITE = new Color(245, 245, 245);
     public final Color TEXT_GRAY = new Color(178, 190, 195);
 
-    private final Color NUM_BLUE = new Color(79, 195, 247);
-    private final Color NUM_GREEN = new Color(102, 187, 106);
-    private final Color NUM_RED = new Color(239, 83, 80);
-    private final Color NUM_PURPLE = new Color(171, 71, 188);
-
     // mine reveal styling
-    private final Color MINE_BG = new Color(183, 28, 28); // soft deep red
-    private final Color MINE_BORDER = new Color(120, 20, 30); // darker red border
-
-    // borders for Q/S cells
-    private final Color Q_BORDER = new Color(255, 193, 7); // amber border
-    private final Color S_BORDER = new Color(66, 165, 245); // blue border
+    private final Color MINE_BG = BoardView.MINE_BG; // soft deep red
     private JLabel legendMinesCountLabel;
     private JLabel legendQuestionsCountLabel;
     private JLabel legendSurprisesCountLabel;
 
-    private Icon redMine, mine, tile, smallMineIcon;
+    private Icon smallMineIcon;
 
     private String activeBoard = "A";
     private JPanel boardCardA, boardCardB;
@@ -118,9 +115,6 @@ public class MineSweeper extends JFrame implements GameObserver {
     private static final int HEADER_PAD_LR = 12;
     private static final int HEADER_PAD_BOTTOM = 6;
 
-    private static final int BOARD_PAD = 8; // inner padding around grid
-    private static final int GRID_GAP = 3;  // cell gap in GridLayout
-
     private static final int STATUS_PAD_TOP = 10;
     private static final int STATUS_PAD_LR = 18;
     private static final int STATUS_PAD_BOTTOM = 10;
@@ -137,8 +131,6 @@ public class MineSweeper extends JFrame implements GameObserver {
     private static final int FONT_SCORE = 20;
     private static final int FONT_HEARTS = 18;
 
-    private static final int CELL_SIZE = 46; 
-
     public MineSweeper() {
         this(null, 9, 9, 10, "Player 1", "Player 2");
     }
@@ -153,9 +145,6 @@ public class MineSweeper extends JFrame implements GameObserver {
         this.player1Name = (player1Name == null || player1Name.isBlank()) ? "Player 1" : player1Name;
         this.player2Name = (player2Name == null || player2Name.isBlank()) ? "Player 2" : player2Name;
 
-        buttonsA = new JButton[cols][rows];
-        buttonsB = new JButton[cols][rows];
-
         setIcons();
         loadLegendIcons();
 
@@ -196,19 +185,19 @@ public class MineSweeper extends JFrame implements GameObserver {
 
         setContentPane(mainContainer);
 
-        try {
-            setIconImage(Toolkit.getDefaultToolkit().getImage(getClass().getResource("/resources/mine.png")));
-        } catch (Exception e) {
+        Image windowIcon = ImageCache.image("/resources/mine.png");
+        if (windowIcon != null) {
+            setIconImage(windowIcon);
         }
     }
 
     private void loadLegendIcons() {
-        legendMineIcon = resizeIcon(new ImageIcon(getClass().getResource("/resources/redmine.png")), 22, 22);
-        legendQuestionIcon = resizeIcon(new ImageIcon(getClass().getResource("/resources/questionMark.png")), 22, 22);
-        legendBoxIcon = resizeIcon(new ImageIcon(getClass().getResource("/resources/BOX.png")), 22, 22);
-        legendFlagIcon = resizeIcon(new ImageIcon(getClass().getResource("/resources/flag.png")), 22, 22);
-        legendHeartIcon = resizeIcon(new ImageIcon(getClass().getResource("/resources/heart.png")), 22, 22);
-        legendDiceIcon = resizeIcon(new ImageIcon(getClass().getResource("/resources/dice.png")), 22, 22);
+        legendMineIcon = ImageCache.icon("/resources/redmine.png", 22, 22);
+        legendQuestionIcon = ImageCache.icon("/resources/questionMark.png", 22, 22);
+        legendBoxIcon = ImageCache.icon("/resources/BOX.png", 22, 22);
+        legendFlagIcon = ImageCache.icon("/resources/flag.png", 22, 22);
+        legendHeartIcon = ImageCache.icon("/resources/heart.png", 22, 22);
+        legendDiceIcon = ImageCache.icon("/resources/dice.png", 22, 22);
     }
 
     // ---------- color helpers (UI only) ----------
@@ -228,12 +217,6 @@ public class MineSweeper extends JFrame implements GameObserver {
         return new Color(r, g, b);
     }
 
-    private boolean isDark(Color c) {
-        // perceived luminance
-        double lum = 0.2126 * c.getRed() + 0.7152 * c.getGreen() + 0.0722 * c.getBlue();
-        return lum < 140;
-    }
-
     private JPanel createHorizontalLegendBar() {
 
         JPanel bar = new JPanel(new GridLayout(1, 6, 20, 0)); 
@@ -572,8 +555,7 @@ public class MineSweeper extends JFrame implements GameObserver {
         hintMineButton.setBorder(BorderFactory.createCompoundBorder(new LineBorder(new Color(140, 180, 255), 2, true),
                 new EmptyBorder(10, 18, 10, 18)));
 
-        ImageIcon hintIcon = new ImageIcon(getClass().getResource("/resources/search.png"));
-        hintMineButton.setIcon(resizeIcon(hintIcon, 20, 20));
+        hintMineButton.setIcon(ImageCache.icon("/resources/search.png", 20, 20));
         hintMineButton.setHorizontalTextPosition(SwingConstants.RIGHT);
         hintMineButton.setIconTextGap(8);
 
@@ -594,8 +576,7 @@ public class MineSweeper extends JFrame implements GameObserver {
                 new EmptyBorder(10, 18, 10, 18)
         ));
 
-        ImageIcon mineIcon = new ImageIcon(getClass().getResource("/resources/where.png"));
-        openMineButton.setIcon(resizeIcon(mineIcon, 20, 20));
+        openMineButton.setIcon(ImageCache.icon("/resources/where.png", 20, 20));
         openMineButton.setText(" OPEN MINE");
         openMineButton.setHorizontalTextPosition(SwingConstants.RIGHT);
         openMineButton.setIconTextGap(8);
@@ -619,10 +600,9 @@ public class MineSweeper extends JFrame implements GameObserver {
                 new EmptyBorder(10, 18, 10, 18)
         ));
 
-        java.net.URL helpUrl = getClass().getResource("/resources/help.png");
-        if (helpUrl != null) {
-            ImageIcon helpIcon = new ImageIcon(helpUrl);
-            helpButton.setIcon(resizeIcon(helpIcon, 20, 20));
+        Icon helpIcon = ImageCache.icon("/resources/help.png", 20, 20);
+        if (helpIcon != null) {
+            helpButton.setIcon(helpIcon);
             helpButton.setHorizontalTextPosition(SwingConstants.RIGHT);
             helpButton.setIconTextGap(8);
         }
@@ -691,27 +671,12 @@ public class MineSweeper extends JFrame implements GameObserver {
         String titleA = (player1Name != null && !player1Name.isBlank()) ? player1Name : "Player 1";
         boardCardA = createBoardCard(titleA, true);
 
-        JPanel boardAContainer = new JPanel();
-        boardAContainer.setLayout(new OverlayLayout(boardAContainer));
-        boardAContainer.setOpaque(false);
-
-        boardPanelA = new JPanel(new GridLayout(rows, cols, GRID_GAP, GRID_GAP));
-        boardPanelA.setBackground(BOARD_BG_A);
-        boardPanelA.setBorder(new EmptyBorder(BOARD_PAD, BOARD_PAD, BOARD_PAD, BOARD_PAD));
-        boardPanelA.setAlignmentX(0.5f);
-        boardPanelA.setAlignmentY(0.5f);
-
-        for (int y = 0; y < rows; y++) {
-            for (int x = 0; x < cols; x++) {
-                buttonsA[x][y] = createCell("A", x, y);
-                boardPanelA.add(buttonsA[x][y]);
-            }
-        }
+        boardViewA = new BoardView(BoardSide.A, cols, rows, BOARD_BG_A, CELL_HIDDEN_A,
+                darken(BOARD_BG_A, 0.20f));
+        boardViewA.setUpdates(updates);
 
         overlayA = new JPanel(new GridBagLayout());
         overlayA.setBackground(new Color(8, 22, 30, 200));
-        overlayA.setAlignmentX(0.5f);
-        overlayA.setAlignmentY(0.5f);
         overlayA.setVisible(false);
 
         JLabel waitingLabelA = new JLabel("WAITING...");
@@ -719,35 +684,17 @@ public class MineSweeper extends JFrame implements GameObserver {
         waitingLabelA.setForeground(new Color(255, 255, 255, 210));
         overlayA.add(waitingLabelA);
 
-        boardAContainer.add(overlayA);
-        boardAContainer.add(boardPanelA);
-
-        boardCardA.add(boardAContainer, BorderLayout.CENTER);
+        boardCardA.add(new BoardPane(boardViewA, overlayA), BorderLayout.CENTER);
 
         String titleB = (player2Name != null && !player2Name.isBlank()) ? player2Name : "Player 2";
         boardCardB = createBoardCard(titleB, false);
 
-        JPanel boardBContainer = new JPanel();
-        boardBContainer.setLayout(new OverlayLayout(boardBContainer));
-        boardBContainer.setOpaque(false);
-
-        boardPanelB = new JPanel(new GridLayout(rows, cols, GRID_GAP, GRID_GAP));
-        boardPanelB.setBackground(BOARD_BG_B);
-        boardPanelB.setBorder(new EmptyBorder(BOARD_PAD, BOARD_PAD, BOARD_PAD, BOARD_PAD));
-        boardPanelB.setAlignmentX(0.5f);
-        boardPanelB.setAlignmentY(0.5f);
-
-        for (int y = 0; y < rows; y++) {
-            for (int x = 0; x < cols; x++) {
-                buttonsB[x][y] = createCell("B", x, y);
-                boardPanelB.add(buttonsB[x][y]);
-            }
-        }
+        boardViewB = new BoardView(BoardSide.B, cols, rows, BOARD_BG_B, CELL_HIDDEN_B,
+                darken(BOARD_BG_B, 0.20f));
+        boardViewB.setUpdates(updates);
 
         overlayB = new JPanel(new GridBagLayout());
         overlayB.setBackground(new Color(8, 22, 30, 200));
-        overlayB.setAlignmentX(0.5f);
-        overlayB.setAlignmentY(0.5f);
         overlayB.setVisible(false);
 
         JLabel waitingLabelB = new JLabel("WAITING...");
@@ -755,10 +702,7 @@ public class MineSweeper extends JFrame implements GameObserver {
         waitingLabelB.setForeground(new Color(255, 255, 255, 210));
         overlayB.add(waitingLabelB);
 
-        boardBContainer.add(overlayB);
-        boardBContainer.add(boardPanelB);
-
-        boardCardB.add(boardBContainer, BorderLayout.CENTER);
+        boardCardB.add(new BoardPane(boardViewB, overlayB), BorderLayout.CENTER);
 
         boardsContainer.add(boardCardA);
         boardsContainer.add(boardCardB);
@@ -767,7 +711,12 @@ public class MineSweeper extends JFrame implements GameObserver {
         return boardsContainer;
     }
 
+    // Shown with the event's other updates; repeated calls keep the last counts
     public void updateMinesLeft(int minesA, int minesB) {
+        updates.minesLeft(minesA, minesB);
+    }
+
+    private void applyMinesLeft(int minesA, int minesB) {
         if (minesLeftALabel != null) {
             minesLeftALabel.setText("  " + minesA);
         }
@@ -913,30 +862,6 @@ public class MineSweeper extends JFrame implements GameObserver {
         }
     }
 
-    private JButton createCell(String board, int x, int y) {
-        JButton button = new JButton();
-        button.setPreferredSize(new Dimension(CELL_SIZE, CELL_SIZE));
-
-        boolean isA = "A".equals(board);
-        Color bg = isA ? CELL_HIDDEN_A : CELL_HIDDEN_B;
-
-        button.setOpaque(true);
-        button.setContentAreaFilled(true);
-        button.setBackground(bg);
-
-        button.setForeground(isDark(bg) ? TEXT_WHITE : new Color(20, 20, 20));
-        button.setFont(new Font("Segoe UI", Font.BOLD, 24));
-        button.setFocusPainted(false);
-
-        Color border = isA ? darken(BOARD_BG_A, 0.20f) : darken(BOARD_BG_B, 0.20f);
-        button.setBorder(new LineBorder(border, 1, true));
-
-        button.setName(board + ":" + x + "," + y);
-        button.putClientProperty("board", board);
-
-        return button;
-    }
-
     public void startTimer() {
         stopTimer = false;
         timer = new Thread(() -> {
@@ -984,24 +909,16 @@ public class MineSweeper extends JFrame implements GameObserver {
     }
 
     public void enableBothBoards() {
-        for (int x = 0; x < cols; x++) {
-            for (int y = 0; y < rows; y++) {
-                buttonsA[x][y].setEnabled(true);
-                buttonsB[x][y].setEnabled(true);
-            }
-        }
+        boardViewA.setEnabled(true);
+        boardViewB.setEnabled(true);
     }
 
     public void setActiveBoard(String boardTag) {
         activeBoard = boardTag != null ? boardTag : "A";
         boolean aActive = "A".equals(activeBoard);
 
-        for (int x = 0; x < cols; x++) {
-            for (int y = 0; y < rows; y++) {
-                buttonsA[x][y].setEnabled(aActive);
-                buttonsB[x][y].setEnabled(!aActive);
-            }
-        }
+        boardViewA.setEnabled(aActive);
+        boardViewB.setEnabled(!aActive);
 
         if (turnIndicatorA != null) {
             turnIndicatorA.setText(aActive ? "YOUR TURN" : "");
@@ -1035,38 +952,13 @@ public class MineSweeper extends JFrame implements GameObserver {
     }
 
     public void hideAll() {
-        for (int x = 0; x < cols; x++) {
-            for (int y = 0; y < rows; y++) {
-                buttonsA[x][y].setText("");
-                buttonsA[x][y].setBackground(CELL_HIDDEN_A);
-                buttonsA[x][y].setForeground(isDark(CELL_HIDDEN_A) ? TEXT_WHITE : new Color(20, 20, 20));
-                buttonsA[x][y].setIcon(null);
-                buttonsA[x][y].setBorder(new LineBorder(darken(BOARD_BG_A, 0.20f), 1, true));
-
-                buttonsB[x][y].setText("");
-                buttonsB[x][y].setBackground(CELL_HIDDEN_B);
-                buttonsB[x][y].setForeground(isDark(CELL_HIDDEN_B) ? TEXT_WHITE : new Color(20, 20, 20));
-                buttonsB[x][y].setIcon(null);
-                buttonsB[x][y].setBorder(new LineBorder(darken(BOARD_BG_B, 0.20f), 1, true));
-            }
-        }
+        boardViewA.reset();
+        boardViewB.reset();
     }
 
     public void setButtonListeners(Game game) {
-        for (int x = 0; x < cols; x++) {
-            for (int y = 0; y < rows; y++) {
-                buttonsA[x][y].addMouseListener(game);
-                buttonsB[x][y].addMouseListener(game);
-            }
-        }
-    }
-
-    public JButton[][] getButtonsA() {
-        return buttonsA;
-    }
-
-    public JButton[][] getButtonsB() {
-        return buttonsB;
+        boardViewA.addMouseListener(game);
+        boardViewB.addMouseListener(game);
     }
 
     public int getTimePassed() {
@@ -1099,143 +991,38 @@ public class MineSweeper extends JFrame implements GameObserver {
         return mines;
     }
 
-    private static Icon resizeIcon(ImageIcon icon, int resizedWidth, int resizedHeight) {
-        if (icon == null)
-            return null;
-        Image img = icon.getImage();
-        Image resizedImage = img.getScaledInstance(resizedWidth, resizedHeight, Image.SCALE_SMOOTH);
-        return new ImageIcon(resizedImage);
-    }
-
     public void setIcons() {
-        int bOffset = 2, bWidth = 40, bHeight = 40;
-        try {
-            if (buttonsA[0][0] != null) {
-                bOffset = buttonsA[0][0].getInsets().left;
-                bWidth = buttonsA[0][0].getWidth();
-                bHeight = buttonsA[0][0].getHeight();
-            }
-        } catch (Exception ignored) {
-        }
-
-        try {
-            redMine = resizeIcon(new ImageIcon(getClass().getResource("/resources/redmine.png")),
-                    Math.max(20, bWidth - bOffset), Math.max(20, bHeight - bOffset));
-            mine = resizeIcon(new ImageIcon(getClass().getResource("/resources/mine.png")),
-                    Math.max(20, bWidth - bOffset), Math.max(20, bHeight - bOffset));
-
-            tile = resizeIcon(new ImageIcon(getClass().getResource("/resources/tile.png")),
-                    Math.max(20, bWidth - bOffset), Math.max(20, bHeight - bOffset));
-            smallMineIcon = resizeIcon(new ImageIcon(getClass().getResource("/resources/mine.png")), 30, 30);
-        } catch (Exception e) {
-            System.out.println("Warning: Could not load icons from /resources/");
-        }
+        smallMineIcon = ImageCache.icon("/resources/mine.png", 30, 30);
     }
 
-    public void revealAllBoard(Board board, JButton[][] buttons) {
-        Cell[][] cells = board.getCells();
+    // End of game: every cell of the board shown, mines and unused boxes outlined
+    public void revealAllBoard(BoardSide side) {
+        Board board = boardOf(side);
+        BoardView view = viewOf(side);
+        view.setEnabled(false);
 
-        for (int x = 0; x < board.getCols(); x++) {
-            for (int y = 0; y < board.getRows(); y++) {
+        for (int i = 0; i < board.getCellCount(); i++) {
+            SpecialBoxType special = board.getSpecialBox(i);
+            boolean used = board.getState(i) == CellState.USED;
 
-                JButton b = buttons[x][y];
-                Cell cell = cells[x][y];
-
-                b.setEnabled(false);
-
-                if (cell.getMine()) {
-                    b.setBackground(MINE_BG);
-                    b.setBorder(new LineBorder(MINE_BORDER, 2, true));
-                    b.setIcon(getIconRedMine());
-                    b.setText("");
-                    continue;
-                }
-
-                SpecialBoxType special = cell.getSpecialBox();
-                String content = cell.getContent();
-                if (content == null)
-                    content = "";
-
-                if (special == SpecialBoxType.SURPRISE && !"USED".equals(content)) {
-                    b.setIcon(null);
-                    b.setBackground(S_HIGHLIGHT);
-                    b.setBorder(new LineBorder(S_BORDER, 2, true));
-                    b.setText("🎁");
-                    b.setFont(new Font("Segoe UI Emoji", Font.BOLD, 18));
-                    b.setForeground(new Color(30, 30, 30));
-                    continue;
-                }
-
-                if (special == SpecialBoxType.QUESTION && !"USED".equals(content)) {
-                    b.setIcon(null);
-                    b.setBackground(Q_HIGHLIGHT);
-                    b.setBorder(new LineBorder(Q_BORDER, 2, true));
-                    b.setText("❓");
-                    b.setFont(new Font("Segoe UI Emoji", Font.BOLD, 18));
-                    b.setForeground(new Color(30, 30, 30));
-                    continue;
-                }
-
-                int n = cell.getSurroundingMines();
-                b.setBackground(CELL_REVEALED);
-                b.setBorder(new LineBorder(new Color(210, 220, 230), 1, true));
-
-                if (n == 0) {
-                    b.setText("·");
-                    b.setForeground(new Color(160, 170, 200, 110));
-                    b.setFont(new Font("Arial", Font.BOLD, 24));
-                } else {
-                    b.setText(Integer.toString(n));
-                    setTextColor(b);
-                }
+            if (board.isMine(i)) {
+                view.show(i, BoardView.Look.MINE, 0, BoardView.Accent.STRONG);
+            } else if (special == SpecialBoxType.SURPRISE && !used) {
+                view.show(i, BoardView.Look.SURPRISE, 0, BoardView.Accent.STRONG);
+            } else if (special == SpecialBoxType.QUESTION && !used) {
+                view.show(i, BoardView.Look.QUESTION, 0, BoardView.Accent.STRONG);
+            } else {
+                view.show(i, BoardView.Look.NUMBER, board.getSurroundingMines(i), BoardView.Accent.NONE);
             }
         }
     }
 
-    public Icon getIconMine() {
-        return mine;
-    }
-
-    public Icon getIconRedMine() {
-        return redMine;
-    }
-
-    public Icon getIconTile() {
-        return tile;
-    }
-
-    public void setTextColor(JButton b) {
-        b.setFont(new Font("Segoe UI", Font.BOLD, 24));
-
-        switch (b.getText()) {
-            case "1" -> b.setForeground(NUM_BLUE);
-            case "2" -> b.setForeground(NUM_GREEN);
-            case "3" -> b.setForeground(NUM_RED);
-            case "4" -> b.setForeground(NUM_PURPLE);
-            case "5" -> b.setForeground(new Color(255, 202, 40));
-            case "6" -> b.setForeground(new Color(38, 198, 218));
-            case "7" -> b.setForeground(new Color(144, 164, 174));
-            case "8" -> b.setForeground(new Color(176, 190, 197));
-        }
-    }
-
-    public void highlightQCell(JButton b) {
-        b.setBackground(Q_HIGHLIGHT);
-        b.setForeground(new Color(40, 40, 40));
-        b.setText("Q");
-        b.setFont(new Font("Segoe UI", Font.BOLD, 20));
-        b.setBorder(new LineBorder(Q_BORDER, 2, true));
-    }
-
-    public void highlightSCell(JButton b) {
-        b.setBackground(S_HIGHLIGHT);
-        b.setForeground(new Color(20, 40, 60));
-        b.setText("S");
-        b.setFont(new Font("Segoe UI", Font.BOLD, 20));
-        b.setBorder(new LineBorder(S_BORDER, 2, true));
+    // Shown with the event's other updates; repeated calls keep the last score and lives
+    public void updateStatus(int sharedScore, int lives) {
+        updates.status(sharedScore, lives);
     }
 
-    public void updateStatus(int sharedScore, int lives) {
+    private void applyStatus(int sharedScore, int lives) {
         if (scoreLabel != null) {
             scoreLabel.setText(String.valueOf(sharedScore));
         }
@@ -1250,17 +1037,7 @@ public class MineSweeper extends JFrame implements GameObserver {
     }
 
     public void initStatus(int lives) {
-        int max = 10;
-
-        if (livesLabel != null) {
-            livesLabel.setText(lives + " / " + max);
-        }
-
-        if (scoreLabel != null) {
-            scoreLabel.setText("0");
-        }
-
-        updateHeartsDisplay(lives, max);
+        updateStatus(0, lives);
     }
 
     public void setDifficulty(Difficulty diff) {
@@ -1356,43 +1133,8 @@ public class MineSweeper extends JFrame implements GameObserver {
     }
 
     public void circleCell(String boardTag, int x, int y) {
-        JButton[][] btns = "A".equals(boardTag) ? buttonsA : buttonsB;
         if (x < 0 || y < 0 || x >= cols || y >= rows) return;
-
-        JButton b = btns[x][y];
-        Border originalBorder = b.getBorder();
-
-        javax.swing.Timer old = (javax.swing.Timer) b.getClientProperty("circleRestoreTimer");
-        if (old != null) old.stop();
-
-        b.setBorder(new LineBorder(Color.YELLOW, 3, true));
-        b.revalidate();
-        b.repaint();
-
-        if (b.getParent() != null) {
-            b.getParent().revalidate();
-            b.getParent().repaint();
-        }
-
-        Toolkit.getDefaultToolkit().sync();
-
-        javax.swing.Timer t = new javax.swing.Timer(5000, e -> {
-            b.setBorder(originalBorder);
-            b.revalidate();
-            b.repaint();
-
-            if (b.getParent() != null) {
-                b.getParent().revalidate();
-                b.getParent().repaint();
-            }
-
-            Toolkit.getDefaultToolkit().sync();
-            ((javax.swing.Timer) e.getSource()).stop();
-            b.putClientProperty("circleRestoreTimer", null);
-        });
-
-        b.putClientProperty("circleRestoreTimer", t);
-        t.start();
+        viewOf(BoardSide.fromTag(boardTag)).hint(y * cols + x);
     }
 
     public void showCorrectAnswerDialog() {
@@ -1423,6 +1165,246 @@ public class MineSweeper extends JFrame implements GameObserver {
         }
     }
 
+    // ================== ENGINE EVENTS ==================
+
+    private Board boardOf(BoardSide side) {
+        return game.getEngine().getBoard(side);
+    }
+
+    private BoardView viewOf(BoardSide side) {
+        return side == BoardSide.A ? boardViewA : boardViewB;
+    }
+
+    // Shows a cell the way it looks right after it was opened
+    private void showRevealed(BoardView view, Board board, int index) {
+        switch (board.getSpecialBox(index)) {
+            case SURPRISE -> view.show(index, BoardView.Look.SURPRISE);
+            case QUESTION -> view.show(index, BoardView.Look.QUESTION);
+            // Heart and dice – revealed but can still be activated later
+            case HEART -> view.show(index, BoardView.Look.HEART);
+            case DICE -> view.show(index, BoardView.Look.DICE);
+            default -> view.show(index, BoardView.Look.NUMBER, board.getSurroundingMines(index), BoardView.Accent.NONE);
+        }
+    }
+
+    @Override
+    public void cellRevealed(BoardSide side, int index) {
+        Board board = boardOf(side);
+        BoardView view = viewOf(side);
+
+        showRevealed(view, board, index);
+
+        if (board.getSpecialBox(index) == SpecialBoxType.DICE) {
+            view.accent(index, BoardView.Accent.STRONG);
+        }
+    }
+
+    @Override
+    public void areaRevealed(BoardSide side, int[] cells, int count) {
+        Board board = boardOf(side);
+        BoardView view = viewOf(side);
+        for (int k = 0; k < count; k++) {
+            showRevealed(view, board, cells[k]);
+        }
+    }
+
+    @Override
+    public void windowRevealed(BoardSide side, int[] cells, int count) {
+        Board board = boardOf(side);
+        BoardView view = viewOf(side);
+
+        for (int k = 0; k < count; k++) {
+            int i = cells[k];
+            if (board.isMine(i)) {
+                view.show(i, BoardView.Look.MINE_EXPOSED);
+            } else {
+                view.show(i, BoardView.Look.NUMBER, board.getSurroundingMines(i), BoardView.Accent.NONE);
+            }
+        }
+    }
+
+    @Override
+    public void mineHit(BoardSide side, int index) {
+        viewOf(side).show(index, BoardView.Look.MINE);
+
+        showMineHitDialog();
+    }
+
+    @Override
+    public void mineExposed(BoardSide side, int index) {
+        viewOf(side).show(index, BoardView.Look.MINE_EXPOSED);
+    }
+
+    @Override
+    public void mineHinted(BoardSide side, int index) {
+        viewOf(side).hint(index);
+
+        new javax.swing.Timer(120, e -> {
+            JOptionPane.showMessageDialog(this, "A mine has been highlighted on your board.", "Hint Used",
+                    JOptionPane.INFORMATION_MESSAGE);
+            ((javax.swing.Timer) e.getSource()).stop();
+        }).start();
+    }
+
+    @Override
+    public void flagPlaced(BoardSide side, int index) {
+        viewOf(side).show(index, BoardView.Look.FLAG);
+    }
+
+    @Override
+    public void flagRemoved(BoardSide side, int index) {
+        viewOf(side).show(index, BoardView.Look.HIDDEN);
+    }
+
+    @Override
+    public void flagJudged(BoardSide side, int index, boolean correct) {
+        BoardView view = viewOf(side);
+
+        if (correct) {
+            // correct flag on a mine: reveal it with a green border
+            view.show(index, BoardView.Look.MINE, 0, BoardView.Accent.CORRECT);
+        } else {
+            view.accent(index, BoardView.Accent.WRONG);
+        }
+    }
+
+    @Override
+    public void diceTurned(BoardSide side, int index, SpecialBoxType box) {
+        viewOf(side).showDiceFace(index, box);
+    }
+
+    @Override
+    public void boxUsed(BoardSide side, int index) {
+        viewOf(side).show(index, BoardView.Look.USED);
+    }
+
+    @Override
+    public void heartActivated(boolean lifeGained, int lives, int maxLives) {
+        if (lifeGained) {
+            JOptionPane.showMessageDialog(this, "❤️ Heart activated!\n+1 life.\nLives: " + lives, "Heart Box",
+                    JOptionPane.INFORMATION_MESSAGE);
+        } else {
+            JOptionPane.showMessageDialog(this,
+                    "❤️ You already have max lives (" + maxLives + ").\n+5 points instead!", "Heart Box",
+                    JOptionPane.INFORMATION_MESSAGE);
+        }
+    }
+
+    @Override
+    public void surpriseActivated(SurpriseOutcome outcome) {
+        StringBuilder msg = new StringBuilder();
+        msg.append("Surprise box result:\n\n");
+        msg.append("Activation cost: -").append(outcome.activationCost()).append(" pts\n");
+        int effectPts = outcome.effectPoints();
+        msg.append("Surprise effect points: ").append(effectPts >= 0 ? "+" : "").append(effectPts).append(" pts");
+
+        int deltaLives = outcome.livesChange();
+        if (deltaLives != 0) {
+            msg.append("\nLife change: ").append(deltaLives > 0 ? "+" : "").append(deltaLives).append(" ♥");
+        }
+
+        int deltaPts = outcome.pointsChange();
+        msg.append("\n\nTotal points change: ").append(deltaPts >= 0 ? "+" : "").append(deltaPts).append(" pts");
+        msg.append("\nTotal score: ").append(outcome.score()).append("\nTotal lives: ").append(outcome.lives());
+
+        JOptionPane.showMessageDialog(this, msg.toString(), "Surprise Box", JOptionPane.INFORMATION_MESSAGE);
+    }
+
+    @Override
+    public void questionAnswered(boolean correct) {
+        if (correct) {
+            showCorrectAnswerDialog();
+        } else {
+            showWrongAnswerDialog();
+        }
+    }
+
+    @Override
+    public void questionResolved(QuestionOutcome outcome) {
+        StringBuilder msg = new StringBuilder();
+        msg.append("Question result (").append(outcome.gameDifficulty().name()).append(" game, ")
+                .append(outcome.questionDifficulty().name()).append(" question)\n\n");
+
+        msg.append(outcome.correct() ? "✅ Correct answer!\n" : "❌ Wrong answer.\n");
+
+        msg.append("Activation cost: -").append(outcome.activationCost()).append(" pts\n");
+
+        int effectPts = outcome.effectPoints(); // pure effect beyond activation cost
+        msg.append("Question effect points: ").append(effectPts >= 0 ? "+" : "").append(effectPts).append(" pts");
+
+        int deltaLives = outcome.livesChange();
+        if (deltaLives != 0) {
+            msg.append("\nLife change: ").append(deltaLives > 0 ? "+" : "").append(deltaLives).append(" ♥");
+        }
+
+        if (outcome.mineRevealed()) {
+            msg.append("\n\nA random mine on your board was revealed.");
+        }
+        if (outcome.areaRevealed()) {
+            msg.append("\nA 3×3 area on your board was revealed.");
+        }
+
+        int deltaPts = outcome.pointsChange();
+        msg.append("\n\nTotal points change: ").append(deltaPts >= 0 ? "+" : "").append(deltaPts).append(" pts");
+        msg.append("\nTotal score: ").append(outcome.score()).append("\nTotal lives: ").append(outcome.lives());
+
+        JOptionPane.showMessageDialog(this, msg.toString(), "Question Outcome", JOptionPane.INFORMATION_MESSAGE);
+    }
+
+    @Override
+    public void noQuestionsLeft() {
+        showNoMoreQuestionsDialog();
+    }
+
+    @Override
+    public void statusChanged(int score, int lives) {
+        updateStatus(score, lives);
+    }
+
+    @Override
+    public void turnChanged(BoardSide active) {
+        setActiveBoard(active.tag());
+    }
+
+    @Override
+    public void minesLeftChanged(int minesA, int minesB) {
+        updateMinesLeft(minesA, minesB);
+    }
+
+    // ================== PLAYER DECISIONS ==================
+
+    @Override
+    public boolean confirmActivation(SpecialBoxType box, int activationCost) {
+        String cost = "(Activation will cost " + activationCost + " points.)";
+        int choice = switch (box) {
+            case HEART -> JOptionPane.showConfirmDialog(this,
+                    "Do you want to activate the heart?\n" + cost, "Activate Heart?", JOptionPane.YES_NO_OPTION);
+            case QUESTION -> JOptionPane.showConfirmDialog(this,
+                    "Do you want to answer the question now?\n" + cost, "Answer Question?", JOptionPane.YES_NO_OPTION);
+            default -> JOptionPane.showConfirmDialog(this,
+                    "Do you want to activate the surprise box?\n" + cost, "Activate Surprise?",
+                    JOptionPane.YES_NO_OPTION);
+        };
+        return choice == JOptionPane.YES_OPTION;
+    }
+
+    @Override
+    public SpecialBoxType chooseDiceBox() {
+        // 0=Heart, 1=Question, 2=Surprise, 3=Cancel, -1=closed
+        return switch (showDiceChoiceDialog()) {
+            case 0 -> SpecialBoxType.HEART;
+            case 1 -> SpecialBoxType.QUESTION;
+            case 2 -> SpecialBoxType.SURPRISE;
+            default -> SpecialBoxType.NONE;
+        };
+    }
+
+    @Override
+    public int answerQuestion(Question question) {
+        Object answer = askQuestion(question);
+        return question.getOptions().indexOf(answer.toString());
+    }
+
     private void installWindowCloseHandler() {
         addWindowListener(new java.awt.event.WindowAdapter() {
             @Override
@@ -2,6 +2,7 @@ package view;
 
 import controller.Game;
 import model.Difficulty;
+import model.SysData;
 
 import javax.swing.*;
 import java.awt.*;
@@ -56,6 +57,7 @@ public class PlayerSetupView extends JFrame {
     public static Color player2BoardColorChoice = BOARD_COLORS[1];
 
     private Image backgroundImage;
+    private Backdrop backdrop; // the background, the center glass and the player cards
 
     public PlayerSetupView() {
         loadBackgroundImage();
@@ -63,14 +65,7 @@ public class PlayerSetupView extends JFrame {
     }
 
     private void loadBackgroundImage() {
-        try {
-            backgroundImage = new ImageIcon(
-                    getClass().getResource("/resources/setupBackground.png")
-            ).getImage();
-        } catch (Exception e) {
-            System.out.println("Warning: Could not load /resources/setupBackground.png");
-            backgroundImage = null;
-        }
+        backgroundImage = ImageCache.image("/resources/setupBackground.png");
     }
 
     private void initUI() {
@@ -83,15 +78,13 @@ public class PlayerSetupView extends JFrame {
         JPanel mainPanel = new JPanel(new BorderLayout()) {
             @Override
             protected void paintComponent(Graphics g) {
-                super.paintComponent(g);
-                if (backgroundImage != null) {
-                    g.drawImage(backgroundImage, 0, 0, getWidth(), getHeight(), this);
-                } else {
-                    g.setColor(bgMain);
-                    g.fillRect(0, 0, getWidth(), getHeight());
-                }
+                backdrop.paint(g);
             }
         };
+        backdrop = new Backdrop(mainPanel, Backdrop.picture(backgroundImage, (g, w, h) -> {
+            g.setColor(bgMain);
+            g.fillRect(0, 0, w, h);
+        }));
         mainPanel.setBorder(BorderFactory.createEmptyBorder(40, 80, 40, 80));
         setContentPane(mainPanel);
 
@@ -108,32 +101,23 @@ public class PlayerSetupView extends JFrame {
         mainPanel.add(headerPanel, BorderLayout.NORTH);
 
         // ===== Center: glass container =====
-        JPanel centerPanel = new JPanel(new BorderLayout()) {
-            @Override
-            protected void paintComponent(Graphics g) {
-                super.paintComponent(g);
-                Graphics2D g2 = (Graphics2D) g.create();
-                g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
-
-                int arc = 30;
-                int w = getWidth();
-                int h = getHeight();
+        JPanel centerPanel = new JPanel(new BorderLayout());
+        backdrop.addGlass(centerPanel, (g2, w, h) -> {
+            g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
 
-                GradientPaint gp = new GradientPaint(
-                        0, 0, new Color(255, 255, 255, 80),
-                        0, h, new Color(255, 255, 255, 20)
-                );
-                g2.setPaint(gp);
-                g2.fillRoundRect(0, 0, w, h, arc, arc);
+            int arc = 30;
 
-                g2.setColor(new Color(255, 255, 255, 90));
-                g2.setStroke(new BasicStroke(2f));
-                g2.drawRoundRect(1, 1, w - 3, h - 3, arc - 4, arc - 4);
+            GradientPaint gp = new GradientPaint(
+                    0, 0, new Color(255, 255, 255, 80),
+                    0, h, new Color(255, 255, 255, 20)
+            );
+            g2.setPaint(gp);
+            g2.fillRoundRect(0, 0, w, h, arc, arc);
 
-                g2.dispose();
-            }
-        };
-        centerPanel.setOpaque(false);
+            g2.setColor(new Color(255, 255, 255, 90));
+            g2.setStroke(new BasicStroke(2f));
+            g2.drawRoundRect(1, 1, w - 3, h - 3, arc - 4, arc - 4);
+        });
         centerPanel.setBorder(BorderFactory.createEmptyBorder(20, 40, 10, 40));
         mainPanel.add(centerPanel, BorderLayout.CENTER);
 
@@ -141,9 +125,7 @@ public class PlayerSetupView extends JFrame {
         JPanel topButtonsPanel = new JPanel(new FlowLayout(FlowLayout.LEFT, 0, 0));
         topButtonsPanel.setOpaque(false);
 
-        ImageIcon homeIcon = new ImageIcon(getClass().getResource("/resources/home.png"));
-        Image scaledHome = homeIcon.getImage().getScaledInstance(26, 26, Image.SCALE_SMOOTH);
-        homeIcon = new ImageIcon(scaledHome);
+        ImageIcon homeIcon = ImageCache.icon("/resources/home.png", 26, 26);
 
         backButton = new RoundedButton("  Main Menu");
         backButton.setFont(new Font("Segoe UI", Font.BOLD, 16));
@@ -228,36 +210,26 @@ public class PlayerSetupView extends JFrame {
     // ===== Player card =====
     private JPanel createPlayerCard(String title, boolean isPlayer1) {
 
-        JPanel card = new JPanel(new BorderLayout()) {
-            @Override
-            protected void paintComponent(Graphics g) {
-                super.paintComponent(g);
-                Graphics2D g2 = (Graphics2D) g.create();
-                g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
-
-                int arc = 25;
-                int w = getWidth();
-                int h = getHeight();
-
-                g2.setColor(new Color(0, 0, 0, 40));
-                g2.fillRoundRect(4, 6, w - 2, h - 2, arc, arc);
+        JPanel card = new JPanel(new BorderLayout());
+        backdrop.addGlass(card, (g2, w, h) -> {
+            g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
 
-                GradientPaint gp = new GradientPaint(
-                        0, 0, new Color(255, 255, 255, 110),
-                        0, h, new Color(255, 255, 255, 40)
-                );
-                g2.setPaint(gp);
-                g2.fillRoundRect(0, 0, w - 4, h - 6, arc, arc);
+            int arc = 25;
 
-                g2.setColor(new Color(255, 255, 255, 160));
-                g2.setStroke(new BasicStroke(1.8f));
-                g2.drawRoundRect(2, 2, w - 8, h - 10, arc - 4, arc - 4);
+            g2.setColor(new Color(0, 0, 0, 40));
+            g2.fillRoundRect(4, 6, w - 2, h - 2, arc, arc);
 
-                g2.dispose();
-            }
-        };
+            GradientPaint gp = new GradientPaint(
+                    0, 0, new Color(255, 255, 255, 110),
+                    0, h, new Color(255, 255, 255, 40)
+            );
+            g2.setPaint(gp);
+            g2.fillRoundRect(0, 0, w - 4, h - 6, arc, arc);
 
-        card.setOpaque(false);
+            g2.setColor(new Color(255, 255, 255, 160));
+            g2.setStroke(new BasicStroke(1.8f));
+            g2.drawRoundRect(2, 2, w - 8, h - 10, arc - 4, arc - 4);
+        });
         card.setPreferredSize(new Dimension(360, 200));
         card.setMaximumSize(new Dimension(360, 200));
 
@@ -702,6 +674,7 @@ public class PlayerSetupView extends JFrame {
     }
 
     public static void main(String[] args) {
+        SysData.getInstance(); // load the questions before the first match
         SwingUtilities.invokeLater(() -> {
             PlayerSetupView view = new PlayerSetupView();
             view.setVisible(true);
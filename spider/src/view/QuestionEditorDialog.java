@@ -47,6 +47,7 @@ public class QuestionEditorDialog extends JDialog {
 
     // Background image
     private Image backgroundImage;
+    private Backdrop backdrop; // the background and the card's glass
 
     public QuestionEditorDialog(Frame owner, SysData sysData, Question questionOrNull) {
         super(owner, true);
@@ -73,13 +74,7 @@ public class QuestionEditorDialog extends JDialog {
 
     //  Load background image from resources
     private void loadBackgroundImage() {
-        try {
-            backgroundImage = new ImageIcon(
-                    getClass().getResource("/resources/questionsBackground.jpg")
-            ).getImage();
-        } catch (Exception e) {
-            backgroundImage = null;
-        }
+        backgroundImage = ImageCache.image("/resources/questionsBackground.jpg");
     }
 
     // ----------------------------------------------------
@@ -137,24 +132,15 @@ public class QuestionEditorDialog extends JDialog {
         JPanel root = new JPanel(new BorderLayout(10, 10)) {
             @Override
             protected void paintComponent(Graphics g) {
-                super.paintComponent(g);
-                Graphics2D g2 = (Graphics2D) g.create();
-
-                if (backgroundImage != null) {
-                    g2.setRenderingHint(RenderingHints.KEY_INTERPOLATION,
-                            RenderingHints.VALUE_INTERPOLATION_BILINEAR);
-                    g2.drawImage(backgroundImage, 0, 0,
-                            getWidth(), getHeight(), null);
-                } else {
-                    g2.setPaint(new GradientPaint(
-                            0, 0, BG_MAIN,
-                            getWidth(), getHeight(), BG_MAIN.darker()));
-                    g2.fillRect(0, 0, getWidth(), getHeight());
-                }
-
-                g2.dispose();
+                backdrop.paint(g);
             }
         };
+        backdrop = new Backdrop(root, Backdrop.picture(backgroundImage, (g2, w, h) -> {
+            g2.setPaint(new GradientPaint(
+                    0, 0, BG_MAIN,
+                    w, h, BG_MAIN.darker()));
+            g2.fillRect(0, 0, w, h);
+        }));
         root.setBorder(new EmptyBorder(12, 12, 12, 12));
         setContentPane(root);
 
@@ -177,34 +163,24 @@ public class QuestionEditorDialog extends JDialog {
         root.add(titlePanel, BorderLayout.NORTH);
 
         // Card with glass effect
-        JPanel cardPanel = new JPanel(new GridBagLayout()) {
-            @Override
-            protected void paintComponent(Graphics g) {
-                Graphics2D g2 = (Graphics2D) g.create();
-                g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING,
-                        RenderingHints.VALUE_ANTIALIAS_ON);
-
-                int arc = 24;
-                int w = getWidth();
-                int h = getHeight();
-
-                  
-                g2.setColor(new Color(
-                        CARD_BG.getRed(),
-                        CARD_BG.getGreen(),
-                        CARD_BG.getBlue(),
-                        170)); //  170/255
-                g2.fillRoundRect(0, 0, w, h, arc, arc);
-
-                g2.setColor(new Color(255, 255, 255, 80));
-                g2.setStroke(new BasicStroke(2f));
-                g2.drawRoundRect(1, 1, w - 3, h - 3, arc - 4, arc - 4);
-
-                g2.dispose();
-                super.paintChildren(g);
-            }
-        };
-        cardPanel.setOpaque(false);
+        JPanel cardPanel = new JPanel(new GridBagLayout());
+        backdrop.addGlass(cardPanel, (g2, w, h) -> {
+            g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING,
+                    RenderingHints.VALUE_ANTIALIAS_ON);
+
+            int arc = 24;
+
+            g2.setColor(new Color(
+                    CARD_BG.getRed(),
+                    CARD_BG.getGreen(),
+                    CARD_BG.getBlue(),
+                    170)); //  170/255
+            g2.fillRoundRect(0, 0, w, h, arc, arc);
+
+            g2.setColor(new Color(255, 255, 255, 80));
+            g2.setStroke(new BasicStroke(2f));
+            g2.drawRoundRect(1, 1, w - 3, h - 3, arc - 4, arc - 4);
+        });
         cardPanel.setBorder(new EmptyBorder(12, 12, 12, 12));
 
         int row = 0;
@@ -0,0 +1,122 @@
+package view;
+
+import model.Question;
+import model.QuestionBank;
+
+import javax.swing.AbstractListModel;
+import java.util.List;
+
+/**
+ * List model over a question bank snapshot. A new snapshot is compared with the
+ * current one and only the questions that were added, removed or edited are
+ * reported, so the list repaints those cards and keeps everything else. Search
+ * results replace the list as a whole.
+ */
+final class QuestionListModel extends AbstractListModel<Question> {
+
+    private static final long serialVersionUID = 1L;
+
+    // more changes than this are reported as one refresh of the whole list
+    private static final int MAX_TARGETED_CHANGES = 64;
+
+    private transient QuestionBank bank; // null while search results are shown
+    private transient List<Question> rows = List.of();
+
+    @Override
+    public int getSize() {
+        return rows.size();
+    }
+
+    @Override
+    public Question getElementAt(int index) {
+        return rows.get(index);
+    }
+
+    /** Position of the question with this id, or -1. */
+    int indexOf(String id) {
+        if (id == null || (bank != null && !bank.contains(id))) {
+            return -1;
+        }
+        for (int i = 0; i < rows.size(); i++) {
+            if (rows.get(i).getId().equals(id)) return i;
+        }
+        return -1;
+    }
+
+    /** Shows just these questions, e.g. search results. */
+    void showOnly(List<Question> matches) {
+        int oldSize = rows.size();
+        bank = null;
+        rows = matches;
+        fireReplaced(oldSize, matches.size());
+    }
+
+    /**
+     * Switches to the given snapshot. Banks keep the order of the questions they
+     * share (edits stay in place, new ones are appended), so one walk over both
+     * lists finds every change.
+     */
+    void update(QuestionBank next) {
+        QuestionBank previous = bank;
+        if (previous == next) {
+            return;
+        }
+        int shown = rows.size();
+        bank = next;
+        rows = next.all();
+
+        if (previous == null) {
+            fireReplaced(shown, next.size());
+            return;
+        }
+
+        // changes[k] = {kind, index}, indices as the list looks after the earlier changes
+        int[][] changes = new int[MAX_TARGETED_CHANGES][];
+        int n = 0;
+        int i = 0, j = 0;
+        int oldSize = previous.size(), newSize = next.size();
+        while ((i < oldSize || j < newSize) && n < MAX_TARGETED_CHANGES) {
+            Question before = (i < oldSize) ? previous.all().get(i) : null;
+            Question after = (j < newSize) ? next.all().get(j) : null;
+
+            if (before != null && before == after) {
+                i++;
+                j++;
+            } else if (before != null && !next.contains(before.getId())) {
+                changes[n++] = new int[] { -1, j };
+                i++;
+            } else if (after != null && (before == null || !previous.contains(after.getId()))) {
+                changes[n++] = new int[] { +1, j };
+                j++;
+            } else {
+                if (before != after) {
+                    changes[n++] = new int[] { 0, j };
+                }
+                i++;
+                j++;
+            }
+        }
+
+        if (i < oldSize || j < newSize) {
+            fireReplaced(oldSize, newSize); // too much at once
+            return;
+        }
+
+        for (int k = 0; k < n; k++) {
+            int at = changes[k][1];
+            switch (changes[k][0]) {
+                case -1: fireIntervalRemoved(this, at, at); break;
+                case +1: fireIntervalAdded(this, at, at); break;
+                default: fireContentsChanged(this, at, at); break;
+            }
+        }
+    }
+
+    // Every row may have changed: repaint everything, sizes included
+    private void fireReplaced(int oldSize, int newSize) {
+        int common = Math.min(oldSize, newSize);
+        if (oldSize > newSize) fireIntervalRemoved(this, newSize, oldSize - 1);
+        if (newSize > oldSize) fireIntervalAdded(this, oldSize, newSize - 1);
+        if (common > 0) fireContentsChanged(this, 0, common - 1);
+    }
+}
@@ -1,18 +1,24 @@
 package view;
 
 import model.Question;
+import model.QuestionBank;
+import model.QuestionBankListener;
+import model.QuestionDifficulty;
+import model.QuestionSearchIndex;
 import model.SysData;
 
 import javax.swing.*;
 import javax.swing.border.CompoundBorder;
 import javax.swing.border.EmptyBorder;
 import javax.swing.border.LineBorder;
+import javax.swing.event.DocumentEvent;
+import javax.swing.event.DocumentListener;
 import java.awt.*;
 import java.awt.event.ActionEvent;
+import java.awt.event.ComponentAdapter;
+import java.awt.event.ComponentEvent;
 import java.awt.event.MouseAdapter;
 import java.awt.event.MouseEvent;
-import java.util.ArrayList;
-import java.util.List;
 
 public class QuestionManagerFrame extends JFrame {
 
@@ -20,6 +26,10 @@ public class QuestionManagerFrame extends JFrame {
 
     private final SysData sysData;
 
+    // edits made anywhere else (e.g. another manager window) refresh the cards
+    private final QuestionBankListener bankListener =
+            bank -> SwingUtilities.invokeLater(this::reloadQuestions);
+
     // Top buttons
     private JButton btnNew;
     private JButton btnEdit;
@@ -27,13 +37,21 @@ public class QuestionManagerFrame extends JFrame {
     private JButton btnReload;
     private JButton btnClose;
 
-    // Cards area
-    private JPanel cardsContainer;
+    // Search: results as you type, narrowed by difficulty
+    private static final int SEARCH_LIMIT = 1000;
+
+    private JTextField searchField;
+    private JComboBox<String> difficultyBox;
+
+    // Cards area: a two-column list that only paints the cards in view
+    private static final int CARD_HEIGHT = 130;
+
+    private JList<Question> cardsList;
     private JLabel lblSubtitle;
 
     // Data
-    private List<Question> currentQuestions = new ArrayList<>();
-    private int selectedIndex = -1;
+    private final QuestionListModel questionsModel = new QuestionListModel();
+    private String selectedId; // kept across reloads, wherever the question moves
 
     // Colors
     private static final Color BG_MAIN    = new Color(0x08, 0x13, 0x1E);
@@ -48,24 +66,19 @@ public class QuestionManagerFrame extends JFrame {
 
     // Background image
     private Image bgImage;
+    private Backdrop backdrop; // the background and the cards' glass frame
 
     public QuestionManagerFrame(SysData sysData) {
         super("Question Bank");
         this.sysData = sysData;
 
-        try {
-            bgImage = new ImageIcon(
-                    getClass().getResource("/resources/questionsBackground.jpg")
-            ).getImage();
-        } catch (Exception e) {
-            System.out.println("Warning: Could not load /resources/questionsBackground.jpg");
-            bgImage = null;
-        }
+        bgImage = ImageCache.image("/resources/questionsBackground.jpg");
 
         initComponents();
         buildLayout();
         attachListeners();
         reloadQuestions();
+        sysData.addQuestionBankListener(bankListener);
 
         setDefaultCloseOperation(JFrame.DISPOSE_ON_CLOSE);
         setSize(900, 620);
@@ -108,10 +121,30 @@ public class QuestionManagerFrame extends JFrame {
             b.setMaximumSize(maxSize);
         }
 
-        // Cards container for questions (2 columns via GridBagLayout)
-        cardsContainer = new JPanel(new GridBagLayout());
-        cardsContainer.setOpaque(false);
-        cardsContainer.setBorder(new EmptyBorder(8, 8, 8, 8));
+        // Cards list for questions (2 columns, filled row by row)
+        cardsList = new JList<>(questionsModel);
+        cardsList.setOpaque(false);
+        cardsList.setBackground(new Color(0, 0, 0, 0));
+        cardsList.setLayoutOrientation(JList.HORIZONTAL_WRAP);
+        cardsList.setVisibleRowCount(0);
+        cardsList.setFixedCellHeight(CARD_HEIGHT);
+        cardsList.setFixedCellWidth(300);
+        cardsList.setSelectionMode(ListSelectionModel.SINGLE_SELECTION);
+        cardsList.setCellRenderer(new QuestionCardRenderer());
+        cardsList.setBorder(new EmptyBorder(8, 8, 8, 8));
+        cardsList.setCursor(Cursor.getPredefinedCursor(Cursor.HAND_CURSOR));
+
+        // Search box and difficulty facet
+        searchField = new JTextField(18);
+        searchField.setFont(new Font("Segoe UI", Font.PLAIN, 13));
+        searchField.setToolTipText("Search question text and answers");
+
+        difficultyBox = new JComboBox<>();
+        difficultyBox.addItem("All");
+        for (QuestionDifficulty d : QuestionDifficulty.values()) {
+            difficultyBox.addItem(d.name());
+        }
+        difficultyBox.setFont(new Font("Segoe UI", Font.PLAIN, 12));
 
         lblSubtitle = new JLabel("");
         lblSubtitle.setFont(new Font("Segoe UI", Font.PLAIN, 12));
@@ -126,24 +159,16 @@ public class QuestionManagerFrame extends JFrame {
         JPanel root = new JPanel(new BorderLayout(12, 12)) {
             @Override
             protected void paintComponent(Graphics g) {
-                super.paintComponent(g);
-                Graphics2D g2 = (Graphics2D) g.create();
-                g2.setRenderingHint(RenderingHints.KEY_INTERPOLATION,
-                        RenderingHints.VALUE_INTERPOLATION_BILINEAR);
-
-                if (bgImage != null) {
-                    g2.drawImage(bgImage, 0, 0, getWidth(), getHeight(), null);
-                } else {
-                    g2.setPaint(new GradientPaint(
-                            0, 0, BG_MAIN,
-                            getWidth(), getHeight(), BG_MAIN.darker()
-                    ));
-                    g2.fillRect(0, 0, getWidth(), getHeight());
-                }
-                g2.dispose();
+                backdrop.paint(g);
             }
         };
-        root.setOpaque(false);
+        backdrop = new Backdrop(root, Backdrop.picture(bgImage, (g2, w, h) -> {
+            g2.setPaint(new GradientPaint(
+                    0, 0, BG_MAIN,
+                    w, h, BG_MAIN.darker()
+            ));
+            g2.fillRect(0, 0, w, h);
+        }));
         root.setBorder(BorderFactory.createEmptyBorder(14, 14, 14, 14));
         setContentPane(root);
 
@@ -161,55 +186,66 @@ public class QuestionManagerFrame extends JFrame {
         JPanel titlePanel = new JPanel(new BorderLayout(5, 2));
         titlePanel.setOpaque(false);
         titlePanel.add(titleLeft, BorderLayout.WEST);
-        titlePanel.add(btnReload, BorderLayout.EAST);
+
+        JPanel titleRight = new JPanel(new FlowLayout(FlowLayout.RIGHT, 8, 0));
+        titleRight.setOpaque(false);
+        JLabel lblSearch = new JLabel("Search:");
+        lblSearch.setForeground(TEXT_MAIN);
+        lblSearch.setFont(new Font("Segoe UI", Font.BOLD, 12));
+        titleRight.add(lblSearch);
+        titleRight.add(searchField);
+        titleRight.add(difficultyBox);
+        titleRight.add(btnReload);
+        titlePanel.add(titleRight, BorderLayout.EAST);
 
         // Frosted glass wrapper for cards
-        JPanel cardWrapper = new JPanel(new BorderLayout()) {
-            @Override
-            protected void paintComponent(Graphics g) {
-                Graphics2D g2 = (Graphics2D) g.create();
-                g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING,
-                        RenderingHints.VALUE_ANTIALIAS_ON);
-
-                int arc = 28;
-                int w = getWidth();
-                int h = getHeight();
-
-                // Base glass tint
-                Color base = new Color(5, 20, 40, 200);
-                g2.setColor(base);
-                g2.fillRoundRect(0, 0, w, h, arc, arc);
-
-                // Vertical highlight for glass effect
-                GradientPaint gp = new GradientPaint(
-                        0, 0, new Color(255, 255, 255, 70),
-                        0, h, new Color(255, 255, 255, 15)
-                );
-                g2.setPaint(gp);
-                g2.fillRoundRect(0, 0, w, h, arc, arc);
-
-                // Outer soft border
-                g2.setColor(new Color(255, 255, 255, 60));
-                g2.drawRoundRect(0, 0, w - 1, h - 1, arc, arc);
-
-                // Inner bright border
-                g2.setColor(new Color(255, 255, 255, 200));
-                g2.setStroke(new BasicStroke(2f));
-                g2.drawRoundRect(2, 2, w - 5, h - 5, arc - 4, arc - 4);
-
-                g2.dispose();
-                super.paintComponent(g);
-            }
-        };
-        cardWrapper.setOpaque(false);
+        JPanel cardWrapper = new JPanel(new BorderLayout());
+        backdrop.addGlass(cardWrapper, (g2, w, h) -> {
+            g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING,
+                    RenderingHints.VALUE_ANTIALIAS_ON);
+
+            int arc = 28;
+
+            // Base glass tint
+            Color base = new Color(5, 20, 40, 200);
+            g2.setColor(base);
+            g2.fillRoundRect(0, 0, w, h, arc, arc);
+
+            // Vertical highlight for glass effect
+            GradientPaint gp = new GradientPaint(
+                    0, 0, new Color(255, 255, 255, 70),
+                    0, h, new Color(255, 255, 255, 15)
+            );
+            g2.setPaint(gp);
+            g2.fillRoundRect(0, 0, w, h, arc, arc);
+
+            // Outer soft border
+            g2.setColor(new Color(255, 255, 255, 60));
+            g2.drawRoundRect(0, 0, w - 1, h - 1, arc, arc);
+
+            // Inner bright border
+            g2.setColor(new Color(255, 255, 255, 200));
+            g2.setStroke(new BasicStroke(2f));
+            g2.drawRoundRect(2, 2, w - 5, h - 5, arc - 4, arc - 4);
+        });
         cardWrapper.setBorder(new EmptyBorder(12, 12, 12, 12));
 
-        JScrollPane scrollPane = new JScrollPane(cardsContainer);
+        JScrollPane scrollPane = new JScrollPane(cardsList);
         scrollPane.getViewport().setOpaque(false);
         scrollPane.setOpaque(false);
         scrollPane.setBorder(BorderFactory.createEmptyBorder());
         scrollPane.setHorizontalScrollBarPolicy(ScrollPaneConstants.HORIZONTAL_SCROLLBAR_NEVER);
 
+        // two cards per row at any window width
+        scrollPane.getViewport().addComponentListener(new ComponentAdapter() {
+            @Override
+            public void componentResized(ComponentEvent e) {
+                Insets in = cardsList.getInsets();
+                int width = scrollPane.getViewport().getWidth() - in.left - in.right;
+                cardsList.setFixedCellWidth(Math.max(1, width / 2));
+            }
+        });
+
         cardWrapper.add(scrollPane, BorderLayout.CENTER);
 
         // Side buttons panel (stick to bottom)
@@ -234,6 +270,12 @@ public class QuestionManagerFrame extends JFrame {
         root.add(buttonsPanel, BorderLayout.EAST);
     }
 
+    @Override
+    public void dispose() {
+        sysData.removeQuestionBankListener(bankListener);
+        super.dispose();
+    }
+
     // ----------------------------------------------------
     // Listeners
     // ----------------------------------------------------
@@ -243,6 +285,45 @@ public class QuestionManagerFrame extends JFrame {
         btnEdit.addActionListener(this::onEdit);
         btnDelete.addActionListener(this::onDelete);
         btnClose.addActionListener(e -> dispose());
+
+        searchField.getDocument().addDocumentListener(new DocumentListener() {
+            @Override
+            public void insertUpdate(DocumentEvent e) {
+                reloadQuestions();
+            }
+
+            @Override
+            public void removeUpdate(DocumentEvent e) {
+                reloadQuestions();
+            }
+
+            @Override
+            public void changedUpdate(DocumentEvent e) {
+                reloadQuestions();
+            }
+        });
+        difficultyBox.addActionListener(e -> reloadQuestions());
+
+        cardsList.addListSelectionListener(e -> {
+            Question q = cardsList.getSelectedValue();
+            if (q != null) {
+                selectedId = q.getId();
+            }
+        });
+
+        // double-click edits, like the cards always did
+        cardsList.addMouseListener(new MouseAdapter() {
+            @Override
+            public void mouseClicked(MouseEvent e) {
+                if (e.getClickCount() != 2 || !SwingUtilities.isLeftMouseButton(e)) {
+                    return;
+                }
+                int index = cardsList.locationToIndex(e.getPoint());
+                if (index >= 0 && cardsList.getCellBounds(index, index).contains(e.getPoint())) {
+                    openEditor(questionsModel.getElementAt(index));
+                }
+            }
+        });
     }
 
     // ----------------------------------------------------
@@ -292,8 +373,7 @@ public class QuestionManagerFrame extends JFrame {
             return;
         }
 
-        sysData.deleteQuestionById(q.getId());
-        sysData.saveQuestionsToCsv();
+        sysData.deleteQuestion(q);
         reloadQuestions();
     }
 
@@ -303,158 +383,142 @@ public class QuestionManagerFrame extends JFrame {
         reloadQuestions();
     }
 
+    // Applies whatever changed since the last snapshot; unchanged cards are left alone.
+    // While searching, the matches are looked up again instead.
     private void reloadQuestions() {
-        currentQuestions = new ArrayList<>(sysData.findAllQuestions());
-        selectedIndex = -1;
-
-        lblSubtitle.setText(currentQuestions.size() + " questions in bank");
-        rebuildCardsUI();
-    }
-
-    // ----------------------------------------------------
-    // Cards UI (2 columns)
-    // ----------------------------------------------------
-    private void rebuildCardsUI() {
-        cardsContainer.removeAll();
+        QuestionBank bank = sysData.getQuestionBank();
+        String query = searchField.getText();
+        String diff = (String) difficultyBox.getSelectedItem();
 
-        GridBagConstraints gbc = new GridBagConstraints();
-        gbc.insets = new Insets(10, 10, 10, 10);
-        gbc.fill = GridBagConstraints.BOTH;
-        gbc.weightx = 0.5;
-        gbc.weighty = 0.0;
-
-        for (int i = 0; i < currentQuestions.size(); i++) {
-            Question q = currentQuestions.get(i);
-            JPanel card = createQuestionCard(q, i);
-
-            int row = i / 2;
-            int col = i % 2;
-
-            gbc.gridx = col;
-            gbc.gridy = row;
-
-            cardsContainer.add(card, gbc);
+        if (query.isBlank() && "All".equals(diff)) {
+            questionsModel.update(bank);
+            lblSubtitle.setText(bank.size() + " questions in bank");
+        } else {
+            QuestionDifficulty only = "All".equals(diff) ? null : QuestionDifficulty.valueOf(diff);
+            QuestionSearchIndex.Result result = sysData.searchQuestions(query, only, SEARCH_LIMIT);
+            questionsModel.showOnly(result.questions());
+            lblSubtitle.setText(describe(result, bank.size()));
         }
 
-        // Spacer row to push cards to the top
-        gbc.gridx = 0;
-        gbc.gridy = currentQuestions.size() / 2 + 1;
-        gbc.gridwidth = 2;
-        gbc.weighty = 1.0;
-        JPanel spacer = new JPanel();
-        spacer.setOpaque(false);
-        cardsContainer.add(spacer, gbc);
-
-        cardsContainer.revalidate();
-        cardsContainer.repaint();
+        Question selected = cardsList.getSelectedValue();
+        if (selected == null || !selected.getId().equals(selectedId)) {
+            int index = questionsModel.indexOf(selectedId);
+            if (index >= 0) {
+                cardsList.setSelectedIndex(index);
+            } else {
+                cardsList.clearSelection();
+            }
+        }
     }
 
-    private JPanel createQuestionCard(Question q, int index) {
-        String id   = String.valueOf(q.getId());
-        String text = q.getText();
-        String diff = String.valueOf(q.getDifficulty());
-
-        JPanel card = new JPanel(new BorderLayout()) {
-            @Override
-            protected void paintComponent(Graphics g) {
-                Graphics2D g2 = (Graphics2D) g.create();
-                g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING,
-                        RenderingHints.VALUE_ANTIALIAS_ON);
-
-                boolean isSelected = (index == selectedIndex);
+    private static String describe(QuestionSearchIndex.Result result, int bankSize) {
+        StringBuilder sb = new StringBuilder();
+        sb.append(result.total()).append(" of ").append(bankSize).append(" questions match");
+        if (result.total() > result.questions().size()) {
+            sb.append(" (showing ").append(result.questions().size()).append(")");
+        }
+        sb.append("  |");
+        for (QuestionDifficulty d : QuestionDifficulty.values()) {
+            sb.append("  ").append(d.name()).append(' ').append(result.facets().get(d));
+        }
+        return sb.toString();
+    }
 
-                Color baseFill   = new Color(10, 10, 15, 140);
-                Color borderSoft = new Color(255, 255, 255, 25);
-                Color borderHard = new Color(255, 255, 255, 220);
+    private Question getSelectedQuestion() {
+        Question q = cardsList.getSelectedValue();
+        return (q != null && q.getId().equals(selectedId)) ? q : null;
+    }
 
-                if (isSelected) {
-                    baseFill   = new Color(40, 80, 110, 180);
-                    borderSoft = new Color(0, 255, 200, 60);
-                    borderHard = new Color(0, 255, 200, 220);
-                }
+    // ----------------------------------------------------
+    // Cards (one renderer paints every visible card)
+    // ----------------------------------------------------
+    private static class QuestionCardRenderer extends JPanel implements ListCellRenderer<Question> {
+        private static final long serialVersionUID = 1L;
+
+        private final JLabel idLabel = new JLabel();
+        private final JLabel diffLabel = new JLabel();
+        private final JTextArea questionArea = new JTextArea();
+        private boolean selected;
+
+        QuestionCardRenderer() {
+            super(new BorderLayout());
+            setOpaque(false);
+            // room around the painted card, as the grid insets used to leave
+            setBorder(new CompoundBorder(new EmptyBorder(10, 10, 10, 10), new EmptyBorder(12, 16, 12, 16)));
+
+            // Top meta line: ID + Difficulty
+            JPanel metaPanel = new JPanel(new FlowLayout(FlowLayout.LEFT, 10, 0));
+            metaPanel.setOpaque(false);
+
+            idLabel.setForeground(TEXT_MUTED);
+            idLabel.setFont(new Font("Segoe UI", Font.PLAIN, 12));
+
+            diffLabel.setForeground(new Color(255, 202, 40));
+            diffLabel.setFont(new Font("Segoe UI", Font.BOLD, 12));
+
+            JLabel separator = new JLabel("|");
+            separator.setForeground(new Color(90, 100, 120));
+
+            metaPanel.add(idLabel);
+            metaPanel.add(separator);
+            metaPanel.add(diffLabel);
+
+            // Question text
+            questionArea.setEditable(false);
+            questionArea.setLineWrap(true);
+            questionArea.setWrapStyleWord(true);
+            questionArea.setOpaque(false);
+            questionArea.setForeground(TEXT_MAIN);
+            questionArea.setFont(new Font("Segoe UI", Font.PLAIN, 13));
+            questionArea.setBorder(null);
+
+            add(metaPanel, BorderLayout.NORTH);
+            add(questionArea, BorderLayout.CENTER);
+        }
 
-                g2.setColor(baseFill);
-                g2.fillRoundRect(0, 0, getWidth(), getHeight(), 18, 18);
+        @Override
+        public Component getListCellRendererComponent(JList<? extends Question> list, Question q,
+                                                      int index, boolean isSelected, boolean cellHasFocus) {
+            idLabel.setText("ID: " + q.getId());
+            diffLabel.setText("Difficulty: " + q.getDifficulty());
+            questionArea.setText(q.getText());
+            selected = isSelected;
+            return this;
+        }
 
-                g2.setColor(borderSoft);
-                g2.drawRoundRect(0, 0, getWidth() - 1, getHeight() - 1, 18, 18);
+        @Override
+        protected void paintComponent(Graphics g) {
+            Graphics2D g2 = (Graphics2D) g.create();
+            g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING,
+                    RenderingHints.VALUE_ANTIALIAS_ON);
 
-                g2.setColor(borderHard);
-                g2.setStroke(new BasicStroke(2f));
-                g2.drawRoundRect(1, 1, getWidth() - 3, getHeight() - 3, 18, 18);
+            Color baseFill   = new Color(10, 10, 15, 140);
+            Color borderSoft = new Color(255, 255, 255, 25);
+            Color borderHard = new Color(255, 255, 255, 220);
 
-                g2.dispose();
-                super.paintComponent(g);
+            if (selected) {
+                baseFill   = new Color(40, 80, 110, 180);
+                borderSoft = new Color(0, 255, 200, 60);
+                borderHard = new Color(0, 255, 200, 220);
             }
-        };
-
-        card.setOpaque(false);
-        card.setBorder(new EmptyBorder(12, 16, 12, 16));
-
-        // Top meta line: ID + Difficulty
-        JPanel metaPanel = new JPanel(new FlowLayout(FlowLayout.LEFT, 10, 0));
-        metaPanel.setOpaque(false);
-
-        JLabel idLabel = new JLabel("ID: " + id);
-        idLabel.setForeground(TEXT_MUTED);
-        idLabel.setFont(new Font("Segoe UI", Font.PLAIN, 12));
-
-        JLabel diffLabel = new JLabel("Difficulty: " + diff);
-        diffLabel.setForeground(new Color(255, 202, 40));
-        diffLabel.setFont(new Font("Segoe UI", Font.BOLD, 12));
-
-        metaPanel.add(idLabel);
-        metaPanel.add(new JLabel("|") {{
-            setForeground(new Color(90, 100, 120));
-        }});
-        metaPanel.add(diffLabel);
-
-        // Question text
-        JTextArea questionArea = new JTextArea(text);
-        questionArea.setEditable(false);
-        questionArea.setLineWrap(true);
-        questionArea.setWrapStyleWord(true);
-        questionArea.setOpaque(false);
-        questionArea.setForeground(TEXT_MAIN);
-        questionArea.setFont(new Font("Segoe UI", Font.PLAIN, 13));
-        questionArea.setBorder(null);
-
-        card.add(metaPanel, BorderLayout.NORTH);
-        card.add(questionArea, BorderLayout.CENTER);
-
-        // Mouse handling for selection + double-click edit
-        card.setCursor(Cursor.getPredefinedCursor(Cursor.HAND_CURSOR));
 
-        MouseAdapter clickHandler = new MouseAdapter() {
-            @Override
-            public void mouseClicked(MouseEvent e) {
-                setSelectedIndex(index);
-                if (e.getClickCount() == 2 && SwingUtilities.isLeftMouseButton(e)) {
-                    openEditor(q);
-                }
-            }
-        };
+            // the card sits inside the outer margin
+            int x = 10, y = 10;
+            int w = getWidth() - 20, h = getHeight() - 20;
 
-        card.addMouseListener(clickHandler);
-        questionArea.addMouseListener(clickHandler);
+            g2.setColor(baseFill);
+            g2.fillRoundRect(x, y, w, h, 18, 18);
 
-        return card;
-    }
+            g2.setColor(borderSoft);
+            g2.drawRoundRect(x, y, w - 1, h - 1, 18, 18);
 
-    private void setSelectedIndex(int index) {
-        if (index < 0 || index >= currentQuestions.size()) {
-            selectedIndex = -1;
-        } else {
-            selectedIndex = index;
-        }
-        cardsContainer.repaint();
-    }
+            g2.setColor(borderHard);
+            g2.setStroke(new BasicStroke(2f));
+            g2.drawRoundRect(x + 1, y + 1, w - 3, h - 3, 18, 18);
 
-    private Question getSelectedQuestion() {
-        if (selectedIndex < 0 || selectedIndex >= currentQuestions.size()) {
-            return null;
+            g2.dispose();
+            super.paintComponent(g);
         }
-        return currentQuestions.get(selectedIndex);
     }
 
     // ----------------------------------------------------
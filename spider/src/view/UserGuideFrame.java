@@ -171,7 +171,9 @@ public class UserGuideFrame extends JFrame {
 
             section("2) Turns & Boards",
                 "Only the <b>ACTIVE</b> board can be clicked. After a <b>valid action</b>, the turn switches to the other player.<br/>" +
-                "If a click is ignored (for example: clicking an already revealed cell), the turn does not change."
+                "If a click is ignored (for example: clicking an already revealed cell), the turn does not change.<br/>" +
+                "On big boards, <b>Ctrl + mouse wheel</b> zooms and dragging with the <b>right mouse button</b> moves the board; " +
+                "the small map in the corner shows where you are."
             ),
 
             section("3) Basic Cells",
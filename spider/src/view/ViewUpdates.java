@@ -0,0 +1,92 @@
+package view;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.swing.SwingUtilities;
+
+/**
+ * What the game changed on screen while one event was handled, applied once
+ * when the event dispatch thread gets to it. Status and mine counter updates
+ * keep only their latest values, and each board repaints one rectangle around
+ * all the cells it changed. A click that floods an area, scores and changes
+ * turns thus sets each label once and paints each board once, and revealing
+ * a whole board at the end of a match is a single paint pass.
+ *
+ * Call from the event dispatch thread.
+ */
+final class ViewUpdates {
+
+    /** Receives a pair of values, e.g. score and lives. */
+    @FunctionalInterface
+    interface Sink {
+        void accept(int first, int second);
+    }
+
+    private final Sink status;
+    private final Sink minesLeft;
+
+    private boolean scheduled;
+
+    private boolean statusPending;
+    private int score, lives;
+
+    private boolean minesPending;
+    private int minesA, minesB;
+
+    private final List<BoardView> boards = new ArrayList<>(2);
+
+    ViewUpdates(Sink status, Sink minesLeft) {
+        this.status = status;
+        this.minesLeft = minesLeft;
+    }
+
+    /** The shared score and lives to show; replaces any not shown yet. */
+    void status(int score, int lives) {
+        this.score = score;
+        this.lives = lives;
+        statusPending = true;
+        schedule();
+    }
+
+    /** The mines left on each board; replaces any not shown yet. */
+    void minesLeft(int minesA, int minesB) {
+        this.minesA = minesA;
+        this.minesB = minesB;
+        minesPending = true;
+        schedule();
+    }
+
+    /** The board has cells to repaint; called on its first change since the last flush. */
+    void cellsChanged(BoardView board) {
+        if (!boards.contains(board)) {
+            boards.add(board);
+        }
+        schedule();
+    }
+
+    private void schedule() {
+        if (!scheduled) {
+            scheduled = true;
+            SwingUtilities.invokeLater(this::flush);
+        }
+    }
+
+    /** Applies everything pending now; a later flush finds nothing to do. */
+    void flush() {
+        scheduled = false;
+
+        if (statusPending) {
+            statusPending = false;
+            status.accept(score, lives);
+        }
+        if (minesPending) {
+            minesPending = false;
+            minesLeft.accept(minesA, minesB);
+        }
+        for (int k = 0; k < boards.size(); k++) {
+            boards.get(k).repaintChanged();
+        }
+        boards.clear();
+    }
+}
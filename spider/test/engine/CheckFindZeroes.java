@@ -0,0 +1,99 @@
+package engine;
+
+import static org.junit.Assert.*;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import model.Board;
+import model.Cell;
+import model.CellState;
+import model.Difficulty;
+import model.RandomStreams;
+import model.SpecialBoxType;
+
+public class CheckFindZeroes {
+
+    private GameEngine game;
+    private Board board;
+    private int revealedEvents;
+
+    @Before
+    public void setup() throws Exception {
+        // Headless engine, no GUI needed
+        game = new GameEngine(Difficulty.EASY, new RandomStreams(1L));
+
+        Field boardField = GameEngine.class.getDeclaredField("boardA");
+        boardField.setAccessible(true);
+        board = (Board) boardField.get(game);
+
+        game.addListener(new GameEventListener() {
+            @Override
+            public void areaRevealed(BoardSide side, int[] cells, int count) {
+                revealedEvents += count;
+            }
+        });
+    }
+
+    @Test
+    public void testFindZeroesRevealConnected() throws Exception {
+
+        // 1️⃣ Set entire board to 0-surrounding cells
+        for (int x = 0; x < board.getCols(); x++) {
+            for (int y = 0; y < board.getRows(); y++) {
+                Cell c = board.getCells()[x][y];
+                c.setMine(false);
+                c.setSpecialBox(SpecialBoxType.NONE);
+                c.setSurroundingMines(0);
+                c.setContent("");    
+            }
+        }
+
+      
+        int cx = 4, cy = 4;
+
+       
+        board.getCells()[cx][cy].setContent("0");
+
+     
+        Method m = GameEngine.class.getDeclaredMethod(
+                "findZeroes",
+                int.class, int.class, Board.class
+        );
+        m.setAccessible(true);
+        m.invoke(game, cx, cy, board);
+
+      
+        for (int x = 0; x < board.getCols(); x++) {
+            for (int y = 0; y < board.getRows(); y++) {
+
+                assertEquals(
+                    "Cell (" + x + "," + y + ") was NOT revealed!",
+                    CellState.REVEALED, board.getState(x, y)
+                );
+                assertEquals("0", board.getContent(x, y));
+            }
+        }
+
+        // every cell but the start one comes in a single batch
+        assertEquals(board.getCellCount() - 1, revealedEvents);
+    }
+
+    @Test
+    public void testClickOnEmptyCellOpensArea() {
+        for (int i = 0; i < board.getCellCount(); i++) {
+            board.setMine(i, false);
+            board.setSpecialBox(i, SpecialBoxType.NONE);
+            board.setSurroundingMines(i, 0);
+        }
+
+        assertEquals(MoveOutcome.CELL_REVEALED, game.click(BoardSide.A, 0, 0));
+
+        assertEquals(board.getCellCount() - 1, revealedEvents);
+        assertEquals(1, game.getSharedScore());
+        assertEquals(BoardSide.B, game.getActiveSide());
+    }
+}
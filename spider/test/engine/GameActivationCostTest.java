@@ -1,26 +1,22 @@
-package controller;
+package engine;
 
 import model.Difficulty;
+import model.RandomStreams;
 import org.junit.Test;
 
-import java.lang.reflect.Method;
-
 import static org.junit.Assert.*;
 
 public class GameActivationCostTest {
 
     @Test
     public void testActivationCosts() throws Exception {
-        Game gEasy = new Game(Difficulty.EASY, "A", "B");
-        Game gMed  = new Game(Difficulty.MEDIUM, "A", "B");
-        Game gHard = new Game(Difficulty.HARD, "A", "B");
-
-        Method m = Game.class.getDeclaredMethod("getActivationCost");
-        m.setAccessible(true);
+        GameEngine gEasy = new GameEngine(Difficulty.EASY, new RandomStreams(1L));
+        GameEngine gMed  = new GameEngine(Difficulty.MEDIUM, new RandomStreams(1L));
+        GameEngine gHard = new GameEngine(Difficulty.HARD, new RandomStreams(1L));
 
-        int easyValue = (int) m.invoke(gEasy);
-        int medValue  = (int) m.invoke(gMed);
-        int hardValue = (int) m.invoke(gHard);
+        int easyValue = gEasy.getActivationCost();
+        int medValue  = gMed.getActivationCost();
+        int hardValue = gHard.getActivationCost();
 
      
         System.out.println("Activation Cost (EASY)   Actual Value = " + easyValue);
@@ -1,6 +1,7 @@
-package controller;
+package engine;
 
 import model.Difficulty;
+import model.RandomStreams;
 import org.junit.Test;
 import static org.junit.Assert.*;
 
@@ -11,17 +12,17 @@ public class GameClampLivesTest {
 
     @Test
     public void testClampLivesAboveMax() throws Exception {
-        Game game = new Game(Difficulty.EASY, "A", "B");
+        GameEngine game = new GameEngine(Difficulty.EASY, new RandomStreams(1L));
 
-        Field livesField = Game.class.getDeclaredField("sharedLives");
-        Field scoreField = Game.class.getDeclaredField("sharedScore");
+        Field livesField = GameEngine.class.getDeclaredField("sharedLives");
+        Field scoreField = GameEngine.class.getDeclaredField("sharedScore");
         livesField.setAccessible(true);
         scoreField.setAccessible(true);
 
    
         livesField.set(game, 13); 
 
-        Method clamp = Game.class.getDeclaredMethod("clampLives");
+        Method clamp = GameEngine.class.getDeclaredMethod("clampLives");
         clamp.setAccessible(true);
         clamp.invoke(game);
 
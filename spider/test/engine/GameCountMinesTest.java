@@ -1,8 +1,9 @@
-package controller;
+package engine;
 
 import model.Board;
 import model.Cell;
 import model.Difficulty;
+import model.RandomStreams;
 
 import org.junit.Test;
 import static org.junit.Assert.*;
@@ -14,9 +15,9 @@ public class GameCountMinesTest {
 
     @Test
     public void testCountRemainingMines() throws Exception {
-        Game game = new Game(Difficulty.EASY, "A", "B");
+        GameEngine game = new GameEngine(Difficulty.EASY, new RandomStreams(1L));
 
-        Field boardField = Game.class.getDeclaredField("boardA");
+        Field boardField = GameEngine.class.getDeclaredField("boardA");
         boardField.setAccessible(true);
         Board board = (Board) boardField.get(game);
 
@@ -38,7 +39,7 @@ public class GameCountMinesTest {
        
         grid[1][1].setContent("M");
  
-        Method count = Game.class.getDeclaredMethod("countRemainingMines", Board.class);
+        Method count = GameEngine.class.getDeclaredMethod("countRemainingMines", Board.class);
         count.setAccessible(true);
 
         int result = (int) count.invoke(game, board);
@@ -47,5 +48,6 @@ public class GameCountMinesTest {
         System.out.println("Actual Remaining Mines Count = " + result);
 
         assertEquals(2, result);
+        assertEquals(2, game.getRemainingMines(BoardSide.A));
     }
 }
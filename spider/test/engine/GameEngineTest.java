@@ -0,0 +1,183 @@
+package engine;
+
+import static org.junit.Assert.*;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.Test;
+
+import model.Board;
+import model.CellState;
+import model.Difficulty;
+import model.Question;
+import model.QuestionDifficulty;
+import model.RandomStreams;
+import model.SpecialBoxType;
+
+public class GameEngineTest {
+
+    private Board board;
+
+    // Scripted players: accept everything, turn dice into hearts, always pick option 0
+    private final PlayerDecisions acceptAll = new PlayerDecisions() {
+        @Override
+        public boolean confirmActivation(SpecialBoxType box, int activationCost) {
+            return true;
+        }
+
+        @Override
+        public SpecialBoxType chooseDiceBox() {
+            return SpecialBoxType.HEART;
+        }
+
+        @Override
+        public int answerQuestion(Question question) {
+            return 0;
+        }
+    };
+
+    private final QuestionSource easyQuestion = rng -> Optional.of(
+            new Question("1", "2 + 2?", List.of("4", "5", "6", "7"), 0, QuestionDifficulty.EASY));
+
+    private GameEngine engine(PlayerDecisions decisions) {
+        GameEngine game = new GameEngine(Difficulty.EASY, new RandomStreams(3L), easyQuestion, decisions);
+        board = game.getBoardA();
+
+        // a quiet board: mines in two corners, everything else safe
+        for (int i = 0; i < board.getCellCount(); i++) {
+            board.setMine(i, false);
+            board.setSpecialBox(i, SpecialBoxType.NONE);
+            board.setSurroundingMines(i, 1);
+        }
+        board.setMine(0, 0, true);
+        board.setMine(8, 8, true);
+        return game;
+    }
+
+    // EASY starts at max lives; hit the mine so a gained life is not turned into points
+    private void loseALifeAndPassTurn(GameEngine game) {
+        game.click(BoardSide.A, 0, 0);
+        game.click(BoardSide.B, 0, 0);
+        assertEquals(BoardSide.A, game.getActiveSide());
+    }
+
+    @Test
+    public void testMineHitCostsALifeAndSwitchesTurn() {
+        GameEngine game = engine(PlayerDecisions.DECLINE_ALL);
+        int lives = game.getSharedLives();
+
+        assertEquals(MoveOutcome.MINE_HIT, game.click(BoardSide.A, 0, 0));
+
+        assertEquals(lives - 1, game.getSharedLives());
+        assertEquals(CellState.REVEALED, board.getState(0, 0));
+        assertEquals(BoardSide.B, game.getActiveSide());
+
+        // board A waits now
+        assertEquals(MoveOutcome.IGNORED, game.click(BoardSide.A, 5, 5));
+    }
+
+    @Test
+    public void testQuestionBoxRevealThenAnswer() {
+        GameEngine game = engine(acceptAll);
+        board.setSpecialBox(5, 5, SpecialBoxType.QUESTION);
+
+        assertEquals(MoveOutcome.BOX_REVEALED, game.click(BoardSide.A, 5, 5));
+        assertEquals(1, game.getSharedScore());
+
+        game.click(BoardSide.B, 0, 0); // back to A, whatever B hits
+        assertEquals(BoardSide.A, game.getActiveSide());
+        game.click(BoardSide.A, 0, 0);
+        game.click(BoardSide.B, 1, 0);
+        assertEquals(BoardSide.A, game.getActiveSide());
+        int lives = game.getSharedLives();
+        int score = game.getSharedScore();
+
+        assertEquals(MoveOutcome.BOX_USED, game.click(BoardSide.A, 5, 5));
+
+        // EASY game, EASY question answered correctly: -5 activation +3, +1 life
+        assertEquals(score - 5 + 3, game.getSharedScore());
+        assertEquals(lives + 1, game.getSharedLives());
+        assertEquals(CellState.USED, board.getState(5, 5));
+        assertEquals(SpecialBoxType.NONE, board.getSpecialBox(5, 5));
+    }
+
+    @Test
+    public void testDeclinedActivationKeepsTurn() {
+        GameEngine game = engine(PlayerDecisions.DECLINE_ALL);
+        board.setSpecialBox(5, 5, SpecialBoxType.SURPRISE);
+        board.setState(5, 5, CellState.REVEALED);
+
+        assertEquals(MoveOutcome.DECLINED, game.click(BoardSide.A, 5, 5));
+        assertEquals(BoardSide.A, game.getActiveSide());
+        assertEquals(CellState.REVEALED, board.getState(5, 5));
+    }
+
+    @Test
+    public void testDiceTurnsIntoChosenBox() {
+        GameEngine game = engine(acceptAll);
+        board.setSpecialBox(5, 5, SpecialBoxType.DICE);
+        board.setState(5, 5, CellState.REVEALED);
+        loseALifeAndPassTurn(game);
+        int lives = game.getSharedLives();
+        int score = game.getSharedScore();
+
+        assertEquals(MoveOutcome.BOX_USED, game.click(BoardSide.A, 5, 5));
+
+        // turned into a heart: -5 activation, +1 life
+        assertEquals(lives + 1, game.getSharedLives());
+        assertEquals(score - 5, game.getSharedScore());
+        assertEquals(CellState.USED, board.getState(5, 5));
+    }
+
+    @Test
+    public void testWrongFlagIsPenalisedOnce() {
+        GameEngine game = engine(PlayerDecisions.DECLINE_ALL);
+
+        game.setFlagMode(true);
+        assertEquals(MoveOutcome.FLAG_CHANGED, game.click(BoardSide.A, 5, 5));
+        game.setFlagMode(false);
+        assertEquals(-3, game.getSharedScore());
+
+        game.setFlagMode(true);
+        game.setFlagMode(false);
+        assertEquals(-3, game.getSharedScore());
+        assertEquals(CellState.FLAGGED, board.getState(5, 5));
+    }
+
+    @Test
+    public void testNoMovesAfterGameOver() {
+        GameEngine game = engine(PlayerDecisions.DECLINE_ALL);
+        game.setGameOver(true);
+
+        assertEquals(MoveOutcome.IGNORED, game.click(BoardSide.A, 5, 5));
+        assertEquals(CellState.HIDDEN, board.getState(5, 5));
+    }
+
+    @Test
+    public void testLoggedSeedOfASecondMatchRebuildsItsBoards() {
+        RandomStreams session = new RandomStreams(11L);
+        GameEngine game = new GameEngine(Difficulty.MEDIUM, session);
+        Board firstA = game.getBoardA();
+
+        game.newGame(session.split(1));
+        RandomStreams logged = game.getStreams();
+        assertNotEquals(session.getSeed(), logged.getSeed());
+        assertFalse(sameLayout(firstA, game.getBoardA()));
+
+        // what -Dspider.seed=<seed> -Dspider.rng=<rng> starts from
+        GameEngine replay = new GameEngine(Difficulty.MEDIUM,
+                new RandomStreams(logged.getSeed(), logged.getAlgorithm()));
+        assertTrue(sameLayout(game.getBoardA(), replay.getBoardA()));
+        assertTrue(sameLayout(game.getBoardB(), replay.getBoardB()));
+    }
+
+    private static boolean sameLayout(Board a, Board b) {
+        for (int i = 0; i < a.getCellCount(); i++) {
+            if (a.isMine(i) != b.isMine(i) || a.getSpecialBox(i) != b.getSpecialBox(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
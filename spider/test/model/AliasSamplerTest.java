@@ -0,0 +1,66 @@
+package model;
+
+import static org.junit.Assert.*;
+
+import java.util.List;
+import java.util.SplittableRandom;
+
+import org.junit.Test;
+
+public class AliasSamplerTest {
+
+	private static double[] frequencies(AliasSampler sampler, int draws, long seed) {
+		SplittableRandom rng = new SplittableRandom(seed);
+		double[] counts = new double[sampler.size()];
+		for (int k = 0; k < draws; k++) {
+			counts[sampler.sample(rng)]++;
+		}
+		for (int i = 0; i < counts.length; i++) {
+			counts[i] /= draws;
+		}
+		return counts;
+	}
+
+	@Test
+	public void testFollowsWeights() {
+		double[] weights = { 50, 35, 12, 3 };
+		double[] seen = frequencies(AliasSampler.of(weights), 400_000, 1);
+
+		for (int i = 0; i < weights.length; i++) {
+			assertEquals(weights[i] / 100, seen[i], 0.005);
+		}
+	}
+
+	@Test
+	public void testZeroWeightNeverDrawn() {
+		double[] seen = frequencies(AliasSampler.of(0, 1, 0, 3, 0), 100_000, 2);
+
+		assertEquals(0.0, seen[0], 0.0);
+		assertEquals(0.0, seen[2], 0.0);
+		assertEquals(0.0, seen[4], 0.0);
+		assertEquals(0.25, seen[1], 0.01);
+	}
+
+	@Test
+	public void testWeightsPerQuestion() {
+		List<Question> questions = List.of(
+				new Question("A", "rarely asked", List.of("a", "b", "c", "d"), 0, QuestionDifficulty.EASY),
+				new Question("B", "often asked", List.of("a", "b", "c", "d"), 0, QuestionDifficulty.EASY));
+		QuestionBank bank = new QuestionBank(1, questions);
+
+		AliasSampler sampler = bank.weightedBy(q -> q.getId().equals("A") ? 9 : 1);
+		double[] seen = frequencies(sampler, 100_000, 3);
+
+		assertEquals(0.9, seen[0], 0.01);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testNegativeWeightRejected() {
+		AliasSampler.of(1, -1);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testAllZeroRejected() {
+		AliasSampler.of(0, 0);
+	}
+}
@@ -0,0 +1,144 @@
+package model;
+
+import static org.junit.Assert.*;
+
+import java.util.SplittableRandom;
+
+import org.junit.Test;
+
+public class BoardCountersTest {
+
+	private static int scan(Board board, CellState state, boolean mine) {
+		int count = 0;
+		for (int i = 0; i < board.getCellCount(); i++) {
+			if (board.isMine(i) == mine && board.getState(i) == state) {
+				count++;
+			}
+		}
+		return count;
+	}
+
+	private static void assertCountersMatchScan(Board board) {
+		assertEquals(scan(board, CellState.HIDDEN, true), board.getHiddenMines());
+		assertEquals(scan(board, CellState.FLAGGED, true), board.getFlaggedMines());
+		assertEquals(scan(board, CellState.REVEALED, true), board.getRevealedMines());
+		assertEquals(scan(board, CellState.HIDDEN, false) + scan(board, CellState.FLAGGED, false),
+				board.getClosedSafeCells());
+	}
+
+	@Test
+	public void testFreshBoard() {
+		Board board = new Board(Difficulty.MEDIUM);
+
+		assertEquals(board.getNumberOfMines(), board.getHiddenMines());
+		assertEquals(board.getNumberOfMines(), board.getRemainingMines());
+		assertEquals(board.getCellCount() - board.getNumberOfMines(), board.getClosedSafeCells());
+		assertFalse(board.allMinesResolved());
+	}
+
+	@Test
+	public void testCountersFollowRandomMoves() {
+		Board board = new Board(Difficulty.HARD, new SplittableRandom(5));
+		SplittableRandom moves = new SplittableRandom(6);
+		CellState[] states = CellState.values();
+
+		for (int k = 0; k < 2000; k++) {
+			int i = moves.nextInt(board.getCellCount());
+			switch (moves.nextInt(3)) {
+			case 0 -> board.setMine(i, !board.isMine(i));
+			case 1 -> board.setState(i, states[moves.nextInt(states.length)]);
+			default -> board.floodReveal(board.xOf(i), board.yOf(i));
+			}
+		}
+		assertCountersMatchScan(board);
+
+		// every pick is a hidden mine until all are flagged
+		SplittableRandom rand = new SplittableRandom(7);
+		int i, hidden = board.getHiddenMines();
+		while ((i = board.randomHiddenMine(rand)) >= 0) {
+			assertTrue(board.isMine(i));
+			assertEquals(CellState.HIDDEN, board.getState(i));
+			board.setState(i, CellState.FLAGGED);
+			hidden--;
+		}
+		assertEquals(0, hidden);
+
+		board.resetBoard();
+		assertCountersMatchScan(board);
+		assertEquals(board.getNumberOfMines(), board.getHiddenMines());
+	}
+
+	@Test
+	public void testWinOnceEveryMineIsFlaggedOrRevealed() {
+		Board board = new Board(Difficulty.EASY);
+		boolean reveal = false;
+
+		for (int i = 0; i < board.getCellCount(); i++) {
+			if (board.isMine(i)) {
+				board.setState(i, reveal ? CellState.REVEALED : CellState.FLAGGED);
+				reveal = !reveal;
+			}
+		}
+
+		assertTrue(board.allMinesResolved());
+		assertEquals(board.getFlaggedMines(), board.getRemainingMines());
+	}
+
+	@Test
+	public void testHiddenMinesGrowPastTheMineCount() {
+		Board board = new Board(Difficulty.EASY, new SplittableRandom(3));
+		for (int i = 0; i < board.getCellCount(); i++) {
+			board.setMine(i, true);
+		}
+		assertEquals(board.getCellCount(), board.getHiddenMines());
+
+		SplittableRandom rand = new SplittableRandom(4);
+		boolean[] seen = new boolean[board.getCellCount()];
+		int i;
+		while ((i = board.randomHiddenMine(rand)) >= 0) {
+			assertFalse(seen[i]);
+			seen[i] = true;
+			board.setState(i, CellState.REVEALED);
+		}
+		assertTrue(board.allMinesResolved());
+		assertEquals(board.getCellCount(), board.getRevealedMines());
+	}
+
+	@Test
+	public void testRandomHiddenMineStaysInSync() {
+		Board board = new Board(Difficulty.HARD, new SplittableRandom(8));
+		SplittableRandom rand = new SplittableRandom(9);
+		boolean[] picked = new boolean[board.getCellCount()];
+
+		for (int k = 0; k < 200; k++) {
+			int i = board.randomHiddenMine(rand);
+			assertTrue(board.isMine(i));
+			assertEquals(CellState.HIDDEN, board.getState(i));
+			picked[i] = true;
+		}
+		int distinct = 0;
+		for (boolean p : picked) {
+			if (p) distinct++;
+		}
+		assertTrue("picks should spread over the mines, got " + distinct, distinct > 1);
+
+		// resolve the mines one by one; each pick must still be a hidden mine
+		int i;
+		int resolved = 0;
+		while ((i = board.randomHiddenMine(rand)) >= 0) {
+			assertTrue(board.isMine(i));
+			assertEquals(CellState.HIDDEN, board.getState(i));
+			board.setState(i, (resolved++ % 2 == 0) ? CellState.FLAGGED : CellState.REVEALED);
+		}
+		assertEquals(board.getNumberOfMines(), resolved);
+		assertTrue(board.allMinesResolved());
+
+		// unflagging puts a mine back into the index
+		int flagged = -1;
+		for (int c = 0; c < board.getCellCount() && flagged < 0; c++) {
+			if (board.getState(c) == CellState.FLAGGED) flagged = c;
+		}
+		board.setState(flagged, CellState.HIDDEN);
+		assertEquals(flagged, board.randomHiddenMine(rand));
+	}
+}
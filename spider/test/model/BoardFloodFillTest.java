@@ -0,0 +1,101 @@
+package model;
+
+import static org.junit.Assert.*;
+
+import java.util.SplittableRandom;
+
+import org.junit.Test;
+
+public class BoardFloodFillTest {
+
+	// The recursive reveal Game.findZeroes used before, kept here as the reference behaviour
+	private static void referenceReveal(Board board, int x, int y, boolean[] visited) {
+		if (visited[board.index(x, y)])
+			return;
+		visited[board.index(x, y)] = true;
+
+		for (int nx = Math.max(0, x - 1); nx <= Math.min(board.getCols() - 1, x + 1); nx++) {
+			for (int ny = Math.max(0, y - 1); ny <= Math.min(board.getRows() - 1, y + 1); ny++) {
+				if ((nx == x && ny == y) || board.isMine(nx, ny))
+					continue;
+
+				CellState state = board.getState(nx, ny);
+				SpecialBoxType special = board.getSpecialBox(nx, ny);
+				boolean revealedQuestion = state == CellState.REVEALED && special == SpecialBoxType.QUESTION;
+				if (state != CellState.HIDDEN && !revealedQuestion)
+					continue;
+
+				board.setState(nx, ny, CellState.REVEALED);
+				if (special != SpecialBoxType.NONE || board.getSurroundingMines(nx, ny) == 0) {
+					referenceReveal(board, nx, ny, visited);
+				}
+			}
+		}
+	}
+
+	@Test
+	public void testMatchesRecursiveReveal() {
+		SplittableRandom seeds = new SplittableRandom(42);
+
+		for (int round = 0; round < 50; round++) {
+			long seed = seeds.nextLong();
+			Board expected = new Board(Difficulty.HARD, new SplittableRandom(seed));
+			Board actual = new Board(Difficulty.HARD, new SplittableRandom(seed));
+
+			// some flags and revealed question boxes left over from earlier moves
+			SplittableRandom moves = new SplittableRandom(seed);
+			for (int k = 0; k < 20; k++) {
+				int i = moves.nextInt(expected.getCellCount());
+				CellState state = expected.getSpecialBox(i) == SpecialBoxType.QUESTION
+						? CellState.REVEALED : CellState.FLAGGED;
+				expected.setState(i, state);
+				actual.setState(i, state);
+			}
+
+			int x = moves.nextInt(expected.getCols());
+			int y = moves.nextInt(expected.getRows());
+			referenceReveal(expected, x, y, new boolean[expected.getCellCount()]);
+			int count = actual.floodReveal(x, y);
+
+			for (int i = 0; i < expected.getCellCount(); i++) {
+				assertEquals("seed " + seed + " cell " + i, expected.getState(i), actual.getState(i));
+			}
+			for (int k = 0; k < count; k++) {
+				assertEquals(CellState.REVEALED, actual.getState(actual.floodRevealedCells()[k]));
+			}
+		}
+	}
+
+	@Test
+	public void testRevealedIndicesAreNewAndUnique() {
+		Board board = new Board(Difficulty.EASY, 9, 9, 0, 0, 0, 0, 0);
+		board.setState(4, 4, CellState.REVEALED);
+		board.setState(0, 0, CellState.FLAGGED);
+
+		int count = board.floodReveal(4, 4);
+
+		// everything but the start cell and the flag
+		assertEquals(81 - 2, count);
+		boolean[] seen = new boolean[board.getCellCount()];
+		for (int k = 0; k < count; k++) {
+			int i = board.floodRevealedCells()[k];
+			assertFalse(seen[i]);
+			seen[i] = true;
+		}
+		assertEquals(CellState.REVEALED, board.getState(4, 4));
+		assertEquals(CellState.FLAGGED, board.getState(0, 0));
+
+		// nothing left to open the second time
+		assertEquals(0, board.floodReveal(4, 4));
+	}
+
+	@Test
+	public void testLargeEmptyBoardDoesNotOverflowStack() {
+		Board board = new Board(Difficulty.HARD, 1000, 1000, 0, 0, 0, 0, 0);
+
+		board.setState(0, 0, CellState.REVEALED);
+		int count = board.floodReveal(0, 0);
+
+		assertEquals(1000 * 1000 - 1, count);
+	}
+}
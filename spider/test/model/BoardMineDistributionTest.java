@@ -61,4 +61,40 @@ public class BoardMineDistributionTest {
 			}
 		}
 	}
+
+	@Test
+	public void testNoMineOnOrNextToSpecialBox() {
+		Board board = new Board(Difficulty.HARD);
+
+		for (int x = 0; x < board.getCols(); x++) {
+			for (int y = 0; y < board.getRows(); y++) {
+				if (board.getSpecialBox(x, y) == SpecialBoxType.NONE) {
+					continue;
+				}
+				for (int nx = board.makeValidCoordinateX(x - 1); nx <= board.makeValidCoordinateX(x + 1); nx++) {
+					for (int ny = board.makeValidCoordinateY(y - 1); ny <= board.makeValidCoordinateY(y + 1); ny++) {
+						assertFalse("Mine next to special box at " + x + "," + y, board.isMine(nx, ny));
+					}
+				}
+			}
+		}
+	}
+
+	@Test
+	public void testDenseBoardIsFilledWithoutSpecials() {
+		Board board = new Board(Difficulty.HARD, 10, 10, 99, 0, 0, 0, 0);
+
+		assertEquals(99, countMines(board));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testTooManyMinesIsRejected() {
+		new Board(Difficulty.EASY, 3, 3, 9, 1, 0, 0, 0);
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void testMinesThatCannotAvoidSpecialsAreRejected() {
+		// any special box on a 3x3 board blocks at least 4 cells
+		new Board(Difficulty.EASY, 3, 3, 8, 1, 0, 0, 0);
+	}
 }
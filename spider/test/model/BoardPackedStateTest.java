@@ -0,0 +1,95 @@
+package model;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+public class BoardPackedStateTest {
+
+	@Test
+	public void testCellViewWritesThroughToBoard() {
+		Board board = new Board(Difficulty.EASY);
+		Cell cell = board.getCells()[3][5];
+
+		cell.setMine(false);
+		cell.setSpecialBox(SpecialBoxType.HEART);
+		cell.setSurroundingMines(0);
+		cell.setContent("");
+
+		assertFalse(board.isMine(3, 5));
+		assertEquals(SpecialBoxType.HEART, board.getSpecialBox(3, 5));
+		assertEquals(CellState.HIDDEN, board.getState(3, 5));
+
+		board.setState(3, 5, CellState.REVEALED);
+		assertEquals("♥", cell.getContent());
+
+		assertSame(board.getCells(), board.getCells());
+	}
+
+	@Test
+	public void testContentStringsMatchState() {
+		Board board = new Board(Difficulty.MEDIUM);
+		int i = board.index(2, 7);
+
+		board.setMine(i, false);
+		board.setSpecialBox(i, SpecialBoxType.NONE);
+		board.setSurroundingMines(i, 3);
+
+		board.setContent(i, "F");
+		assertEquals(CellState.FLAGGED, board.getState(i));
+		assertEquals("F", board.getContent(i));
+
+		board.setContent(i, "3");
+		assertEquals(CellState.REVEALED, board.getState(i));
+		assertEquals("3", board.getContent(i));
+
+		board.setMine(i, true);
+		assertEquals("M", board.getContent(i));
+
+		board.setContent(i, "USED");
+		assertEquals("USED", board.getContent(i));
+
+		// other fields are untouched by state changes
+		assertTrue(board.isMine(i));
+		assertEquals(3, board.getSurroundingMines(i));
+	}
+
+	@Test
+	public void testNeighbourCountsMatchMines() {
+		Board board = new Board(Difficulty.HARD);
+
+		for (int x = 0; x < board.getCols(); x++) {
+			for (int y = 0; y < board.getRows(); y++) {
+				int expected = 0;
+				for (int nx = x - 1; nx <= x + 1; nx++) {
+					for (int ny = y - 1; ny <= y + 1; ny++) {
+						if ((nx != x || ny != y) && nx >= 0 && ny >= 0
+								&& nx < board.getCols() && ny < board.getRows()
+								&& board.isMine(nx, ny)) {
+							expected++;
+						}
+					}
+				}
+				assertEquals("neighbours at " + x + "," + y, expected, board.getSurroundingMines(x, y));
+			}
+		}
+	}
+
+	@Test
+	public void testCustomSizedBoard() {
+		Board board = new Board(Difficulty.HARD, 60, 80, 400, 10, 20, 5, 5);
+
+		assertEquals(60, board.getRows());
+		assertEquals(80, board.getCols());
+		assertEquals(60 * 80, board.getCellCount());
+
+		int mines = 0;
+		for (int i = 0; i < board.getCellCount(); i++) {
+			if (board.isMine(i)) {
+				mines++;
+			}
+			assertEquals(CellState.HIDDEN, board.getState(i));
+		}
+		assertEquals(400, mines);
+	}
+}
@@ -0,0 +1,110 @@
+package model;
+
+import static org.junit.Assert.*;
+
+import java.util.SplittableRandom;
+
+import org.junit.Test;
+
+public class ClosedWindowIndexTest {
+
+	private static int bruteForce(Board board, int centre, int radius) {
+		int cx = board.xOf(centre), cy = board.yOf(centre);
+		int count = 0;
+		for (int x = Math.max(0, cx - radius); x <= Math.min(board.getCols() - 1, cx + radius); x++) {
+			for (int y = Math.max(0, cy - radius); y <= Math.min(board.getRows() - 1, cy + radius); y++) {
+				if (board.getState(x, y) == CellState.HIDDEN) {
+					count++;
+				}
+			}
+		}
+		return count;
+	}
+
+	private static void assertMatchesBruteForce(Board board, ClosedWindowIndex windows) {
+		int radius = windows.getSize() / 2;
+		int best = 0;
+		for (int c = 0; c < board.getCellCount(); c++) {
+			int expected = bruteForce(board, c, radius);
+			assertEquals("centre " + c, expected, windows.closedAround(c));
+			best = Math.max(best, expected);
+		}
+		assertEquals(best, windows.bestCount());
+	}
+
+	@Test
+	public void testCountsFollowMovesAndResets() {
+		Board board = new Board(Difficulty.HARD, new SplittableRandom(1));
+		ClosedWindowIndex three = board.closedWindows(3);
+		ClosedWindowIndex seven = board.closedWindows(7);
+		assertSame(three, board.closedWindows(3));
+		assertEquals(9, three.bestCount());
+
+		SplittableRandom moves = new SplittableRandom(2);
+		CellState[] states = CellState.values();
+		for (int k = 0; k < 500; k++) {
+			int i = moves.nextInt(board.getCellCount());
+			if (moves.nextInt(4) == 0) {
+				board.floodReveal(board.xOf(i), board.yOf(i));
+			} else {
+				board.setState(i, states[moves.nextInt(states.length)]);
+			}
+		}
+		assertMatchesBruteForce(board, three);
+		assertMatchesBruteForce(board, seven);
+
+		// an index created late starts from the current board
+		assertMatchesBruteForce(board, board.closedWindows(5));
+
+		board.resetBoard();
+		assertMatchesBruteForce(board, three);
+		assertEquals(49, seven.bestCount());
+	}
+
+	@Test
+	public void testRandomPicksHonourTheCount() {
+		Board board = new Board(Difficulty.MEDIUM, new SplittableRandom(3));
+		SplittableRandom rand = new SplittableRandom(4);
+		for (int i = 0; i < board.getCellCount(); i += 2) {
+			board.setState(i, CellState.REVEALED);
+		}
+		ClosedWindowIndex windows = board.closedWindows(3);
+		int best = windows.bestCount();
+
+		for (int k = 0; k < 100; k++) {
+			assertEquals(best, windows.closedAround(windows.randomBestCentre(rand)));
+			int c = windows.randomCentreWithAtLeast(3, rand);
+			assertTrue(windows.closedAround(c) >= 3);
+		}
+		assertEquals(-1, windows.randomCentreWithAtLeast(best + 1, rand));
+	}
+
+	@Test
+	public void testFullyOpenBoardHasNoWindow() {
+		Board board = new Board(Difficulty.EASY);
+		for (int i = 0; i < board.getCellCount(); i++) {
+			board.setState(i, CellState.REVEALED);
+		}
+
+		ClosedWindowIndex windows = board.closedWindows(3);
+		assertEquals(0, windows.bestCount());
+		assertEquals(-1, windows.randomBestCentre(new SplittableRandom(5)));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testEvenSizeRejected() {
+		new Board(Difficulty.EASY).closedWindows(4);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testEvenSizeRejectedWhenSmallerIndexIsCached() {
+		Board board = new Board(Difficulty.EASY);
+		board.closedWindows(3);
+		board.closedWindows(2);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testNegativeSizeRejected() {
+		new Board(Difficulty.EASY).closedWindows(-3);
+	}
+}
@@ -0,0 +1,121 @@
+package model;
+
+import static org.junit.Assert.*;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+
+public class CsvReaderTest {
+
+	private static List<List<String>> readAll(CsvReader csv) {
+		List<List<String>> records = new ArrayList<>();
+		while (csv.next()) {
+			List<String> fields = new ArrayList<>();
+			for (int i = 0; i < csv.fieldCount(); i++) {
+				fields.add(csv.string(i));
+			}
+			records.add(fields);
+		}
+		return records;
+	}
+
+	private static CsvReader of(String text) {
+		byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+		return CsvReader.of(bytes, bytes.length);
+	}
+
+	@Test
+	public void testQuotedFieldsSpanLinesAndEscapeQuotes() {
+		List<List<String>> records = readAll(of("a,\"b, c\",\"say \"\"hi\"\"\"\r\n\"two\nlines\",,x\n"));
+
+		assertEquals(List.of("a", "b, c", "say \"hi\""), records.get(0));
+		assertEquals(List.of("two\nlines", "", "x"), records.get(1));
+		assertEquals(2, records.size());
+	}
+
+	@Test
+	public void testLineNumbersOffsetsAndTermination() {
+		CsvReader csv = of("h1,h2\n\"multi\nline\",1\n\nlast,2");
+
+		assertTrue(csv.next());
+		assertEquals(1, csv.lineNumber());
+		assertTrue(csv.next());
+		assertEquals(2, csv.lineNumber());
+		assertEquals(6, csv.recordOffset());
+		assertEquals(21, csv.endOffset());
+		assertTrue(csv.next());
+		assertTrue(csv.isBlank());
+		assertEquals(4, csv.lineNumber());
+		assertTrue(csv.next());
+		assertEquals(5, csv.lineNumber());
+		assertFalse(csv.isTerminated());
+		assertEquals("2", csv.string(1));
+		assertEquals("", csv.string(7)); // missing fields read as empty
+		assertFalse(csv.next());
+	}
+
+	@Test
+	public void testMalformedRecordsAreFlagged() {
+		CsvReader csv = of("ok,1\nbad\"quote,2\n\"closed\"tail,3\n\"never closed,4\n");
+
+		assertTrue(csv.next());
+		assertNull(csv.problem());
+		assertTrue(csv.next());
+		assertEquals("quote inside an unquoted field", csv.problem());
+		assertEquals("bad\"quote", csv.string(0));
+		assertTrue(csv.next());
+		assertEquals("text after a closing quote", csv.problem());
+		assertEquals(3, csv.lineNumber());
+		assertTrue(csv.next());
+		assertEquals("quoted field not closed before the end of the file", csv.problem());
+		assertEquals(4, csv.lineNumber());
+	}
+
+	@Test
+	public void testFieldViewsAreReused() {
+		CsvReader csv = of("first,x\nsecond,y\n");
+
+		csv.next();
+		CharSequence view = csv.field(0);
+		assertEquals("first", view.toString());
+		csv.next();
+		assertSame(view, csv.field(0));
+		assertEquals("second", view.toString());
+		assertEquals('s', view.charAt(0));
+	}
+
+	@Test
+	public void testUtf8AcrossBufferRefills() throws IOException {
+		Path file = Files.createTempFile("csv-reader", ".csv");
+		try {
+			// a three-byte character straddling the end of the first buffer
+			byte[] padding = new byte[CsvReader.BUFFER_SIZE - 1 - "x,\n".length()];
+			Arrays.fill(padding, (byte) 'a');
+			String text = "x," + new String(padding, StandardCharsets.US_ASCII) + "\n€,\"ü\nß\",😀\n";
+			Files.writeString(file, text);
+
+			try (CsvReader csv = CsvReader.open(file)) {
+				assertTrue(csv.next());
+				assertEquals(padding.length, csv.field(1).length());
+				assertTrue(csv.next());
+				assertEquals(List.of("€", "ü\nß", "😀"), List.of(csv.string(0), csv.string(1), csv.string(2)));
+				assertFalse(csv.next());
+			}
+		} finally {
+			Files.deleteIfExists(file);
+		}
+	}
+
+	@Test
+	public void testParseLine() {
+		assertEquals(List.of("a", "b,c", ""), CsvReader.parseLine("a,\"b,c\","));
+		assertTrue(CsvReader.parseLine("").isEmpty());
+	}
+}
@@ -0,0 +1,204 @@
+package model;
+
+import static org.junit.Assert.*;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class HistoryStoreTest {
+
+	private Path dir;
+	private Path csv;
+
+	@Before
+	public void setUp() throws IOException {
+		dir = Files.createTempDirectory("history-store");
+		csv = dir.resolve("history.csv");
+		Files.writeString(csv, "timestamp,difficulty,player1,player1Score,player2,player2Score,result,seconds\n");
+	}
+
+	@After
+	public void tearDown() throws IOException {
+		try (var files = Files.list(dir)) {
+			for (Path p : (Iterable<Path>) files::iterator) {
+				Files.delete(p);
+			}
+		}
+		Files.delete(dir);
+	}
+
+	private void append(String text) throws IOException {
+		Files.writeString(csv, text, StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+	}
+
+	private void appendGame(int n, String difficulty, String p1, String p2, String result) throws IOException {
+		append("2025-01-01T10:00:" + n + "," + difficulty + "," + p1 + "," + n + "," + p2 + "," + n + "," + result + ","
+				+ n + "\n");
+	}
+
+	@Test
+	public void testPagesAreNewestFirstAndFiltered() throws IOException {
+		for (int n = 0; n < 10; n++) {
+			appendGame(n, n % 2 == 0 ? "Easy" : "Hard", "Ann", n < 5 ? "Bob" : "Cy", n % 3 == 0 ? "WIN" : "LOST");
+		}
+
+		HistoryStore store = HistoryStore.open(csv);
+		assertEquals(10, store.size());
+		assertEquals(10, store.count(HistoryFilter.ALL));
+
+		List<String[]> page = store.page(HistoryFilter.ALL, 2, 3);
+		assertEquals(3, page.size());
+		assertEquals("7", page.get(0)[3]);
+		assertEquals("5", page.get(2)[3]);
+
+		HistoryFilter easyWins = new HistoryFilter(Difficulty.EASY, HistoryFilter.Result.WIN, null);
+		assertEquals(2, store.count(easyWins)); // games 0 and 6
+		List<String[]> wins = store.page(easyWins, 0, 10);
+		assertEquals("6", wins.get(0)[3]);
+		assertEquals("0", wins.get(1)[3]);
+
+		assertEquals(5, store.count(HistoryFilter.ALL.withPlayer("cy")));
+		assertEquals(10, store.count(HistoryFilter.ALL.withPlayer("ANN")));
+		assertEquals(0, store.count(HistoryFilter.ALL.withPlayer("nobody")));
+		assertTrue(store.page(HistoryFilter.ALL.withPlayer("nobody"), 0, 10).isEmpty());
+		assertTrue(store.page(HistoryFilter.ALL, 10, 5).isEmpty());
+	}
+
+	@Test
+	public void testRefreshIndexesOnlyAppendedRows() throws IOException {
+		appendGame(1, "Medium", "A", "B", "WIN");
+		HistoryStore store = HistoryStore.open(csv);
+		assertEquals(1, store.size());
+
+		// a row still being written is left for the next refresh
+		appendGame(2, "Medium", "A", "B", "QUIT");
+		append("2025-01-01T10:00:3,Medium,A,3,B");
+		store.refresh();
+		assertEquals(2, store.size());
+
+		append(",3,LOST,3\n");
+		store.refresh();
+		assertEquals(3, store.size());
+		assertEquals("LOST", store.page(HistoryFilter.ALL, 0, 1).get(0)[6]);
+		assertEquals(1, store.count(HistoryFilter.ALL.withResult(HistoryFilter.Result.QUIT)));
+	}
+
+	@Test
+	public void testSavedIndexIsReused() throws IOException {
+		for (int n = 0; n < 5; n++) {
+			appendGame(n, "Hard", "Ann", "Bob", "WIN");
+		}
+		HistoryStore.open(csv);
+		assertTrue(Files.exists(dir.resolve("history.csv.idx")));
+
+		appendGame(5, "Easy", "Ann", "Dee", "LOST");
+		HistoryStore reopened = HistoryStore.open(csv);
+		assertEquals(6, reopened.size());
+		assertEquals(1, reopened.count(HistoryFilter.ALL.withPlayer("Dee")));
+		assertEquals(5, reopened.count(HistoryFilter.ALL.withDifficulty(Difficulty.HARD)));
+		assertEquals("5", reopened.page(HistoryFilter.ALL, 0, 1).get(0)[3]);
+	}
+
+	@Test
+	public void testReplacedFileIsReindexed() throws IOException {
+		for (int n = 0; n < 5; n++) {
+			appendGame(n, "Hard", "Ann", "Bob", "WIN");
+		}
+		HistoryStore.open(csv);
+
+		Files.writeString(csv, "timestamp,difficulty,player1,player1Score,player2,player2Score,result,seconds\n");
+		appendGame(9, "Easy", "Zed", "Bob", "QUIT");
+		HistoryStore reopened = HistoryStore.open(csv);
+		assertEquals(1, reopened.size());
+		assertEquals(0, reopened.count(HistoryFilter.ALL.withPlayer("Ann")));
+		assertEquals("9", reopened.page(HistoryFilter.ALL, 0, 1).get(0)[3]);
+	}
+
+	@Test
+	public void testSameSizeReplacementIsReindexed() throws IOException {
+		String header = Files.readString(csv);
+		for (int n = 0; n < 5; n++) {
+			appendGame(n, "Hard", "Ann", "Bob", "WIN");
+		}
+		HistoryStore.open(csv);
+		long size = Files.size(csv);
+
+		// a restored backup of the same length, with different rows
+		Files.writeString(csv, header);
+		for (int n = 0; n < 5; n++) {
+			appendGame(n, "Easy", "Cyd", "Dee", "WIN");
+		}
+		assertEquals(size, Files.size(csv));
+		HistoryStore reopened = HistoryStore.open(csv);
+		assertEquals(5, reopened.size());
+		assertEquals(0, reopened.count(HistoryFilter.ALL.withPlayer("Ann")));
+		assertEquals(5, reopened.count(HistoryFilter.ALL.withDifficulty(Difficulty.EASY)));
+		assertEquals("Cyd", reopened.page(HistoryFilter.ALL, 0, 1).get(0)[2]);
+	}
+
+	@Test
+	public void testSelectionGoesStaleWhenTheIndexIsRebuilt() throws IOException {
+		String header = Files.readString(csv);
+		for (int n = 0; n < 4; n++) {
+			appendGame(n, "Hard", "Ann", "Bob", "WIN");
+		}
+		HistoryStore store = HistoryStore.open(csv);
+		HistoryStore.Selection wins = store.select(HistoryFilter.ALL.withResult(HistoryFilter.Result.WIN));
+		assertEquals(4, wins.read(0, 10).size());
+
+		Files.writeString(csv, header);
+		for (int n = 0; n < 6; n++) {
+			appendGame(n, "Easy", "Cyd", "Dee", n < 2 ? "LOST" : "WIN");
+		}
+		store.refresh();
+
+		// its row numbers belong to the old file; reading them would show other games
+		assertTrue(wins.read(0, 10).isEmpty());
+		assertEquals(4, store.count(HistoryFilter.ALL.withResult(HistoryFilter.Result.WIN)));
+		assertEquals("Cyd", store.page(HistoryFilter.ALL.withResult(HistoryFilter.Result.WIN), 0, 1).get(0)[2]);
+	}
+
+	@Test
+	public void testOldHeaderIsUpgradedAndRowsKept() throws IOException {
+		appendGame(1, "Easy", "Ann", "Bob", "WIN");
+		appendGame(2, "Hard", "Ann", "Cyd", "LOST");
+		HistoryStore.open(csv);
+		String header = "timestamp,difficulty,player1,player1Score,player2,player2Score,result,seconds,seed,rng";
+
+		SysData.upgradeHistoryHeader(csv, header);
+		List<String> lines = Files.readAllLines(csv);
+		assertEquals(header, lines.get(0));
+		assertEquals(3, lines.size());
+		assertTrue(lines.get(2).startsWith("2025-01-01T10:00:2,Hard"));
+
+		// already current: nothing is rewritten
+		long modified = Files.getLastModifiedTime(csv).toMillis();
+		SysData.upgradeHistoryHeader(csv, header);
+		assertEquals(modified, Files.getLastModifiedTime(csv).toMillis());
+
+		HistoryStore reopened = HistoryStore.open(csv);
+		assertEquals(2, reopened.size());
+		assertEquals("Cyd", reopened.page(HistoryFilter.ALL, 0, 1).get(0)[4]);
+	}
+
+	@Test
+	public void testQuotedNamesWithCommasAndLineBreaks() throws IOException {
+		append("2025-01-01T10:00:00,Easy,\"Smith, Jo\",1,\"two\nlines\",1,WIN,1\n");
+		appendGame(2, "Easy", "Ann", "Bob", "LOST");
+
+		HistoryStore store = HistoryStore.open(csv);
+		assertEquals(2, store.size());
+		String[] first = store.page(HistoryFilter.ALL, 1, 1).get(0);
+		assertEquals("Smith, Jo", first[2]);
+		assertEquals("two\nlines", first[4]);
+		assertEquals(1, store.count(HistoryFilter.ALL.withPlayer("smith, jo")));
+	}
+}
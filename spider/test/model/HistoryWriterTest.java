@@ -0,0 +1,107 @@
+package model;
+
+import static org.junit.Assert.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+public class HistoryWriterTest {
+
+	@Test
+	public void testFlushMakesQueuedRowsVisible() throws IOException {
+		Path file = Files.createTempFile("history", ".csv");
+		try {
+			HistoryWriter writer = new HistoryWriter(file, 16, HistoryWriter.FsyncPolicy.ON_FLUSH);
+			writer.append("a,1");
+			writer.append("b,2");
+			writer.flush();
+
+			assertEquals(List.of("a,1", "b,2"), Files.readAllLines(file));
+			writer.close();
+		} finally {
+			Files.deleteIfExists(file);
+		}
+	}
+
+	@Test
+	public void testConcurrentRowsAllWrittenOnClose() throws Exception {
+		Path file = Files.createTempFile("history", ".csv");
+		try {
+			HistoryWriter writer = new HistoryWriter(file, 64, HistoryWriter.FsyncPolicy.PERIODIC);
+			ExecutorService pool = Executors.newFixedThreadPool(4);
+			for (int t = 0; t < 4; t++) {
+				int thread = t;
+				pool.execute(() -> {
+					for (int k = 0; k < 2500; k++) {
+						writer.append(thread + "," + k);
+					}
+				});
+			}
+			pool.shutdown();
+			assertTrue(pool.awaitTermination(30, TimeUnit.SECONDS));
+			writer.close();
+
+			List<String> lines = Files.readAllLines(file);
+			assertEquals(10_000, lines.size());
+			assertEquals(10_000, lines.stream().distinct().count());
+		} finally {
+			Files.deleteIfExists(file);
+		}
+	}
+
+	@Test
+	public void testRowsAcceptedWhileClosingAreWritten() throws Exception {
+		Path file = Files.createTempFile("history", ".csv");
+		try {
+			HistoryWriter writer = new HistoryWriter(file, 8, HistoryWriter.FsyncPolicy.ON_FLUSH);
+			ExecutorService pool = Executors.newFixedThreadPool(4);
+			Set<String> accepted = ConcurrentHashMap.newKeySet();
+			for (int t = 0; t < 3; t++) {
+				int thread = t;
+				pool.execute(() -> {
+					for (int k = 0; ; k++) {
+						try {
+							writer.append(thread + "," + k);
+						} catch (IllegalStateException closed) {
+							return;
+						}
+						accepted.add(thread + "," + k);
+					}
+				});
+			}
+			Thread.sleep(20);
+			Future<?> secondClose = pool.submit(writer::close);
+			writer.close();
+			secondClose.get(10, TimeUnit.SECONDS);
+			pool.shutdown();
+			assertTrue(pool.awaitTermination(10, TimeUnit.SECONDS));
+
+			assertEquals(accepted, Set.copyOf(Files.readAllLines(file)));
+		} finally {
+			Files.deleteIfExists(file);
+		}
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void testAppendAfterCloseRejected() throws IOException {
+		Path file = Files.createTempFile("history", ".csv");
+		try {
+			HistoryWriter writer = new HistoryWriter(file, 4, HistoryWriter.FsyncPolicy.EVERY_BATCH);
+			writer.close();
+			writer.close(); // closing twice is harmless
+			writer.append("late");
+		} finally {
+			Files.deleteIfExists(file);
+		}
+	}
+}
@@ -0,0 +1,112 @@
+package model;
+
+import static org.junit.Assert.*;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.Test;
+
+public class MatchQuestionsTest {
+
+	private static Question question(String id, QuestionDifficulty d) {
+		return new Question(id, "Question " + id, List.of("a", "b", "c", "d"), 0, d);
+	}
+
+	private static QuestionBank bank(int size) {
+		Question[] qs = new Question[size];
+		for (int k = 0; k < size; k++) {
+			qs[k] = question("Q" + k, QuestionDifficulty.values()[k % 4]);
+		}
+		return new QuestionBank(1, List.of(qs));
+	}
+
+	@Test
+	public void testNoRepeatsUntilBankIsUsedUp() {
+		QuestionBank bank = bank(12);
+		MatchQuestions draw = new MatchQuestions(() -> bank);
+		SplittableRandom rng = new SplittableRandom(5);
+
+		Set<String> seen = new HashSet<>();
+		for (int k = 0; k < 12; k++) {
+			assertTrue(seen.add(draw.nextQuestion(rng).orElseThrow().getId()));
+		}
+		// everything asked, so the draw starts over
+		assertTrue(draw.nextQuestion(rng).isPresent());
+	}
+
+	@Test
+	public void testRequestedTierFirstThenAnyUnused() {
+		QuestionBank bank = bank(12); // three questions per difficulty
+		MatchQuestions draw = new MatchQuestions(() -> bank);
+		draw.setWeights(Map.of(QuestionDifficulty.HARD, 1));
+		SplittableRandom rng = new SplittableRandom(9);
+
+		for (int k = 0; k < 3; k++) {
+			assertEquals(QuestionDifficulty.HARD, draw.nextQuestion(rng).orElseThrow().getDifficulty());
+		}
+		Set<String> rest = new HashSet<>();
+		for (int k = 0; k < 9; k++) {
+			Question q = draw.nextQuestion(rng).orElseThrow();
+			assertNotEquals(QuestionDifficulty.HARD, q.getDifficulty());
+			assertTrue(rest.add(q.getId()));
+		}
+
+		// a new match gets the hard questions back without rebuilding anything
+		draw.reset();
+		assertEquals(QuestionDifficulty.HARD, draw.nextQuestion(rng).orElseThrow().getDifficulty());
+	}
+
+	@Test
+	public void testEditDuringMatchKeepsAskedQuestions() {
+		AtomicReference<QuestionBank> current = new AtomicReference<>(bank(8));
+		MatchQuestions draw = new MatchQuestions(current::get);
+		SplittableRandom rng = new SplittableRandom(4);
+
+		Set<String> seen = new HashSet<>();
+		for (int k = 0; k < 4; k++) {
+			seen.add(draw.nextQuestion(rng).orElseThrow().getId());
+		}
+		current.set(current.get().with(question("NEW", QuestionDifficulty.EASY)));
+
+		// the five questions not asked yet come next, the added one among them
+		for (int k = 0; k < 5; k++) {
+			assertTrue(seen.add(draw.nextQuestion(rng).orElseThrow().getId()));
+		}
+		assertTrue(seen.contains("NEW"));
+	}
+
+	@Test
+	public void testDrawSeesLatestBank() {
+		AtomicReference<QuestionBank> current = new AtomicReference<>(QuestionBank.EMPTY);
+		MatchQuestions draw = new MatchQuestions(current::get);
+		SplittableRandom rng = new SplittableRandom(1);
+
+		assertTrue(draw.nextQuestion(rng).isEmpty());
+
+		current.set(current.get().with(question("NEW", QuestionDifficulty.HARD)));
+		assertEquals("NEW", draw.nextQuestion(rng).orElseThrow().getId());
+	}
+
+	@Test
+	public void testSnapshotsAreNotChangedByEdits() {
+		QuestionBank before = bank(4);
+		QuestionBank after = before.with(question("Q1", QuestionDifficulty.EXPERT)).without("Q2");
+
+		assertEquals(4, before.size());
+		assertEquals(QuestionDifficulty.MEDIUM, before.find("Q1").orElseThrow().getDifficulty());
+		assertEquals(1, before.byDifficulty(QuestionDifficulty.EXPERT).size());
+
+		assertEquals(3, after.size());
+		assertEquals(2, after.byDifficulty(QuestionDifficulty.EXPERT).size());
+		assertFalse(after.contains("Q2"));
+		assertTrue(after.getVersion() > before.getVersion());
+
+		// removing an unknown id publishes nothing new
+		assertSame(after, after.without("missing"));
+	}
+}
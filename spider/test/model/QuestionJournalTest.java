@@ -0,0 +1,148 @@
+package model;
+
+import static org.junit.Assert.*;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class QuestionJournalTest {
+
+	private Path dir;
+
+	@Before
+	public void setUp() throws IOException {
+		dir = Files.createTempDirectory("journal");
+	}
+
+	@After
+	public void tearDown() throws IOException {
+		try (var files = Files.list(dir)) {
+			for (Path f : (Iterable<Path>) files::iterator) {
+				Files.delete(f);
+			}
+		}
+		Files.delete(dir);
+	}
+
+	private static Question question(String id, String text) {
+		return new Question(id, text, List.of("a, with comma", "b \"quoted\"", "c", "d"), 1,
+				QuestionDifficulty.HARD);
+	}
+
+	private static Map<String, Question> replay(QuestionJournal journal) {
+		Map<String, Question> state = new LinkedHashMap<>();
+		journal.replay(q -> state.put(q.getId(), q), state::remove);
+		return state;
+	}
+
+	@Test
+	public void testReplayAppliesUpsertsAndDeletesInOrder() throws IOException {
+		QuestionJournal journal = new QuestionJournal(dir.resolve("q.journal"), 1 << 20);
+		journal.appendUpsert(question("Q1", "first"));
+		journal.appendUpsert(question("Q2", "two\nlines \\ and a backslash"));
+		journal.appendUpsert(question("Q1", "first, edited"));
+		journal.appendDelete("Q3");
+		journal.close();
+
+		Map<String, Question> state = replay(new QuestionJournal(dir.resolve("q.journal"), 1 << 20));
+
+		assertEquals(2, state.size());
+		assertEquals("first, edited", state.get("Q1").getText());
+		assertEquals("two\nlines \\ and a backslash", state.get("Q2").getText());
+		assertEquals("b \"quoted\"", state.get("Q2").getAnswers().get(1));
+		assertEquals(1, state.get("Q2").getCorrectIndex());
+	}
+
+	@Test
+	public void testTornRecordIsSkipped() throws IOException {
+		Path file = dir.resolve("q.journal");
+		QuestionJournal journal = new QuestionJournal(file, 1 << 20);
+		journal.appendUpsert(question("Q1", "kept"));
+		journal.close();
+
+		// a crash in the middle of the next append
+		String half = Files.readString(file).replace("kept", "lost");
+		Files.writeString(file, half.substring(0, half.length() / 2), StandardCharsets.UTF_8,
+				StandardOpenOption.APPEND);
+
+		Map<String, Question> state = replay(new QuestionJournal(file, 1 << 20));
+		assertEquals(1, state.size());
+		assertEquals("kept", state.get("Q1").getText());
+	}
+
+	@Test
+	public void testAppendAfterTornRecordReplays() throws IOException {
+		Path file = dir.resolve("q.journal");
+		QuestionJournal journal = new QuestionJournal(file, 1 << 20);
+		journal.appendUpsert(question("Q1", "kept"));
+		journal.close();
+
+		String half = Files.readString(file).replace("kept", "lost");
+		Files.writeString(file, half.substring(0, half.length() / 2), StandardCharsets.UTF_8,
+				StandardOpenOption.APPEND);
+
+		// the first edit after restarting must not be glued onto the torn line
+		QuestionJournal reopened = new QuestionJournal(file, 1 << 20);
+		reopened.appendUpsert(question("Q2", "saved after crash"));
+		reopened.close();
+
+		Map<String, Question> state = replay(new QuestionJournal(file, 1 << 20));
+		assertEquals(List.of("Q1", "Q2"), List.copyOf(state.keySet()));
+		assertEquals("saved after crash", state.get("Q2").getText());
+	}
+
+	@Test
+	public void testRotatedRecordsReplayUntilCompactionFinishes() throws IOException {
+		QuestionJournal journal = new QuestionJournal(dir.resolve("q.journal"), 64);
+		journal.appendUpsert(question("Q1", "before compaction"));
+		assertTrue(journal.needsCompaction());
+
+		journal.rotate();
+		journal.appendUpsert(question("Q2", "after rotation"));
+		assertTrue(journal.hasInterruptedCompaction());
+		assertEquals(2, replay(journal).size());
+
+		journal.finishCompaction();
+		assertFalse(journal.hasInterruptedCompaction());
+		assertEquals(List.of("Q2"), List.copyOf(replay(journal).keySet()));
+	}
+
+	@Test
+	public void testCsvKeepsIdsAndReplacesAtomically() throws IOException {
+		Path csv = dir.resolve("questions.csv");
+		QuestionBank bank = new QuestionBank(1, List.of(question("Q7", "seven"), question("Q2", "two")));
+
+		SysData.writeQuestionsCsv(csv, bank);
+		List<Question> read = SysData.readQuestionsCsv(csv);
+
+		assertEquals(List.of("Q7", "Q2"), read.stream().map(Question::getId).toList());
+		assertEquals("seven", read.get(0).getText());
+		assertEquals(1, read.get(0).getCorrectIndex());
+		assertEquals("a, with comma", read.get(0).getAnswers().get(0));
+		assertFalse(Files.exists(dir.resolve("questions.csv.tmp")));
+	}
+
+	@Test
+	public void testCsvKeepsMultiLineText() throws IOException {
+		Path csv = dir.resolve("questions.csv");
+		QuestionBank bank = new QuestionBank(1, List.of(question("Q1", "first line\nsecond, \"quoted\" line"),
+				question("Q2", "two")));
+
+		SysData.writeQuestionsCsv(csv, bank);
+		List<Question> read = SysData.readQuestionsCsv(csv);
+
+		assertEquals(2, read.size());
+		assertEquals("first line\nsecond, \"quoted\" line", read.get(0).getText());
+		assertEquals("Q2", read.get(1).getId());
+	}
+}
@@ -0,0 +1,89 @@
+package model;
+
+import static org.junit.Assert.*;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.Test;
+
+public class QuestionSearchIndexTest {
+
+	private static Question question(String id, String text, QuestionDifficulty d, String... answers) {
+		return new Question(id, text, List.of(answers), 0, d);
+	}
+
+	private static List<String> ids(QuestionSearchIndex.Result r) {
+		return r.questions().stream().map(Question::getId).collect(Collectors.toList());
+	}
+
+	private static QuestionSearchIndex sample() {
+		QuestionSearchIndex index = new QuestionSearchIndex();
+		index.upsertAll(List.of(
+				question("Q1", "What is a Java interface?", QuestionDifficulty.EASY, "A contract", "A class", "A loop", "A file"),
+				question("Q2", "Which collection keeps insertion order?", QuestionDifficulty.MEDIUM, "LinkedHashMap", "HashMap", "TreeMap", "HashSet"),
+				question("Q3", "What does the JVM interpret?", QuestionDifficulty.HARD, "Bytecode", "Source", "Assembly", "XML")));
+		return index;
+	}
+
+	@Test
+	public void testTokenizeLowerCasesAndSplitsOnPunctuation() {
+		assertEquals(List.of("what", "is", "a", "java", "interface"),
+				QuestionSearchIndex.tokenize("What is a Java   interface?"));
+		// repeats are dropped
+		assertEquals(List.of("o", "n", "log"), QuestionSearchIndex.tokenize("O(n log-n)"));
+	}
+
+	@Test
+	public void testEveryWordMatchesAsPrefix() {
+		QuestionSearchIndex index = sample();
+
+		assertEquals(List.of("Q1", "Q3"), ids(index.search("inter", null, 10)));
+		assertEquals(List.of("Q1"), ids(index.search("java inter", null, 10)));
+		assertEquals(List.of("Q2"), ids(index.search("linkedhash", null, 10))); // answers are indexed too
+		assertEquals(List.of("Q3"), ids(index.search("inter xml", null, 10)));
+		assertEquals(0, index.search("nothing", null, 10).total());
+		assertEquals(3, index.search("  ", null, 10).total());
+	}
+
+	@Test
+	public void testDifficultyFacets() {
+		QuestionSearchIndex index = sample();
+
+		QuestionSearchIndex.Result r = index.search("what", QuestionDifficulty.HARD, 10);
+		assertEquals(List.of("Q3"), ids(r));
+		assertEquals(1, r.total());
+		// facets count before the difficulty filter
+		assertEquals(1, (int) r.facets().get(QuestionDifficulty.EASY));
+		assertEquals(1, (int) r.facets().get(QuestionDifficulty.HARD));
+		assertEquals(0, (int) r.facets().get(QuestionDifficulty.MEDIUM));
+	}
+
+	@Test
+	public void testEditsUpdateOnlyThatQuestion() {
+		QuestionSearchIndex index = sample();
+
+		index.upsert(question("Q1", "What is a record?", QuestionDifficulty.EXPERT, "Data", "Loop", "File", "Lock"));
+		assertEquals(List.of("Q3"), ids(index.search("inter", null, 10)));
+		assertEquals(List.of("Q1"), ids(index.search("rec", QuestionDifficulty.EXPERT, 10)));
+		assertEquals(0, (int) index.search("", null, 10).facets().get(QuestionDifficulty.EASY));
+
+		index.remove("Q3");
+		index.remove("missing");
+		assertEquals(0, index.search("jvm", null, 10).total());
+		assertEquals(2, index.size());
+
+		// the freed slot is reused
+		index.upsert(question("Q4", "Interfaces again", QuestionDifficulty.EASY, "a", "b", "c", "d"));
+		assertEquals(List.of("Q4"), ids(index.search("interf", null, 10)));
+	}
+
+	@Test
+	public void testLimitKeepsTotal() {
+		QuestionSearchIndex index = sample();
+
+		QuestionSearchIndex.Result r = index.search("", null, 2);
+		assertEquals(2, r.questions().size());
+		assertEquals(3, r.total());
+	}
+}
@@ -0,0 +1,53 @@
+package model;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+public class RandomStreamsTest {
+
+	private static boolean sameLayout(Board a, Board b) {
+		for (int i = 0; i < a.getCellCount(); i++) {
+			if (a.isMine(i) != b.isMine(i) || a.getSpecialBox(i) != b.getSpecialBox(i)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	@Test
+	public void testSameSeedGivesSameBoards() {
+		BoardFactory first = new MediumBoardFactory(12345L, RandomStreams.DEFAULT_ALGORITHM);
+		BoardFactory second = new MediumBoardFactory(12345L, RandomStreams.DEFAULT_ALGORITHM);
+
+		assertTrue(sameLayout(first.createBoardA(), second.createBoardA()));
+		assertTrue(sameLayout(first.createBoardB(), second.createBoardB()));
+	}
+
+	@Test
+	public void testBoardsUseSeparateStreams() {
+		BoardFactory factory = new HardBoardFactory(new RandomStreams(7L));
+		assertFalse(sameLayout(factory.createBoardA(), factory.createBoardB()));
+
+		// drawing effects or questions must not shift the board layouts
+		RandomStreams used = new RandomStreams(7L);
+		used.effects().nextInt();
+		used.questions().nextInt();
+		assertTrue(sameLayout(new HardBoardFactory(used).createBoardA(),
+				new HardBoardFactory(new RandomStreams(7L)).createBoardA()));
+	}
+
+	@Test
+	public void testSplitStreamsAreDistinctAndRepeatable() {
+		RandomStreams root = new RandomStreams(99L, "Xoshiro256PlusPlus");
+
+		assertEquals(root.split(3).getSeed(), root.split(3).getSeed());
+		assertNotEquals(root.split(3).getSeed(), root.split(4).getSeed());
+		assertEquals("Xoshiro256PlusPlus", root.split(1).getAlgorithm());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testUnknownAlgorithmRejected() {
+		new RandomStreams(1L, "NoSuchRandom");
+	}
+}
@@ -0,0 +1,63 @@
+package simulation;
+
+import static org.junit.Assert.*;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.Test;
+
+import model.Difficulty;
+import model.RandomStreams;
+
+public class SimulationRunnerTest {
+
+    private static SimulationStats run(Scenario scenario, int threads, int chunk, int games) {
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        try {
+            return new SimulationRunner(pool, chunk).run(scenario, new RandomStreams(2024L), games);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void testResultsDoNotDependOnThreads() {
+        Scenario scenario = Scenario.of(Difficulty.MEDIUM, new CautiousBot());
+
+        SimulationStats single = run(scenario, 1, 8, 200);
+        SimulationStats parallel = run(scenario, 4, 8, 200);
+
+        assertEquals(single.toString(), parallel.toString());
+        assertEquals(single.getQuestions(), parallel.getQuestions());
+    }
+
+    @Test
+    public void testEveryGameEndsOneWay() {
+        SimulationStats stats = run(Scenario.of(Difficulty.EASY, new RandomBot()), 2, 16, 300);
+
+        assertEquals(300, stats.getGames());
+        assertEquals(stats.getGames(), stats.getWins() + stats.getLivesExhausted() + stats.getStalemates());
+        assertTrue(stats.getMinScore() <= stats.meanScore() && stats.meanScore() <= stats.getMaxScore());
+    }
+
+    @Test
+    public void testCautiousBotBeatsRandomBot() {
+        double cautious = run(Scenario.of(Difficulty.HARD, new CautiousBot()), 2, 32, 300).winRate();
+        double random = run(Scenario.of(Difficulty.HARD, new RandomBot()), 2, 32, 300).winRate();
+
+        assertTrue(cautious + " vs " + random, cautious > random);
+    }
+
+    @Test
+    public void testGridCrossesParameters() {
+        List<Scenario> grid = Scenario.grid(List.of(Scenario.of(Difficulty.EASY, new RandomBot())),
+                Scenario.Parameter.LIVES, 4, 6);
+        grid = Scenario.grid(grid, Scenario.Parameter.ACTIVATION_COST, 3, 5, 8);
+
+        assertEquals(6, grid.size());
+        assertEquals(6, grid.get(3).rules().lives());
+        assertEquals(3, grid.get(3).rules().activationCost());
+        assertEquals("Easy/random lives=6 activation-cost=3", grid.get(3).name());
+    }
+}